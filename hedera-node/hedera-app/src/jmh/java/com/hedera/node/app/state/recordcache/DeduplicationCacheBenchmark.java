@@ -0,0 +1,95 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.state.recordcache;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the ingest path of the {@link DeduplicationCacheImpl}, a {@code contains} check followed by an
+ * {@code add}, for a steady stream of submissions. The cache is first filled with a full max-valid-duration window
+ * of submissions at the given rate; each benchmark invocation then submits one more transaction, advancing the
+ * clock by one second every {@code submissionsPerSecond} submissions so that whole seconds expire as they would on
+ * a live node.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class DeduplicationCacheBenchmark {
+    private static final long MAX_TXN_DURATION = 180;
+    private static final int NUM_PAYERS = 10_000;
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.state.recordcache.DeduplicationCacheBenchmark"});
+    }
+
+    @Param({"50000"})
+    private int submissionsPerSecond;
+
+    private final SplittableRandom random = new SplittableRandom(1_234_567L);
+
+    private DeduplicationCacheImpl subject;
+    private Instant now;
+    private long submissions;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("hedera.transaction.maxValidDuration", MAX_TXN_DURATION)
+                .getOrCreateConfig();
+        now = Instant.ofEpochSecond(1_700_000_000L);
+        subject = new DeduplicationCacheImpl(() -> new VersionedConfigImpl(config, 1), () -> now);
+        now = now.minusSeconds(MAX_TXN_DURATION);
+        for (long i = 0, n = MAX_TXN_DURATION * submissionsPerSecond; i < n; i++) {
+            subject.add(nextTransactionId());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void submit(@NonNull final Blackhole blackhole) {
+        final var txnId = nextTransactionId();
+        blackhole.consume(subject.contains(txnId));
+        subject.add(txnId);
+    }
+
+    /**
+     * Returns the next submitted transaction ID, from a random payer, with a valid start a few seconds before the
+     * current time, as clients usually set it.
+     */
+    private TransactionID nextTransactionId() {
+        if (++submissions % submissionsPerSecond == 0) {
+            now = now.plusSeconds(1);
+        }
+        return TransactionID.newBuilder()
+                .accountID(AccountID.newBuilder()
+                        .accountNum(1_001L + random.nextInt(NUM_PAYERS))
+                        .build())
+                .transactionValidStart(Timestamp.newBuilder()
+                        .seconds(now.getEpochSecond() - random.nextInt(10))
+                        .nanos(random.nextInt(1_000_000_000))
+                        .build())
+                .build();
+    }
+}
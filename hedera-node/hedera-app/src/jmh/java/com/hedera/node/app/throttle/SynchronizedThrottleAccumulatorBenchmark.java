@@ -0,0 +1,189 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.throttle;
+
+import static com.hedera.hapi.node.base.HederaFunctionality.CONSENSUS_SUBMIT_MESSAGE;
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_CREATE;
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_TRANSFER;
+import static com.hedera.hapi.node.base.HederaFunctionality.TOKEN_ASSOCIATE_TO_ACCOUNT;
+import static com.hedera.node.app.ids.schemas.V0490EntityIdSchema.ENTITY_ID_STATE_KEY;
+import static com.hedera.node.app.ids.schemas.V0590EntityIdSchema.ENTITY_COUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ALIASES_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKEN_RELS_KEY;
+import static com.hedera.node.app.throttle.ThrottleAccumulator.ThrottleType.FRONTEND_THROTTLE;
+
+import com.hedera.hapi.node.base.AccountAmount;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.base.TokenTransferList;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.state.common.EntityIDPair;
+import com.hedera.hapi.node.state.common.EntityNumber;
+import com.hedera.hapi.node.state.entity.EntityCounts;
+import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
+import com.hedera.hapi.node.transaction.ThrottleBucket;
+import com.hedera.hapi.node.transaction.ThrottleDefinitions;
+import com.hedera.hapi.node.transaction.ThrottleGroup;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.app.ids.EntityIdService;
+import com.hedera.node.app.service.token.TokenService;
+import com.hedera.node.app.workflows.TransactionInfo;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.InstantSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of the frontend throttle when many gRPC threads check transactions at once. Each thread
+ * checks token transfers, whose throttle decision reads the token relations of their receivers from state, and
+ * topic messages, whose decision does not depend on state.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class SynchronizedThrottleAccumulatorBenchmark {
+    private static final int NUM_ACCOUNTS = 10_000;
+    private static final int NUM_TXNS = 1_024;
+    private static final TokenID TOKEN_ID = TokenID.newBuilder().tokenNum(5_000L).build();
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(
+                new String[] {"com.hedera.node.app.throttle.SynchronizedThrottleAccumulatorBenchmark"});
+    }
+
+    @Param({"10000"})
+    private int throttleTps;
+
+    private SynchronizedThrottleAccumulator subject;
+    private FakeState state;
+    private TransactionInfo[] txns;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var config = HederaTestConfigBuilder.create().getOrCreateConfig();
+        final var frontendThrottle = new ThrottleAccumulator(() -> config, () -> 1, FRONTEND_THROTTLE);
+        frontendThrottle.rebuildFor(ThrottleDefinitions.newBuilder()
+                .throttleBuckets(ThrottleBucket.newBuilder()
+                        .name("ThroughputLimits")
+                        .burstPeriodMs(1_000L)
+                        .throttleGroups(ThrottleGroup.newBuilder()
+                                .milliOpsPerSec(throttleTps * 1_000L)
+                                .operations(List.of(
+                                        CRYPTO_TRANSFER,
+                                        CRYPTO_CREATE,
+                                        TOKEN_ASSOCIATE_TO_ACCOUNT,
+                                        CONSENSUS_SUBMIT_MESSAGE))
+                                .build())
+                        .build())
+                .build());
+        frontendThrottle.applyGasConfig();
+        frontendThrottle.applyBytesConfig();
+        subject = new SynchronizedThrottleAccumulator(InstantSource.system(), frontendThrottle);
+
+        final Map<EntityIDPair, TokenRelation> tokenRels = new HashMap<>();
+        for (int i = 0; i < NUM_ACCOUNTS; i++) {
+            final var accountId = accountId(i);
+            tokenRels.put(
+                    new EntityIDPair(accountId, TOKEN_ID),
+                    TokenRelation.newBuilder()
+                            .accountId(accountId)
+                            .tokenId(TOKEN_ID)
+                            .build());
+        }
+        state = new FakeState()
+                .addService(
+                        TokenService.NAME,
+                        Map.of(ACCOUNTS_KEY, new HashMap<>(), ALIASES_KEY, new HashMap<>(), TOKEN_RELS_KEY, tokenRels))
+                .addService(
+                        EntityIdService.NAME,
+                        Map.of(
+                                ENTITY_ID_STATE_KEY,
+                                new AtomicReference<>(EntityNumber.DEFAULT),
+                                ENTITY_COUNTS_KEY,
+                                new AtomicReference<>(EntityCounts.DEFAULT)));
+
+        txns = new TransactionInfo[NUM_TXNS];
+        final var random = ThreadLocalRandom.current();
+        for (int i = 0; i < NUM_TXNS; i++) {
+            txns[i] = i % 2 == 0
+                    ? tokenTransfer(random.nextInt(NUM_ACCOUNTS), random.nextInt(NUM_ACCOUNTS))
+                    : topicMessage(random.nextInt(NUM_ACCOUNTS));
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void shouldThrottle(@NonNull final Blackhole blackhole) {
+        final var txn = txns[ThreadLocalRandom.current().nextInt(NUM_TXNS)];
+        blackhole.consume(subject.shouldThrottle(txn, state));
+    }
+
+    private static AccountID accountId(final int i) {
+        return AccountID.newBuilder().accountNum(1_001L + i).build();
+    }
+
+    private static TransactionInfo tokenTransfer(final int sender, final int receiver) {
+        final var body = TransactionBody.newBuilder()
+                .transactionID(TransactionID.newBuilder()
+                        .accountID(accountId(sender))
+                        .build())
+                .cryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+                        .tokenTransfers(TokenTransferList.newBuilder()
+                                .token(TOKEN_ID)
+                                .transfers(
+                                        AccountAmount.newBuilder()
+                                                .accountID(accountId(sender))
+                                                .amount(-1L)
+                                                .build(),
+                                        AccountAmount.newBuilder()
+                                                .accountID(accountId(receiver))
+                                                .amount(1L)
+                                                .build())
+                                .build())
+                        .build())
+                .build();
+        return txnInfo(body, CRYPTO_TRANSFER);
+    }
+
+    private static TransactionInfo topicMessage(final int payer) {
+        final var body = TransactionBody.newBuilder()
+                .transactionID(TransactionID.newBuilder()
+                        .accountID(accountId(payer))
+                        .build())
+                .build();
+        return txnInfo(body, CONSENSUS_SUBMIT_MESSAGE);
+    }
+
+    private static TransactionInfo txnInfo(
+            @NonNull final TransactionBody body, @NonNull final HederaFunctionality function) {
+        return new TransactionInfo(Transaction.DEFAULT, body, SignatureMap.DEFAULT, Bytes.EMPTY, function, null);
+    }
+}
@@ -3,6 +3,7 @@ package com.hedera.node.app.blocks;
 
 import com.hedera.node.app.blocks.impl.BlockStreamManagerImpl;
 import com.hedera.node.app.blocks.impl.BoundaryStateChangeListener;
+import com.hedera.node.app.blocks.impl.streaming.BlockFileCompression;
 import com.hedera.node.app.blocks.impl.streaming.BlockNodeConfigExtractor;
 import com.hedera.node.app.blocks.impl.streaming.BlockNodeConfigExtractorImpl;
 import com.hedera.node.app.blocks.impl.streaming.BlockNodeConnectionManager;
@@ -66,14 +67,15 @@ public interface BlockStreamModule {
             @NonNull final ConfigProvider configProvider,
             @NonNull final NodeInfo selfNodeInfo,
             @NonNull final FileSystem fileSystem,
-            @NonNull final BlockStreamStateManager blockStreamStateManager) {
+            @NonNull final BlockStreamStateManager blockStreamStateManager,
+            @NonNull final BlockFileCompression compression) {
         final var config = configProvider.getConfiguration();
         final var blockStreamConfig = config.getConfigData(BlockStreamConfig.class);
         return switch (blockStreamConfig.writerMode()) {
-            case FILE -> () -> new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+            case FILE -> () -> new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, compression);
             case GRPC -> () -> new GrpcBlockItemWriter(blockStreamStateManager);
-            case FILE_AND_GRPC -> () ->
-                    new FileAndGrpcBlockItemWriter(configProvider, selfNodeInfo, fileSystem, blockStreamStateManager);
+            case FILE_AND_GRPC -> () -> new FileAndGrpcBlockItemWriter(
+                    configProvider, selfNodeInfo, fileSystem, blockStreamStateManager, compression);
         };
     }
 
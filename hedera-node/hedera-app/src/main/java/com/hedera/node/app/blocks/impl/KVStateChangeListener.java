@@ -98,20 +98,15 @@ public class KVStateChangeListener implements StateChangeListener {
         Objects.requireNonNull(key, "key must not be null");
         Objects.requireNonNull(value, "value must not be null");
 
-        final var change = MapUpdateChange.newBuilder()
-                .key(mapChangeKeyFor(key))
-                .value(mapChangeValueFor(value))
-                .build();
-        final var stateChange =
-                StateChange.newBuilder().stateId(stateId).mapUpdate(change).build();
-        stateChanges.add(stateChange);
+        final var change = new MapUpdateChange(mapChangeKeyFor(key), mapChangeValueFor(value));
+        stateChanges.add(
+                StateChange.newBuilder().stateId(stateId).mapUpdate(change).build());
     }
 
     @Override
     public <K> void mapDeleteChange(final int stateId, @NonNull final K key) {
         Objects.requireNonNull(key, "key must not be null");
-        final var change =
-                MapDeleteChange.newBuilder().key(mapChangeKeyFor(key)).build();
+        final var change = new MapDeleteChange(mapChangeKeyFor(key));
         stateChanges.add(
                 StateChange.newBuilder().stateId(stateId).mapDelete(change).build());
     }
@@ -0,0 +1,162 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.blocks.impl.streaming;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.util.ParallelGzipOutputStream;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.BlockStreamConfig;
+import com.hedera.node.config.data.StatsConfig;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Compresses block files, either on the thread writing the block like a plain {@link GZIPOutputStream}, or on a pool
+ * of {@code blockStream.compressionThreads} threads with a {@link ParallelGzipOutputStream}. Either way the result is
+ * a valid gzip file, so readers of block files do not need to know how it was written.
+ *
+ * <p>Reports the compression ratio of each block file, the rate of uncompressed bytes written, and the time it takes
+ * to finish compressing a block once it is closed, which adds to the latency of the round closing the block.
+ */
+@Singleton
+public class BlockFileCompression {
+    /** The size of the buffer of the deflater when compressing on the writing thread */
+    private static final int SEQUENTIAL_BUFFER_SIZE = 256 * 1024;
+
+    private static final RunningAverageMetric.Config RATIO_CONFIG = new RunningAverageMetric.Config(
+                    "app", "blockFileCompressionRatio")
+            .withDescription("ratio of the uncompressed to the compressed size of block files")
+            .withFormat("%,13.2f");
+    private static final SpeedometerMetric.Config THROUGHPUT_CONFIG = new SpeedometerMetric.Config(
+                    "app", "blockFileBytesCompressedPerSec")
+            .withDescription("number of uncompressed bytes written to block files per second")
+            .withFormat("%,13.2f");
+    private static final RunningAverageMetric.Config CLOSE_TIME_CONFIG = new RunningAverageMetric.Config(
+                    "app", "blockFileCloseMillis")
+            .withDescription("time in milliseconds to finish compressing and writing a block file when it is closed")
+            .withFormat("%,13.2f");
+
+    @Nullable
+    private final ExecutorService executor;
+
+    private final int chunkSize;
+    private final int maxPendingChunks;
+    private final int level;
+
+    private final RunningAverageMetric ratio;
+    private final SpeedometerMetric throughput;
+    private final RunningAverageMetric closeTime;
+
+    /**
+     * Constructor for the {@link BlockFileCompression}.
+     *
+     * @param configProvider the configuration provider
+     * @param metrics        the {@link Metrics} object where the metrics will be registered
+     */
+    @Inject
+    public BlockFileCompression(@NonNull final ConfigProvider configProvider, @NonNull final Metrics metrics) {
+        requireNonNull(metrics, "metrics must not be null");
+        final var config = configProvider.getConfiguration();
+        final var blockStreamConfig = config.getConfigData(BlockStreamConfig.class);
+        final var threads = blockStreamConfig.compressionThreads();
+        executor = threads > 0
+                ? Executors.newFixedThreadPool(
+                        threads,
+                        Thread.ofPlatform().name("block-gzip-", 0).daemon(true).factory())
+                : null;
+        chunkSize = blockStreamConfig.compressionChunkSizeKb() * 1024;
+        maxPendingChunks = Math.max(1, 2 * threads);
+        level = blockStreamConfig.compressionLevel();
+
+        final var statsConfig = config.getConfigData(StatsConfig.class);
+        ratio = metrics.getOrCreate(RATIO_CONFIG.withHalfLife(statsConfig.runningAvgHalfLifeSecs()));
+        throughput = metrics.getOrCreate(THROUGHPUT_CONFIG.withHalfLife(statsConfig.speedometerHalfLifeSecs()));
+        closeTime = metrics.getOrCreate(CLOSE_TIME_CONFIG.withHalfLife(statsConfig.runningAvgHalfLifeSecs()));
+    }
+
+    /**
+     * Wraps the stream of a block file in a stream that compresses everything written to it. Closing the returned
+     * stream finishes the compression, closes the given stream, and updates the metrics.
+     *
+     * @param file the stream of the block file
+     * @return the stream to write the uncompressed block to
+     * @throws IOException if the compressing stream could not be created
+     */
+    @NonNull
+    public OutputStream compress(@NonNull final OutputStream file) throws IOException {
+        requireNonNull(file);
+        final var compressed = new CountingOutputStream(file);
+        final OutputStream compressing = executor != null
+                ? new ParallelGzipOutputStream(compressed, executor, chunkSize, maxPendingChunks, level)
+                : new GZIPOutputStream(compressed, SEQUENTIAL_BUFFER_SIZE) {
+                    {
+                        def.setLevel(level);
+                    }
+                };
+        return new FilterOutputStream(compressing) {
+            private long uncompressedBytes;
+            private boolean closed;
+
+            @Override
+            public void write(final int b) throws IOException {
+                out.write(b);
+                uncompressedBytes++;
+            }
+
+            @Override
+            public void write(@NonNull final byte[] b, final int off, final int len) throws IOException {
+                out.write(b, off, len);
+                uncompressedBytes += len;
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                final long start = System.nanoTime();
+                super.close();
+                closeTime.update((System.nanoTime() - start) / 1_000_000.0);
+                if (compressed.count > 0) {
+                    ratio.update((double) uncompressedBytes / compressed.count);
+                }
+                throughput.update(uncompressedBytes);
+            }
+        };
+    }
+
+    /**
+     * Counts the bytes written to the wrapped stream.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(@NonNull final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(@NonNull final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -258,8 +258,9 @@ public class BlockNodeConnection implements StreamObserver<PublishStreamResponse
 
             // Update the last verified block by the current connection
             blockNodeConnectionManager.updateLastVerifiedBlock(blockNodeConfig, acknowledgedBlockNumber);
-            // Remove all block states up to and including this block number
-            blockStreamStateManager.removeBlockStatesUpTo(acknowledgedBlockNumber);
+            // Remove all block states up to and including the last block acknowledged by every block node, so the
+            // ones still needed by a block node that is behind can be streamed to it later
+            blockStreamStateManager.removeBlockStatesUpTo(blockNodeConnectionManager.getLowestAcknowledgedBlock());
 
             if (blockAlreadyExists) {
                 logger.warn("Block {} already exists on block node {}", acknowledgedBlockNumber, connectionDescriptor);
@@ -96,6 +96,9 @@ public class BlockNodeConnectionManager {
                 .keepAlive(true)
                 .build();
 
+        // Requests are sent as serialized by the state manager, which reuses the bytes the items were hashed from
+        final var marshallerSupplier =
+                new RequestResponseMarshaller.Supplier(blockStreamStateManager::serializedRequest);
         return client.serviceClient(GrpcServiceDescriptor.builder()
                 .serviceName(BlockStreamServiceGrpc.SERVICE_NAME)
                 .putMethod(
@@ -103,7 +106,7 @@ public class BlockNodeConnectionManager {
                         GrpcClientMethodDescriptor.bidirectional(BlockStreamServiceGrpc.SERVICE_NAME, GRPC_END_POINT)
                                 .requestType(PublishStreamRequest.class)
                                 .responseType(PublishStreamResponse.class)
-                                .marshallerSupplier(new RequestResponseMarshaller.Supplier())
+                                .marshallerSupplier(marshallerSupplier)
                                 .build())
                 .build());
     }
@@ -272,7 +275,7 @@ public class BlockNodeConnectionManager {
                 try {
                     if (connection.isActive()) {
                         if (connection.getCurrentBlockNumber() == -1) {
-                            connection.setCurrentBlockNumber(blockNumber);
+                            connection.setCurrentBlockNumber(resumeBlockFor(connection.getNodeConfig(), blockNumber));
                         }
                         connection.notifyNewBlockAvailable();
                     }
@@ -283,6 +286,28 @@ public class BlockNodeConnectionManager {
         }
     }
 
+    /**
+     * Returns the block a (re)connected block node should be streamed from: the block after the last one it
+     * acknowledged if that is still buffered, or the lowest buffered block if it did not acknowledge any block since
+     * this node started, or else the given newly opened block.
+     */
+    private long resumeBlockFor(@NonNull final BlockNodeConfig node, final long openedBlockNumber) {
+        final long lastAcknowledged = getLastVerifiedBlock(node);
+        final long nextUnacknowledged =
+                lastAcknowledged >= 0 ? lastAcknowledged + 1 : blockStreamStateManager.lowestBufferedBlock();
+        if (nextUnacknowledged >= 0
+                && nextUnacknowledged < openedBlockNumber
+                && blockStreamStateManager.isBlockBuffered(nextUnacknowledged)) {
+            logger.info(
+                    "Resuming stream to block node {}:{} at block {}",
+                    node.address(),
+                    node.port(),
+                    nextUnacknowledged);
+            return nextUnacknowledged;
+        }
+        return openedBlockNumber;
+    }
+
     public void notifyConnectionsOfNewRequest() {
         synchronized (connectionLock) {
             List<BlockNodeConnection> connections = new ArrayList<>(activeConnections.values());
@@ -336,6 +361,21 @@ public class BlockNodeConnectionManager {
         return lastVerifiedBlockPerConnection.computeIfAbsent(blockNodeConfig, key -> -1L);
     }
 
+    /**
+     * Block nodes without an active connection hold back the buffered blocks too, so they can resume where they left
+     * off however long they were disconnected; the buffer is bounded by {@code blockStream.maxBufferedBlocks}, and
+     * all but {@code blockStream.bufferedBlocksInMemory} of the buffered blocks are kept on disk.
+     *
+     * @return the highest block number acknowledged by all configured block nodes, or -1 if a block node has not
+     * acknowledged any block yet
+     */
+    public long getLowestAcknowledgedBlock() {
+        return blockNodeConfigurations.getAllNodes().stream()
+                .mapToLong(this::getLastVerifiedBlock)
+                .min()
+                .orElse(-1L);
+    }
+
     /**
      * @param blockNumber the block number to check for acknowledgements
      * @return whether the block has been acknowledged by any connection.
@@ -0,0 +1,217 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.blocks.impl.streaming;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.block.PublishStreamRequest;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An append-only log on disk of the requests of completed blocks that are no longer kept in memory, so a block node
+ * that falls behind or reconnects can still be sent every block it has not acknowledged.
+ *
+ * <p>Each block is one segment file named after its block number, holding the length-prefixed serialized
+ * {@link PublishStreamRequest}s of the block in order. A segment is written once, to a temporary file that is then
+ * moved in place, and is only ever read or deleted afterwards. Segments are deleted once all block nodes acknowledged
+ * their blocks. Segments left over from a previous run are recovered when the log is created, so the blocks they hold
+ * can still be streamed after a restart; only temporary files of segments that were never completed are deleted.
+ */
+public class BlockSegmentLog {
+    private static final Logger logger = LogManager.getLogger(BlockSegmentLog.class);
+
+    private static final String SEGMENT_EXTENSION = ".blkseg";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private final Path dir;
+    private final NavigableSet<Long> segments = new ConcurrentSkipListSet<>();
+    private volatile boolean initialized;
+
+    /**
+     * Creates a new log in the given directory, recovering the segments left in it by a previous run. The directory
+     * is only created when the first segment is written.
+     *
+     * @param dir the directory to write the segments to
+     */
+    public BlockSegmentLog(@NonNull final Path dir) {
+        this.dir = requireNonNull(dir, "dir must not be null");
+        recover();
+    }
+
+    /**
+     * Writes the serialized requests of a completed block as a new segment.
+     *
+     * @param blockNumber the block number
+     * @param requests the serialized requests of the block, in order
+     * @throws UncheckedIOException if the segment could not be written
+     */
+    public void append(final long blockNumber, @NonNull final List<Bytes> requests) {
+        requireNonNull(requests, "requests must not be null");
+        try {
+            ensureInitialized();
+            final var segment = segmentPath(blockNumber);
+            final var temp = dir.resolve(blockNumber + TEMP_EXTENSION);
+            try (final var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                for (final var request : requests) {
+                    out.writeInt((int) request.length());
+                    request.writeTo(out);
+                }
+            }
+            Files.move(temp, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            segments.add(blockNumber);
+        } catch (final IOException e) {
+            logger.error("Failed to write segment for block {} to {}", blockNumber, dir, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the serialized requests of a block from its segment.
+     *
+     * @param blockNumber the block number
+     * @return the serialized requests of the block in order, or null if there is no segment for the block
+     */
+    @Nullable
+    public List<Bytes> read(final long blockNumber) {
+        if (!segments.contains(blockNumber)) {
+            return null;
+        }
+        final var requests = new ArrayList<Bytes>();
+        try (final var in =
+                new DataInputStream(new BufferedInputStream(Files.newInputStream(segmentPath(blockNumber))))) {
+            while (true) {
+                final int length;
+                try {
+                    length = in.readInt();
+                } catch (final EOFException e) {
+                    break;
+                }
+                requests.add(Bytes.wrap(in.readNBytes(length)));
+            }
+        } catch (final IOException e) {
+            // The segment may have been deleted concurrently after all block nodes acknowledged the block
+            logger.warn("Failed to read segment for block {} from {}", blockNumber, dir, e);
+            return null;
+        }
+        return requests;
+    }
+
+    /**
+     * Returns whether there is a segment for the given block.
+     *
+     * @param blockNumber the block number
+     * @return whether there is a segment for the block
+     */
+    public boolean contains(final long blockNumber) {
+        return segments.contains(blockNumber);
+    }
+
+    /**
+     * Returns the number of segments in the log.
+     *
+     * @return the number of segments
+     */
+    public int size() {
+        return segments.size();
+    }
+
+    /**
+     * Returns the lowest block number with a segment.
+     *
+     * @return the lowest block number, or -1 if there are no segments
+     */
+    public long lowestBlockNumber() {
+        final var it = segments.iterator();
+        return it.hasNext() ? it.next() : -1;
+    }
+
+    /**
+     * Deletes the segments of all blocks with block numbers greater than or equal to the given block number, as those
+     * blocks are being produced again.
+     *
+     * @param blockNumber the block number
+     */
+    public void truncateFrom(final long blockNumber) {
+        delete(segments.tailSet(blockNumber, true));
+    }
+
+    /**
+     * Deletes the segments of all blocks with block numbers less than or equal to the given block number.
+     *
+     * @param blockNumber the block number
+     */
+    public void truncateUpTo(final long blockNumber) {
+        delete(segments.headSet(blockNumber, true));
+    }
+
+    private void delete(@NonNull final NavigableSet<Long> truncated) {
+        for (final var segment : List.copyOf(truncated)) {
+            truncated.remove(segment);
+            try {
+                Files.deleteIfExists(segmentPath(segment));
+            } catch (final IOException e) {
+                logger.warn("Failed to delete segment for block {} from {}", segment, dir, e);
+            }
+        }
+    }
+
+    private void ensureInitialized() throws IOException {
+        if (initialized) {
+            return;
+        }
+        Files.createDirectories(dir);
+        initialized = true;
+    }
+
+    /**
+     * Recovers the segments of a previous run. A segment is only moved in place once completely written, so every
+     * segment file is complete; temporary files are what is left of segments that were not, and are deleted.
+     */
+    private void recover() {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (final var leftovers = Files.list(dir)) {
+            for (final var file : leftovers.toList()) {
+                final var name = file.getFileName().toString();
+                if (name.endsWith(TEMP_EXTENSION)) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(SEGMENT_EXTENSION)) {
+                    try {
+                        segments.add(Long.parseLong(name.substring(0, name.length() - SEGMENT_EXTENSION.length())));
+                    } catch (final NumberFormatException e) {
+                        logger.warn("Ignoring unexpected file {} in {}", name, dir);
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            logger.warn("Failed to recover segments from {}", dir, e);
+        }
+        if (!segments.isEmpty()) {
+            logger.info(
+                    "Recovered {} block(s) {} to {} from {}", segments.size(), segments.first(), segments.last(), dir);
+        }
+    }
+
+    @NonNull
+    private Path segmentPath(final long blockNumber) {
+        return dir.resolve(blockNumber + SEGMENT_EXTENSION);
+    }
+}
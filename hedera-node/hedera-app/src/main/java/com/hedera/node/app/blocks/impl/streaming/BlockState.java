@@ -3,6 +3,7 @@ package com.hedera.node.app.blocks.impl.streaming;
 
 import com.hedera.hapi.block.PublishStreamRequest;
 import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.ArrayList;
 import java.util.List;
@@ -13,6 +14,7 @@ import java.util.List;
 public class BlockState {
     private final long blockNumber;
     private final List<BlockItem> items;
+    private final List<Bytes> itemBytes;
     private final List<PublishStreamRequest> requests;
     private boolean isComplete;
 
@@ -24,6 +26,7 @@ public class BlockState {
     public BlockState(long blockNumber, @NonNull List<BlockItem> items) {
         this.blockNumber = blockNumber;
         this.items = items;
+        this.itemBytes = new ArrayList<>();
         this.requests = new ArrayList<>();
         this.isComplete = false;
     }
@@ -46,6 +49,16 @@ public class BlockState {
         return items;
     }
 
+    /**
+     * Get the list of serialized items, in the same order as {@link #items()}. Items that were added without their
+     * serialized bytes have none, so this list is only complete if it has as many entries as the list of items.
+     *
+     * @return the list of serialized items
+     */
+    public List<Bytes> itemBytes() {
+        return itemBytes;
+    }
+
     /**
      * Get the list of publish stream requests
      *
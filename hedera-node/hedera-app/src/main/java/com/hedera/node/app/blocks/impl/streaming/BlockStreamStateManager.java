@@ -1,17 +1,31 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.blocks.impl.streaming;
 
+import static com.hedera.pbj.runtime.ProtoConstants.WIRE_TYPE_DELIMITED;
 import static java.util.Objects.requireNonNull;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hedera.hapi.block.BlockItemSet;
 import com.hedera.hapi.block.PublishStreamRequest;
+import com.hedera.hapi.block.schema.BlockItemSetSchema;
+import com.hedera.hapi.block.schema.PublishStreamRequestSchema;
 import com.hedera.hapi.block.stream.BlockItem;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.BlockStreamConfig;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.ProtoWriterTools;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -19,12 +33,35 @@ import org.apache.logging.log4j.Logger;
  * Manages the state of blocks being streamed to block nodes.
  * This class is responsible for maintaining the block states and providing methods for adding items to blocks
  * and creating requests.
+ *
+ * <p>Blocks are kept until all connected block nodes acknowledged them, so a block node that falls behind or
+ * reconnects can resume from the block after the last one it acknowledged. If
+ * {@code blockStream.bufferedBlocksInMemory} is positive, only that many completed blocks are kept in memory, and
+ * older ones are moved to a {@link BlockSegmentLog} on disk. The blocks on disk are recovered after a restart.
+ * At most {@code blockStream.maxBufferedBlocks} blocks are kept in total; beyond that the oldest are dropped, and a
+ * block node still needing them has to catch up from another source.
+ *
+ * <p>When items are added with the bytes they were already serialized to for hashing, the serialized form of each
+ * request is assembled from those bytes once, and shared by every block node connection and the on-disk buffer
+ * instead of each of them encoding the request again.
  */
 public class BlockStreamStateManager {
     private static final Logger logger = LogManager.getLogger(BlockStreamStateManager.class);
 
-    private final Map<Long, BlockState> blockStates = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, BlockState> blockStates = new ConcurrentSkipListMap<>();
     private final int blockItemBatchSize;
+    private final int bufferedBlocksInMemory;
+    private final int maxBufferedBlocks;
+
+    @Nullable
+    private final BlockSegmentLog segmentLog;
+
+    // The last block read back from the segment log, as block nodes that are behind read each block several times
+    private final AtomicReference<BlockState> lastReadBlockState = new AtomicReference<>();
+
+    // The serialized form of each request assembled from already serialized items; weak keys compare by identity
+    private final Cache<PublishStreamRequest, Bytes> serializedRequests =
+            Caffeine.newBuilder().weakKeys().build();
     private long blockNumber = 0;
 
     // Reference to the connection manager for notifications
@@ -36,10 +73,12 @@ public class BlockStreamStateManager {
      * @param configProvider the configuration provider
      */
     public BlockStreamStateManager(@NonNull final ConfigProvider configProvider) {
-        this.blockItemBatchSize = configProvider
-                .getConfiguration()
-                .getConfigData(BlockStreamConfig.class)
-                .blockItemBatchSize();
+        final var blockStreamConfig = configProvider.getConfiguration().getConfigData(BlockStreamConfig.class);
+        this.blockItemBatchSize = blockStreamConfig.blockItemBatchSize();
+        this.bufferedBlocksInMemory = blockStreamConfig.bufferedBlocksInMemory();
+        this.maxBufferedBlocks = blockStreamConfig.maxBufferedBlocks();
+        this.segmentLog =
+                bufferedBlocksInMemory > 0 ? new BlockSegmentLog(Path.of(blockStreamConfig.bufferDir())) : null;
     }
 
     /**
@@ -60,9 +99,14 @@ public class BlockStreamStateManager {
      */
     public void openBlock(long blockNumber) {
         if (blockNumber < 0) throw new IllegalArgumentException("Block number must be non-negative");
+        // A block recovered from the on-disk buffer is superseded when it is produced again
+        if (segmentLog != null) {
+            segmentLog.truncateFrom(blockNumber);
+        }
         // Create a new block state
         blockStates.put(blockNumber, new BlockState(blockNumber, new ArrayList<>()));
         this.blockNumber = blockNumber;
+        dropBlocksBeyondMax();
 
         blockNodeConnectionManager.openBlock(blockNumber);
     }
@@ -75,6 +119,19 @@ public class BlockStreamStateManager {
      * @throws IllegalStateException if no block is currently open
      */
     public void addItem(final long blockNumber, @NonNull BlockItem blockItem) {
+        requireNonNull(blockItem, "blockItem must not be null");
+        addItem(blockNumber, blockItem, null);
+    }
+
+    /**
+     * Adds a new item, along with the bytes it was already serialized to, to the current block.
+     *
+     * @param blockNumber the block number
+     * @param blockItem the block item to add
+     * @param itemBytes the serialized block item, or null if it was not serialized
+     * @throws IllegalStateException if no block is currently open
+     */
+    public void addItem(final long blockNumber, @NonNull BlockItem blockItem, @Nullable Bytes itemBytes) {
         requireNonNull(blockItem, "blockItem must not be null");
         BlockState blockState = getBlockState(blockNumber);
         if (blockState == null) {
@@ -82,6 +139,9 @@ public class BlockStreamStateManager {
         }
 
         blockState.items().add(blockItem);
+        if (itemBytes != null) {
+            blockState.itemBytes().add(itemBytes);
+        }
 
         // If we have enough items, create a new request
         if (blockState.items().size() >= blockItemBatchSize) {
@@ -102,6 +162,9 @@ public class BlockStreamStateManager {
         final PublishStreamRequest request =
                 PublishStreamRequest.newBuilder().blockItems(itemSet).build();
 
+        if (blockState.itemBytes().size() == blockState.items().size()) {
+            serializedRequests.put(request, serializedRequestOf(blockState.itemBytes()));
+        }
         blockState.requests().add(request);
         logger.debug(
                 "Added request to block {} - request count now: {}",
@@ -110,11 +173,49 @@ public class BlockStreamStateManager {
 
         // Clear the items list
         blockState.items().clear();
+        blockState.itemBytes().clear();
 
         // Notify the connection manager
         blockNodeConnectionManager.notifyConnectionsOfNewRequest();
     }
 
+    /**
+     * Returns the serialized form of the given request, assembled from its already serialized items if they were
+     * added with their bytes, or else encoded now.
+     *
+     * @param request the request
+     * @return the serialized request
+     */
+    @NonNull
+    public Bytes serializedRequest(@NonNull final PublishStreamRequest request) {
+        requireNonNull(request, "request must not be null");
+        final var serialized = serializedRequests.getIfPresent(request);
+        return serialized != null ? serialized : PublishStreamRequest.PROTOBUF.toBytes(request);
+    }
+
+    /**
+     * Assembles a serialized {@link PublishStreamRequest} with a {@link BlockItemSet} of the given serialized items,
+     * exactly as the request would be encoded by its codec.
+     */
+    @NonNull
+    static Bytes serializedRequestOf(@NonNull final List<Bytes> itemBytes) {
+        int itemSetLength = 0;
+        for (final var item : itemBytes) {
+            itemSetLength += ProtoWriterTools.sizeOfDelimited(BlockItemSetSchema.BLOCK_ITEMS, (int) item.length());
+        }
+        final var array =
+                new byte[ProtoWriterTools.sizeOfDelimited(PublishStreamRequestSchema.BLOCK_ITEMS, itemSetLength)];
+        final var out = BufferedData.wrap(array);
+        ProtoWriterTools.writeTag(out, PublishStreamRequestSchema.BLOCK_ITEMS, WIRE_TYPE_DELIMITED);
+        out.writeVarInt(itemSetLength, false);
+        for (final var item : itemBytes) {
+            ProtoWriterTools.writeTag(out, BlockItemSetSchema.BLOCK_ITEMS, WIRE_TYPE_DELIMITED);
+            out.writeVarInt((int) item.length(), false);
+            out.writeBytes(item);
+        }
+        return Bytes.wrap(array);
+    }
+
     /**
      * Closes the current block and marks it as complete.
      * @param blockNumber the block number
@@ -141,16 +242,68 @@ public class BlockStreamStateManager {
                 "Closed block in BlockStreamStateManager {} - request count: {}",
                 blockNumber,
                 blockState.requests().size());
+
+        moveCompletedBlocksToSegmentLog();
     }
 
     /**
-     * Gets the block state for the given block number.
+     * Gets the block state for the given block number. A block that was moved to the on-disk buffer is read back.
      *
      * @param blockNumber the block number
      * @return the block state, or null if no block state exists for the given block number
      */
     public BlockState getBlockState(long blockNumber) {
-        return blockStates.get(blockNumber);
+        final var blockState = blockStates.get(blockNumber);
+        if (blockState != null || segmentLog == null || !segmentLog.contains(blockNumber)) {
+            return blockState;
+        }
+        final var lastRead = lastReadBlockState.get();
+        if (lastRead != null && lastRead.blockNumber() == blockNumber) {
+            return lastRead;
+        }
+        final var requests = segmentLog.read(blockNumber);
+        if (requests == null) {
+            return null;
+        }
+        final var readBlockState = new BlockState(blockNumber, new ArrayList<>());
+        for (final var serialized : requests) {
+            final PublishStreamRequest request;
+            try {
+                request = PublishStreamRequest.PROTOBUF.parse(serialized);
+            } catch (final ParseException e) {
+                logger.warn("Failed to parse a request of block {} from the on-disk buffer", blockNumber, e);
+                return null;
+            }
+            serializedRequests.put(request, serialized);
+            readBlockState.requests().add(request);
+        }
+        readBlockState.setComplete();
+        lastReadBlockState.set(readBlockState);
+        return readBlockState;
+    }
+
+    /**
+     * Returns whether the given block is still buffered, in memory or on disk.
+     *
+     * @param blockNumber the block number
+     * @return whether the block is buffered
+     */
+    public boolean isBlockBuffered(long blockNumber) {
+        return blockStates.containsKey(blockNumber) || (segmentLog != null && segmentLog.contains(blockNumber));
+    }
+
+    /**
+     * Returns the lowest block number still buffered, in memory or on disk.
+     *
+     * @return the lowest buffered block number, or -1 if no block is buffered
+     */
+    public long lowestBufferedBlock() {
+        final long onDisk = segmentLog == null ? -1 : segmentLog.lowestBlockNumber();
+        if (onDisk >= 0) {
+            return onDisk;
+        }
+        final var inMemory = blockStates.firstEntry();
+        return inMemory == null ? -1 : inMemory.getKey();
     }
 
     /**
@@ -182,9 +335,69 @@ public class BlockStreamStateManager {
     public void removeBlockStatesUpTo(long blockNumber) {
         // Use keySet().removeIf for atomic removal of multiple entries
         blockStates.keySet().removeIf(key -> key <= blockNumber);
+        if (segmentLog != null) {
+            segmentLog.truncateUpTo(blockNumber);
+        }
         logger.debug("Removed block states up to and including block {}", blockNumber);
     }
 
+    /**
+     * Moves the oldest completed blocks to the segment log, until at most {@code bufferedBlocksInMemory} completed
+     * blocks are left in memory. If a block cannot be written, it stays in memory.
+     */
+    private void moveCompletedBlocksToSegmentLog() {
+        if (segmentLog == null) {
+            return;
+        }
+        final var completed = new ArrayList<BlockState>();
+        for (final var blockState : blockStates.values()) {
+            if (blockState.isComplete()) {
+                completed.add(blockState);
+            }
+        }
+        for (int i = 0, n = completed.size() - bufferedBlocksInMemory; i < n; i++) {
+            final var blockState = completed.get(i);
+            try {
+                segmentLog.append(
+                        blockState.blockNumber(),
+                        blockState.requests().stream()
+                                .map(this::serializedRequest)
+                                .toList());
+            } catch (final UncheckedIOException e) {
+                return;
+            }
+            blockStates.remove(blockState.blockNumber());
+            logger.debug("Moved block {} to the on-disk buffer", blockState.blockNumber());
+        }
+    }
+
+    /**
+     * Drops the oldest blocks until at most {@code maxBufferedBlocks} blocks are buffered in memory and on disk.
+     */
+    private void dropBlocksBeyondMax() {
+        if (maxBufferedBlocks <= 0) {
+            return;
+        }
+        int excess = blockStates.size() + (segmentLog == null ? 0 : segmentLog.size()) - maxBufferedBlocks;
+        if (excess <= 0) {
+            return;
+        }
+        while (excess-- > 0) {
+            final long onDisk = segmentLog == null ? -1 : segmentLog.lowestBlockNumber();
+            if (onDisk >= 0) {
+                segmentLog.truncateUpTo(onDisk);
+            } else {
+                final var oldest = blockStates.pollFirstEntry();
+                if (oldest == null) {
+                    break;
+                }
+            }
+        }
+        logger.warn(
+                "More than {} blocks were not acknowledged by all block nodes, dropped the oldest ones",
+                maxBufferedBlocks);
+    }
+
     /**
      * Gets the current block number.
      *
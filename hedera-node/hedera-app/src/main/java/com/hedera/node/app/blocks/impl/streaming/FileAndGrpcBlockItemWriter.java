@@ -10,6 +10,7 @@ import com.hedera.node.internal.network.PendingProof;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.state.lifecycle.info.NodeInfo;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.file.FileSystem;
 
 /**
@@ -32,7 +33,26 @@ public class FileAndGrpcBlockItemWriter implements BlockItemWriter {
             @NonNull final NodeInfo nodeInfo,
             @NonNull final FileSystem fileSystem,
             @NonNull final BlockStreamStateManager blockStreamStateManager) {
-        this.fileBlockItemWriter = new FileBlockItemWriter(configProvider, nodeInfo, fileSystem);
+        this(configProvider, nodeInfo, fileSystem, blockStreamStateManager, null);
+    }
+
+    /**
+     * Construct a new FileAndGrpcBlockItemWriter that compresses block files with the given
+     * {@link BlockFileCompression}.
+     *
+     * @param configProvider configuration provider
+     * @param nodeInfo information about the current node
+     * @param fileSystem the file system to use for writing block files
+     * @param blockStreamStateManager the block stream state manager
+     * @param compression compresses the block files, or null to compress them on the writing thread
+     */
+    public FileAndGrpcBlockItemWriter(
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final NodeInfo nodeInfo,
+            @NonNull final FileSystem fileSystem,
+            @NonNull final BlockStreamStateManager blockStreamStateManager,
+            @Nullable final BlockFileCompression compression) {
+        this.fileBlockItemWriter = new FileBlockItemWriter(configProvider, nodeInfo, fileSystem, compression);
         this.grpcBlockItemWriter = new GrpcBlockItemWriter(blockStreamStateManager);
     }
 
@@ -44,8 +64,9 @@ public class FileAndGrpcBlockItemWriter implements BlockItemWriter {
 
     @Override
     public void writePbjItemAndBytes(@NonNull final BlockItem item, @NonNull Bytes bytes) {
-        this.fileBlockItemWriter.writeItem(bytes.toByteArray());
-        this.grpcBlockItemWriter.writePbjItem(item);
+        // Both writers share the one serialization of the item
+        this.fileBlockItemWriter.writePbjItemAndBytes(item, bytes);
+        this.grpcBlockItemWriter.writePbjItemAndBytes(item, bytes);
     }
 
     @Override
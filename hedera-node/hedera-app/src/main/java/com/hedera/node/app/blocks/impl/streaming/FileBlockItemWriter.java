@@ -23,6 +23,7 @@ import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.state.lifecycle.info.NodeInfo;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
@@ -74,6 +75,10 @@ public class FileBlockItemWriter implements BlockItemWriter {
      */
     private final UnaryOperator<String> pendingFileName;
 
+    /** Compresses the block files, or null to compress them with a plain {@link GZIPOutputStream} */
+    @Nullable
+    private final BlockFileCompression compression;
+
     /** The file output stream we are writing to, which writes to the configured block file path */
     private WritableStreamingData writableStreamingData;
 
@@ -103,6 +108,22 @@ public class FileBlockItemWriter implements BlockItemWriter {
             @NonNull final ConfigProvider configProvider,
             @NonNull final NodeInfo nodeInfo,
             @NonNull final FileSystem fileSystem) {
+        this(configProvider, nodeInfo, fileSystem, null);
+    }
+
+    /**
+     * Construct a new FileBlockItemWriter that compresses block files with the given {@link BlockFileCompression}.
+     *
+     * @param configProvider configuration provider
+     * @param nodeInfo information about the current node
+     * @param fileSystem the file system to use for writing block files
+     * @param compression compresses the block files, or null to compress them on the writing thread
+     */
+    public FileBlockItemWriter(
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final NodeInfo nodeInfo,
+            @NonNull final FileSystem fileSystem,
+            @Nullable final BlockFileCompression compression) {
         requireNonNull(configProvider, "The supplied argument 'configProvider' cannot be null!");
         requireNonNull(nodeInfo, "The supplied argument 'nodeInfo' cannot be null!");
         requireNonNull(fileSystem, "The supplied argument 'fileSystem' cannot be null!");
@@ -117,6 +138,7 @@ public class FileBlockItemWriter implements BlockItemWriter {
 
         this.completeFileName = name -> name + COMPLETE_BLOCK_EXTENSION + COMPRESSION_ALGORITHM_EXTENSION;
         this.pendingFileName = name -> name + ".pnd" + COMPRESSION_ALGORITHM_EXTENSION;
+        this.compression = compression;
     }
 
     /**
@@ -289,7 +311,7 @@ public class FileBlockItemWriter implements BlockItemWriter {
             }
             out = Files.newOutputStream(blockFilePath);
             out = new BufferedOutputStream(out, 1024 * 1024); // 1 MB
-            out = new GZIPOutputStream(out, 1024 * 256); // 256 KB
+            out = compression != null ? compression.compress(out) : new GZIPOutputStream(out, 1024 * 256); // 256 KB
             // By wrapping the GZIPOutputStream in a BufferedOutputStream, the code reduces the number of write
             // operations to the GZIPOutputStream, and therefore the number of synchronized calls. Instead of
             // writing each small piece of data immediately to the GZIPOutputStream, it writes the data to the
@@ -318,9 +340,21 @@ public class FileBlockItemWriter implements BlockItemWriter {
         }
     }
 
+    @Override
+    public void writePbjItemAndBytes(@NonNull final BlockItem item, @NonNull final Bytes bytes) {
+        requireNonNull(item);
+        requireNonNull(bytes);
+        // Write the already serialized bytes as they are, without copying them to an array first
+        writeItemBytes(bytes);
+    }
+
     @Override
     public void writeItem(@NonNull final byte[] bytes) {
         requireNonNull(bytes);
+        writeItemBytes(Bytes.wrap(bytes));
+    }
+
+    private void writeItemBytes(@NonNull final Bytes bytes) {
         if (state != State.OPEN) {
             throw new IllegalStateException(
                     "Cannot write to a FileBlockItemWriter that is not open for block: " + this.blockNumber);
@@ -329,7 +363,7 @@ public class FileBlockItemWriter implements BlockItemWriter {
         // Write the ITEMS tag.
         ProtoWriterTools.writeTag(writableStreamingData, BlockSchema.ITEMS, ProtoConstants.WIRE_TYPE_DELIMITED);
         // Write the length of the item.
-        writableStreamingData.writeVarInt(bytes.length, false);
+        writableStreamingData.writeVarInt((int) bytes.length(), false);
         // Write the item bytes themselves.
         writableStreamingData.writeBytes(bytes);
     }
@@ -6,6 +6,7 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.hapi.block.stream.BlockItem;
 import com.hedera.node.app.blocks.BlockItemWriter;
 import com.hedera.node.internal.network.PendingProof;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -42,6 +43,13 @@ public class GrpcBlockItemWriter implements BlockItemWriter {
         blockStreamStateManager.addItem(blockNumber, blockItem);
     }
 
+    @Override
+    public void writePbjItemAndBytes(@NonNull final BlockItem blockItem, @NonNull final Bytes bytes) {
+        requireNonNull(blockItem, "blockItem must not be null");
+        requireNonNull(bytes, "bytes must not be null");
+        blockStreamStateManager.addItem(blockNumber, blockItem, bytes);
+    }
+
     @Override
     public void writeItem(@NonNull byte[] bytes) {
         throw new UnsupportedOperationException("writeItem is not supported in this implementation");
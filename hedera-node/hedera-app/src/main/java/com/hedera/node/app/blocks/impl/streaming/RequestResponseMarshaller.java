@@ -10,11 +10,25 @@ import io.grpc.MethodDescriptor;
 import io.helidon.grpc.core.MarshallerSupplier;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.function.Function;
 
 public class RequestResponseMarshaller<T> implements MethodDescriptor.Marshaller<T> {
     private final Codec<T> codec;
+    private final Function<T, Bytes> serializer;
 
     RequestResponseMarshaller(Class<T> clazz) {
+        this(clazz, null);
+    }
+
+    /**
+     * Creates a marshaller that serializes requests with the given function, so requests that were already
+     * serialized are not encoded again.
+     *
+     * @param clazz the class of the messages
+     * @param requestSerializer the function serializing requests, or null to encode them with their codec
+     */
+    @SuppressWarnings("unchecked")
+    RequestResponseMarshaller(Class<T> clazz, Function<PublishStreamRequest, Bytes> requestSerializer) {
         if (clazz == PublishStreamRequest.class) {
             this.codec = (Codec<T>) PublishStreamRequest.PROTOBUF;
         } else if (clazz == PublishStreamResponse.class) {
@@ -22,11 +36,14 @@ public class RequestResponseMarshaller<T> implements MethodDescriptor.Marshaller
         } else {
             throw new IllegalArgumentException("Unsupported class: " + clazz);
         }
+        this.serializer = clazz == PublishStreamRequest.class && requestSerializer != null
+                ? (Function<T, Bytes>) requestSerializer
+                : codec::toBytes;
     }
 
     @Override
     public InputStream stream(T obj) {
-        return codec.toBytes(obj).toInputStream();
+        return serializer.apply(obj).toInputStream();
     }
 
     @Override
@@ -43,9 +60,22 @@ public class RequestResponseMarshaller<T> implements MethodDescriptor.Marshaller
      * instances of {@link RequestResponseMarshaller}.
      */
     public static class Supplier implements MarshallerSupplier {
+        private final Function<PublishStreamRequest, Bytes> requestSerializer;
+
+        public Supplier() {
+            this(null);
+        }
+
+        /**
+         * @param requestSerializer the function serializing requests, or null to encode them with their codec
+         */
+        public Supplier(final Function<PublishStreamRequest, Bytes> requestSerializer) {
+            this.requestSerializer = requestSerializer;
+        }
+
         @Override
         public <T> MethodDescriptor.Marshaller<T> get(Class<T> clazz) {
-            return new RequestResponseMarshaller<>(clazz);
+            return new RequestResponseMarshaller<>(clazz, requestSerializer);
         }
     }
 }
@@ -35,7 +35,6 @@ import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
-import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 
 /**
@@ -46,6 +45,9 @@ import java.util.function.Function;
  * and conversion" model.
  */
 public class FeeCalculatorImpl implements FeeCalculator {
+    /** Stateless, so it is shared by all instances instead of created for each calculation. */
+    private static final OverflowCheckingCalc OVERFLOW_CALC = new OverflowCheckingCalc();
+
     /** From 'hapi-fees', accumulates the usage (rbt, sbt, etc.) for the transaction. */
     private final UsageAccumulator usage;
     /** The current Google Protobuf representation of the fee data. */
@@ -89,11 +91,46 @@ public class FeeCalculatorImpl implements FeeCalculator {
             final boolean isInternalDispatch,
             final CongestionMultipliers congestionMultipliers,
             final ReadableStoreFactory storeFactory) {
-        //  Perform basic validations, and convert the PBJ objects to Google protobuf objects for `hapi-fees`.
+        //  Convert the PBJ objects to Google protobuf objects for `hapi-fees`.
+        this(
+                txBody,
+                payerKey,
+                numVerifications,
+                signatureMapSize,
+                fromPbj(feeData),
+                fromPbj(currentRate),
+                isInternalDispatch,
+                congestionMultipliers,
+                storeFactory);
+    }
+
+    /**
+     * Create a new instance from fee data and an exchange rate already converted to the Google Protobuf objects used
+     * by "hapi-fees", e.g. by the {@link FeeManager} once per fee schedule. One is created per transaction.
+     *
+     * @param txBody           The transaction body
+     * @param payerKey         The key of the payer
+     * @param numVerifications The number of cryptographic signatures that were verified for this transaction
+     * @param signatureMapSize The number of bytes in the signature map.
+     * @param feeData          The fee data associated with this transaction and its subtype.
+     * @param currentRate      The current HBAR-to-USD exchange rate.
+     * @param isInternalDispatch Whether this is an internal child dispatch transaction
+     */
+    public FeeCalculatorImpl(
+            @NonNull TransactionBody txBody,
+            @NonNull Key payerKey,
+            final int numVerifications,
+            final int signatureMapSize,
+            @NonNull final com.hederahashgraph.api.proto.java.FeeData feeData,
+            @NonNull final com.hederahashgraph.api.proto.java.ExchangeRate currentRate,
+            final boolean isInternalDispatch,
+            final CongestionMultipliers congestionMultipliers,
+            final ReadableStoreFactory storeFactory) {
+        //  Perform basic validations
         requireNonNull(txBody);
         requireNonNull(payerKey);
-        this.feeData = fromPbj(feeData);
-        this.currentRate = fromPbj(currentRate);
+        this.feeData = requireNonNull(feeData);
+        this.currentRate = requireNonNull(currentRate);
         if (numVerifications < 0) {
             throw new IllegalArgumentException("numVerifications must be >= 0");
         }
@@ -107,9 +144,7 @@ public class FeeCalculatorImpl implements FeeCalculator {
         // with a simpler model, for now, we'll go ahead and check the transaction body type here.
         final var baseMeta = new BaseTransactionMeta(
                 // For some reason in mono-service while auto-creating we don't consider memo bytes for fees
-                isInternalDispatch
-                        ? 0
-                        : txBody.memo().getBytes(StandardCharsets.UTF_8).length, // Has to be a faster way...
+                isInternalDispatch ? 0 : utf8Length(txBody.memo()),
                 txBody.data().kind() == TransactionBody.DataOneOfType.CRYPTO_TRANSFER
                         ? ((CryptoTransferTransactionBody) txBody.data().as())
                                 .transfersOrElse(TransferList.DEFAULT)
@@ -138,17 +173,31 @@ public class FeeCalculatorImpl implements FeeCalculator {
             final CongestionMultipliers congestionMultipliers,
             final ReadableStoreFactory storeFactory,
             final HederaFunctionality functionality) {
+        this(
+                feeData == null ? null : fromPbj(feeData),
+                fromPbj(currentRate),
+                congestionMultipliers,
+                storeFactory,
+                functionality);
+    }
+
+    public FeeCalculatorImpl(
+            @Nullable final com.hederahashgraph.api.proto.java.FeeData feeData,
+            @NonNull final com.hederahashgraph.api.proto.java.ExchangeRate currentRate,
+            final CongestionMultipliers congestionMultipliers,
+            final ReadableStoreFactory storeFactory,
+            final HederaFunctionality functionality) {
         if (feeData == null) {
             this.feeData = null;
             this.usage = null;
         } else {
-            this.feeData = fromPbj(feeData);
+            this.feeData = feeData;
             this.usage = UsageAccumulator.fromGrpc(this.feeData);
             usage.reset();
             usage.addBpt(BASIC_QUERY_HEADER + BASIC_TX_ID_SIZE);
             usage.addBpr(BASIC_QUERY_RES_HEADER);
         }
-        this.currentRate = fromPbj(currentRate);
+        this.currentRate = requireNonNull(currentRate);
         this.sigUsage = new SigUsage(0, 0, 0);
 
         this.congestionMultipliers = congestionMultipliers;
@@ -234,9 +283,7 @@ public class FeeCalculatorImpl implements FeeCalculator {
     public Fees calculate() {
         failIfLegacyOnly();
         // Use the "hapi-fees" module to calculate the fees, and convert to one of our "Fees" objects.
-        final var overflowCalc = new OverflowCheckingCalc();
-
-        final var feeObject = overflowCalc.fees(
+        final var feeObject = OVERFLOW_CALC.fees(
                 usage, feeData, currentRate, congestionMultipliers.maxCurrentMultiplier(txInfo, storeFactory));
         return new Fees(feeObject.nodeFee(), feeObject.networkFee(), feeObject.serviceFee());
     }
@@ -245,6 +292,33 @@ public class FeeCalculatorImpl implements FeeCalculator {
         return congestionMultipliers.maxCurrentMultiplier(txInfo, storeFactory);
     }
 
+    /**
+     * Returns the number of bytes of the UTF-8 encoding of the given string, without encoding it. Almost all memos
+     * are ASCII, which takes a single pass over the string.
+     */
+    static int utf8Length(@NonNull final String s) {
+        final int n = s.length();
+        int length = n;
+        for (int i = 0; i < n; i++) {
+            final char c = s.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    length++;
+                } else if (Character.isHighSurrogate(c)
+                        && i + 1 < n
+                        && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    // A surrogate pair is 4 bytes for 2 chars
+                    length += 2;
+                    i++;
+                } else {
+                    // Other chars are 3 bytes, but an unpaired surrogate is encoded as a single '?'
+                    length += Character.isSurrogate(c) ? 0 : 2;
+                }
+            }
+        }
+        return length;
+    }
+
     private void failIfLegacyOnly() {
         if (usage == null) {
             throw new UnsupportedOperationException("Only legacy calculation supported");
@@ -8,6 +8,7 @@ import static com.hedera.hapi.node.base.HederaFunctionality.TOKEN_GET_ACCOUNT_NF
 import static com.hedera.hapi.node.base.HederaFunctionality.TOKEN_GET_NFT_INFOS;
 import static com.hedera.hapi.node.base.HederaFunctionality.TRANSACTION_GET_FAST_RECORD;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.SUCCESS;
+import static com.hedera.node.app.hapi.utils.CommonPbjConverters.fromPbj;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.CurrentAndNextFeeSchedule;
@@ -19,6 +20,7 @@ import com.hedera.hapi.node.base.Key;
 import com.hedera.hapi.node.base.ResponseCodeEnum;
 import com.hedera.hapi.node.base.SubType;
 import com.hedera.hapi.node.base.TransactionFeeSchedule;
+import com.hedera.hapi.node.transaction.ExchangeRate;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.fees.congestion.CongestionMultipliers;
 import com.hedera.node.app.spi.fees.FeeCalculator;
@@ -52,6 +54,26 @@ public final class FeeManager {
 
     private record Entry(HederaFunctionality function, SubType subType) {}
 
+    /**
+     * The prices of one entry of a fee schedule, both as given and converted to the Google Protobuf representation
+     * used by "hapi-fees", so the conversion is done once per schedule update instead of once per transaction.
+     */
+    private record Prices(
+            @NonNull FeeData feeData, @NonNull com.hederahashgraph.api.proto.java.FeeData grpcFeeData) {
+        private Prices(@NonNull final FeeData feeData) {
+            this(feeData, fromPbj(feeData));
+        }
+    }
+
+    /**
+     * An exchange rate and its Google Protobuf representation.
+     */
+    private record Rate(@NonNull ExchangeRate rate, @NonNull com.hederahashgraph.api.proto.java.ExchangeRate grpcRate) {
+        private Rate(@NonNull final ExchangeRate rate) {
+            this(rate, fromPbj(rate));
+        }
+    }
+
     private static final long DEFAULT_FEE = 100_000L;
     /**
      * A set of operations that we do not expect to find the fee schedule. These include
@@ -73,13 +95,16 @@ public final class FeeManager {
             .nodedata(DEFAULT_FEE_COMPONENTS)
             .servicedata(DEFAULT_FEE_COMPONENTS)
             .build();
+    private static final Prices DEFAULT_PRICES = new Prices(DEFAULT_FEE_DATA);
 
     /** The current fee schedule, cached for speed. */
-    private Map<Entry, FeeData> currentFeeDataMap = Collections.emptyMap();
+    private Map<Entry, Prices> currentFeeDataMap = Collections.emptyMap();
     /** The next fee schedule, cached for speed. */
-    private Map<Entry, FeeData> nextFeeDataMap = Collections.emptyMap();
+    private Map<Entry, Prices> nextFeeDataMap = Collections.emptyMap();
     /** The expiration time of the "current" fee schedule, in consensus seconds since the epoch, cached for speed. */
     private long currentScheduleExpirationSeconds;
+    /** The last active exchange rate used, with its conversion for "hapi-fees", cached for speed. */
+    private volatile Rate lastRate;
     /** The exchange rate manager to use for the current rate */
     private final ExchangeRateManager exchangeRateManager;
 
@@ -122,7 +147,7 @@ public final class FeeManager {
 
         // Populate the map of HederaFunctionality -> FeeData for the current schedule, but avoid mutating
         // the active one in-place as other threads may be using it for ingest/query fee calculations
-        final var newCurrentFeeDataMap = new HashMap<Entry, FeeData>();
+        final var newCurrentFeeDataMap = new HashMap<Entry, Prices>();
         populateFeeDataMap(newCurrentFeeDataMap, currentSchedule.transactionFeeSchedule());
         this.currentFeeDataMap = newCurrentFeeDataMap;
 
@@ -149,7 +174,7 @@ public final class FeeManager {
         } else {
             // Populate the map of HederaFunctionality -> FeeData for the next schedule, but avoid mutating
             // the active one in-place as other threads may be using it for ingest/query fee calculations
-            final var newNextFeeDataMap = new HashMap<Entry, FeeData>();
+            final var newNextFeeDataMap = new HashMap<Entry, Prices>();
             populateFeeDataMap(newNextFeeDataMap, nextSchedule.transactionFeeSchedule());
             this.nextFeeDataMap = newNextFeeDataMap;
         }
@@ -179,7 +204,7 @@ public final class FeeManager {
         // Determine which fee schedule to use, based on the consensus time
         // If it is not known, that is, if we have no fee data for that transaction, then we MUST NOT execute that
         // transaction! We will not be able to charge appropriately for it.
-        final var feeData = getFeeData(functionality, consensusTime, subType);
+        final var prices = getPrices(functionality, consensusTime, subType);
 
         // Create the fee calculator
         return new FeeCalculatorImpl(
@@ -187,8 +212,8 @@ public final class FeeManager {
                 payerKey,
                 numVerifications,
                 signatureMapSize,
-                feeData,
-                exchangeRateManager.activeRate(consensusTime),
+                prices.grpcFeeData(),
+                activeGrpcRate(consensusTime),
                 isInternalDispatch,
                 congestionMultipliers,
                 storeFactory);
@@ -208,12 +233,12 @@ public final class FeeManager {
             @NonNull final Instant consensusTime,
             @NonNull final ReadableStoreFactory storeFactory) {
         // Determine which fee schedule to use, based on the consensus time
-        final var feeData = getFeeData(functionality, consensusTime, SubType.DEFAULT);
+        final var prices = getPrices(functionality, consensusTime, SubType.DEFAULT);
 
         // Create the fee calculator
         return new FeeCalculatorImpl(
-                feeData,
-                exchangeRateManager.activeRate(consensusTime),
+                prices.grpcFeeData(),
+                activeGrpcRate(consensusTime),
                 congestionMultipliers,
                 storeFactory,
                 functionality);
@@ -225,6 +250,12 @@ public final class FeeManager {
     @NonNull
     public FeeData getFeeData(
             @NonNull HederaFunctionality functionality, @NonNull Instant consensusTime, @NonNull SubType subType) {
+        return getPrices(functionality, consensusTime, subType).feeData();
+    }
+
+    @NonNull
+    private Prices getPrices(
+            @NonNull HederaFunctionality functionality, @NonNull Instant consensusTime, @NonNull SubType subType) {
         final var feeDataMap =
                 consensusTime.getEpochSecond() > currentScheduleExpirationSeconds ? nextFeeDataMap : currentFeeDataMap;
 
@@ -234,25 +265,40 @@ public final class FeeManager {
             if (!INAPPLICABLE_OPERATIONS.contains(functionality)) {
                 logger.warn("Using default usage prices to calculate fees for {}!", functionality);
             }
-            return DEFAULT_FEE_DATA;
+            return DEFAULT_PRICES;
         }
         return result;
     }
 
+    /**
+     * Returns the Google Protobuf representation of the exchange rate active at the given consensus time. The active
+     * rate only changes when the exchange rates are updated, so the conversion of the last rate is reused.
+     */
+    @NonNull
+    private com.hederahashgraph.api.proto.java.ExchangeRate activeGrpcRate(@NonNull final Instant consensusTime) {
+        final var rate = exchangeRateManager.activeRate(consensusTime);
+        var last = lastRate;
+        if (last == null || !last.rate().equals(rate)) {
+            last = new Rate(rate);
+            lastRate = last;
+        }
+        return last.grpcRate();
+    }
+
     /**
      * Used during {@link #update(Bytes)} to populate the fee data map based on the configuration.
      * @param feeDataMap The map to populate.
      * @param feeSchedule The fee schedule to use.
      */
     private void populateFeeDataMap(
-            @NonNull final Map<Entry, FeeData> feeDataMap, @NonNull final List<TransactionFeeSchedule> feeSchedule) {
+            @NonNull final Map<Entry, Prices> feeDataMap, @NonNull final List<TransactionFeeSchedule> feeSchedule) {
         feeSchedule.forEach(t -> {
             if (!t.fees().isEmpty()) {
                 for (final var feeData : t.fees()) {
-                    feeDataMap.put(new Entry(t.hederaFunctionality(), feeData.subType()), feeData);
+                    feeDataMap.put(new Entry(t.hederaFunctionality(), feeData.subType()), new Prices(feeData));
                 }
             } else if (t.hasFeeData()) {
-                feeDataMap.put(new Entry(t.hederaFunctionality(), SubType.DEFAULT), t.feeDataOrThrow());
+                feeDataMap.put(new Entry(t.hederaFunctionality(), SubType.DEFAULT), new Prices(t.feeDataOrThrow()));
             } else {
                 logger.warn(
                         "Neither `fees` nor `feeData` specified for transaction type {}, ignoring it.",
@@ -5,13 +5,17 @@ import static java.util.Objects.requireNonNull;
 
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.Counter;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ServerCalls;
 import io.grpc.stub.StreamObserver;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,10 +41,15 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
     private static final String SPEEDOMETER_HANDLED_DESC_TPL = "number of %s handled per second";
     private static final String SPEEDOMETER_RECEIVED_NAME_TPL = "%sRcv_per_sec";
     private static final String SPEEDOMETER_RECEIVED_DESC_TPL = "number of %s received per second";
+    private static final String COUNTER_BUSY_NAME_TPL = "%sBusy";
+    private static final String COUNTER_BUSY_DESC_TPL = "number of %s rejected as busy";
+    private static final String AVERAGE_LATENCY_NAME_TPL = "%sLat";
+    private static final String AVERAGE_LATENCY_DESC_TPL = "average microseconds from receiving %s to responding";
 
     /**
      * Per-thread shared {@link BufferedData} for responses. We store these in a thread local, because we do
-     * not have control over the thread pool used by the underlying gRPC server.
+     * not have control over the thread pool used by the underlying gRPC server. Calls on virtual threads use the
+     * {@link MethodExecutor#responseBufferPool()} instead, as each of them runs on a new thread.
      */
     @SuppressWarnings(
             "java:S5164") // looks like a false positive ("ThreadLocal" variables should be cleaned up when no longer
@@ -70,8 +79,23 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
     /** A metric for the calls per second successfully handled by this method */
     private final SpeedometerMetric callsHandledSpeedometer;
 
+    /** A metric for the number of times this method rejected an invocation because it was busy */
+    private final Counter callsBusyCounter;
+
+    /** A metric for the average time from receiving an invocation to responding to it */
+    private final RunningAverageMetric callLatency;
+
     private final int maxMessageSize;
 
+    /** The executor handling the invocations of this method */
+    private final MethodExecutor executor;
+
+    /** The maximum number of invocations of this method handled or waiting at the same time, or 0 for no limit */
+    private final int maxConcurrentCalls;
+
+    /** The number of invocations of this method accepted but not yet responded to */
+    private final AtomicInteger callsInFlight = new AtomicInteger();
+
     /**
      * Create a new instance.
      *
@@ -83,6 +107,25 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
             @NonNull final String methodName,
             @NonNull final Metrics metrics,
             final int maxMessageSize) {
+        this(serviceName, methodName, metrics, maxMessageSize, MethodExecutor.DIRECT, 0);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param serviceName a non-null reference to the service name
+     * @param methodName a non-null reference to the method name
+     * @param executor the executor handling the invocations of this method
+     * @param maxConcurrentCalls the maximum number of invocations of this method handled or waiting at the same time,
+     * or 0 for no limit
+     */
+    MethodBase(
+            @NonNull final String serviceName,
+            @NonNull final String methodName,
+            @NonNull final Metrics metrics,
+            final int maxMessageSize,
+            @NonNull final MethodExecutor executor,
+            final int maxConcurrentCalls) {
 
         this.serviceName = requireNonNull(serviceName);
         this.methodName = requireNonNull(methodName);
@@ -93,7 +136,11 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
         this.callsHandledSpeedometer = speedometer(metrics, SPEEDOMETER_HANDLED_NAME_TPL, SPEEDOMETER_HANDLED_DESC_TPL);
         this.callsReceivedSpeedometer =
                 speedometer(metrics, SPEEDOMETER_RECEIVED_NAME_TPL, SPEEDOMETER_RECEIVED_DESC_TPL);
+        this.callsBusyCounter = counter(metrics, COUNTER_BUSY_NAME_TPL, COUNTER_BUSY_DESC_TPL);
+        this.callLatency = runningAverage(metrics, AVERAGE_LATENCY_NAME_TPL, AVERAGE_LATENCY_DESC_TPL);
         this.maxMessageSize = maxMessageSize;
+        this.executor = requireNonNull(executor);
+        this.maxConcurrentCalls = maxConcurrentCalls;
     }
 
     @Override
@@ -112,14 +159,54 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
             return;
         }
 
+        final long receivedAt = System.nanoTime();
+        if (executor == MethodExecutor.DIRECT && maxConcurrentCalls == 0) {
+            // Convert the request BufferedData to a Bytes instance without copying the bytes
+            handleCall(requestBuffer.getBytes(0, requestBuffer.length()), responseObserver, receivedAt);
+            return;
+        }
+
+        // Reject the call right away if this method or its executor already has as many calls as it accepts
+        if (maxConcurrentCalls > 0 && callsInFlight.incrementAndGet() > maxConcurrentCalls) {
+            callsInFlight.decrementAndGet();
+            rejectAsBusy(responseObserver, receivedAt);
+            return;
+        }
+        // The request buffer is reused by the calling thread, so a call handled on another thread needs a copy
+        final var requestBytes = executor == MethodExecutor.DIRECT
+                ? requestBuffer.getBytes(0, requestBuffer.length())
+                : Bytes.wrap(requestBuffer.getBytes(0, requestBuffer.length()).toByteArray());
+        final var accepted = executor.tryExecute(() -> {
+            try {
+                handleCall(requestBytes, responseObserver, receivedAt);
+            } finally {
+                if (maxConcurrentCalls > 0) {
+                    callsInFlight.decrementAndGet();
+                }
+            }
+        });
+        if (!accepted) {
+            if (maxConcurrentCalls > 0) {
+                callsInFlight.decrementAndGet();
+            }
+            rejectAsBusy(responseObserver, receivedAt);
+        }
+    }
+
+    /** Handles the call on the current thread, and responds to the client. */
+    private void handleCall(
+            @NonNull final Bytes requestBytes,
+            @NonNull final StreamObserver<BufferedData> responseObserver,
+            final long receivedAt) {
+        final var bufferPool = executor.responseBufferPool();
+        final var pooledBuffer = bufferPool == null ? null : bufferPool.poll();
+        final var responseBuffer = bufferPool == null
+                ? BUFFER_THREAD_LOCAL.get()
+                : pooledBuffer != null ? pooledBuffer : BufferedData.allocate(MAX_RESPONSE_SIZE);
         try {
             // Prepare the response buffer
-            final var responseBuffer = BUFFER_THREAD_LOCAL.get();
             responseBuffer.reset();
 
-            // Convert the request BufferedData to a Bytes instance without copying the bytes
-            final var requestBytes = requestBuffer.getBytes(0, requestBuffer.length());
-
             // Call the workflow
             handle(requestBytes, responseBuffer);
 
@@ -138,7 +225,43 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
             }
             callsFailedCounter.increment();
             responseObserver.onError(e);
+        } finally {
+            // The response was already marshalled by the observer, so the buffer can be used by the next call
+            if (bufferPool != null) {
+                bufferPool.offer(responseBuffer);
+            }
+        }
+        callLatency.update((System.nanoTime() - receivedAt) / 1_000.0);
+    }
+
+    /**
+     * Responds to a call that was not accepted because too many calls were already in flight. The response returned by
+     * {@link #busyResponse()} is sent if there is one, and a gRPC {@code RESOURCE_EXHAUSTED} error otherwise.
+     */
+    private void rejectAsBusy(@NonNull final StreamObserver<BufferedData> responseObserver, final long receivedAt) {
+        callsBusyCounter.increment();
+        final var response = busyResponse();
+        if (response != null) {
+            // The thread-local response buffer may be in use by a call handled on this thread, so it is not used here
+            responseObserver.onNext(BufferedData.wrap(response.toByteArray()));
+            responseObserver.onCompleted();
+        } else {
+            responseObserver.onError(Status.RESOURCE_EXHAUSTED
+                    .withDescription("Too many calls in flight")
+                    .asRuntimeException());
         }
+        callLatency.update((System.nanoTime() - receivedAt) / 1_000.0);
+    }
+
+    /**
+     * Returns the response to a call that is rejected because the node is busy. Methods that have no such response
+     * reject the call with a gRPC error instead.
+     *
+     * @return the protobuf bytes of the response, or {@code null} if there is none
+     */
+    @Nullable
+    protected Bytes busyResponse() {
+        return null;
     }
 
     /**
@@ -186,6 +309,24 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
         return metrics.getOrCreate(new SpeedometerMetric.Config("app", name).withDescription(desc));
     }
 
+    /**
+     * Helper method for creating a {@link RunningAverageMetric} metric.
+     *
+     * @param metrics The {@link Metrics} object to use to create the running average.
+     * @param nameTemplate A template to use for generating the metric name
+     * @param descriptionTemplate A template to use for generating the metric description
+     * @return The metric
+     */
+    protected final @NonNull RunningAverageMetric runningAverage(
+            @NonNull final Metrics metrics,
+            @NonNull final String nameTemplate,
+            @NonNull final String descriptionTemplate) {
+        final String baseName = calculateBaseName();
+        final var name = String.format(nameTemplate, baseName);
+        final var desc = String.format(descriptionTemplate, baseName);
+        return metrics.getOrCreate(new RunningAverageMetric.Config("app", name).withDescription(desc));
+    }
+
     private String calculateBaseName() {
         return serviceName.substring("proto.".length()).replace('.', ':') + ":" + methodName;
     }
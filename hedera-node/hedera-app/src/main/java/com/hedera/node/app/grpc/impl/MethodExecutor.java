@@ -0,0 +1,202 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.grpc.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executes the calls of one category of {@link MethodBase}, i.e. transactions or queries, off the Netty I/O threads.
+ *
+ * <p>At most {@code threads} calls of the category are handled at the same time, either on a pool of platform threads
+ * or each on its own virtual thread. Up to {@code maxQueueDepth} further calls may wait for their turn; any call
+ * beyond that is not accepted, so the caller can reject it right away instead of letting the wait grow without bound.
+ *
+ * <p>The {@link #DIRECT} executor handles every call on the calling thread and never rejects one, which is how the
+ * gRPC server handled calls before executors were configurable.
+ *
+ * <p>Calls on virtual threads run each on a new thread, so instead of a response buffer per thread they share a pool
+ * of response buffers, which never holds more buffers than calls handled at the same time.
+ *
+ * <p>An executor is running when it is created. {@link #stop()} releases its threads, after which calls are no longer
+ * accepted until {@link #start()} is called, so the gRPC servers using it can be stopped and started again.
+ */
+public final class MethodExecutor {
+    /** Handles every call on the calling thread. */
+    public static final MethodExecutor DIRECT = new MethodExecutor();
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECS = 60;
+
+    /** Creates the executor service running the calls, or null if calls are handled on the calling thread */
+    @Nullable
+    private final Supplier<ExecutorService> executorFactory;
+
+    /** The executor service running the calls, or null if calls are handled on the calling thread */
+    @Nullable
+    private volatile ExecutorService executor;
+
+    @Nullable
+    private final Semaphore runningPermits;
+
+    /** The response buffers of calls on virtual threads not in use, or null if calls run on long-lived threads */
+    @Nullable
+    private final Queue<BufferedData> responseBufferPool;
+
+    private final int maxPending;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private MethodExecutor() {
+        executorFactory = null;
+        executor = null;
+        runningPermits = null;
+        responseBufferPool = null;
+        maxPending = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param category the category of calls, used to name the threads
+     * @param threads the maximum number of calls handled at the same time, must be positive
+     * @param maxQueueDepth the maximum number of calls waiting to be handled, must be non-negative
+     * @param useVirtualThreads whether to handle each call on its own virtual thread instead of on a pool of platform
+     * threads
+     */
+    public MethodExecutor(
+            @NonNull final String category,
+            final int threads,
+            final int maxQueueDepth,
+            final boolean useVirtualThreads) {
+        requireNonNull(category);
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        if (maxQueueDepth < 0) {
+            throw new IllegalArgumentException("maxQueueDepth must be non-negative");
+        }
+        final var threadName = "grpc-" + category + "-";
+        if (useVirtualThreads) {
+            executorFactory = () -> Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name(threadName, 0).factory());
+            runningPermits = new Semaphore(threads);
+            // A buffer is only taken by a call holding a running permit, so at most one is allocated per permit
+            responseBufferPool = new ConcurrentLinkedQueue<>();
+        } else {
+            executorFactory = () -> {
+                // The queue is not bounded itself, admission is controlled by the number of pending calls instead
+                final var pool = new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        IDLE_THREAD_KEEP_ALIVE_SECS,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        Thread.ofPlatform().name(threadName, 0).daemon(true).factory());
+                pool.allowCoreThreadTimeOut(true);
+                return pool;
+            };
+            runningPermits = null;
+            responseBufferPool = null;
+        }
+        executor = executorFactory.get();
+        maxPending = threads + maxQueueDepth;
+    }
+
+    /**
+     * Starts accepting calls again after {@link #stop()}, on new threads. Does nothing if this executor is running.
+     */
+    public synchronized void start() {
+        final var current = executor;
+        if (executorFactory != null && (current == null || current.isShutdown())) {
+            executor = executorFactory.get();
+        }
+    }
+
+    /**
+     * Stops accepting calls and releases the threads of this executor once the calls already accepted are complete.
+     * Does nothing if this executor is already stopped, or handles calls on the calling thread.
+     */
+    public synchronized void stop() {
+        final var current = executor;
+        if (current != null) {
+            current.shutdown();
+        }
+    }
+
+    /**
+     * Executes the given call, unless as many calls are already running or waiting as this executor accepts.
+     *
+     * @param call the call to execute
+     * @return whether the call was accepted
+     */
+    public boolean tryExecute(@NonNull final Runnable call) {
+        requireNonNull(call);
+        final var current = executor;
+        if (current == null) {
+            call.run();
+            return true;
+        }
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            return false;
+        }
+        try {
+            current.execute(() -> {
+                try {
+                    runWithPermit(call);
+                } finally {
+                    pending.decrementAndGet();
+                }
+            });
+            return true;
+        } catch (final RejectedExecutionException e) {
+            pending.decrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of calls that were accepted but are not yet complete.
+     *
+     * @return the number of pending calls
+     */
+    public int pendingCalls() {
+        return pending.get();
+    }
+
+    /**
+     * Returns the pool of response buffers shared by the calls of this executor, if they run on threads of their own.
+     * A call takes a buffer from the pool, or allocates one if the pool is empty, and returns it once responded.
+     *
+     * @return the pool of response buffers, or null if calls run on long-lived threads and reuse a buffer per thread
+     */
+    @Nullable
+    Queue<BufferedData> responseBufferPool() {
+        return responseBufferPool;
+    }
+
+    private void runWithPermit(@NonNull final Runnable call) {
+        if (runningPermits == null) {
+            call.run();
+            return;
+        }
+        runningPermits.acquireUninterruptibly();
+        try {
+            call.run();
+        } finally {
+            runningPermits.release();
+        }
+    }
+}
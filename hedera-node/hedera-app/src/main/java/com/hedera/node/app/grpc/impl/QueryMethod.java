@@ -50,7 +50,29 @@ public final class QueryMethod extends MethodBase {
             @NonNull final QueryWorkflow workflow,
             @NonNull final Metrics metrics,
             final int maxMessageSize) {
-        super(serviceName, methodName, metrics, maxMessageSize);
+        this(serviceName, methodName, workflow, metrics, maxMessageSize, MethodExecutor.DIRECT, 0);
+    }
+
+    /**
+     * Create a new QueryMethod.
+     *
+     * @param serviceName a non-null reference to the service name
+     * @param methodName a non-null reference to the method name
+     * @param workflow a non-null {@link QueryWorkflow}
+     * @param maxMessageSize the maximum message size
+     * @param executor the executor handling the queries submitted to this method
+     * @param maxConcurrentCalls the maximum number of queries submitted to this method that are handled or waiting
+     * at the same time, or 0 for no limit
+     */
+    public QueryMethod(
+            @NonNull final String serviceName,
+            @NonNull final String methodName,
+            @NonNull final QueryWorkflow workflow,
+            @NonNull final Metrics metrics,
+            final int maxMessageSize,
+            @NonNull final MethodExecutor executor,
+            final int maxConcurrentCalls) {
+        super(serviceName, methodName, metrics, maxMessageSize, executor, maxConcurrentCalls);
         this.workflow = requireNonNull(workflow);
         this.queriesAnsweredCounter = counter(metrics, COUNTER_ANSWERED_NAME_TPL, COUNTER_ANSWERED_DESC_TPL);
         this.queriesAnsweredSpeedometer =
@@ -1,7 +1,10 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.grpc.impl;
 
+import static com.hedera.hapi.node.base.ResponseCodeEnum.BUSY;
+
 import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.transaction.TransactionResponse;
 import com.hedera.node.app.workflows.ingest.IngestWorkflow;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -18,6 +21,10 @@ import java.util.Objects;
  */
 /*@ThreadSafe*/
 public final class TransactionMethod extends MethodBase {
+    /** The response to a transaction rejected because the node is busy. */
+    private static final Bytes BUSY_RESPONSE = TransactionResponse.PROTOBUF.toBytes(
+            TransactionResponse.newBuilder().nodeTransactionPrecheckCode(BUSY).build());
+
     /** The pipeline contains all the steps needed for handling the ingestion of a transaction. */
     private final IngestWorkflow workflow;
 
@@ -33,7 +40,27 @@ public final class TransactionMethod extends MethodBase {
             @NonNull final IngestWorkflow workflow,
             @NonNull final Metrics metrics,
             final int maxMessageSize) {
-        super(serviceName, methodName, metrics, maxMessageSize);
+        this(serviceName, methodName, workflow, metrics, maxMessageSize, MethodExecutor.DIRECT, 0);
+    }
+
+    /**
+     * @param serviceName a non-null reference to the service name
+     * @param methodName a non-null reference to the method name
+     * @param workflow a non-null {@link IngestWorkflow}
+     * @param maxMessageSize the maximum message size
+     * @param executor the executor handling the transactions submitted to this method
+     * @param maxConcurrentCalls the maximum number of transactions submitted to this method that are handled or
+     * waiting at the same time, or 0 for no limit
+     */
+    public TransactionMethod(
+            @NonNull final String serviceName,
+            @NonNull final String methodName,
+            @NonNull final IngestWorkflow workflow,
+            @NonNull final Metrics metrics,
+            final int maxMessageSize,
+            @NonNull final MethodExecutor executor,
+            final int maxConcurrentCalls) {
+        super(serviceName, methodName, metrics, maxMessageSize, executor, maxConcurrentCalls);
         this.workflow = Objects.requireNonNull(workflow);
     }
 
@@ -42,4 +69,11 @@ public final class TransactionMethod extends MethodBase {
     protected void handle(@NonNull final Bytes requestBuffer, @NonNull final BufferedData responseBuffer) {
         workflow.submitTransaction(requestBuffer, responseBuffer);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Bytes busyResponse() {
+        // Clients retry a transaction that failed pre-check with BUSY, just as if it had been throttled
+        return BUSY_RESPONSE;
+    }
 }
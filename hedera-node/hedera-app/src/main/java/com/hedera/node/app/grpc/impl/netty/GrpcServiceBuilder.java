@@ -6,6 +6,7 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.hapi.node.base.Transaction;
 import com.hedera.hapi.node.transaction.Query;
 import com.hedera.node.app.grpc.impl.MethodBase;
+import com.hedera.node.app.grpc.impl.MethodExecutor;
 import com.hedera.node.app.grpc.impl.QueryMethod;
 import com.hedera.node.app.grpc.impl.TransactionMethod;
 import com.hedera.node.app.workflows.ingest.IngestWorkflow;
@@ -13,6 +14,7 @@ import com.hedera.node.app.workflows.query.QueryWorkflow;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.data.JumboTransactionsConfig;
+import com.hedera.node.config.data.NettyConfig;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -158,6 +160,7 @@ final class GrpcServiceBuilder {
 
     /**
      * Build a grpc {@link ServerServiceDefinition} for each transaction and query method registered with this builder.
+     * All methods are handled on the thread that receives the call.
      *
      * @param metrics Used for recording metrics for the transaction or query methods
      * @param configProvider Used for obtaining the maximum message size allowed for the gRPC server
@@ -165,6 +168,26 @@ final class GrpcServiceBuilder {
      */
     @NonNull
     public ServerServiceDefinition build(@NonNull final Metrics metrics, ConfigProvider configProvider) {
+        return build(metrics, configProvider, MethodExecutor.DIRECT, MethodExecutor.DIRECT);
+    }
+
+    /**
+     * Build a grpc {@link ServerServiceDefinition} for each transaction and query method registered with this builder.
+     *
+     * @param metrics Used for recording metrics for the transaction or query methods
+     * @param configProvider Used for obtaining the maximum message size allowed for the gRPC server
+     * @param transactionExecutor The executor handling the calls of all transaction methods
+     * @param queryExecutor The executor handling the calls of all query methods
+     * @return A {@link ServerServiceDefinition} that can be registered with a gRPC server
+     */
+    @NonNull
+    public ServerServiceDefinition build(
+            @NonNull final Metrics metrics,
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final MethodExecutor transactionExecutor,
+            @NonNull final MethodExecutor queryExecutor) {
+        requireNonNull(transactionExecutor);
+        requireNonNull(queryExecutor);
         final var jumboTxnConfig = configProvider.getConfiguration().getConfigData(JumboTransactionsConfig.class);
         final var jumboTxnIsEnabled = jumboTxnConfig.isEnabled();
         final var jumboTxnMaxSize = jumboTxnConfig.maxTxnSize();
@@ -172,6 +195,10 @@ final class GrpcServiceBuilder {
                 .getConfiguration()
                 .getConfigData(HederaConfig.class)
                 .transactionMaxBytes();
+        final var maxConcurrentCalls = configProvider
+                .getConfiguration()
+                .getConfigData(NettyConfig.class)
+                .executorMaxConcurrentCallsPerMethod();
 
         final var builder = ServerServiceDefinition.builder(serviceName);
         txMethodNames.forEach(methodName -> {
@@ -180,17 +207,32 @@ final class GrpcServiceBuilder {
 
             if (jumboTxnIsEnabled && jumboTxnConfig.grpcMethodNames().contains(methodName)) {
                 // add jumbo transaction methods
-                method = new TransactionMethod(serviceName, methodName, ingestWorkflow, metrics, jumboTxnMaxSize);
+                method = new TransactionMethod(
+                        serviceName,
+                        methodName,
+                        ingestWorkflow,
+                        metrics,
+                        jumboTxnMaxSize,
+                        transactionExecutor,
+                        maxConcurrentCalls);
                 addMethod(builder, serviceName, methodName, method, jumboMarshaller);
             } else {
                 // add regular transaction methods
-                method = new TransactionMethod(serviceName, methodName, ingestWorkflow, metrics, messageMaxSize);
+                method = new TransactionMethod(
+                        serviceName,
+                        methodName,
+                        ingestWorkflow,
+                        metrics,
+                        messageMaxSize,
+                        transactionExecutor,
+                        maxConcurrentCalls);
                 addMethod(builder, serviceName, methodName, method, marshaller);
             }
         });
         queryMethodNames.forEach(methodName -> {
             logger.debug("Registering gRPC query method {}.{}", serviceName, methodName);
-            final var method = new QueryMethod(serviceName, methodName, queryWorkflow, metrics, messageMaxSize);
+            final var method = new QueryMethod(
+                    serviceName, methodName, queryWorkflow, metrics, messageMaxSize, queryExecutor, maxConcurrentCalls);
             addMethod(builder, serviceName, methodName, method, marshaller);
         });
         return builder.build();
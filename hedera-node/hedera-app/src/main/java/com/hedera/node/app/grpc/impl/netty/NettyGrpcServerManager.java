@@ -7,6 +7,7 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.hapi.node.base.Transaction;
 import com.hedera.hapi.node.transaction.Query;
 import com.hedera.node.app.grpc.GrpcServerManager;
+import com.hedera.node.app.grpc.impl.MethodExecutor;
 import com.hedera.node.app.grpc.impl.usage.GrpcUsageTracker;
 import com.hedera.node.app.services.ServicesRegistry;
 import com.hedera.node.app.spi.RpcService;
@@ -107,6 +108,16 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
      */
     private final GrpcUsageTracker usageTracker;
 
+    /**
+     * The executor handling the calls of all transaction methods, shared by all servers.
+     */
+    private final MethodExecutor transactionExecutor;
+
+    /**
+     * The executor handling the calls of all query methods, shared by all servers.
+     */
+    private final MethodExecutor queryExecutor;
+
     /**
      * Create a new instance.
      *
@@ -131,6 +142,11 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
         requireNonNull(operatorQueryWorkflow);
         requireNonNull(metrics);
 
+        // Unless configured otherwise, calls are handled on the Netty I/O thread that received them
+        final var nettyConfig = configProvider.getConfiguration().getConfigData(NettyConfig.class);
+        transactionExecutor = executorFor("txn", nettyConfig.executorTransactionThreads(), nettyConfig);
+        queryExecutor = executorFor("query", nettyConfig.executorQueryThreads(), nettyConfig);
+
         final Supplier<Stream<RpcServiceDefinition>> rpcServiceDefinitions =
                 () -> servicesRegistry.registrations().stream()
                         .map(ServicesRegistry.Registration::service)
@@ -188,6 +204,9 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
         }
 
         logger.info("Starting gRPC servers");
+        // The executors are stopped when the servers are, so a restarted server needs them running again
+        transactionExecutor.start();
+        queryExecutor.start();
         final var nettyConfig = configProvider.getConfiguration().getConfigData(NettyConfig.class);
         final var startRetries = nettyConfig.startRetries();
         final var startRetryIntervalMs = nettyConfig.startRetryIntervalMs();
@@ -258,6 +277,10 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
         } else {
             logger.info("Cannot shut down an already stopped node operator gRPC server");
         }
+
+        // No server hands calls to the executors anymore, so their threads can be released
+        transactionExecutor.stop();
+        queryExecutor.stop();
     }
 
     /**
@@ -416,6 +439,25 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
         builder.sslContext(sslContext);
     }
 
+    /**
+     * Utility for creating the executor of a category of methods, which is {@link MethodExecutor#DIRECT} if no
+     * threads are configured for it
+     */
+    private static MethodExecutor executorFor(
+            @NonNull final String category, final int threads, @NonNull final NettyConfig config) {
+        if (threads == 0) {
+            return MethodExecutor.DIRECT;
+        }
+        logger.info(
+                "Handling gRPC {} calls on up to {} {} threads, with up to {} calls waiting",
+                category,
+                threads,
+                config.executorUseVirtualThreads() ? "virtual" : "platform",
+                config.executorMaxQueueDepth());
+        final var maxQueueDepth = config.executorMaxQueueDepth();
+        return new MethodExecutor(category, threads, maxQueueDepth, config.executorUseVirtualThreads());
+    }
+
     private Set<ServerServiceDefinition> buildServiceDefinitions(
             @NonNull final Supplier<Stream<RpcServiceDefinition>> rpcServiceDefinitions,
             @NonNull final Predicate<RpcMethodDefinition> methodFilter,
@@ -458,7 +500,7 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
                         }
                     });
                     // build service
-                    return builder.build(metrics, configProvider);
+                    return builder.build(metrics, configProvider, transactionExecutor, queryExecutor);
                 })
                 .collect(Collectors.toUnmodifiableSet());
     }
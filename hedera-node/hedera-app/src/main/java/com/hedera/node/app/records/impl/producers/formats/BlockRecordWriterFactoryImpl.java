@@ -10,7 +10,10 @@ import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.BlockRecordStreamConfig;
 import com.swirlds.state.lifecycle.info.NodeInfo;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.file.FileSystem;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.hiero.base.crypto.Signer;
@@ -21,6 +24,9 @@ public class BlockRecordWriterFactoryImpl implements BlockRecordWriterFactory {
     private final Signer signer;
     private final NodeInfo selfNodeInfo;
     private final FileSystem fileSystem;
+    /** The executor all record writers compress their files on, or null if they compress on the writing thread */
+    @Nullable
+    private final ExecutorService compressionExecutor;
 
     /**
      *
@@ -38,6 +44,15 @@ public class BlockRecordWriterFactoryImpl implements BlockRecordWriterFactory {
         this.fileSystem = requireNonNull(fileSystem);
         this.selfNodeInfo = requireNonNull(selfNodeInfo);
         this.signer = requireNonNull(signer);
+        final var compressionThreads = configProvider
+                .getConfiguration()
+                .getConfigData(BlockRecordStreamConfig.class)
+                .compressionThreads();
+        this.compressionExecutor = compressionThreads > 0
+                ? Executors.newFixedThreadPool(
+                        compressionThreads,
+                        Thread.ofPlatform().name("record-gzip-", 0).daemon(true).factory())
+                : null;
     }
 
     @Override
@@ -54,7 +69,8 @@ public class BlockRecordWriterFactoryImpl implements BlockRecordWriterFactory {
                         configProvider.getConfiguration().getConfigData(BlockRecordStreamConfig.class),
                         selfNodeInfo,
                         signer,
-                        fileSystem);
+                        fileSystem,
+                        compressionExecutor);
             case 7 -> throw new IllegalArgumentException("Record file version 7 is not yet supported");
             default -> throw new IllegalArgumentException("Unknown record file version: " + recordFileVersion);
         };
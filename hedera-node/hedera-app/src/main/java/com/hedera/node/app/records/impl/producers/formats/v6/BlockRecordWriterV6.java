@@ -24,12 +24,14 @@ import com.hedera.hapi.streams.RecordStreamItem;
 import com.hedera.hapi.streams.SidecarMetadata;
 import com.hedera.node.app.records.impl.producers.BlockRecordWriter;
 import com.hedera.node.app.records.impl.producers.SerializedSingleTransactionRecord;
+import com.hedera.node.app.util.ParallelGzipOutputStream;
 import com.hedera.node.config.data.BlockRecordStreamConfig;
 import com.hedera.pbj.runtime.ProtoWriterTools;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import com.swirlds.state.lifecycle.info.NodeInfo;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -43,6 +45,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.zip.GZIPOutputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -74,7 +77,15 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
     private final Signer signer;
     /** The maximum size of a sidecar file in bytes. */
     private final int maxSideCarSizeInBytes;
-    /** Whether to compress the record file and sidecar files. */
+    /**
+     * The executor to compress the record file and sidecar files on, or null to compress them on the writing thread
+     */
+    @Nullable
+    private final Executor compressionExecutor;
+    /** The number of uncompressed bytes compressed as one gzip member when compressing on the executor */
+    private final int compressionBlockSize;
+    /** The maximum number of blocks of one file compressed on the executor at the same time */
+    private final int maxPendingCompressionBlocks;
     /** The node-specific path to the directory where record files are written */
     private final Path nodeScopedRecordDir;
     /**
@@ -119,7 +130,7 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
     /** The file output stream we are writing to, which writes to {@link #recordFilePath} */
     private OutputStream fileOutputStream;
     /** The gzip output stream we are writing to, wraps {@link #fileOutputStream} */
-    private GZIPOutputStream gzipOutputStream = null;
+    private OutputStream gzipOutputStream = null;
     /** HashingOutputStream for hashing the file contents, wraps {@link #gzipOutputStream} or {@link #fileOutputStream} */
     private HashingOutputStream hashingOutputStream;
     /** The buffered output stream we are writing to, wraps {@link #hashingOutputStream} */
@@ -144,6 +155,25 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
             @NonNull final NodeInfo nodeInfo,
             @NonNull final Signer signer,
             @NonNull final FileSystem fileSystem) {
+        this(config, nodeInfo, signer, fileSystem, null);
+    }
+
+    /**
+     * Creates a new incremental record file writer on a new file, that compresses the record file and sidecar files on
+     * the given executor.
+     *
+     * @param config The configuration to be used for writing this block
+     * @param nodeInfo The node info for the node writing this file
+     * @param signer The signer to use to sign the file bytes to produce the signature file
+     * @param fileSystem The file system to use to write the file
+     * @param compressionExecutor The executor to compress on, or null to compress on the writing thread
+     */
+    public BlockRecordWriterV6(
+            @NonNull final BlockRecordStreamConfig config,
+            @NonNull final NodeInfo nodeInfo,
+            @NonNull final Signer signer,
+            @NonNull final FileSystem fileSystem,
+            @Nullable final Executor compressionExecutor) {
 
         if (config.recordFileVersion() != 6) {
             logger.fatal(
@@ -162,6 +192,9 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
         this.state = State.UNINITIALIZED;
         this.signer = requireNonNull(signer);
         this.maxSideCarSizeInBytes = config.sidecarMaxSizeMb() * 1024 * 1024;
+        this.compressionExecutor = compressionExecutor;
+        this.compressionBlockSize = config.compressionBlockSizeKb() * 1024;
+        this.maxPendingCompressionBlocks = Math.max(1, 2 * config.compressionThreads());
 
         // Compute directories for record and sidecar files
         final Path recordDir = fileSystem.getPath(config.logDir());
@@ -206,7 +239,7 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
         this.recordFilePath = getRecordFilePath(startConsensusTime);
         try {
             fileOutputStream = Files.newOutputStream(recordFilePath);
-            gzipOutputStream = new GZIPOutputStream(fileOutputStream);
+            gzipOutputStream = gzip(fileOutputStream);
             hashingOutputStream = new HashingOutputStream(createWholeFileMessageDigest(), gzipOutputStream);
             bufferedOutputStream = new BufferedOutputStream(hashingOutputStream);
             outputStream = new WritableStreamingData(bufferedOutputStream);
@@ -366,7 +399,7 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
 
     @NonNull
     private SidecarWriterV6 createSidecarFileWriter(final int id) throws IOException {
-        return new SidecarWriterV6(getSidecarFilePath(id), maxSideCarSizeInBytes, id);
+        return new SidecarWriterV6(getSidecarFilePath(id), this::gzip, maxSideCarSizeInBytes, id);
     }
 
     private void closeSidecarFileWriter() {
@@ -411,6 +444,23 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
         }
     }
 
+    /**
+     * Wraps the given stream in a stream that gzips the bytes written to it. If there is a compression executor, the
+     * bytes are compressed on it, as concatenated gzip members that read back like the output of a single
+     * {@link GZIPOutputStream}; the whole file hash is computed over the uncompressed bytes either way.
+     *
+     * @param out the stream to write the compressed bytes to
+     * @return the gzip stream
+     * @throws IOException if the gzip header could not be written
+     */
+    @NonNull
+    private OutputStream gzip(@NonNull final OutputStream out) throws IOException {
+        return compressionExecutor == null
+                ? new GZIPOutputStream(out)
+                : new ParallelGzipOutputStream(
+                        out, compressionExecutor, compressionBlockSize, maxPendingCompressionBlocks);
+    }
+
     /**
      * Get the record file path for a record file with the given consensus time
      *
@@ -19,7 +19,6 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
 import org.hiero.base.crypto.HashingOutputStream;
 
 /**
@@ -46,14 +45,29 @@ final class SidecarWriterV6 implements AutoCloseable {
 
     private final int id;
 
+    /**
+     * Wraps a file stream in a stream that compresses the bytes written to it.
+     */
+    @FunctionalInterface
+    interface Compressor {
+        @NonNull
+        OutputStream compress(@NonNull OutputStream out) throws IOException;
+    }
+
     /**
      * Creates a new incremental sidecar file writer on a new file.
      *
      * @param file path to the file to write
+     * @param compressor wraps the file stream in the gzip stream to write to
      * @param maxSideCarSizeInBytes the maximum size of a sidecar file in bytes before compression
      * @throws IOException If there was a problem creating the file
      */
-    SidecarWriterV6(@NonNull final Path file, final int maxSideCarSizeInBytes, final int id) throws IOException {
+    SidecarWriterV6(
+            @NonNull final Path file,
+            @NonNull final Compressor compressor,
+            final int maxSideCarSizeInBytes,
+            final int id)
+            throws IOException {
         this.id = id;
         this.maxSideCarSizeInBytes = maxSideCarSizeInBytes;
         // create parent directories if needed
@@ -67,7 +81,7 @@ final class SidecarWriterV6 implements AutoCloseable {
         }
         // create streams
         final var fout = Files.newOutputStream(file);
-        GZIPOutputStream gout = new GZIPOutputStream(fout);
+        final var gout = compressor.compress(fout);
         hashingDelegateStream = gout;
         hashingOutputStream = new HashingOutputStream(wholeFileDigest, gout);
         BufferedOutputStream bout = new BufferedOutputStream(hashingOutputStream);
@@ -0,0 +1,170 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.signature;
+
+import static com.hedera.hapi.node.base.SignaturePair.SignatureOneOfType.ECDSA_SECP256K1;
+import static java.util.Objects.requireNonNull;
+import static org.hiero.base.crypto.VerificationStatus.VALID;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.hapi.node.base.Key;
+import com.hedera.node.app.hapi.utils.MiscCryptoUtils;
+import com.hedera.node.app.signature.impl.SignatureVerificationFutureImpl;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.hiero.base.crypto.SignatureType;
+import org.hiero.base.crypto.TransactionSignature;
+
+/**
+ * A bounded cache of signatures that were already verified successfully by this node, so a transaction submitted to
+ * this node does not have its signatures verified a second time when it is pre-handled after reaching an event.
+ *
+ * <p>The ingest workflow records the signatures it verified; the pre-handle workflow takes the recorded signatures
+ * out of the set it is about to verify. Only successful verifications are cached, and an entry is keyed by the digest
+ * of the signed bytes, the full public key, and the signature itself, so a hit is exactly as trustworthy as repeating
+ * the verification. Entries expire after {@code cache.verifiedSignatures.ttlSecs}, which only needs to cover the
+ * time between submission and pre-handle. A maximum size of zero disables the cache.
+ *
+ * <p>Only transactions in events created by this node can have been submitted to it, so the pre-handle workflow only
+ * consults the cache for those, and the hit and miss counters only count their signatures.
+ */
+@Singleton
+public class VerifiedSignatureCache {
+
+    private static final Counter.Config HITS_CONFIG = new Counter.Config("app", "verifiedSigCacheHits")
+            .withDescription("number of signatures whose verification was skipped during pre-handle, because "
+                    + "this node already verified them at ingest");
+    private static final Counter.Config MISSES_CONFIG = new Counter.Config("app", "verifiedSigCacheMisses")
+            .withDescription("number of signatures of transactions submitted to this node that were verified during "
+                    + "pre-handle, because they were not verified at ingest");
+
+    /**
+     * The key of a verified signature.
+     *
+     * @param messageDigest the Keccak-256 digest of the signed bytes
+     * @param keyBytes      the full public key, uncompressed if ECDSA_SECP256K1
+     * @param signature     the signature bytes
+     */
+    private record VerifiedSignature(
+            @NonNull Bytes messageDigest, @NonNull Bytes keyBytes, @NonNull Bytes signature) {}
+
+    @Nullable
+    private final Cache<VerifiedSignature, Boolean> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructor for the {@link VerifiedSignatureCache}.
+     *
+     * @param metrics        the {@link Metrics} object where the hit and miss counters will be registered
+     * @param configProvider the configuration provider
+     */
+    @Inject
+    public VerifiedSignatureCache(@NonNull final Metrics metrics, @NonNull final ConfigProvider configProvider) {
+        requireNonNull(metrics, "metrics must not be null");
+        final var cacheConfig = configProvider.getConfiguration().getConfigData(CacheConfig.class);
+        if (cacheConfig.verifiedSignaturesMaxSize() > 0) {
+            cache = Caffeine.newBuilder()
+                    .maximumSize(cacheConfig.verifiedSignaturesMaxSize())
+                    .expireAfterWrite(Math.max(1, cacheConfig.verifiedSignaturesTtlSecs()), TimeUnit.SECONDS)
+                    .build();
+        } else {
+            cache = null;
+        }
+        hits = metrics.getOrCreate(HITS_CONFIG);
+        misses = metrics.getOrCreate(MISSES_CONFIG);
+    }
+
+    /**
+     * Records each of the given signature pairs whose verification succeeded.
+     *
+     * @param signedBytes the signed bytes the signatures were verified against
+     * @param sigPairs    the verified signature pairs
+     * @param results     the verification results, by key
+     */
+    public void recordVerified(
+            @NonNull final Bytes signedBytes,
+            @NonNull final Set<ExpandedSignaturePair> sigPairs,
+            @NonNull final Map<Key, SignatureVerificationFuture> results) {
+        requireNonNull(signedBytes);
+        requireNonNull(sigPairs);
+        requireNonNull(results);
+        if (cache == null || sigPairs.isEmpty()) {
+            return;
+        }
+        final var messageDigest = MiscCryptoUtils.keccak256DigestOf(signedBytes);
+        for (final var sigPair : sigPairs) {
+            // The futures of the verifier are complete once it returns, so checking them never blocks
+            if (results.get(sigPair.key()) instanceof SignatureVerificationFutureImpl future
+                    && future.txSig().getSignatureStatus() == VALID) {
+                cache.put(new VerifiedSignature(messageDigest, sigPair.keyBytes(), sigPair.signature()), Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * Removes each signature pair from the given set whose successful verification was recorded, and returns
+     * verification results for the removed pairs that are equivalent to verifying them again.
+     *
+     * @param signedBytes the signed bytes the signatures are to be verified against
+     * @param sigPairs    the signature pairs to be verified; on return, only those still needing verification
+     * @return the verification results of the removed signature pairs, by key
+     */
+    @NonNull
+    public Map<Key, SignatureVerificationFuture> takeVerified(
+            @NonNull final Bytes signedBytes, @NonNull final Set<ExpandedSignaturePair> sigPairs) {
+        requireNonNull(signedBytes);
+        requireNonNull(sigPairs);
+        if (cache == null || sigPairs.isEmpty()) {
+            return Map.of();
+        }
+        final var messageDigest = MiscCryptoUtils.keccak256DigestOf(signedBytes);
+        final var verified = new HashMap<Key, SignatureVerificationFuture>();
+        for (final var it = sigPairs.iterator(); it.hasNext(); ) {
+            final var sigPair = it.next();
+            final var key = new VerifiedSignature(messageDigest, sigPair.keyBytes(), sigPair.signature());
+            if (cache.getIfPresent(key) != null) {
+                it.remove();
+                verified.put(sigPair.key(), verifiedFuture(signedBytes, messageDigest, sigPair));
+            }
+        }
+        if (!verified.isEmpty()) {
+            hits.add(verified.size());
+        }
+        if (!sigPairs.isEmpty()) {
+            misses.add(sigPairs.size());
+        }
+        return verified;
+    }
+
+    /**
+     * Creates a completed, successful verification result for the given signature pair, with the same message the
+     * {@link SignatureVerifier} would have verified it against.
+     */
+    @NonNull
+    private static SignatureVerificationFuture verifiedFuture(
+            @NonNull final Bytes signedBytes,
+            @NonNull final Bytes messageDigest,
+            @NonNull final ExpandedSignaturePair sigPair) {
+        final var isEcdsa = sigPair.sigPair().signature().kind() == ECDSA_SECP256K1;
+        final var txSig = new TransactionSignature(
+                isEcdsa ? messageDigest : signedBytes,
+                sigPair.keyBytes(),
+                sigPair.signature(),
+                isEcdsa ? SignatureType.ECDSA_SECP256K1 : SignatureType.ED25519);
+        txSig.setSignatureStatus(VALID);
+        return new SignatureVerificationFutureImpl(sigPair.key(), sigPair.evmAlias(), txSig);
+    }
+}
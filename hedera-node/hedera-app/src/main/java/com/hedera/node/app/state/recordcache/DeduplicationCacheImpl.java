@@ -1,43 +1,41 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.state.recordcache;
 
-import static com.hedera.hapi.util.HapiUtils.ACCOUNT_ID_COMPARATOR;
-import static com.hedera.hapi.util.HapiUtils.TIMESTAMP_COMPARATOR;
 import static com.hedera.hapi.util.HapiUtils.asTimestamp;
 import static com.hedera.hapi.util.HapiUtils.minus;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.AccountID;
-import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.HederaConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.InstantSource;
-import java.util.Comparator;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 /** An implementation of {@link DeduplicationCache}. */
 @Singleton
 public final class DeduplicationCacheImpl implements DeduplicationCache {
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+
     /**
-     * The {@link TransactionID}s that this node has already submitted to the platform, sorted by transaction start
-     * time, such that earlier start times come first.
+     * The {@link TransactionID}s that this node has already submitted to the platform, bucketed by the second of
+     * their valid start time. Each bucket is a hash set of compact encodings of the IDs (see {@link #encode}), so
+     * checking membership is a constant-time lookup, and expiring IDs drops whole buckets.
      * <p>
      * Note that an ID with scheduled set is different from the same ID without scheduled set.
      * In fact, an ID with scheduled set will always match the ID of the ScheduleCreate transaction that created
      * the schedule, except scheduled is set.
      */
-    private final Set<TransactionID> submittedTxns =
-            new ConcurrentSkipListSet<>(Comparator.<TransactionID, Timestamp>comparing(
-                            txnId -> txnId.transactionValidStartOrElse(Timestamp.DEFAULT), TIMESTAMP_COMPARATOR)
-                    .thenComparing(txnId -> txnId.accountIDOrElse(AccountID.DEFAULT), ACCOUNT_ID_COMPARATOR)
-                    .thenComparing(TransactionID::scheduled)
-                    .thenComparing(TransactionID::nonce));
+    private final Map<Long, Set<Object>> submittedTxns = new ConcurrentHashMap<>();
+    /** The earliest valid start second of the buckets retained by the last pruning. */
+    private final AtomicLong earliestRetainedSecond = new AtomicLong(Long.MIN_VALUE);
 
     /** Used for looking up the max transaction duration window. */
     private final ConfigProvider configProvider;
@@ -47,6 +45,17 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
      */
     private final InstantSource instantSource;
 
+    /**
+     * The compact encoding of a {@link TransactionID} whose payer is identified by number, within the bucket of its
+     * valid start second.
+     *
+     * @param shardNum the shard of the payer
+     * @param realmNum the realm of the payer
+     * @param accountNum the number of the payer
+     * @param nanosNonceScheduled the valid start nanos, nonce, and scheduled flag, packed into a single long
+     */
+    private record SubmittedTxn(long shardNum, long realmNum, long accountNum, long nanosNonceScheduled) {}
+
     /** Constructs a new {@link DeduplicationCacheImpl}. */
     @Inject
     public DeduplicationCacheImpl(
@@ -58,32 +67,40 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
     /** {@inheritDoc} */
     @Override
     public void add(@NonNull final TransactionID transactionID) {
-        // We don't want to use another thread to prune the set, so we will take the opportunity here to do so.
-        // Remember that at this point we have passed through all the throttles, so this method is only called
-        // at most 10,000 / (Number of nodes) times per second, which is not a lot.
+        // We don't want to use another thread to prune the buckets, so we will take the opportunity here to do so.
+        // Pruning only does any work the first time it is called in each second.
         final var epochSeconds = approxEarliestValidStartSecond();
         removeTransactionsOlderThan(epochSeconds);
 
-        // If the transaction is within the max transaction duration window, then add it to the set.
-        if (transactionID.transactionValidStartOrThrow().seconds() >= epochSeconds) {
-            submittedTxns.add(transactionID);
+        // If the transaction is within the max transaction duration window, then add it to its bucket.
+        final var validStartSecond = transactionID.transactionValidStartOrThrow().seconds();
+        if (validStartSecond >= epochSeconds) {
+            submittedTxns
+                    .computeIfAbsent(validStartSecond, second -> ConcurrentHashMap.newKeySet())
+                    .add(encode(transactionID));
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean contains(@NonNull final TransactionID transactionID) {
-        // We will prune the set here as well. By pruning before looking up, we are sure that we only return true
-        // if the transactionID is still valid
+        // We will prune the buckets here as well, and also check the valid start against the window, so we are
+        // sure that we only return true if the transactionID is still valid
         final var epochSeconds = approxEarliestValidStartSecond();
         removeTransactionsOlderThan(epochSeconds);
-        return submittedTxns.contains(transactionID);
+        final var validStartSecond = transactionID.transactionValidStartOrThrow().seconds();
+        if (validStartSecond < epochSeconds) {
+            return false;
+        }
+        final var bucket = submittedTxns.get(validStartSecond);
+        return bucket != null && bucket.contains(encode(transactionID));
     }
 
     /** {@inheritDoc} */
     @Override
     public void clear() {
         submittedTxns.clear();
+        earliestRetainedSecond.set(Long.MIN_VALUE);
     }
 
     /**
@@ -99,20 +116,37 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
     }
 
     /**
-     * Removes all expired {@link TransactionID}s from the cache. This method is not threadsafe and should only be
-     * called from within a block synchronized on {@link #submittedTxns}.
+     * Removes the buckets of all expired {@link TransactionID}s from the cache, if the earliest retained second has
+     * advanced since the last call. Only one of any concurrent callers does the removal.
      *
      * @param earliestEpochSecond The earliest epoch second that should be kept in the cache.
      */
     private void removeTransactionsOlderThan(final long earliestEpochSecond) {
-        final var itr = submittedTxns.iterator();
-        while (itr.hasNext()) {
-            final var txId = itr.next();
-            if (txId.transactionValidStartOrThrow().seconds() < earliestEpochSecond) {
-                itr.remove();
-            } else {
-                return;
-            }
+        final var lastEarliestSecond = earliestRetainedSecond.get();
+        if (earliestEpochSecond > lastEarliestSecond
+                && earliestRetainedSecond.compareAndSet(lastEarliestSecond, earliestEpochSecond)) {
+            submittedTxns.keySet().removeIf(second -> second < earliestEpochSecond);
+        }
+    }
+
+    /**
+     * Encodes the given {@link TransactionID} for its bucket. The valid start second is implied by the bucket. If
+     * the payer is not identified by number, or the valid start nanos are out of range, the ID itself is used.
+     *
+     * @param transactionID the transaction ID to encode
+     * @return the encoded transaction ID
+     */
+    private static Object encode(@NonNull final TransactionID transactionID) {
+        final var payerId = transactionID.accountIDOrElse(AccountID.DEFAULT);
+        final var nanos = transactionID.transactionValidStartOrThrow().nanos();
+        if (payerId.hasAlias() || nanos < 0 || nanos >= NANOS_PER_SECOND) {
+            return transactionID;
         }
+        // 30 bits of nanos, 32 bits of nonce, and 1 bit of scheduled
+        final var nanosNonceScheduled = ((long) nanos << 33)
+                | ((transactionID.nonce() & 0xFFFF_FFFFL) << 1)
+                | (transactionID.scheduled() ? 1L : 0L);
+        return new SubmittedTxn(
+                payerId.shardNum(), payerId.realmNum(), payerId.accountNumOrElse(0L), nanosNonceScheduled);
     }
 }
@@ -20,6 +20,9 @@ import javax.inject.Singleton;
  * Keeps track of the amount of usage of different TPS throttle categories and gas, and returns whether a given
  * transaction or query should be throttled based on that.
  * Meant to be used in multithreaded context
+ *
+ * <p>The inputs of each decision that are read from state, such as the number of implicit creations of a crypto
+ * transfer, are read before acquiring the lock; so the threads only serialize on the updates of the throttle buckets.
  */
 @Singleton
 public class SynchronizedThrottleAccumulator {
@@ -46,9 +49,12 @@ public class SynchronizedThrottleAccumulator {
      * @param state the current state of the node
      * @return whether the transaction should be throttled
      */
-    public synchronized boolean shouldThrottle(@NonNull TransactionInfo txnInfo, State state) {
-        setDecisionTime(instantSource.instant());
-        return frontendThrottle.checkAndEnforceThrottle(txnInfo, lastDecisionTime, state);
+    public boolean shouldThrottle(@NonNull TransactionInfo txnInfo, State state) {
+        final var inputs = frontendThrottle.throttleInputsFor(txnInfo, state);
+        synchronized (this) {
+            setDecisionTime(instantSource.instant());
+            return frontendThrottle.checkAndEnforceThrottle(txnInfo, lastDecisionTime, inputs);
+        }
     }
 
     /**
@@ -61,15 +67,19 @@ public class SynchronizedThrottleAccumulator {
      * @param queryPayerId the payer id of the query
      * @return whether the query should be throttled
      */
-    public synchronized boolean shouldThrottle(
+    public boolean shouldThrottle(
             @NonNull final HederaFunctionality queryFunction,
             @NonNull final Query query,
             @NonNull final State state,
             @Nullable AccountID queryPayerId) {
         requireNonNull(query);
         requireNonNull(queryFunction);
-        setDecisionTime(instantSource.instant());
-        return frontendThrottle.checkAndEnforceThrottle(queryFunction, lastDecisionTime, query, state, queryPayerId);
+        final var associationCount = frontendThrottle.getQueryAssociationCount(queryFunction, query, state);
+        synchronized (this) {
+            setDecisionTime(instantSource.instant());
+            return frontendThrottle.checkAndEnforceThrottle(
+                    queryFunction, lastDecisionTime, query, associationCount, queryPayerId);
+        }
     }
 
     private void setDecisionTime(@NonNull final Instant time) {
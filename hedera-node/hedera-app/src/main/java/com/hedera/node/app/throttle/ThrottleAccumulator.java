@@ -119,6 +119,23 @@ public class ThrottleAccumulator {
         NO
     }
 
+    /**
+     * The inputs of a throttle decision for a transaction that are read from state. Computing them does not touch any
+     * throttle bucket, so a caller sharing the accumulator between threads can compute them before it acquires
+     * exclusive access to the accumulator.
+     *
+     * @param implicitCreationsCount the number of accounts the transaction, or the crypto transfer scheduled by a
+     *                               schedule create, may implicitly create
+     * @param autoAssociationsCount the number of token associations a crypto transfer may automatically create
+     * @param scheduleExpirySecondFull whether the second in which a schedule created by the transaction would expire
+     *                                 already has the maximum number of scheduled transactions
+     */
+    public record ThrottleInputs(
+            int implicitCreationsCount, int autoAssociationsCount, boolean scheduleExpirySecondFull) {
+        /** The inputs of a transaction whose throttle decision does not depend on state. */
+        public static final ThrottleInputs NONE = new ThrottleInputs(0, 0, false);
+    }
+
     public ThrottleAccumulator(
             @NonNull final Supplier<Configuration> configSupplier,
             @NonNull final IntSupplier capacitySplitSource,
@@ -172,12 +189,36 @@ public class ThrottleAccumulator {
      */
     public boolean checkAndEnforceThrottle(
             @NonNull final TransactionInfo txnInfo, @NonNull final Instant now, @NonNull final State state) {
+        // The inputs are only read from state if the decision gets to depend on them
+        return enforceThrottle(txnInfo, now, () -> throttleInputsFor(txnInfo, state));
+    }
+
+    /**
+     * Tries to claim throttle capacity for the given transaction, given the inputs of the decision previously read
+     * from state with {@link #throttleInputsFor(TransactionInfo, State)}, and returns whether the transaction should
+     * be throttled if there is no capacity.
+     *
+     * @param txnInfo the transaction to update the throttle requirements for
+     * @param now the instant of time the transaction throttling should be checked for
+     * @param inputs the inputs of the throttle decision read from state
+     * @return whether the transaction should be throttled
+     */
+    public boolean checkAndEnforceThrottle(
+            @NonNull final TransactionInfo txnInfo, @NonNull final Instant now, @NonNull final ThrottleInputs inputs) {
+        requireNonNull(inputs);
+        return enforceThrottle(txnInfo, now, () -> inputs);
+    }
+
+    private boolean enforceThrottle(
+            @NonNull final TransactionInfo txnInfo,
+            @NonNull final Instant now,
+            @NonNull final Supplier<ThrottleInputs> inputs) {
         if (throttleType == NOOP_THROTTLE) {
             return false;
         }
         resetLastAllowedUse();
         lastTxnWasGasThrottled = false;
-        if (shouldThrottleTxn(false, txnInfo, now, state)) {
+        if (shouldThrottleTxn(false, txnInfo, now, inputs)) {
             reclaimLastAllowedUse();
             return true;
         }
@@ -204,6 +245,31 @@ public class ThrottleAccumulator {
         if (throttleType == NOOP_THROTTLE) {
             return false;
         }
+        return checkAndEnforceThrottle(
+                queryFunction, now, query, getQueryAssociationCount(queryFunction, query, state), queryPayerId);
+    }
+
+    /**
+     * Updates the throttle requirements for the given query, given the number of associations previously read from
+     * state with {@link #getQueryAssociationCount(HederaFunctionality, Query, State)}, and returns whether the query
+     * should be throttled.
+     *
+     * @param queryFunction the functionality of the query
+     * @param now the time at which the query is being processed
+     * @param query the query to update the throttle requirements for
+     * @param associationCount the number of associations the query is throttled by, or zero if not throttled by them
+     * @param queryPayerId the payer id of the query
+     * @return whether the query should be throttled
+     */
+    public boolean checkAndEnforceThrottle(
+            @NonNull final HederaFunctionality queryFunction,
+            @NonNull final Instant now,
+            @NonNull final Query query,
+            final int associationCount,
+            @Nullable final AccountID queryPayerId) {
+        if (throttleType == NOOP_THROTTLE) {
+            return false;
+        }
         final var configuration = configSupplier.get();
         if (throttleExempt(queryPayerId, configuration)) {
             return false;
@@ -224,12 +290,7 @@ public class ThrottleAccumulator {
         }
 
         final boolean allReqMet;
-        if (queryFunction == CRYPTO_GET_ACCOUNT_BALANCE
-                && configuration.getConfigData(TokensConfig.class).countingGetBalanceThrottleEnabled()) {
-            final var accountStore = new ReadableStoreFactory(state).getStore(ReadableAccountStore.class);
-            final var tokenConfig = configuration.getConfigData(TokensConfig.class);
-            final int associationCount =
-                    Math.clamp(getAssociationCount(query, accountStore), 1, tokenConfig.maxRelsPerInfoQuery());
+        if (associationCount > 0) {
             allReqMet = manager.allReqsMetAt(now, associationCount, ONE_TO_ONE);
         } else {
             allReqMet = manager.allReqsMetAt(now);
@@ -242,6 +303,93 @@ public class ThrottleAccumulator {
         return false;
     }
 
+    /**
+     * Returns the number of associations the given query is throttled by, read from the given state; or zero if the
+     * query is not throttled by its number of associations.
+     *
+     * @param queryFunction the functionality of the query
+     * @param query the query
+     * @param state the current state of the node
+     * @return the number of associations the query is throttled by, or zero
+     */
+    public int getQueryAssociationCount(
+            @NonNull final HederaFunctionality queryFunction, @NonNull final Query query, @NonNull final State state) {
+        if (queryFunction != CRYPTO_GET_ACCOUNT_BALANCE) {
+            return 0;
+        }
+        final var tokensConfig = configSupplier.get().getConfigData(TokensConfig.class);
+        if (!tokensConfig.countingGetBalanceThrottleEnabled()) {
+            return 0;
+        }
+        final var accountStore = new ReadableStoreFactory(state).getStore(ReadableAccountStore.class);
+        return Math.clamp(getAssociationCount(query, accountStore), 1, tokensConfig.maxRelsPerInfoQuery());
+    }
+
+    /**
+     * Reads from state the inputs of the throttle decision for the given transaction. This does not touch any
+     * throttle bucket, and hence can be done concurrently with other throttle decisions.
+     *
+     * @param txnInfo the transaction
+     * @param state the current state of the node
+     * @return the inputs of the throttle decision
+     */
+    public @NonNull ThrottleInputs throttleInputsFor(
+            @NonNull final TransactionInfo txnInfo, @NonNull final State state) {
+        return switch (txnInfo.functionality()) {
+            case SCHEDULE_CREATE -> scheduleCreateInputsFor(txnInfo, state);
+            case CRYPTO_TRANSFER -> {
+                final var storeFactory = new ReadableStoreFactory(state);
+                final var accountStore = storeFactory.getStore(ReadableAccountStore.class);
+                final var relationStore = storeFactory.getStore(ReadableTokenRelationStore.class);
+                yield new ThrottleInputs(
+                        getImplicitCreationsCount(txnInfo.txBody(), accountStore),
+                        getAutoAssociationsCount(txnInfo.txBody(), relationStore),
+                        false);
+            }
+            case ETHEREUM_TRANSACTION -> {
+                final var accountStore = new ReadableStoreFactory(state).getStore(ReadableAccountStore.class);
+                yield new ThrottleInputs(getImplicitCreationsCount(txnInfo.txBody(), accountStore), 0, false);
+            }
+            default -> ThrottleInputs.NONE;
+        };
+    }
+
+    private ThrottleInputs scheduleCreateInputsFor(@NonNull final TransactionInfo txnInfo, @NonNull final State state) {
+        final var op = txnInfo.txBody().scheduleCreateOrThrow();
+        final var scheduled = op.scheduledTransactionBodyOrThrow();
+        final var config = configSupplier.get();
+        final var schedulingConfig = config.getConfigData(SchedulingConfig.class);
+        if (!schedulingConfig.longTermEnabled()) {
+            if (scheduled.hasCryptoTransfer() && usesAliases(scheduled.cryptoTransferOrThrow())) {
+                final var accountStore = new ReadableStoreFactory(state).getStore(ReadableAccountStore.class);
+                final var transferTxnBody = TransactionBody.newBuilder()
+                        .cryptoTransfer(scheduled.cryptoTransferOrThrow())
+                        .build();
+                return new ThrottleInputs(getImplicitCreationsCount(transferTxnBody, accountStore), 0, false);
+            }
+            return ThrottleInputs.NONE;
+        } else if (throttleType == FRONTEND_THROTTLE) {
+            // At ingest, ensure that not too many schedules will expire in a given second
+            final long expiry;
+            if (op.waitForExpiry()) {
+                expiry = op.expirationTimeOrElse(Timestamp.DEFAULT).seconds();
+            } else {
+                final var ledgerConfig = config.getConfigData(LedgerConfig.class);
+                expiry = Optional.ofNullable(txnInfo.transactionID())
+                                .orElse(TransactionID.DEFAULT)
+                                .transactionValidStartOrElse(Timestamp.DEFAULT)
+                                .seconds()
+                        + ledgerConfig.scheduleTxExpiryTimeSecs();
+            }
+            final var entityIdStore = new ReadableEntityIdStoreImpl(state.getReadableStates(EntityIdService.NAME));
+            final var scheduleStore =
+                    new ReadableScheduleStoreImpl(state.getReadableStates(ScheduleService.NAME), entityIdStore);
+            final var numScheduled = scheduleStore.numTransactionsScheduledAt(expiry);
+            return new ThrottleInputs(0, 0, numScheduled >= schedulingConfig.maxTxnPerSec());
+        }
+        return ThrottleInputs.NONE;
+    }
+
     private int getAssociationCount(@NonNull final Query query, @NonNull final ReadableAccountStore accountStore) {
         final var accountID = query.cryptogetAccountBalanceOrThrow().accountID();
         if (accountID != null) {
@@ -377,7 +525,7 @@ public class ThrottleAccumulator {
             final boolean isScheduled,
             @NonNull final TransactionInfo txnInfo,
             @NonNull final Instant now,
-            @NonNull final State state) {
+            @NonNull final Supplier<ThrottleInputs> inputs) {
         final var function = txnInfo.functionality();
         final var configuration = configSupplier.get();
         final boolean isJumboTransactionsEnabled =
@@ -425,29 +573,29 @@ public class ThrottleAccumulator {
                 if (isScheduled) {
                     throw new IllegalStateException("ScheduleCreate cannot be a child!");
                 }
-                yield shouldThrottleScheduleCreate(manager, txnInfo, now, state);
+                yield shouldThrottleScheduleCreate(manager, txnInfo, now, inputs);
             }
             case TOKEN_MINT -> shouldThrottleMint(manager, txnInfo.txBody().tokenMint(), now, configuration);
             case CRYPTO_TRANSFER -> {
-                final var accountStore = new ReadableStoreFactory(state).getStore(ReadableAccountStore.class);
-                final var relationStore = new ReadableStoreFactory(state).getStore(ReadableTokenRelationStore.class);
+                final var transferInputs = inputs.get();
                 yield shouldThrottleCryptoTransfer(
                         manager,
                         now,
                         configuration,
-                        getImplicitCreationsCount(txnInfo.txBody(), accountStore),
-                        getAutoAssociationsCount(txnInfo.txBody(), relationStore));
-            }
-            case ETHEREUM_TRANSACTION -> {
-                final var accountStore = new ReadableStoreFactory(state).getStore(ReadableAccountStore.class);
-                yield shouldThrottleEthTxn(manager, now, getImplicitCreationsCount(txnInfo.txBody(), accountStore));
+                        transferInputs.implicitCreationsCount(),
+                        transferInputs.autoAssociationsCount());
             }
+            case ETHEREUM_TRANSACTION -> shouldThrottleEthTxn(
+                    manager, now, inputs.get().implicitCreationsCount());
             default -> !manager.allReqsMetAt(now);
         };
     }
 
     private boolean shouldThrottleScheduleCreate(
-            final ThrottleReqsManager manager, final TransactionInfo txnInfo, final Instant now, final State state) {
+            final ThrottleReqsManager manager,
+            final TransactionInfo txnInfo,
+            final Instant now,
+            final Supplier<ThrottleInputs> inputs) {
         final var txnBody = txnInfo.txBody();
         final var op = txnBody.scheduleCreateOrThrow();
         final var scheduled = op.scheduledTransactionBodyOrThrow();
@@ -469,17 +617,11 @@ public class ThrottleAccumulator {
         final var config = configSupplier.get();
         final var schedulingConfig = config.getConfigData(SchedulingConfig.class);
         if (!schedulingConfig.longTermEnabled()) {
+            // The implicit creations are only counted for a scheduled crypto transfer that uses aliases
             if (scheduledFunction == CRYPTO_TRANSFER) {
-                final var transfer = scheduled.cryptoTransfer();
-                if (usesAliases(transfer)) {
-                    final var accountStore = new ReadableStoreFactory(state).getStore(ReadableAccountStore.class);
-                    final var transferTxnBody = TransactionBody.newBuilder()
-                            .cryptoTransfer(transfer)
-                            .build();
-                    final int implicitCreationsCount = getImplicitCreationsCount(transferTxnBody, accountStore);
-                    if (implicitCreationsCount > 0) {
-                        return shouldThrottleImplicitCreations(implicitCreationsCount, now);
-                    }
+                final int implicitCreationsCount = inputs.get().implicitCreationsCount();
+                if (implicitCreationsCount > 0) {
+                    return shouldThrottleImplicitCreations(implicitCreationsCount, now);
                 }
             }
             return !manager.allReqsMetAt(now);
@@ -489,25 +631,7 @@ public class ThrottleAccumulator {
                 return true;
             }
             // And then at ingest, ensure that not too many schedules will expire in a given second
-            if (throttleType == FRONTEND_THROTTLE) {
-                final long expiry;
-                if (op.waitForExpiry()) {
-                    expiry = op.expirationTimeOrElse(Timestamp.DEFAULT).seconds();
-                } else {
-                    final var ledgerConfig = config.getConfigData(LedgerConfig.class);
-                    expiry = Optional.ofNullable(txnInfo.transactionID())
-                                    .orElse(TransactionID.DEFAULT)
-                                    .transactionValidStartOrElse(Timestamp.DEFAULT)
-                                    .seconds()
-                            + ledgerConfig.scheduleTxExpiryTimeSecs();
-                }
-                final var entityIdStore = new ReadableEntityIdStoreImpl(state.getReadableStates(EntityIdService.NAME));
-                final var scheduleStore =
-                        new ReadableScheduleStoreImpl(state.getReadableStates(ScheduleService.NAME), entityIdStore);
-                final var numScheduled = scheduleStore.numTransactionsScheduledAt(expiry);
-                return numScheduled >= schedulingConfig.maxTxnPerSec();
-            }
-            return false;
+            return throttleType == FRONTEND_THROTTLE && inputs.get().scheduleExpirySecondFull();
         }
     }
 
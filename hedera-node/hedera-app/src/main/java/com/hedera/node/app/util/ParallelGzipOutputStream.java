@@ -0,0 +1,200 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.util;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An {@link OutputStream} that writes gzip data like a {@link GZIPOutputStream}, but compresses on the threads of an
+ * {@link Executor} instead of the writing thread.
+ *
+ * <p>The uncompressed bytes are cut into blocks of a fixed size, and each block is compressed into a complete gzip
+ * member of its own. The members are written to the wrapped stream in order, and since the gzip format allows any
+ * number of members to be concatenated, the result decompresses with any gzip reader, e.g. a
+ * {@link java.util.zip.GZIPInputStream}, to exactly the bytes written. At most {@code maxPendingBlocks} blocks are
+ * compressed at the same time; a writer that gets further ahead waits for the oldest block to be written.
+ *
+ * <p>Like {@link GZIPOutputStream}, {@link #flush()} does not force out the bytes of a block that is not yet full, it
+ * only writes the blocks already compressed. All methods are expected to be called on a single thread.
+ */
+public final class ParallelGzipOutputStream extends OutputStream {
+    private static final int MEMBER_BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+    private final Executor executor;
+    private final int blockSize;
+    private final int maxPendingBlocks;
+    private final int level;
+    /** The compressed members of the full blocks not yet written, in order */
+    private final Deque<CompletableFuture<byte[]>> pendingMembers = new ArrayDeque<>();
+    /** The uncompressed bytes of the current block */
+    private byte[] block;
+    /** The number of bytes in {@link #block} */
+    private int blockLength;
+    /** Whether any member was compressed yet, an empty stream still has to be written as one empty member */
+    private boolean anyMember;
+
+    private boolean closed;
+
+    /**
+     * Create a new instance.
+     *
+     * @param out the stream to write the compressed bytes to
+     * @param executor the executor to compress the blocks on
+     * @param blockSize the number of uncompressed bytes per gzip member, must be positive
+     * @param maxPendingBlocks the maximum number of blocks compressed at the same time, must be positive
+     */
+    public ParallelGzipOutputStream(
+            @NonNull final OutputStream out,
+            @NonNull final Executor executor,
+            final int blockSize,
+            final int maxPendingBlocks) {
+        this(out, executor, blockSize, maxPendingBlocks, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Create a new instance that compresses with the given deflate level.
+     *
+     * @param out the stream to write the compressed bytes to
+     * @param executor the executor to compress the blocks on
+     * @param blockSize the number of uncompressed bytes per gzip member, must be positive
+     * @param maxPendingBlocks the maximum number of blocks compressed at the same time, must be positive
+     * @param level the deflate level from 1 (fastest) to 9 (smallest), or {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public ParallelGzipOutputStream(
+            @NonNull final OutputStream out,
+            @NonNull final Executor executor,
+            final int blockSize,
+            final int maxPendingBlocks,
+            final int level) {
+        this.out = requireNonNull(out);
+        this.executor = requireNonNull(executor);
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be positive");
+        }
+        if (maxPendingBlocks < 1) {
+            throw new IllegalArgumentException("maxPendingBlocks must be positive");
+        }
+        if (level != Deflater.DEFAULT_COMPRESSION
+                && (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("level must be between 1 and 9");
+        }
+        this.blockSize = blockSize;
+        this.maxPendingBlocks = maxPendingBlocks;
+        this.level = level;
+        this.block = new byte[blockSize];
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        block[blockLength++] = (byte) b;
+        if (blockLength == blockSize) {
+            compressBlock();
+        }
+    }
+
+    @Override
+    public void write(@NonNull final byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            final int n = Math.min(len, blockSize - blockLength);
+            System.arraycopy(b, off, block, blockLength, n);
+            blockLength += n;
+            off += n;
+            len -= n;
+            if (blockLength == blockSize) {
+                compressBlock();
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        while (!pendingMembers.isEmpty() && pendingMembers.peekFirst().isDone()) {
+            writeOldestMember();
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            if (blockLength > 0 || !anyMember) {
+                compressBlock();
+            }
+            while (!pendingMembers.isEmpty()) {
+                writeOldestMember();
+            }
+            out.flush();
+        } finally {
+            closed = true;
+            out.close();
+        }
+    }
+
+    private void compressBlock() throws IOException {
+        final var bytes = block;
+        final var length = blockLength;
+        pendingMembers.addLast(CompletableFuture.supplyAsync(() -> gzipMember(bytes, length, level), executor));
+        anyMember = true;
+        block = new byte[blockSize];
+        blockLength = 0;
+        while (pendingMembers.size() > maxPendingBlocks) {
+            writeOldestMember();
+        }
+    }
+
+    private void writeOldestMember() throws IOException {
+        final byte[] member;
+        try {
+            member = pendingMembers.removeFirst().join();
+        } catch (final CompletionException e) {
+            throw e.getCause() instanceof UncheckedIOException u ? u.getCause() : new IOException(e.getCause());
+        }
+        out.write(member);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Compresses the given bytes into one complete gzip member, with its own header and trailer.
+     */
+    @NonNull
+    private static byte[] gzipMember(@NonNull final byte[] bytes, final int length, final int level) {
+        final var member = new ByteArrayOutputStream(length / 2 + 64);
+        try (final var gzip = new GZIPOutputStream(member, MEMBER_BUFFER_SIZE) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(bytes, 0, length);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return member.toByteArray();
+    }
+}
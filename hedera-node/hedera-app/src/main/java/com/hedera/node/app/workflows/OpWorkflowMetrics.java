@@ -6,6 +6,7 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.StatsConfig;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.RunningAverageMetric.Config;
@@ -31,12 +32,19 @@ public class OpWorkflowMetrics {
             .withDescription("average EVM gas used per second of consensus time")
             .withFormat("%,13.6f");
 
+    private static final HistogramMetric.Config OP_DURATION_CONFIG = new HistogramMetric.Config("app", "opDuration")
+            .withDescription("The distribution of the duration of all transactions in nanoseconds")
+            .withUnit("ns")
+            .withMaxValue(Integer.MAX_VALUE);
+
     private final Map<HederaFunctionality, TransactionMetric> transactionDurationMetrics =
             new EnumMap<>(HederaFunctionality.class);
 
     private final Map<HederaFunctionality, Counter> transactionThrottleMetrics =
             new EnumMap<>(HederaFunctionality.class);
 
+    private final HistogramMetric opDuration;
+
     private final RunningAverageMetric gasPerConsSec;
 
     private long gasUsedThisConsensusSecond = 0L;
@@ -77,6 +85,8 @@ public class OpWorkflowMetrics {
             transactionThrottleMetrics.put(functionality, metrics.getOrCreate(throttledConfig));
         }
 
+        opDuration = metrics.getOrCreate(OP_DURATION_CONFIG);
+
         final StatsConfig statsConfig = configProvider.getConfiguration().getConfigData(StatsConfig.class);
         gasPerConsSec = metrics.getOrCreate(GAS_PER_CONS_SEC_CONFIG.withHalfLife(statsConfig.runningAvgHalfLifeSecs()));
     }
@@ -100,6 +110,7 @@ public class OpWorkflowMetrics {
             metric.max.update(duration);
             metric.avg.update(duration, 1);
         }
+        opDuration.update(duration);
     }
 
     /**
@@ -71,6 +71,7 @@ import com.hedera.node.app.throttle.ThrottleServiceManager;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.handle.cache.CacheWarmer;
+import com.hedera.node.app.workflows.handle.metric.RoundConflictAnalyzer;
 import com.hedera.node.app.workflows.handle.record.SystemTransactions;
 import com.hedera.node.app.workflows.handle.steps.HollowAccountCompletions;
 import com.hedera.node.app.workflows.handle.steps.ParentTxn;
@@ -147,6 +148,7 @@ public class HandleWorkflow {
     private final CongestionMetrics congestionMetrics;
     private final CurrentPlatformStatus currentPlatformStatus;
     private final BlockHashSigner blockHashSigner;
+    private final RoundConflictAnalyzer roundConflictAnalyzer;
 
     @Nullable
     private final AtomicBoolean systemEntitiesCreatedFlag;
@@ -187,7 +189,8 @@ public class HandleWorkflow {
             @NonNull final CurrentPlatformStatus currentPlatformStatus,
             @NonNull final BlockHashSigner blockHashSigner,
             @Nullable final AtomicBoolean systemEntitiesCreatedFlag,
-            @NonNull final NodeRewardManager nodeRewardManager) {
+            @NonNull final NodeRewardManager nodeRewardManager,
+            @NonNull final RoundConflictAnalyzer roundConflictAnalyzer) {
         this.networkInfo = requireNonNull(networkInfo);
         this.stakePeriodChanges = requireNonNull(stakePeriodChanges);
         this.dispatchProcessor = requireNonNull(dispatchProcessor);
@@ -221,6 +224,7 @@ public class HandleWorkflow {
         this.currentPlatformStatus = requireNonNull(currentPlatformStatus);
         this.nodeRewardManager = requireNonNull(nodeRewardManager);
         this.systemEntitiesCreatedFlag = systemEntitiesCreatedFlag;
+        this.roundConflictAnalyzer = requireNonNull(roundConflictAnalyzer);
     }
 
     /**
@@ -253,6 +257,7 @@ public class HandleWorkflow {
         }
         systemTransactions.resetNextDispatchNonce();
         recordCache.resetRoundReceipts();
+        roundConflictAnalyzer.startRound();
         boolean transactionsDispatched = false;
 
         try {
@@ -284,6 +289,7 @@ public class HandleWorkflow {
             // to the state so these transactions cannot be replayed in future rounds
             recordCache.commitRoundReceipts(state, round.getConsensusTimestamp());
         }
+        roundConflictAnalyzer.endRound(round.getRoundNum());
         try {
             reconcileTssState(state, round.getConsensusTimestamp());
         } catch (Exception e) {
@@ -337,6 +343,7 @@ public class HandleWorkflow {
             // handle each transaction of the event
             for (final var it = event.consensusTransactionIterator(); it.hasNext(); ) {
                 final var platformTxn = it.next();
+                cacheWarmer.recordHandled(platformTxn);
                 try {
                     transactionsDispatched |= handlePlatformTransaction(
                             state,
@@ -455,7 +462,14 @@ public class HandleWorkflow {
         }
 
         var lastRecordManagerTime = streamMode == RECORDS ? blockRecordManager.consTimeOfLastHandledTxn() : null;
-        final var handleOutput = executeSubmittedParent(userTxn, txnVersion, state);
+        final HandleOutput handleOutput;
+        roundConflictAnalyzer.startTransaction(userTxn.stack());
+        try {
+            handleOutput = executeSubmittedParent(userTxn, txnVersion, state);
+        } finally {
+            // always detach the access recorder from the stack, even if the transaction failed unexpectedly
+            roundConflictAnalyzer.endTransaction(userTxn.stack());
+        }
         if (streamMode != BLOCKS) {
             final var records = ((LegacyListRecordSource) handleOutput.recordSourceOrThrow()).precomputedRecords();
             blockRecordManager.endUserTransaction(records.stream(), state);
@@ -17,31 +17,80 @@ import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
 import com.hedera.node.app.workflows.prehandle.PreHandleResult;
 import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
 import com.hedera.node.config.data.HederaConfig;
+import com.hedera.node.config.data.StatsConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
 import com.swirlds.state.State;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
-import org.hiero.consensus.model.event.ConsensusEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.hiero.consensus.model.hashgraph.Round;
 import org.hiero.consensus.model.transaction.Transaction;
 
 /**
  * This class is used to warm up the cache. It is called at the beginning of a round with the current state
- * and the round. It will start a background thread which iterates through all transactions and calls the
- * {@link TransactionHandler#warm} method.
+ * and the round. It will start a background thread which plans the warmup of the round in batches of
+ * {@code cache.warmBatchSize} transactions, and splits each batch over up to {@code cache.warmThreads} tasks,
+ * which call the {@link TransactionHandler#warm} method for each of their transactions in handle order.
+ *
+ * <p>All warmups of a round read the state through a {@link WarmupState}, so each key of the round (a payer
+ * account, a token, a token relation, ...) is only warmed once, by the first transaction that needs it, no matter
+ * which handler warms it. A transaction whose warmup fails is logged and skipped, the rest are still warmed.
+ *
+ * <p>As each transaction is handled, the {@link #recordHandled(Transaction)} method reports whether its warmup had
+ * already completed, which gives the percentage of transactions that the warmer was in time for. This is the warmup
+ * coverage of the round, not the hit rate of any cache: a transaction warmed in time may still read a value that
+ * was evicted since, and one warmed too late may find its values cached anyway.
  */
 @Singleton
 public class CacheWarmer {
+    private static final Logger logger = LogManager.getLogger(CacheWarmer.class);
+
+    private static final Counter.Config WARMED_CONFIG = new Counter.Config("app", "cacheWarmerWarmedInTime")
+            .withDescription("number of transactions handled after their warmup completed");
+    private static final Counter.Config NOT_WARMED_CONFIG = new Counter.Config("app", "cacheWarmerNotWarmedInTime")
+            .withDescription("number of transactions handled before their warmup completed, or whose warmup failed");
+    private static final RunningAverageMetric.Config COVERAGE_CONFIG = new RunningAverageMetric.Config(
+                    "app", "cacheWarmerCoverage")
+            .withDescription("percentage of transactions handled after their warmup completed")
+            .withFormat("%,13.2f");
+
+    /**
+     * The warmup plan of a round.
+     *
+     * @param positions the position of each transaction of the round, by identity
+     * @param warmed    whether the warmup of the transaction at each position is complete
+     */
+    private record Plan(@NonNull Map<Transaction, Integer> positions, @NonNull AtomicIntegerArray warmed) {}
 
     private final TransactionChecker checker;
     private final TransactionDispatcher dispatcher;
     private final Executor executor;
     private final HederaConfig hederaConfig;
+    private final int batchSize;
+    private final int threads;
+
+    private final Counter warmedInTime;
+    private final Counter notWarmedInTime;
+    private final RunningAverageMetric coverage;
+
+    /** The plan of the round being warmed, or null before the first round */
+    @Nullable
+    private volatile Plan plan;
 
     @NonNull
     private final SemanticVersion softwareVersionFactory;
@@ -52,12 +101,21 @@ public class CacheWarmer {
             @NonNull final TransactionDispatcher dispatcher,
             @NonNull @Named("CacheWarmer") final Executor executor,
             @NonNull final SemanticVersion softwareVersionFactory,
-            @NonNull final ConfigProvider configProvider) {
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final Metrics metrics) {
         this.checker = requireNonNull(checker);
         this.dispatcher = requireNonNull(dispatcher);
         this.executor = requireNonNull(executor);
         this.softwareVersionFactory = softwareVersionFactory;
-        this.hederaConfig = configProvider.getConfiguration().getConfigData(HederaConfig.class);
+        final var config = configProvider.getConfiguration();
+        this.hederaConfig = config.getConfigData(HederaConfig.class);
+        final var cacheConfig = config.getConfigData(CacheConfig.class);
+        this.batchSize = cacheConfig.warmBatchSize();
+        this.threads = Math.max(1, cacheConfig.warmThreads());
+        warmedInTime = metrics.getOrCreate(WARMED_CONFIG);
+        notWarmedInTime = metrics.getOrCreate(NOT_WARMED_CONFIG);
+        final var halfLife = config.getConfigData(StatsConfig.class).runningAvgHalfLifeSecs();
+        coverage = metrics.getOrCreate(COVERAGE_CONFIG.withHalfLife(halfLife));
     }
 
     /**
@@ -67,26 +125,78 @@ public class CacheWarmer {
      * @param round the current round
      */
     public void warm(@NonNull final State state, @NonNull final Round round) {
+        // The positions are known before any transaction of the round is handled, so each one is counted against
+        // this round's plan, and never against the previous one or none at all
+        final List<Transaction> transactions = new ArrayList<>();
+        final Map<Transaction, Integer> positions = new IdentityHashMap<>();
+        round.forEachTransaction(platformTransaction -> {
+            positions.put(platformTransaction, transactions.size());
+            transactions.add(platformTransaction);
+        });
+        final var roundPlan = new Plan(positions, new AtomicIntegerArray(transactions.size()));
+        plan = roundPlan;
         executor.execute(() -> {
-            final ReadableStoreFactory storeFactory = new ReadableStoreFactory(state);
+            final ReadableStoreFactory storeFactory = new ReadableStoreFactory(new WarmupState(state));
             final ReadableAccountStore accountStore = storeFactory.getStore(ReadableAccountStore.class);
-            for (final ConsensusEvent event : round) {
-                event.forEachTransaction(platformTransaction -> executor.execute(() -> {
-                    final TransactionBody txBody = extractTransactionBody(platformTransaction);
-                    if (txBody != null) {
-                        final AccountID payerID = txBody.transactionIDOrElse(TransactionID.DEFAULT)
-                                .accountID();
-                        if (payerID != null) {
-                            accountStore.warm(payerID);
+            for (int from = 0; from < transactions.size(); from += batchSize) {
+                final int start = from;
+                final int size = Math.min(batchSize, transactions.size() - start);
+                // Each task takes every n-th transaction of the batch, so its first transactions are warmed first
+                final int tasks = Math.min(size, threads);
+                for (int task = 0; task < tasks; task++) {
+                    final int first = task;
+                    executor.execute(() -> {
+                        for (int i = first; i < size; i += tasks) {
+                            try {
+                                warmTransaction(transactions.get(start + i), storeFactory, accountStore);
+                                roundPlan.warmed().set(start + i, 1);
+                            } catch (final RuntimeException e) {
+                                logger.warn("Failed to warm up transaction {} of the round", start + i, e);
+                            }
                         }
-                        final var context = new WarmupContextImpl(txBody, storeFactory);
-                        dispatcher.dispatchWarmup(context);
-                    }
-                }));
+                    });
+                }
             }
         });
     }
 
+    /**
+     * Records that the given transaction of the round being warmed is about to be handled, counting whether its
+     * warmup has completed. A transaction that is not part of the round being warmed is not counted at all.
+     *
+     * @param platformTransaction the transaction
+     */
+    public void recordHandled(@NonNull final Transaction platformTransaction) {
+        requireNonNull(platformTransaction);
+        final var roundPlan = plan;
+        final var position = roundPlan == null ? null : roundPlan.positions().get(platformTransaction);
+        if (position == null) {
+            return;
+        }
+        if (roundPlan.warmed().get(position) == 1) {
+            warmedInTime.increment();
+            coverage.update(100);
+        } else {
+            notWarmedInTime.increment();
+            coverage.update(0);
+        }
+    }
+
+    private void warmTransaction(
+            @NonNull final Transaction platformTransaction,
+            @NonNull final ReadableStoreFactory storeFactory,
+            @NonNull final ReadableAccountStore accountStore) {
+        final TransactionBody txBody = extractTransactionBody(platformTransaction);
+        if (txBody != null) {
+            final AccountID payerID = txBody.transactionIDOrElse(TransactionID.DEFAULT).accountID();
+            if (payerID != null) {
+                accountStore.warm(payerID);
+            }
+            final var context = new WarmupContextImpl(txBody, storeFactory);
+            dispatcher.dispatchWarmup(context);
+        }
+    }
+
     @Nullable
     private TransactionBody extractTransactionBody(@NonNull final Transaction platformTransaction) {
         // First we check if the transaction was already parsed during pre-handle (should be almost always the case)
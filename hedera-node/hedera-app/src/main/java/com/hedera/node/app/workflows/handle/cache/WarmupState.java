@@ -0,0 +1,176 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.merkle.crypto.MerkleCryptography;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.state.State;
+import com.swirlds.state.spi.ReadableKVState;
+import com.swirlds.state.spi.ReadableQueueState;
+import com.swirlds.state.spi.ReadableSingletonState;
+import com.swirlds.state.spi.ReadableStates;
+import com.swirlds.state.spi.WritableStates;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.hiero.base.crypto.Hash;
+
+/**
+ * A read-only {@link State} used to warm up a single round. It wraps the state of the round, and forwards each call
+ * to {@link ReadableKVState#warm} to the underlying state only the first time a key is warmed, so a key touched by
+ * several transactions of the round (a payer, a token, a token relation, ...) is only looked up once, no matter which
+ * handler warms it. Several warmup threads may use the same instance concurrently.
+ */
+final class WarmupState implements State {
+
+    private final State delegate;
+    private final Map<String, WarmupStates> readableStatesMap = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a {@link WarmupState} that wraps the given {@link State}.
+     *
+     * @param delegate the {@link State} to wrap
+     * @throws NullPointerException if {@code delegate} is {@code null}
+     */
+    WarmupState(@NonNull final State delegate) {
+        this.delegate = requireNonNull(delegate, "delegate must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void init(Time time, Metrics metrics, MerkleCryptography merkleCryptography, LongSupplier roundSupplier) {
+        throw new UnsupportedOperationException("A warmup state cannot be initialized");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This method guarantees that the same {@link ReadableStates} instance is returned for the same
+     * {@code serviceName}, so the warmed keys are shared by all stores of the service.
+     */
+    @Override
+    @NonNull
+    public ReadableStates getReadableStates(@NonNull final String serviceName) {
+        return readableStatesMap.computeIfAbsent(serviceName, s -> new WarmupStates(delegate.getReadableStates(s)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public WritableStates getWritableStates(@NonNull final String serviceName) {
+        throw new UnsupportedOperationException("A warmup state is read-only");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHash(Hash hash) {
+        throw new UnsupportedOperationException("A warmup state is read-only");
+    }
+
+    /**
+     * The {@link ReadableStates} of a service, returning the same {@link WarmupKVState} for the same state key.
+     */
+    private static final class WarmupStates implements ReadableStates {
+        private final ReadableStates delegate;
+        private final Map<String, WarmupKVState<?, ?>> kvStates = new ConcurrentHashMap<>();
+
+        private WarmupStates(@NonNull final ReadableStates delegate) {
+            this.delegate = delegate;
+        }
+
+        @NonNull
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> ReadableKVState<K, V> get(@NonNull final String stateKey) {
+            return (ReadableKVState<K, V>)
+                    kvStates.computeIfAbsent(stateKey, k -> new WarmupKVState<>(delegate.<K, V>get(k)));
+        }
+
+        @NonNull
+        @Override
+        public <T> ReadableSingletonState<T> getSingleton(@NonNull final String stateKey) {
+            return delegate.getSingleton(stateKey);
+        }
+
+        @NonNull
+        @Override
+        public <E> ReadableQueueState<E> getQueue(@NonNull final String stateKey) {
+            return delegate.getQueue(stateKey);
+        }
+
+        @Override
+        public boolean contains(@NonNull final String stateKey) {
+            return delegate.contains(stateKey);
+        }
+
+        @NonNull
+        @Override
+        public Set<String> stateKeys() {
+            return delegate.stateKeys();
+        }
+    }
+
+    /**
+     * A {@link ReadableKVState} that warms each key at most once.
+     *
+     * @param <K> The type of the key
+     * @param <V> The type of the value
+     */
+    private static final class WarmupKVState<K, V> implements ReadableKVState<K, V> {
+        private final ReadableKVState<K, V> delegate;
+        private final Set<K> warmedKeys = ConcurrentHashMap.newKeySet();
+
+        private WarmupKVState(@NonNull final ReadableKVState<K, V> delegate) {
+            this.delegate = delegate;
+        }
+
+        @NonNull
+        @Override
+        public String getStateKey() {
+            return delegate.getStateKey();
+        }
+
+        @Nullable
+        @Override
+        public V get(@NonNull final K key) {
+            return delegate.get(key);
+        }
+
+        @NonNull
+        @Override
+        public Iterator<K> keys() {
+            return delegate.keys();
+        }
+
+        @NonNull
+        @Override
+        public Set<K> readKeys() {
+            return delegate.readKeys();
+        }
+
+        @Override
+        @Deprecated
+        public long size() {
+            return delegate.size();
+        }
+
+        @Override
+        public void warm(@NonNull final K key) {
+            if (warmedKeys.add(key)) {
+                delegate.warm(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.metric;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.workflows.handle.stack.SavepointStackImpl;
+import com.hedera.node.app.workflows.handle.stack.StateAccessRecorder;
+import com.hedera.node.app.workflows.handle.stack.StateAccessRecorder.StateAccess;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.ConsensusConfig;
+import com.hedera.node.config.data.StatsConfig;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.RunningAverageMetric.Config;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Measures how many user transactions of a round could have been executed in parallel, by recording the read and
+ * write sets of each transaction while it is handled serially in consensus order.
+ *
+ * <p>A transaction conflicts with an earlier transaction of the same round if it reads state the earlier transaction
+ * wrote; an optimistic executor running both against the state at the start of the round would have to re-execute
+ * it. Each transaction is assigned the earliest wave in which it could execute, one after the latest wave of all
+ * transactions it conflicts with. The number of transactions per wave is the parallelism available to such an
+ * executor; writes of the same key by non-conflicting transactions do not limit it, since the results are committed
+ * in consensus order.
+ *
+ * <p>The analysis is only done if {@code consensus.handle.conflictAnalysisEnabled} is set, as recording every state
+ * access has a cost. It never changes how transactions are handled.
+ */
+@Singleton
+public class RoundConflictAnalyzer {
+    private static final Logger logger = LogManager.getLogger(RoundConflictAnalyzer.class);
+
+    private static final Config CONFLICT_RATE_CONFIG = new Config("app", "handleConflictRate")
+            .withDescription("percentage of the user transactions of a round that read state written by an earlier "
+                    + "user transaction of the same round")
+            .withFormat("%,13.2f");
+
+    private static final Config PARALLELISM_CONFIG = new Config("app", "handleParallelism")
+            .withDescription("average number of user transactions of a round that could be executed in parallel, "
+                    + "if each transaction waited for the transactions whose writes it reads")
+            .withFormat("%,13.2f");
+
+    private final boolean enabled;
+
+    @Nullable
+    private final RunningAverageMetric conflictRate;
+
+    @Nullable
+    private final RunningAverageMetric parallelism;
+
+    private final StateAccessRecorder recorder = new StateAccessRecorder();
+    // The latest wave in which each key of a K/V state was written
+    private final Map<StateAccess, Integer> keyWriteWaves = new HashMap<>();
+    // The latest wave in which each state was written as a whole, e.g. a singleton or a queue
+    private final Map<StateAccess, Integer> wholeStateWriteWaves = new HashMap<>();
+    // The latest wave in which any part of each state was written
+    private final Map<StateAccess, Integer> anyWriteWaves = new HashMap<>();
+    // The number of transactions of the round that conflicted on each state
+    private final Map<StateAccess, Integer> conflictsByState = new HashMap<>();
+    private final Set<StateAccess> conflictingStates = new HashSet<>();
+
+    private int transactions;
+    private int conflictingTransactions;
+    private int waves;
+
+    /**
+     * Constructor for the {@link RoundConflictAnalyzer}.
+     *
+     * @param metrics        the {@link Metrics} object where the metrics will be registered
+     * @param configProvider the configuration provider
+     */
+    @Inject
+    public RoundConflictAnalyzer(@NonNull final Metrics metrics, @NonNull final ConfigProvider configProvider) {
+        requireNonNull(metrics, "metrics must not be null");
+        requireNonNull(configProvider, "configProvider must not be null");
+        final var config = configProvider.getConfiguration();
+        enabled = config.getConfigData(ConsensusConfig.class).handleConflictAnalysisEnabled();
+        if (enabled) {
+            final var halfLife = config.getConfigData(StatsConfig.class).runningAvgHalfLifeSecs();
+            conflictRate = metrics.getOrCreate(CONFLICT_RATE_CONFIG.withHalfLife(halfLife));
+            parallelism = metrics.getOrCreate(PARALLELISM_CONFIG.withHalfLife(halfLife));
+        } else {
+            conflictRate = null;
+            parallelism = null;
+        }
+    }
+
+    /**
+     * Starts the analysis of a new round.
+     */
+    public void startRound() {
+        if (!enabled) {
+            return;
+        }
+        keyWriteWaves.clear();
+        wholeStateWriteWaves.clear();
+        anyWriteWaves.clear();
+        conflictsByState.clear();
+        transactions = 0;
+        conflictingTransactions = 0;
+        waves = 0;
+    }
+
+    /**
+     * Starts recording the state accesses of a user transaction handled with the given stack.
+     *
+     * @param stack the root stack of the user transaction
+     */
+    public void startTransaction(@NonNull final SavepointStackImpl stack) {
+        if (!enabled) {
+            return;
+        }
+        recorder.clear();
+        stack.recordAccessesTo(recorder);
+    }
+
+    /**
+     * Stops recording the state accesses of the user transaction handled with the given stack, and assigns the
+     * transaction to the earliest wave it could have been executed in.
+     *
+     * @param stack the root stack of the user transaction
+     */
+    public void endTransaction(@NonNull final SavepointStackImpl stack) {
+        if (!enabled) {
+            return;
+        }
+        stack.recordAccessesTo(null);
+        int latestDependency = 0;
+        conflictingStates.clear();
+        for (final var read : recorder.reads()) {
+            final int writeWave = read.key() == null
+                    ? anyWriteWaves.getOrDefault(read, 0)
+                    : Math.max(
+                            keyWriteWaves.getOrDefault(read, 0),
+                            wholeStateWriteWaves.getOrDefault(read.wholeState(), 0));
+            if (writeWave > 0) {
+                conflictingStates.add(read.wholeState());
+                latestDependency = Math.max(latestDependency, writeWave);
+            }
+        }
+        final int wave = latestDependency + 1;
+        for (final var write : recorder.writes()) {
+            if (write.key() == null) {
+                wholeStateWriteWaves.merge(write, wave, Math::max);
+            } else {
+                keyWriteWaves.merge(write, wave, Math::max);
+            }
+            anyWriteWaves.merge(write.wholeState(), wave, Math::max);
+        }
+        if (!conflictingStates.isEmpty()) {
+            conflictingTransactions++;
+            conflictingStates.forEach(state -> conflictsByState.merge(state, 1, Integer::sum));
+        }
+        transactions++;
+        waves = Math.max(waves, wave);
+        recorder.clear();
+    }
+
+    /**
+     * Ends the analysis of the current round and updates the metrics.
+     *
+     * @param roundNum the number of the round
+     */
+    public void endRound(final long roundNum) {
+        if (!enabled || transactions == 0) {
+            return;
+        }
+        requireNonNull(conflictRate).update(100.0 * conflictingTransactions / transactions);
+        requireNonNull(parallelism).update((double) transactions / waves);
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "Round {} had {} user transactions in {} waves, {} conflicting; conflicts by state: {}",
+                    roundNum,
+                    transactions,
+                    waves,
+                    conflictingTransactions,
+                    conflictsByState);
+        }
+    }
+}
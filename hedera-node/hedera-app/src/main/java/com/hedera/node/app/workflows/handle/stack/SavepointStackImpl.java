@@ -97,6 +97,11 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
     private int noncesToSkipPerPresetId;
     private boolean presetIdsAllowed;
 
+    // If not null, records the state read and written through this stack, and through all child stacks created
+    // while it is set
+    @Nullable
+    private StateAccessRecorder accessRecorder;
+
     /**
      * Constructs the root {@link SavepointStackImpl} for the given state at the start of handling a user transaction.
      *
@@ -196,6 +201,7 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         this.builderSink = null;
         this.kvStateChangeListener = null;
         this.boundaryStateChangeListener = null;
+        this.accessRecorder = parent.accessRecorder;
         setupFirstSavepoint(category);
         baseBuilder = peek().createBuilder(reversingBehavior, category, customizer, streamMode, true);
         presetIdsAllowed = false;
@@ -299,6 +305,26 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
                         && parent.txnCategory() == USER);
     }
 
+    /**
+     * Starts or stops recording the state read and written through this stack.
+     *
+     * @param accessRecorder the recorder to record to, or {@code null} to stop recording
+     */
+    public void recordAccessesTo(@Nullable final StateAccessRecorder accessRecorder) {
+        this.accessRecorder = accessRecorder;
+    }
+
+    /**
+     * Returns the recorder of the state read and written through this stack, if any. Package-private, because it
+     * should only be called by {@link WritableStatesStack}.
+     *
+     * @return the recorder, or {@code null} if accesses are not recorded
+     */
+    @Nullable
+    StateAccessRecorder accessRecorder() {
+        return accessRecorder;
+    }
+
     /**
      * Returns the root {@link ReadableStates} for the given service name.
      *
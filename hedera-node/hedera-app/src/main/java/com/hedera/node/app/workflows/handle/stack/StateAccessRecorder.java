@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.stack;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Records the state a dispatch reads and writes through the {@link WritableStatesStack}s of a
+ * {@link SavepointStackImpl}, i.e. the read and write sets of a transaction.
+ *
+ * <p>Accesses are recorded as they reach the stack, whether or not the savepoint that made them is later committed.
+ * The recorded sets are therefore a superset of the effects of the transaction, which is what is needed to decide
+ * whether two transactions could have been executed independently of each other.
+ */
+public class StateAccessRecorder {
+
+    /**
+     * A single state access.
+     *
+     * @param serviceName the name of the service that owns the state
+     * @param stateKey    the key of the state within the service
+     * @param key         the key within a K/V state; or {@code null} if the access covers the whole state, as for
+     *                    singletons, queues, and iterating the keys of a K/V state
+     */
+    public record StateAccess(@NonNull String serviceName, @NonNull String stateKey, @Nullable Object key) {
+        public StateAccess {
+            requireNonNull(serviceName);
+            requireNonNull(stateKey);
+        }
+
+        /**
+         * Returns the access covering the whole state this access belongs to.
+         *
+         * @return the access to the whole state
+         */
+        @NonNull
+        public StateAccess wholeState() {
+            return key == null ? this : new StateAccess(serviceName, stateKey, null);
+        }
+    }
+
+    private final Set<StateAccess> reads = new HashSet<>();
+    private final Set<StateAccess> writes = new HashSet<>();
+
+    /**
+     * Records a read of the given state.
+     *
+     * @param serviceName the name of the service that owns the state
+     * @param stateKey    the key of the state within the service
+     * @param key         the key read, or {@code null} if the whole state was read
+     */
+    public void recordRead(
+            @NonNull final String serviceName, @NonNull final String stateKey, @Nullable final Object key) {
+        reads.add(new StateAccess(serviceName, stateKey, key));
+    }
+
+    /**
+     * Records a write to the given state.
+     *
+     * @param serviceName the name of the service that owns the state
+     * @param stateKey    the key of the state within the service
+     * @param key         the key written, or {@code null} if the whole state was written
+     */
+    public void recordWrite(
+            @NonNull final String serviceName, @NonNull final String stateKey, @Nullable final Object key) {
+        writes.add(new StateAccess(serviceName, stateKey, key));
+    }
+
+    /**
+     * Returns the state read since the last {@link #clear()}.
+     *
+     * @return the read set
+     */
+    @NonNull
+    public Set<StateAccess> reads() {
+        return Collections.unmodifiableSet(reads);
+    }
+
+    /**
+     * Returns the state written since the last {@link #clear()}.
+     *
+     * @return the write set
+     */
+    @NonNull
+    public Set<StateAccess> writes() {
+        return Collections.unmodifiableSet(writes);
+    }
+
+    /**
+     * Forgets all recorded accesses, so the recorder can be reused for the next transaction.
+     */
+    public void clear() {
+        reads.clear();
+        writes.clear();
+    }
+}
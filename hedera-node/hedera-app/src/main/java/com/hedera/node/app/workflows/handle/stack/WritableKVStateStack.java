@@ -65,6 +65,7 @@ public class WritableKVStateStack<K, V> implements WritableKVState<K, V> {
     @Override
     @Nullable
     public V get(@NonNull final K key) {
+        writableStatesStack.recordRead(stateKey, key);
         return getCurrent().get(key);
     }
 
@@ -75,6 +76,7 @@ public class WritableKVStateStack<K, V> implements WritableKVState<K, V> {
     @Nullable
     @Override
     public V getOriginalValue(@NonNull K key) {
+        writableStatesStack.recordRead(stateKey, key);
         return (V) writableStatesStack.getRoot().get(stateKey).get(key);
     }
 
@@ -83,6 +85,7 @@ public class WritableKVStateStack<K, V> implements WritableKVState<K, V> {
      */
     @Override
     public void put(@NonNull final K key, @NonNull final V value) {
+        writableStatesStack.recordWrite(stateKey, key);
         getCurrent().put(key, value);
     }
 
@@ -91,6 +94,7 @@ public class WritableKVStateStack<K, V> implements WritableKVState<K, V> {
      */
     @Override
     public void remove(@NonNull final K key) {
+        writableStatesStack.recordWrite(stateKey, key);
         getCurrent().remove(key);
     }
 
@@ -100,6 +104,7 @@ public class WritableKVStateStack<K, V> implements WritableKVState<K, V> {
     @Override
     @NonNull
     public Iterator<K> keys() {
+        writableStatesStack.recordRead(stateKey, null);
         return getCurrent().keys();
     }
 
@@ -60,23 +60,28 @@ public class WritableQueueStateStack<E> implements WritableQueueState<E> {
     @Nullable
     @Override
     public E peek() {
+        writableStatesStack.recordRead(stateKey, null);
         return getCurrent().peek();
     }
 
     @NonNull
     @Override
     public Iterator<E> iterator() {
+        writableStatesStack.recordRead(stateKey, null);
         return getCurrent().iterator();
     }
 
     @Override
     public void add(@NonNull E element) {
+        writableStatesStack.recordWrite(stateKey, null);
         getCurrent().add(element);
     }
 
     @Nullable
     @Override
     public E removeIf(@NonNull Predicate<E> predicate) {
+        writableStatesStack.recordRead(stateKey, null);
+        writableStatesStack.recordWrite(stateKey, null);
         return getCurrent().removeIf(predicate);
     }
 }
@@ -57,6 +57,7 @@ public class WritableSingletonStateStack<T> implements WritableSingletonState<T>
     @Override
     @Nullable
     public T get() {
+        writableStatesStack.recordRead(stateKey, null);
         return getCurrent().get();
     }
 
@@ -67,6 +68,7 @@ public class WritableSingletonStateStack<T> implements WritableSingletonState<T>
 
     @Override
     public void put(@Nullable final T value) {
+        writableStatesStack.recordWrite(stateKey, null);
         getCurrent().put(value);
     }
 
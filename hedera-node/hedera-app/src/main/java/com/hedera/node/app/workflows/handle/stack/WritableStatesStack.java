@@ -9,6 +9,7 @@ import com.swirlds.state.spi.WritableQueueState;
 import com.swirlds.state.spi.WritableSingletonState;
 import com.swirlds.state.spi.WritableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Set;
 
 /**
@@ -58,6 +59,36 @@ public class WritableStatesStack implements WritableStates {
         return stack.rootStates(statesName);
     }
 
+    /**
+     * Records a read of the given state of this service, if the stack records state accesses. Package-private, because
+     * it should only be called by {@link WritableKVStateStack}, {@link WritableSingletonStateStack}, and
+     * {@link WritableQueueStateStack}.
+     *
+     * @param stateKey the state key
+     * @param key      the key read, or {@code null} if the whole state was read
+     */
+    void recordRead(@NonNull final String stateKey, @Nullable final Object key) {
+        final var recorder = stack.accessRecorder();
+        if (recorder != null) {
+            recorder.recordRead(statesName, stateKey, key);
+        }
+    }
+
+    /**
+     * Records a write to the given state of this service, if the stack records state accesses. Package-private, because
+     * it should only be called by {@link WritableKVStateStack}, {@link WritableSingletonStateStack}, and
+     * {@link WritableQueueStateStack}.
+     *
+     * @param stateKey the state key
+     * @param key      the key written, or {@code null} if the whole state was written
+     */
+    void recordWrite(@NonNull final String stateKey, @Nullable final Object key) {
+        final var recorder = stack.accessRecorder();
+        if (recorder != null) {
+            recorder.recordWrite(statesName, stateKey, key);
+        }
+    }
+
     @Override
     @NonNull
     public <K, V> WritableKVState<K, V> get(@NonNull final String stateKey) {
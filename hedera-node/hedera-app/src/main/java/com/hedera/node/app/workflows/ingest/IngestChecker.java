@@ -37,6 +37,7 @@ import com.hedera.node.app.signature.DefaultKeyVerifier;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.signature.SignatureExpander;
 import com.hedera.node.app.signature.SignatureVerifier;
+import com.hedera.node.app.signature.VerifiedSignatureCache;
 import com.hedera.node.app.spi.authorization.Authorizer;
 import com.hedera.node.app.spi.fees.FeeContext;
 import com.hedera.node.app.spi.signatures.SignatureVerification;
@@ -86,6 +87,7 @@ public final class IngestChecker {
     private final SolvencyPreCheck solvencyPreCheck;
     private final SignatureVerifier signatureVerifier;
     private final SignatureExpander signatureExpander;
+    private final VerifiedSignatureCache verifiedSignatureCache;
     private final DeduplicationCache deduplicationCache;
     private final TransactionDispatcher dispatcher;
     private final FeeManager feeManager;
@@ -108,6 +110,7 @@ public final class IngestChecker {
      * @param solvencyPreCheck the {@link SolvencyPreCheck} that checks payer balance
      * @param signatureExpander the {@link SignatureExpander} that expands signatures
      * @param signatureVerifier the {@link SignatureVerifier} that verifies signature data
+     * @param verifiedSignatureCache the {@link VerifiedSignatureCache} of signatures verified for pre-handle
      * @param dispatcher the {@link TransactionDispatcher} that dispatches transactions
      * @param feeManager the {@link FeeManager} that manages {@link com.hedera.node.app.spi.fees.FeeCalculator}s
      * @param synchronizedThrottleAccumulator the {@link SynchronizedThrottleAccumulator} that checks transaction should be throttled
@@ -124,6 +127,7 @@ public final class IngestChecker {
             @NonNull final SolvencyPreCheck solvencyPreCheck,
             @NonNull final SignatureExpander signatureExpander,
             @NonNull final SignatureVerifier signatureVerifier,
+            @NonNull final VerifiedSignatureCache verifiedSignatureCache,
             @NonNull final DeduplicationCache deduplicationCache,
             @NonNull final TransactionDispatcher dispatcher,
             @NonNull final FeeManager feeManager,
@@ -140,6 +144,8 @@ public final class IngestChecker {
         this.solvencyPreCheck = requireNonNull(solvencyPreCheck, "solvencyPreCheck must not be null");
         this.signatureVerifier = requireNonNull(signatureVerifier, "signatureVerifier must not be null");
         this.signatureExpander = requireNonNull(signatureExpander, "signatureExpander must not be null");
+        this.verifiedSignatureCache =
+                requireNonNull(verifiedSignatureCache, "verifiedSignatureCache must not be null");
         this.deduplicationCache = requireNonNull(deduplicationCache, "deduplicationCache must not be null");
         this.dispatcher = requireNonNull(dispatcher, "dispatcher must not be null");
         this.feeManager = requireNonNull(feeManager, "feeManager must not be null");
@@ -336,5 +342,7 @@ public final class IngestChecker {
         if (payerKeyVerification.failed()) {
             throw new PreCheckException(INVALID_SIGNATURE);
         }
+        // Spare the pre-handle workflow from verifying these signatures again
+        verifiedSignatureCache.recordVerified(txInfo.signedBytes(), expandedSigs, results);
     }
 }
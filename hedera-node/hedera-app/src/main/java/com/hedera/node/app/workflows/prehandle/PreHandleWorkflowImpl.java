@@ -25,6 +25,7 @@ import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.signature.SignatureExpander;
 import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.signature.SignatureVerifier;
+import com.hedera.node.app.signature.VerifiedSignatureCache;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
@@ -38,10 +39,12 @@ import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfiguration;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.state.lifecycle.info.NetworkInfo;
 import com.swirlds.state.lifecycle.info.NodeInfo;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
@@ -81,6 +84,14 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * Verifies signatures
      */
     private final SignatureVerifier signatureVerifier;
+    /**
+     * Signatures this node already verified at ingest
+     */
+    private final VerifiedSignatureCache verifiedSignatureCache;
+    /**
+     * Used to tell transactions submitted to this node from those submitted to other nodes
+     */
+    private final NetworkInfo networkInfo;
     /**
      * Provides the latest versioned configuration
      */
@@ -97,6 +108,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      *                           transaction.
      * @param transactionChecker the {@link TransactionChecker} for parsing and verifying the transaction
      * @param signatureVerifier  the {@link SignatureVerifier} to verify signatures
+     * @param verifiedSignatureCache the {@link VerifiedSignatureCache} of signatures verified at ingest
+     * @param networkInfo        the {@link NetworkInfo} of this node
      * @throws NullPointerException if any of the parameters is {@code null}
      */
     @Inject
@@ -104,15 +117,19 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final TransactionDispatcher dispatcher,
             @NonNull final TransactionChecker transactionChecker,
             @NonNull final SignatureVerifier signatureVerifier,
+            @NonNull final VerifiedSignatureCache verifiedSignatureCache,
             @NonNull final SignatureExpander signatureExpander,
             @NonNull final ConfigProvider configProvider,
-            @NonNull final DeduplicationCache deduplicationCache) {
+            @NonNull final DeduplicationCache deduplicationCache,
+            @NonNull final NetworkInfo networkInfo) {
         this.dispatcher = requireNonNull(dispatcher);
         this.transactionChecker = requireNonNull(transactionChecker);
         this.signatureVerifier = requireNonNull(signatureVerifier);
+        this.verifiedSignatureCache = requireNonNull(verifiedSignatureCache);
         this.signatureExpander = requireNonNull(signatureExpander);
         this.configProvider = requireNonNull(configProvider);
         this.deduplicationCache = requireNonNull(deduplicationCache);
+        this.networkInfo = requireNonNull(networkInfo);
     }
 
     /**
@@ -330,14 +347,15 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             // In that case, the payer will end up paying for the transaction. So we still need to do the signature
             // verifications that we have determined so far.
             logger.debug("Transaction failed pre-check", preCheck);
-            final var results =
-                    verifySignatures(txInfo, context, VerifyOnlyPayerKey.YES, payerIsHollow, previousResult);
+            final var results = verifySignatures(
+                    txInfo, context, VerifyOnlyPayerKey.YES, payerIsHollow, previousResult, creatorInfo);
             return preHandleFailure(
                     payer, payerKey, preCheck.responseCode(), txInfo, Set.of(), Set.of(), Set.of(), results);
         }
 
         // 3. Get the verification results
-        final var results = verifySignatures(txInfo, context, VerifyOnlyPayerKey.NO, payerIsHollow, previousResult);
+        final var results =
+                verifySignatures(txInfo, context, VerifyOnlyPayerKey.NO, payerIsHollow, previousResult, creatorInfo);
 
         // 4. Create and return TransactionMetadata
         return new PreHandleResult(
@@ -387,7 +405,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final PreHandleContext context,
             @NonNull final VerifyOnlyPayerKey onlyPayerKey,
             @NonNull final PayerIsHollow payerIsHollow,
-            @Nullable final PreHandleResult previousResult) {
+            @Nullable final PreHandleResult previousResult,
+            @NonNull final NodeInfo creatorInfo) {
         // Maybe we can reuse the previous result's verification results
         if (previousResult != null && previousResult.hasReusableVerificationResultsFor(context)) {
             return previousResult.verificationResults();
@@ -406,7 +425,20 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             signatureExpander.expand(context.requiredNonPayerKeys(), originals, expanded);
             signatureExpander.expand(context.optionalNonPayerKeys(), originals, expanded);
         }
-        return signatureVerifier.verify(txInfo.signedBytes(), expanded);
+        // Skip the signatures this node already verified when the transaction was submitted to it; a transaction
+        // created by another node was submitted to that node, so its signatures cannot have been verified here
+        final Map<Key, SignatureVerificationFuture> verified =
+                creatorInfo.nodeId() == networkInfo.selfNodeInfo().nodeId()
+                        ? verifiedSignatureCache.takeVerified(txInfo.signedBytes(), expanded)
+                        : Map.of();
+        final var results = signatureVerifier.verify(txInfo.signedBytes(), expanded);
+        if (verified.isEmpty()) {
+            return results;
+        }
+        final var merged = HashMap.<Key, SignatureVerificationFuture>newHashMap(results.size() + verified.size());
+        merged.putAll(results);
+        merged.putAll(verified);
+        return merged;
     }
 
     private boolean wasComputedWithCurrentNodeConfiguration(@Nullable PreHandleResult previousResult) {
@@ -0,0 +1,166 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.query;
+
+import static com.hedera.hapi.node.base.ResponseType.ANSWER_ONLY;
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.ResponseType;
+import com.hedera.hapi.node.transaction.Response;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.HederaConfig;
+import com.hedera.node.config.data.StatsConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.LongGauge;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.state.State;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * A cache of the responses to free queries, so a query that is submitted many times while the state does not change,
+ * e.g. a wallet polling an account balance, is only answered once.
+ *
+ * <p>Only {@code ANSWER_ONLY} queries of the functionalities in {@code hedera.queryCache.functionalities} that do not
+ * require a payment are cached. Their response depends on nothing but the query and the state, so a cached response
+ * is exactly what answering the query again against the same state would return. Responses are keyed by the bytes of
+ * the query, and each cached response belongs to the {@link State} it was found in. Since every round is handled in a
+ * new state, all cached responses are dropped as soon as a query is answered against a newer state; a cached response
+ * is therefore never more than one round older than an uncached one. A maximum size of zero disables the cache.
+ */
+@Singleton
+public class QueryResponseCache {
+
+    private static final Counter.Config HITS_CONFIG = new Counter.Config("app", "queryCacheHits")
+            .withDescription("number of free queries answered with a cached response");
+    private static final Counter.Config MISSES_CONFIG = new Counter.Config("app", "queryCacheMisses")
+            .withDescription("number of cacheable free queries that had no cached response");
+    private static final LongGauge.Config SIZE_CONFIG = new LongGauge.Config("app", "queryCacheSize")
+            .withDescription("approximate number of cached query responses");
+    private static final RunningAverageMetric.Config HIT_RATE_CONFIG = new RunningAverageMetric.Config(
+                    "app", "queryCacheHitRate")
+            .withDescription("percentage of cacheable free queries answered with a cached response")
+            .withFormat("%,13.2f");
+
+    /**
+     * The cached responses found in one state.
+     *
+     * @param state     the state the responses were found in
+     * @param responses the responses, by query bytes
+     */
+    private record Generation(@NonNull WeakReference<State> state, @NonNull Cache<Bytes, Response> responses) {}
+
+    private final int maxSize;
+    private final Set<HederaFunctionality> functionalities;
+    private final AtomicReference<Generation> current = new AtomicReference<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final LongGauge size;
+    private final RunningAverageMetric hitRate;
+
+    /**
+     * Constructor for the {@link QueryResponseCache}.
+     *
+     * @param metrics        the {@link Metrics} object where the metrics will be registered
+     * @param configProvider the configuration provider
+     */
+    @Inject
+    public QueryResponseCache(@NonNull final Metrics metrics, @NonNull final ConfigProvider configProvider) {
+        requireNonNull(metrics, "metrics must not be null");
+        final var config = configProvider.getConfiguration();
+        final var hederaConfig = config.getConfigData(HederaConfig.class);
+        maxSize = hederaConfig.queryCacheMaxSize();
+        functionalities = EnumSet.noneOf(HederaFunctionality.class);
+        functionalities.addAll(hederaConfig.queryCacheFunctionalities().functionalitySet());
+        hits = metrics.getOrCreate(HITS_CONFIG);
+        misses = metrics.getOrCreate(MISSES_CONFIG);
+        size = metrics.getOrCreate(SIZE_CONFIG);
+        final var halfLife = config.getConfigData(StatsConfig.class).runningAvgHalfLifeSecs();
+        hitRate = metrics.getOrCreate(HIT_RATE_CONFIG.withHalfLife(halfLife));
+    }
+
+    /**
+     * Returns whether the responses to free queries of the given functionality and response type are cached.
+     *
+     * @param function     the functionality of the query
+     * @param responseType the response type of the query
+     * @return whether the responses are cached
+     */
+    public boolean caches(@NonNull final HederaFunctionality function, @NonNull final ResponseType responseType) {
+        return maxSize > 0 && responseType == ANSWER_ONLY && functionalities.contains(function);
+    }
+
+    /**
+     * Returns the cached response to the given query, if it was answered against the given state before.
+     *
+     * @param state the state the query is answered against
+     * @param query the bytes of the query
+     * @return the cached response, or {@code null} if there is none
+     */
+    @Nullable
+    public Response get(@NonNull final State state, @NonNull final Bytes query) {
+        requireNonNull(state);
+        requireNonNull(query);
+        final var generation = current.get();
+        final var response = generation != null && generation.state().get() == state
+                ? generation.responses().getIfPresent(query)
+                : null;
+        if (response != null) {
+            hits.increment();
+            hitRate.update(100);
+        } else {
+            misses.increment();
+            hitRate.update(0);
+        }
+        return response;
+    }
+
+    /**
+     * Caches the response to the given query, found in the given state. All responses found in any other state are
+     * dropped.
+     *
+     * @param state    the state the response was found in
+     * @param query    the bytes of the query
+     * @param response the response
+     */
+    public void put(@NonNull final State state, @NonNull final Bytes query, @NonNull final Response response) {
+        requireNonNull(state);
+        requireNonNull(query);
+        requireNonNull(response);
+        final var responses = responsesFor(state);
+        // The query bytes may be backed by a buffer that is reused for the next request, so the key is a copy
+        responses.put(Bytes.wrap(query.toByteArray()), response);
+        size.set(responses.estimatedSize());
+    }
+
+    /**
+     * Returns the cached responses found in the given state, replacing the responses found in any other state. Queries
+     * answered concurrently against two states may replace each other's responses, which only costs some hits.
+     */
+    @NonNull
+    private Cache<Bytes, Response> responsesFor(@NonNull final State state) {
+        while (true) {
+            final var generation = current.get();
+            if (generation != null && generation.state().get() == state) {
+                return generation.responses();
+            }
+            final var next = new Generation(
+                    new WeakReference<>(state),
+                    Caffeine.newBuilder().maximumSize(maxSize).build());
+            if (current.compareAndSet(generation, next)) {
+                return next.responses();
+            }
+        }
+    }
+}
@@ -88,6 +88,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
     private final InstantSource instantSource;
     private final OpWorkflowMetrics workflowMetrics;
     private final SemanticVersion softwareVersionFactory;
+    private final QueryResponseCache queryResponseCache;
 
     /**
      * Indicates if the QueryWorkflow should charge for handling queries.
@@ -113,6 +114,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
      * @param instantSource the {@link InstantSource} to get the current time
      * @param workflowMetrics the {@link OpWorkflowMetrics} to update the metrics
      * @param shouldCharge If the workflow should charge for handling queries.
+     * @param queryResponseCache the {@link QueryResponseCache} with the responses to free queries
      * @throws NullPointerException if one of the arguments is {@code null}
      */
     @Inject
@@ -132,7 +134,8 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
             @NonNull final InstantSource instantSource,
             @NonNull final OpWorkflowMetrics workflowMetrics,
             final boolean shouldCharge,
-            @NonNull final SemanticVersion softwareVersionFactory) {
+            @NonNull final SemanticVersion softwareVersionFactory,
+            @NonNull final QueryResponseCache queryResponseCache) {
         this.stateAccessor = requireNonNull(stateAccessor, "stateAccessor must not be null");
         this.submissionManager = requireNonNull(submissionManager, "submissionManager must not be null");
         this.ingestChecker = requireNonNull(ingestChecker, "ingestChecker must not be null");
@@ -150,6 +153,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
         this.workflowMetrics = requireNonNull(workflowMetrics);
         this.shouldCharge = shouldCharge;
         this.softwareVersionFactory = softwareVersionFactory;
+        this.queryResponseCache = requireNonNull(queryResponseCache, "queryResponseCache must not be null");
     }
 
     @Override
@@ -187,6 +191,10 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                 final var state = wrappedState.get();
                 final var storeFactory = new ReadableStoreFactory(state);
                 final var paymentRequired = handler.requiresNodePayment(responseType);
+                // The response to a free query only depends on the query and the state, so it may be cached
+                final var cacheable =
+                        !(shouldCharge && paymentRequired) && queryResponseCache.caches(function, responseType);
+                final var cachedResponse = cacheable ? queryResponseCache.get(state, requestBuffer) : null;
                 final var feeCalculator = feeManager.createFeeCalculator(function, consensusTime, storeFactory);
                 final QueryContext context;
                 TransactionBody txBody;
@@ -256,8 +264,10 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                             null);
                 }
 
-                // 4. Check validity of query
-                handler.validate(context);
+                // 4. Check validity of query, unless a cached response shows it was valid in this state
+                if (cachedResponse == null) {
+                    handler.validate(context);
+                }
 
                 // 5. Check query throttles
                 if (shouldCharge && synchronizedThrottleAccumulator.shouldThrottle(function, query, state, payerID)) {
@@ -265,7 +275,9 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                     throw new PreCheckException(BUSY);
                 }
 
-                if (handler.needsAnswerOnlyCost(responseType)) {
+                if (cachedResponse != null) {
+                    response = cachedResponse;
+                } else if (handler.needsAnswerOnlyCost(responseType)) {
                     // 6.i Estimate costs
                     final var queryFees = handler.computeFees(context).totalFee();
 
@@ -275,6 +287,9 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                     // 6.ii Find response
                     final var header = createResponseHeader(responseType, OK, 0L);
                     response = handler.findResponse(context, header);
+                    if (cacheable) {
+                        queryResponseCache.put(state, requestBuffer, response);
+                    }
                 }
             } catch (InsufficientBalanceException e) {
                 response = createErrorResponse(handler, responseType, e.responseCode(), e.getEstimatedFee());
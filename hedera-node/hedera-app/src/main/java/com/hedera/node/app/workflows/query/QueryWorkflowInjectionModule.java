@@ -60,7 +60,8 @@ public interface QueryWorkflowInjectionModule {
             @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
             @NonNull final OpWorkflowMetrics opWorkflowMetrics,
-            @NonNull final SemanticVersion softwareVersionFactory) {
+            @NonNull final SemanticVersion softwareVersionFactory,
+            @NonNull final QueryResponseCache queryResponseCache) {
         return new QueryWorkflowImpl(
                 stateAccessor,
                 submissionManager,
@@ -77,7 +78,8 @@ public interface QueryWorkflowInjectionModule {
                 instantSource,
                 opWorkflowMetrics,
                 true,
-                softwareVersionFactory);
+                softwareVersionFactory,
+                queryResponseCache);
     }
 
     @Provides
@@ -98,7 +100,8 @@ public interface QueryWorkflowInjectionModule {
             @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
             @NonNull final OpWorkflowMetrics opWorkflowMetrics,
-            @NonNull final SemanticVersion softwareVersionFactory) {
+            @NonNull final SemanticVersion softwareVersionFactory,
+            @NonNull final QueryResponseCache queryResponseCache) {
         return new QueryWorkflowImpl(
                 stateAccessor,
                 submissionManager,
@@ -115,7 +118,8 @@ public interface QueryWorkflowInjectionModule {
                 instantSource,
                 opWorkflowMetrics,
                 false,
-                softwareVersionFactory);
+                softwareVersionFactory,
+                queryResponseCache);
     }
 
     @Provides
@@ -61,4 +61,25 @@ class KVStateChangeListenerTest {
         assertEquals(STATE_ID, stateChange.stateId());
         assertEquals(KEY, stateChange.mapDelete().key().accountIdKey());
     }
+
+    @Test
+    void testRepeatedChangesToKeyAreAllKeptInSequence() {
+        final var otherKey = AccountID.newBuilder().accountNum(5678).build();
+        listener.mapUpdateChange(STATE_ID, KEY, VALUE);
+        listener.mapUpdateChange(STATE_ID, otherKey, VALUE);
+        listener.mapDeleteChange(STATE_ID, KEY);
+        listener.mapUpdateChange(STATE_ID + 1, KEY, VALUE);
+
+        final var stateChanges = listener.getStateChanges();
+        assertEquals(4, stateChanges.size());
+        assertEquals(KEY, stateChanges.get(0).mapUpdate().key().accountIdKey());
+        assertEquals(otherKey, stateChanges.get(1).mapUpdate().key().accountIdKey());
+        assertEquals(MAP_DELETE, stateChanges.get(2).changeOperation().kind());
+        assertEquals(KEY, stateChanges.get(2).mapDelete().key().accountIdKey());
+        assertEquals(STATE_ID + 1, stateChanges.get(3).stateId());
+
+        listener.reset();
+        listener.mapUpdateChange(STATE_ID, KEY, VALUE);
+        assertEquals(1, listener.getStateChanges().size());
+    }
 }
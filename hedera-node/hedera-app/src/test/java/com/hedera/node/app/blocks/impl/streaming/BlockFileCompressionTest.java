@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.blocks.impl.streaming;
+
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.data.BlockStreamConfig;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.metrics.api.Metrics;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class BlockFileCompressionTest {
+    private final Metrics metrics = TestUtils.metrics();
+
+    private BlockFileCompression subject(final int threads, final int level) {
+        final var config = HederaTestConfigBuilder.create()
+                .withConfigDataType(BlockStreamConfig.class)
+                .withValue("blockStream.compressionThreads", threads)
+                .withValue("blockStream.compressionChunkSizeKb", 16)
+                .withValue("blockStream.compressionLevel", level)
+                .getOrCreateConfig();
+        return new BlockFileCompression(() -> new VersionedConfigImpl(config, 1), metrics);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 6", "0, 1", "2, 6", "2, 1"})
+    void writesGzipThatDecompressesToTheBlock(final int threads, final int level) throws IOException {
+        final var block = new byte[100_000];
+        new Random(threads + level).nextBytes(block);
+        // make most of the block compressible
+        for (int i = 0; i < 80_000; i++) {
+            block[i] = (byte) (i % 13);
+        }
+        final var file = new ByteArrayOutputStream();
+
+        try (final var out = subject(threads, level).compress(file)) {
+            out.write(block, 0, 50_000);
+            out.write(block[50_000]);
+            out.write(block, 50_001, block.length - 50_001);
+        }
+
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(file.toByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(block);
+        }
+        assertThat((double) metrics.getMetric("app", "blockFileCompressionRatio").get(VALUE))
+                .isCloseTo((double) block.length / file.size(), offset(0.001));
+    }
+}
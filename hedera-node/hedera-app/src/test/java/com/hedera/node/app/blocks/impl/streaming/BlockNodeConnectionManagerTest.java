@@ -3,6 +3,7 @@ package com.hedera.node.app.blocks.impl.streaming;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -119,6 +120,26 @@ class BlockNodeConnectionManagerTest {
         verify(mockConnection, times(1)).establishStream();
     }
 
+    @Test
+    void testLowestAcknowledgedBlockIsHeldBackByBlockNodesWithoutConnection() {
+        final var node1 = new BlockNodeConfig("localhost", 8080);
+        final var node2 = new BlockNodeConfig("localhost", 8081);
+        when(blockNodeConfigExtractorImpl.getAllNodes()).thenReturn(List.of(node1, node2));
+        when(mockConnection.getNodeConfig()).thenReturn(node1);
+        when(mockConnection.getIsActiveLock()).thenReturn(new ReentrantLock());
+
+        // only node1 is connected, node2 never connects nor acknowledges a block
+        blockNodeConnectionManager.scheduleReconnect(mockConnection);
+        verify(mockConnection, timeout(1_000)).isActive();
+
+        blockNodeConnectionManager.updateLastVerifiedBlock(node1, 5L);
+        assertEquals(-1L, blockNodeConnectionManager.getLowestAcknowledgedBlock());
+
+        // node2 comes back and acknowledges the blocks it missed up to block 3
+        blockNodeConnectionManager.updateLastVerifiedBlock(node2, 3L);
+        assertEquals(3L, blockNodeConnectionManager.getLowestAcknowledgedBlock());
+    }
+
     @AfterAll
     static void afterAll() {
         testServer.shutdownNow();
@@ -670,6 +670,8 @@ class BlockNodeConnectionTest {
                 .acknowledgement(acknowledgement)
                 .build();
 
+        when(connectionManager.getLowestAcknowledgedBlock()).thenReturn(TEST_BLOCK_NUMBER);
+
         // Act
         connection.onNext(response);
 
@@ -706,6 +708,8 @@ class BlockNodeConnectionTest {
                 .acknowledgement(acknowledgement)
                 .build();
 
+        when(connectionManager.getLowestAcknowledgedBlock()).thenReturn(TEST_BLOCK_NUMBER);
+
         // Act
         connection.onNext(response);
 
@@ -742,6 +746,8 @@ class BlockNodeConnectionTest {
                 .acknowledgement(acknowledgement)
                 .build();
 
+        when(connectionManager.getLowestAcknowledgedBlock()).thenReturn(TEST_BLOCK_NUMBER);
+
         // Act
         connection.onNext(response);
 
@@ -785,6 +791,8 @@ class BlockNodeConnectionTest {
                 .acknowledgement(acknowledgement)
                 .build();
 
+        when(connectionManager.getLowestAcknowledgedBlock()).thenReturn(TEST_BLOCK_NUMBER);
+
         // Act
         connectionSpy.onNext(response);
 
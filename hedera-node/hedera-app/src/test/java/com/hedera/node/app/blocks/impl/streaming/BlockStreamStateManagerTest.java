@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.BDDMockito.given;
 
+import com.hedera.hapi.block.PublishStreamRequest;
 import com.hedera.hapi.block.stream.BlockItem;
 import com.hedera.hapi.block.stream.BlockProof;
 import com.hedera.hapi.block.stream.output.BlockHeader;
@@ -15,9 +16,12 @@ import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.data.BlockStreamConfig;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import java.nio.file.Path;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -543,4 +547,166 @@ class BlockStreamStateManagerTest {
         assertThat(blockStreamStateManager.getBlockState(TEST_BLOCK_NUMBER).requests())
                 .hasSize(2);
     }
+
+    @Test
+    void testCompletedBlocksBeyondInMemoryLimitAreReadBackFromDisk(@TempDir final Path bufferDir) {
+        // given
+        var mockConfig = HederaTestConfigBuilder.create()
+                .withConfigDataType(BlockStreamConfig.class)
+                .withValue("blockStream.blockItemBatchSize", 1)
+                .withValue("blockStream.bufferedBlocksInMemory", 1)
+                .withValue("blockStream.bufferDir", bufferDir.toString())
+                .getOrCreateConfig();
+        given(configProvider.getConfiguration()).willReturn(new VersionedConfigImpl(mockConfig, 1));
+        blockStreamStateManager = new BlockStreamStateManager(configProvider);
+        blockStreamStateManager.setBlockNodeConnectionManager(blockNodeConnectionManager);
+        var blockItem = BlockItem.newBuilder()
+                .blockHeader(BlockHeader.newBuilder().number(TEST_BLOCK_NUMBER).build())
+                .build();
+
+        // when
+        blockStreamStateManager.openBlock(TEST_BLOCK_NUMBER);
+        blockStreamStateManager.addItem(TEST_BLOCK_NUMBER, blockItem);
+        final var expectedRequests =
+                List.copyOf(blockStreamStateManager.getBlockState(TEST_BLOCK_NUMBER).requests());
+        blockStreamStateManager.closeBlock(TEST_BLOCK_NUMBER);
+        blockStreamStateManager.openBlock(TEST_BLOCK_NUMBER2);
+        blockStreamStateManager.closeBlock(TEST_BLOCK_NUMBER2);
+
+        // then
+        final var readBack = blockStreamStateManager.getBlockState(TEST_BLOCK_NUMBER);
+        assertThat(readBack).isNotNull();
+        assertThat(readBack.isComplete()).isTrue();
+        assertThat(readBack.requests()).isEqualTo(expectedRequests);
+        assertThat(bufferDir.resolve(TEST_BLOCK_NUMBER + ".blkseg")).exists();
+        assertThat(blockStreamStateManager.isBlockBuffered(TEST_BLOCK_NUMBER2)).isTrue();
+
+        // and when all block nodes acknowledged the first block
+        blockStreamStateManager.removeBlockStatesUpTo(TEST_BLOCK_NUMBER);
+
+        // then
+        assertThat(blockStreamStateManager.getBlockState(TEST_BLOCK_NUMBER)).isNull();
+        assertThat(blockStreamStateManager.isBlockBuffered(TEST_BLOCK_NUMBER)).isFalse();
+        assertThat(bufferDir.resolve(TEST_BLOCK_NUMBER + ".blkseg")).doesNotExist();
+        assertThat(blockStreamStateManager.getBlockState(TEST_BLOCK_NUMBER2)).isNotNull();
+    }
+
+    @Test
+    void testBlocksOnDiskAreRecoveredAfterRestart(@TempDir final Path bufferDir) {
+        // given
+        var mockConfig = HederaTestConfigBuilder.create()
+                .withConfigDataType(BlockStreamConfig.class)
+                .withValue("blockStream.blockItemBatchSize", 1)
+                .withValue("blockStream.bufferedBlocksInMemory", 1)
+                .withValue("blockStream.bufferDir", bufferDir.toString())
+                .getOrCreateConfig();
+        given(configProvider.getConfiguration()).willReturn(new VersionedConfigImpl(mockConfig, 1));
+        blockStreamStateManager = new BlockStreamStateManager(configProvider);
+        blockStreamStateManager.setBlockNodeConnectionManager(blockNodeConnectionManager);
+        var blockItem = BlockItem.newBuilder()
+                .blockHeader(BlockHeader.newBuilder().number(TEST_BLOCK_NUMBER).build())
+                .build();
+        blockStreamStateManager.openBlock(TEST_BLOCK_NUMBER);
+        blockStreamStateManager.addItem(TEST_BLOCK_NUMBER, blockItem);
+        final var expectedRequests =
+                List.copyOf(blockStreamStateManager.getBlockState(TEST_BLOCK_NUMBER).requests());
+        blockStreamStateManager.closeBlock(TEST_BLOCK_NUMBER);
+        blockStreamStateManager.openBlock(TEST_BLOCK_NUMBER2);
+        blockStreamStateManager.closeBlock(TEST_BLOCK_NUMBER2);
+
+        // when
+        final var restarted = new BlockStreamStateManager(configProvider);
+        restarted.setBlockNodeConnectionManager(blockNodeConnectionManager);
+
+        // then
+        assertThat(restarted.isBlockBuffered(TEST_BLOCK_NUMBER)).isTrue();
+        assertThat(restarted.lowestBufferedBlock()).isEqualTo(TEST_BLOCK_NUMBER);
+        final var recovered = restarted.getBlockState(TEST_BLOCK_NUMBER);
+        assertThat(recovered).isNotNull();
+        assertThat(recovered.isComplete()).isTrue();
+        assertThat(recovered.requests()).isEqualTo(expectedRequests);
+
+        // and when the recovered block is produced again
+        restarted.openBlock(TEST_BLOCK_NUMBER);
+
+        // then
+        assertThat(bufferDir.resolve(TEST_BLOCK_NUMBER + ".blkseg")).doesNotExist();
+        assertThat(restarted.getBlockState(TEST_BLOCK_NUMBER).isComplete()).isFalse();
+    }
+
+    @Test
+    void testOldestBlocksAreDroppedBeyondMaxBufferedBlocks() {
+        // given
+        var mockConfig = HederaTestConfigBuilder.create()
+                .withConfigDataType(BlockStreamConfig.class)
+                .withValue("blockStream.maxBufferedBlocks", 2)
+                .getOrCreateConfig();
+        given(configProvider.getConfiguration()).willReturn(new VersionedConfigImpl(mockConfig, 1));
+        blockStreamStateManager = new BlockStreamStateManager(configProvider);
+        blockStreamStateManager.setBlockNodeConnectionManager(blockNodeConnectionManager);
+
+        // when
+        blockStreamStateManager.openBlock(TEST_BLOCK_NUMBER);
+        blockStreamStateManager.openBlock(TEST_BLOCK_NUMBER2);
+        blockStreamStateManager.openBlock(TEST_BLOCK_NUMBER3);
+
+        // then
+        assertThat(blockStreamStateManager.isBlockBuffered(TEST_BLOCK_NUMBER)).isFalse();
+        assertThat(blockStreamStateManager.isBlockBuffered(TEST_BLOCK_NUMBER2)).isTrue();
+        assertThat(blockStreamStateManager.isBlockBuffered(TEST_BLOCK_NUMBER3)).isTrue();
+    }
+
+    @Test
+    void testRequestsOfSerializedItemsAreNotEncodedAgain() {
+        // given
+        var mockConfig = HederaTestConfigBuilder.create()
+                .withConfigDataType(BlockStreamConfig.class)
+                .withValue("blockStream.blockItemBatchSize", 2)
+                .getOrCreateConfig();
+        given(configProvider.getConfiguration()).willReturn(new VersionedConfigImpl(mockConfig, 1));
+        blockStreamStateManager = new BlockStreamStateManager(configProvider);
+        blockStreamStateManager.setBlockNodeConnectionManager(blockNodeConnectionManager);
+        var blockItem1 = BlockItem.newBuilder()
+                .blockHeader(BlockHeader.newBuilder().number(TEST_BLOCK_NUMBER).build())
+                .build();
+        var blockItem2 = BlockItem.newBuilder()
+                .transactionOutput(TransactionOutput.newBuilder().build())
+                .build();
+        var blockItem3 = BlockItem.newBuilder()
+                .transactionOutput(TransactionOutput.newBuilder().build())
+                .build();
+        var blockItem4 = BlockItem.newBuilder()
+                .transactionOutput(TransactionOutput.newBuilder().build())
+                .build();
+        var blockItem5 = BlockItem.newBuilder()
+                .blockProof(BlockProof.newBuilder().block(TEST_BLOCK_NUMBER).build())
+                .build();
+
+        // when
+        blockStreamStateManager.openBlock(TEST_BLOCK_NUMBER);
+        // all items of the first request carry their bytes
+        blockStreamStateManager.addItem(TEST_BLOCK_NUMBER, blockItem1, BlockItem.PROTOBUF.toBytes(blockItem1));
+        blockStreamStateManager.addItem(TEST_BLOCK_NUMBER, blockItem2, BlockItem.PROTOBUF.toBytes(blockItem2));
+        // only some items of the second request carry their bytes
+        blockStreamStateManager.addItem(TEST_BLOCK_NUMBER, blockItem3, BlockItem.PROTOBUF.toBytes(blockItem3));
+        blockStreamStateManager.addItem(TEST_BLOCK_NUMBER, blockItem4);
+        // no item of the last request carries its bytes
+        blockStreamStateManager.addItem(TEST_BLOCK_NUMBER, blockItem5);
+        blockStreamStateManager.closeBlock(TEST_BLOCK_NUMBER);
+
+        // then
+        final var requests = blockStreamStateManager.getBlockState(TEST_BLOCK_NUMBER).requests();
+        assertThat(requests).hasSize(3);
+        for (final var request : requests) {
+            assertThat(blockStreamStateManager.serializedRequest(request))
+                    .isEqualTo(PublishStreamRequest.PROTOBUF.toBytes(request));
+        }
+        // the request assembled from serialized items is cached and shared, the others are encoded on each call
+        assertThat(blockStreamStateManager.serializedRequest(requests.get(0)))
+                .isSameAs(blockStreamStateManager.serializedRequest(requests.get(0)));
+        assertThat(blockStreamStateManager.serializedRequest(requests.get(1)))
+                .isNotSameAs(blockStreamStateManager.serializedRequest(requests.get(1)));
+        assertThat(blockStreamStateManager.serializedRequest(requests.get(2)))
+                .isNotSameAs(blockStreamStateManager.serializedRequest(requests.get(2)));
+    }
 }
@@ -49,6 +49,22 @@ class GrpcBlockItemWriterTest {
         verify(blockStreamStateManager).addItem(0L, proof);
     }
 
+    @Test
+    void testWriteItemWithBytes() {
+        GrpcBlockItemWriter grpcBlockItemWriter = new GrpcBlockItemWriter(blockStreamStateManager);
+
+        final var proof = BlockItem.newBuilder()
+                .blockProof(BlockProof.newBuilder()
+                        .blockSignature(Bytes.wrap(new byte[] {1, 2, 3}))
+                        .siblingHashes(new ArrayList<>()))
+                .build();
+        final var serialized = BlockItem.PROTOBUF.toBytes(proof);
+
+        grpcBlockItemWriter.writePbjItemAndBytes(proof, serialized);
+
+        verify(blockStreamStateManager).addItem(0L, proof, serialized);
+    }
+
     @Test
     void testCloseBlock() {
         GrpcBlockItemWriter grpcBlockItemWriter = new GrpcBlockItemWriter(blockStreamStateManager);
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.fees;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -16,9 +17,12 @@ import com.hedera.node.app.fixtures.state.FakeState;
 import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.pbj.runtime.OneOf;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -97,4 +101,11 @@ public class FeeCalculatorImplTest {
         calculator.getCongestionMultiplier();
         verify(congestionMultipliers).maxCurrentMultiplier(any(TransactionInfo.class), eq(storeFactory));
     }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {"", "Test", "caf\u00e9", "\u20ac100", "\ud83d\ude00 ok", "\ud83d", "a\ude00b", "\ud83d\ud83d"})
+    void utf8LengthMatchesEncodedLength(final String memo) {
+        assertEquals(memo.getBytes(StandardCharsets.UTF_8).length, FeeCalculatorImpl.utf8Length(memo));
+    }
 }
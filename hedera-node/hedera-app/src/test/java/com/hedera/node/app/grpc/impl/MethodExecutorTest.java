@@ -0,0 +1,132 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.grpc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class MethodExecutorTest {
+    @Test
+    void invalidArgumentsThrow() {
+        //noinspection ConstantConditions
+        assertThatThrownBy(() -> new MethodExecutor(null, 1, 0, false)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new MethodExecutor("test", 0, 0, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MethodExecutor("test", 1, -1, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void directExecutorRunsOnCallingThread() {
+        final var thread = Thread.currentThread();
+        final var ran = new AtomicBoolean(false);
+
+        assertThat(MethodExecutor.DIRECT.tryExecute(() -> ran.set(Thread.currentThread() == thread)))
+                .isTrue();
+        assertThat(ran.get()).isTrue();
+    }
+
+    @ParameterizedTest(name = "With virtual threads: {0}")
+    @ValueSource(booleans = {false, true})
+    void acceptsNoMoreCallsThanThreadsAndQueueDepth(final boolean useVirtualThreads) throws InterruptedException {
+        // Given an executor running up to two calls at a time, with up to one more waiting
+        final var subject = new MethodExecutor("test", 2, 1, useVirtualThreads);
+        final var started = new CountDownLatch(2);
+        final var release = new CountDownLatch(1);
+        final var done = new CountDownLatch(3);
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final Runnable call = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+                done.countDown();
+            }
+        };
+
+        // When four calls are submitted while the first ones are blocked
+        assertThat(subject.tryExecute(call)).isTrue();
+        assertThat(subject.tryExecute(call)).isTrue();
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(subject.tryExecute(call)).isTrue();
+
+        // Then the fourth is not accepted
+        assertThat(subject.tryExecute(call)).isFalse();
+        assertThat(subject.pendingCalls()).isEqualTo(3);
+
+        // And all accepted calls complete, never more than two at a time
+        release.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @ParameterizedTest(name = "With virtual threads: {0}")
+    @ValueSource(booleans = {false, true})
+    void stoppedExecutorRejectsCallsUntilStartedAgain(final boolean useVirtualThreads) throws InterruptedException {
+        // Given an executor with a call in progress
+        final var subject = new MethodExecutor("test", 2, 1, useVirtualThreads);
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var done = new CountDownLatch(1);
+        assertThat(subject.tryExecute(() -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }))
+                .isTrue();
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // When it is stopped, then the call in progress completes, but no new call is accepted
+        subject.stop();
+        assertThat(subject.tryExecute(() -> {})).isFalse();
+        release.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(subject.tryExecute(() -> {})).isFalse();
+
+        // And once it is started again, calls are accepted and handled
+        subject.start();
+        final var handled = new CountDownLatch(1);
+        assertThat(subject.tryExecute(handled::countDown)).isTrue();
+        assertThat(handled.await(10, TimeUnit.SECONDS)).isTrue();
+        subject.stop();
+    }
+
+    @Test
+    void onlyCallsOnVirtualThreadsPoolResponseBuffers() {
+        final var virtual = new MethodExecutor("test", 2, 1, true);
+        final var platform = new MethodExecutor("test", 2, 1, false);
+
+        assertThat(virtual.responseBufferPool()).isEmpty();
+        assertThat(platform.responseBufferPool()).isNull();
+        assertThat(MethodExecutor.DIRECT.responseBufferPool()).isNull();
+        virtual.stop();
+        platform.stop();
+    }
+
+    @Test
+    void directExecutorIgnoresStartAndStop() {
+        final var ran = new AtomicBoolean(false);
+
+        MethodExecutor.DIRECT.stop();
+        assertThat(MethodExecutor.DIRECT.tryExecute(() -> ran.set(true))).isTrue();
+        MethodExecutor.DIRECT.start();
+        assertThat(ran.get()).isTrue();
+    }
+}
@@ -14,12 +14,15 @@ import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.metrics.api.Counter;
 import com.swirlds.metrics.api.Metrics;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -153,6 +156,29 @@ final class QueryMethodTest {
         verify(streamObserver).onError(Mockito.any());
     }
 
+    @Test
+    void rejectsCallsBeyondTheMethodLimitWithResourceExhausted(
+            @Mock final StreamObserver<BufferedData> streamObserver) {
+        // Given a QueryMethod that accepts no more than one query at a time
+        final var inner = new AtomicBoolean(false);
+        final var method = new AtomicReference<QueryMethod>();
+        final QueryWorkflow w = (req, res) -> {
+            if (!inner.getAndSet(true)) {
+                // When another query arrives while the first one is answered
+                method.get().invoke(BufferedData.allocate(10), streamObserver);
+            }
+        };
+        method.set(new QueryMethod(SERVICE_NAME, METHOD_NAME, w, metrics, maxMessageSize, MethodExecutor.DIRECT, 1));
+        method.get().invoke(BufferedData.allocate(10), streamObserver);
+
+        // Then the other query was rejected with a gRPC error, since there is no generic busy query response
+        assertThat(counter("Busy").get()).isEqualTo(1L);
+        assertThat(counter("Sub").get()).isEqualTo(1L);
+        verify(streamObserver)
+                .onError(Mockito.argThat(e -> e instanceof StatusRuntimeException ex
+                        && ex.getStatus().getCode() == Status.Code.RESOURCE_EXHAUSTED));
+    }
+
     private Counter counter(String suffix) {
         return (Counter)
                 metrics.getMetric("app", SERVICE_NAME.substring("proto.".length()) + ":" + METHOD_NAME + suffix);
@@ -1,11 +1,14 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.grpc.impl;
 
+import static com.hedera.hapi.node.base.ResponseCodeEnum.BUSY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
+import com.hedera.hapi.node.transaction.TransactionResponse;
 import com.hedera.node.app.utils.TestUtils;
 import com.hedera.node.app.workflows.ingest.IngestWorkflow;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
@@ -15,9 +18,14 @@ import com.swirlds.metrics.api.Metrics;
 import io.grpc.stub.StreamObserver;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -141,6 +149,100 @@ final class TransactionMethodTest {
         verify(streamObserver).onError(Mockito.any());
     }
 
+    @Test
+    void handlesCallOnExecutorAndRejectsCallsBeyondItsCapacityAsBusy(
+            @Mock final StreamObserver<BufferedData> first, @Mock final StreamObserver<BufferedData> second)
+            throws InterruptedException {
+        // Given a TransactionMethod whose executor handles one call at a time, without any waiting
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final IngestWorkflow w = (req, res) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        final var executor = new MethodExecutor("test", 1, 0, false);
+        final var method = new TransactionMethod(SERVICE_NAME, METHOD_NAME, w, metrics, maxMessageSize, executor, 0);
+
+        // When a first call is still being handled while a second one arrives
+        method.invoke(BufferedData.allocate(100), first);
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        method.invoke(BufferedData.allocate(100), second);
+
+        // Then the second call is answered right away with a BUSY pre-check code
+        verify(second).onNext(Mockito.argThat(response -> {
+            try {
+                return TransactionResponse.PROTOBUF.parse(response).nodeTransactionPrecheckCode() == BUSY;
+            } catch (Exception e) {
+                return false;
+            }
+        }));
+        verify(second).onCompleted();
+        assertThat(counter("Busy").get()).isEqualTo(1L);
+
+        // And the first call completes once the workflow returns
+        release.countDown();
+        verify(first, timeout(10_000)).onCompleted();
+    }
+
+    @Test
+    void callsOnVirtualThreadsShareResponseBuffers(@Mock final StreamObserver<BufferedData> streamObserver)
+            throws InterruptedException {
+        // Given a TransactionMethod whose calls each run on a new virtual thread
+        final var responseBuffers = Collections.newSetFromMap(new IdentityHashMap<BufferedData, Boolean>());
+        final IngestWorkflow w = (req, res) -> {
+            synchronized (responseBuffers) {
+                responseBuffers.add(res);
+            }
+        };
+        final var executor = new MethodExecutor("test", 1, 0, true);
+        final var method = new TransactionMethod(SERVICE_NAME, METHOD_NAME, w, metrics, maxMessageSize, executor, 0);
+
+        // When calls are handled one after the other
+        for (int i = 0; i < 3; i++) {
+            method.invoke(BufferedData.allocate(100), streamObserver);
+            awaitNoPendingCalls(executor);
+        }
+
+        // Then they all responded from the same buffer, which is back in the pool
+        verify(streamObserver, Mockito.times(3)).onCompleted();
+        assertThat(responseBuffers).hasSize(1);
+        assertThat(executor.responseBufferPool()).containsExactlyElementsOf(responseBuffers);
+        executor.stop();
+    }
+
+    private static void awaitNoPendingCalls(final MethodExecutor executor) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.pendingCalls() > 0) {
+            assertThat(System.nanoTime()).as("calls still pending").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void rejectsCallsBeyondTheMethodLimitAsBusy(@Mock final StreamObserver<BufferedData> streamObserver) {
+        // Given a TransactionMethod that accepts no more than one call at a time
+        final var inner = new AtomicBoolean(false);
+        final var method = new AtomicReference<TransactionMethod>();
+        final IngestWorkflow w = (req, res) -> {
+            if (!inner.getAndSet(true)) {
+                // When another call arrives while the first one is handled
+                method.get().invoke(BufferedData.allocate(10), streamObserver);
+            }
+        };
+        method.set(new TransactionMethod(
+                SERVICE_NAME, METHOD_NAME, w, metrics, maxMessageSize, MethodExecutor.DIRECT, 1));
+        method.get().invoke(BufferedData.allocate(10), streamObserver);
+
+        // Then the other call was rejected, but the first was handled
+        assertThat(counter("Busy").get()).isEqualTo(1L);
+        assertThat(counter("Hdl").get()).isEqualTo(1L);
+        verify(streamObserver, Mockito.times(2)).onCompleted();
+    }
+
     private Counter counter(String suffix) {
         return (Counter)
                 metrics.getMetric("app", SERVICE_NAME.substring("proto.".length()) + ":" + METHOD_NAME + suffix);
@@ -0,0 +1,120 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.signature;
+
+import static com.hedera.node.app.fixtures.signature.ExpandedSignaturePairFactory.ecdsaPair;
+import static com.hedera.node.app.fixtures.signature.ExpandedSignaturePairFactory.ed25519Pair;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.base.crypto.VerificationStatus.INVALID;
+import static org.hiero.base.crypto.VerificationStatus.VALID;
+
+import com.hedera.hapi.node.base.Key;
+import com.hedera.node.app.fixtures.AppTestBase;
+import com.hedera.node.app.signature.impl.SignatureVerificationFutureImpl;
+import com.hedera.node.app.spi.fixtures.Scenarios;
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.metrics.api.Metrics;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import org.hiero.base.crypto.SignatureType;
+import org.hiero.base.crypto.TransactionSignature;
+import org.hiero.base.crypto.VerificationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class VerifiedSignatureCacheTest extends AppTestBase implements Scenarios {
+    private final Metrics metrics = TestUtils.metrics();
+
+    private Bytes signedBytes;
+    private ExpandedSignaturePair ed25519;
+    private ExpandedSignaturePair ecdsa;
+    private ExpandedSignaturePair other;
+
+    @BeforeEach
+    void setUp() {
+        signedBytes = randomBytes(64);
+        ed25519 = ed25519Pair(FAKE_ED25519_KEY_INFOS[0].publicKey());
+        ecdsa = ecdsaPair(FAKE_ECDSA_KEY_INFOS[0].publicKey());
+        other = ed25519Pair(FAKE_ED25519_KEY_INFOS[1].publicKey());
+    }
+
+    private VerifiedSignatureCache createSubject(final int maxSize) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("cache.verifiedSignatures.maxSize", maxSize)
+                .getOrCreateConfig();
+        return new VerifiedSignatureCache(metrics, () -> new VersionedConfigImpl(config, 1));
+    }
+
+    private static Map<Key, SignatureVerificationFuture> results(
+            final Bytes signedBytes, final VerificationStatus status, final ExpandedSignaturePair... sigPairs) {
+        final var results = new HashMap<Key, SignatureVerificationFuture>();
+        for (final var sigPair : sigPairs) {
+            final var txSig = new TransactionSignature(
+                    signedBytes, sigPair.keyBytes(), sigPair.signature(), SignatureType.ED25519);
+            txSig.setSignatureStatus(status);
+            results.put(sigPair.key(), new SignatureVerificationFutureImpl(sigPair.key(), null, txSig));
+        }
+        return results;
+    }
+
+    private long counter(final String name) {
+        return (long) metrics.getMetric("app", name).get(VALUE);
+    }
+
+    @Test
+    void recordedSignaturesAreTakenOutAsPassed() throws Exception {
+        final var subject = createSubject(100);
+        subject.recordVerified(
+                signedBytes, new LinkedHashSet<>(List.of(ed25519, ecdsa)), results(signedBytes, VALID, ed25519, ecdsa));
+
+        final var toVerify = new LinkedHashSet<>(List.of(ed25519, ecdsa, other));
+        final var verified = subject.takeVerified(signedBytes, toVerify);
+
+        assertThat(toVerify).containsExactly(other);
+        assertThat(verified).containsOnlyKeys(ed25519.key(), ecdsa.key());
+        for (final var future : verified.values()) {
+            assertThat(future.isDone()).isTrue();
+            assertThat(future.get().passed()).isTrue();
+        }
+        assertThat(counter("verifiedSigCacheHits")).isEqualTo(2L);
+        assertThat(counter("verifiedSigCacheMisses")).isEqualTo(1L);
+    }
+
+    @Test
+    void failedVerificationsAreNotRecorded() {
+        final var subject = createSubject(100);
+        subject.recordVerified(
+                signedBytes, new LinkedHashSet<>(List.of(ed25519)), results(signedBytes, INVALID, ed25519));
+
+        final var toVerify = new LinkedHashSet<>(List.of(ed25519));
+        assertThat(subject.takeVerified(signedBytes, toVerify)).isEmpty();
+        assertThat(toVerify).containsExactly(ed25519);
+    }
+
+    @Test
+    void signaturesOverOtherBytesAreNotTaken() {
+        final var subject = createSubject(100);
+        subject.recordVerified(
+                signedBytes, new LinkedHashSet<>(List.of(ed25519)), results(signedBytes, VALID, ed25519));
+
+        final var toVerify = new LinkedHashSet<>(List.of(ed25519));
+        assertThat(subject.takeVerified(randomBytes(64), toVerify)).isEmpty();
+        assertThat(toVerify).containsExactly(ed25519);
+    }
+
+    @Test
+    void disabledCacheNeverHits() {
+        final var subject = createSubject(0);
+        subject.recordVerified(
+                signedBytes, new LinkedHashSet<>(List.of(ed25519)), results(signedBytes, VALID, ed25519));
+
+        final var toVerify = new LinkedHashSet<>(List.of(ed25519));
+        assertThat(subject.takeVerified(signedBytes, toVerify)).isEmpty();
+        assertThat(toVerify).containsExactly(ed25519);
+    }
+}
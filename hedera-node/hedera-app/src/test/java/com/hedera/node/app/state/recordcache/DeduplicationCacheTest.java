@@ -5,14 +5,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.lenient;
 
+import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfiguration;
 import com.hedera.node.config.data.HederaConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.time.Instant;
 import java.time.InstantSource;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,7 +35,8 @@ final class DeduplicationCacheTest {
     @Mock
     private ConfigProvider props;
 
-    private final InstantSource instantSource = InstantSource.system();
+    private Instant now = Instant.now();
+    private final InstantSource instantSource = () -> now;
 
     @BeforeEach
     void setUp(@Mock final VersionedConfiguration versionedConfig, @Mock final HederaConfig hederaConfig) {
@@ -54,7 +59,6 @@ final class DeduplicationCacheTest {
     @DisplayName("Add a transaction ID that has expired")
     void addTransactionIDThatHasExpired() {
         // Given a transaction ID that has expired
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
                         .seconds(now.getEpochSecond() - MAX_TXN_DURATION - 1)
@@ -65,7 +69,7 @@ final class DeduplicationCacheTest {
         cache.add(txId);
 
         // Then it is not added!
-        assertThat(internalSet()).isEmpty();
+        assertThat(cachedCount()).isZero();
         assertThat(cache.contains(txId)).isFalse();
     }
 
@@ -73,7 +77,6 @@ final class DeduplicationCacheTest {
     @DisplayName("Add a transaction ID that is far in the future")
     void addTransactionIDInTheFuture() {
         // Given a transaction ID that is far in the future
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
                         .seconds(now.getEpochSecond() + MAX_TXN_DURATION + 1)
@@ -85,7 +88,7 @@ final class DeduplicationCacheTest {
 
         // We allow it to be added. The TransactionChecker is responsible for filtering out future transactions,
         // not this cache.
-        assertThat(internalSet()).containsExactly(txId);
+        assertThat(cachedCount()).isEqualTo(1);
         assertThat(cache.contains(txId)).isTrue();
     }
 
@@ -93,7 +96,6 @@ final class DeduplicationCacheTest {
     @DisplayName("Add a transaction ID that is in the right time window")
     void addTransactionIDInTheRightTimeWindow() {
         // Given a transaction ID that is in the right time window
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
                         .seconds(now.getEpochSecond() + MAX_TXN_DURATION / 2)
@@ -104,19 +106,19 @@ final class DeduplicationCacheTest {
         cache.add(txId);
 
         // Then it is added
-        assertThat(internalSet()).containsExactly(txId);
+        assertThat(cachedCount()).isEqualTo(1);
         assertThat(cache.contains(txId)).isTrue();
     }
 
     @Test
-    @DisplayName("TransactionIDs are sorted by earliest date first")
-    void transactionIDsAreSortedByEarliestDateFirst() {
-        // Given some transaction IDs with different valid start times
-        final var now = Instant.now();
+    @DisplayName("TransactionIDs are bucketed by valid start second")
+    void transactionIDsAreBucketedByValidStartSecond() {
+        // Given some transaction IDs with different valid start times, some sharing a second
         final var txIds = Stream.of(17, 16, 10, 13, 19, 14, 11, 18, 12, 15)
                 .map(i -> TransactionID.newBuilder()
                         .transactionValidStart(Timestamp.newBuilder()
-                                .seconds(now.getEpochSecond() + i)
+                                .seconds(now.getEpochSecond() + i / 2)
+                                .nanos(i)
                                 .build())
                         .build())
                 .toList();
@@ -124,32 +126,69 @@ final class DeduplicationCacheTest {
         // When we add them to the cache
         txIds.forEach(cache::add);
 
-        // Then they are added in order
-        assertThat(internalSet())
-                .containsExactly(
-                        txIds.get(2),
-                        txIds.get(6),
-                        txIds.get(8),
-                        txIds.get(3),
-                        txIds.get(5),
-                        txIds.get(9),
-                        txIds.get(1),
-                        txIds.get(0),
-                        txIds.get(7),
-                        txIds.get(4));
+        // Then they are all contained, in one bucket per second
+        assertThat(txIds).allMatch(cache::contains);
+        assertThat(cachedCount()).isEqualTo(10);
+        assertThat(internalBuckets()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("TransactionIDs differing in any field are distinct")
+    void transactionIDsDifferingInAnyFieldAreDistinct() {
+        // Given a transaction ID and variations of it in each field
+        final var txId = TransactionID.newBuilder()
+                .transactionValidStart(Timestamp.newBuilder()
+                        .seconds(now.getEpochSecond())
+                        .nanos(1)
+                        .build())
+                .accountID(AccountID.newBuilder().accountNum(1001L).build())
+                .build();
+        final var variations = List.of(
+                txId.copyBuilder()
+                        .transactionValidStart(Timestamp.newBuilder()
+                                .seconds(now.getEpochSecond())
+                                .nanos(2)
+                                .build())
+                        .build(),
+                txId.copyBuilder()
+                        .accountID(AccountID.newBuilder().accountNum(1002L).build())
+                        .build(),
+                txId.copyBuilder()
+                        .accountID(AccountID.newBuilder()
+                                .realmNum(1L)
+                                .accountNum(1001L)
+                                .build())
+                        .build(),
+                txId.copyBuilder()
+                        .accountID(AccountID.newBuilder()
+                                .alias(Bytes.wrap(new byte[] {1, 2, 3}))
+                                .build())
+                        .build(),
+                txId.copyBuilder().scheduled(true).build(),
+                txId.copyBuilder().nonce(1).build());
+
+        // When we add only the transaction ID
+        cache.add(txId);
+
+        // Then none of the variations are contained, until they are added too
+        assertThat(cache.contains(txId)).isTrue();
+        assertThat(variations).noneMatch(cache::contains);
+        variations.forEach(cache::add);
+        assertThat(variations).allMatch(cache::contains);
+        assertThat(cachedCount()).isEqualTo(7);
     }
 
     @Test
     @DisplayName("TransactionIDs that expire are removed during add")
     void expungeDuringAdd() {
         // Given a transaction ID that has expired but is still in the cache
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
-                        .seconds(now.getEpochSecond() - MAX_TXN_DURATION - 1)
+                        .seconds(now.getEpochSecond() - MAX_TXN_DURATION)
                         .build())
                 .build();
-        internalSet().add(txId);
+        cache.add(txId);
+        now = now.plusSeconds(1);
 
         // When we add a new transaction ID that is in the right time window
         final var txId2 = TransactionID.newBuilder()
@@ -160,34 +199,33 @@ final class DeduplicationCacheTest {
         cache.add(txId2);
 
         // Then we find that the expired transaction ID is gone
-        assertThat(internalSet()).containsExactly(txId2);
+        assertThat(cachedCount()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("TransactionIDs that expire are not returned by `contains`")
     void expiredNotContained() {
         // Given a transaction ID that has expired but is still in the cache
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
-                        .seconds(now.getEpochSecond() - MAX_TXN_DURATION - 1)
+                        .seconds(now.getEpochSecond() - MAX_TXN_DURATION)
                         .build())
                 .build();
-        internalSet().add(txId);
+        cache.add(txId);
+        now = now.plusSeconds(1);
 
         // When we check to see if it is in the cache
         final var result = cache.contains(txId);
 
         // Then we find that the expired transaction ID is gone
         assertThat(result).isFalse();
-        assertThat(internalSet()).isEmpty();
+        assertThat(cachedCount()).isZero();
     }
 
     @Test
     @DisplayName("Duplicates are ignored")
     void duplicatesAreIgnored() {
         // Given a transaction ID that is in the right time window
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
                         .seconds(now.getEpochSecond() + MAX_TXN_DURATION / 2)
@@ -199,22 +237,31 @@ final class DeduplicationCacheTest {
         cache.add(txId);
 
         // Then it is added only once
-        assertThat(internalSet()).containsExactly(txId);
+        assertThat(cachedCount()).isEqualTo(1);
         assertThat(cache.contains(txId)).isTrue();
     }
 
     /**
-     * Utility method for testing purposes that gets at the internal Set used by the cache. This makes it possible to
-     * test more completely without having to open the access permissions on the cache itself.
+     * Utility method for testing purposes that counts the transaction IDs in all buckets of the cache.
+     *
+     * @return The number of cached transaction IDs.
+     */
+    private int cachedCount() {
+        return internalBuckets().values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Utility method for testing purposes that gets at the internal buckets used by the cache. This makes it possible
+     * to test more completely without having to open the access permissions on the cache itself.
      *
-     * @return The internal Set of the cache.
+     * @return The internal buckets of the cache.
      */
-    private Set<TransactionID> internalSet() {
+    private Map<Long, Set<Object>> internalBuckets() {
         try {
             final var field = DeduplicationCacheImpl.class.getDeclaredField("submittedTxns");
             field.setAccessible(true);
             //noinspection unchecked
-            return (Set<TransactionID>) field.get(cache);
+            return (Map<Long, Set<Object>>) field.get(cache);
         } catch (NoSuchFieldException | IllegalAccessException e) {
             throw new RuntimeException(e);
         }
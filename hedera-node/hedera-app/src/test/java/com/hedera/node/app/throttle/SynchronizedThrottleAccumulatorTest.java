@@ -1,15 +1,17 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.throttle;
 
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_GET_ACCOUNT_BALANCE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.hapi.node.base.AccountID;
-import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.transaction.Query;
+import com.hedera.node.app.throttle.ThrottleAccumulator.ThrottleInputs;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.swirlds.state.State;
 import java.time.InstantSource;
@@ -41,12 +43,14 @@ class SynchronizedThrottleAccumulatorTest {
     void verifyCheckAndEnforceThrottleIsCalled() {
         // given
         final var state = mock(State.class);
+        final var inputs = new ThrottleInputs(1, 2, false);
+        given(throttleAccumulator.throttleInputsFor(transactionInfo, state)).willReturn(inputs);
 
         // when
         subject.shouldThrottle(transactionInfo, state);
 
         // then
-        verify(throttleAccumulator, times(1)).checkAndEnforceThrottle(eq(transactionInfo), any(), eq(state));
+        verify(throttleAccumulator, times(1)).checkAndEnforceThrottle(eq(transactionInfo), any(), eq(inputs));
     }
 
     @Test
@@ -55,13 +59,15 @@ class SynchronizedThrottleAccumulatorTest {
         final var query = mock(Query.class);
         final var state = mock(State.class);
         final var accountID = mock(AccountID.class);
+        given(throttleAccumulator.getQueryAssociationCount(CRYPTO_GET_ACCOUNT_BALANCE, query, state))
+                .willReturn(3);
 
         // when
-        subject.shouldThrottle(HederaFunctionality.CONTRACT_CREATE, query, state, accountID);
+        subject.shouldThrottle(CRYPTO_GET_ACCOUNT_BALANCE, query, state, accountID);
 
         // then
         verify(throttleAccumulator, times(1))
                 .checkAndEnforceThrottle(
-                        eq(HederaFunctionality.CONTRACT_CREATE), any(), eq(query), eq(state), eq(accountID));
+                        eq(CRYPTO_GET_ACCOUNT_BALANCE), any(), eq(query), eq(3), eq(accountID));
     }
 }
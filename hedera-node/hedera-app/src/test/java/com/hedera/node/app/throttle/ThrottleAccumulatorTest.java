@@ -4,6 +4,7 @@ package com.hedera.node.app.throttle;
 import static com.hedera.hapi.node.base.HederaFunctionality.CONSENSUS_SUBMIT_MESSAGE;
 import static com.hedera.hapi.node.base.HederaFunctionality.CONTRACT_CALL;
 import static com.hedera.hapi.node.base.HederaFunctionality.CONTRACT_CREATE;
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_CREATE;
 import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_GET_ACCOUNT_BALANCE;
 import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_TRANSFER;
 import static com.hedera.hapi.node.base.HederaFunctionality.ETHEREUM_TRANSACTION;
@@ -30,6 +31,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.protobuf.ByteString;
@@ -780,6 +782,61 @@ class ThrottleAccumulatorTest {
         assertFalse(ans);
     }
 
+    @Test
+    void readsInputsOfCryptoTransferFromState() {
+        // given
+        subject = new ThrottleAccumulator(
+                () -> CAPACITY_SPLIT,
+                configProvider::getConfiguration,
+                FRONTEND_THROTTLE,
+                throttleMetrics,
+                gasThrottle,
+                bytesThrottle);
+        given(transactionInfo.functionality()).willReturn(CRYPTO_TRANSFER);
+        givenTransferWithImplicitCreations(2);
+        given(state.getReadableStates(any())).willReturn(readableStates);
+        given(readableStates.get(any())).willReturn(aliases);
+
+        // when
+        final var inputs = subject.throttleInputsFor(transactionInfo, state);
+
+        // then
+        assertEquals(new ThrottleAccumulator.ThrottleInputs(2, 0, false), inputs);
+    }
+
+    @Test
+    void usesGivenInputsWithoutReadingState() throws IOException, ParseException {
+        // given
+        subject = new ThrottleAccumulator(
+                () -> CAPACITY_SPLIT,
+                configProvider::getConfiguration,
+                FRONTEND_THROTTLE,
+                throttleMetrics,
+                gasThrottle,
+                bytesThrottle);
+        given(configProvider.getConfiguration()).willReturn(configuration);
+        given(configuration.getConfigData(AccountsConfig.class)).willReturn(accountsConfig);
+        given(accountsConfig.lastThrottleExempt()).willReturn(100L);
+        given(configuration.getConfigData(ContractsConfig.class)).willReturn(contractsConfig);
+        given(contractsConfig.throttleThrottleByGas()).willReturn(false);
+        given(configuration.getConfigData(JumboTransactionsConfig.class)).willReturn(jumboTransactionsConfig);
+        given(jumboTransactionsConfig.isEnabled()).willReturn(false);
+        given(configuration.getConfigData(EntitiesConfig.class)).willReturn(entitiesConfig);
+        given(transactionInfo.payerID())
+                .willReturn(AccountID.newBuilder().accountNum(1234L).build());
+        given(transactionInfo.functionality()).willReturn(CRYPTO_TRANSFER);
+        subject.rebuildFor(getThrottleDefs("bootstrap/throttles.json"));
+
+        // when
+        final var ans = subject.checkAndEnforceThrottle(
+                transactionInfo, TIME_INSTANT, new ThrottleAccumulator.ThrottleInputs(1, 0, false));
+
+        // then
+        assertFalse(ans);
+        assertTrue(subject.activeThrottlesFor(CRYPTO_CREATE).getFirst().used() > 0);
+        verifyNoInteractions(state);
+    }
+
     @ParameterizedTest
     @EnumSource(value = ThrottleAccumulator.ThrottleType.class, mode = EnumSource.Mode.EXCLUDE, names = "NOOP_THROTTLE")
     void managerAllowsCryptoTransfersWithAutoAssociationsAsExpected(ThrottleAccumulator.ThrottleType throttleType)
@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class ParallelGzipOutputStreamTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static byte[] gunzip(final byte[] compressed) throws IOException {
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 1023, 1024, 1025, 100_000})
+    void decompressesToTheBytesWritten(final int length) throws IOException {
+        final var bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        // make part of the data compressible
+        for (int i = 0; i < length / 2; i++) {
+            bytes[i] = (byte) (i % 7);
+        }
+        final var compressed = new ByteArrayOutputStream();
+
+        try (final var out = new ParallelGzipOutputStream(compressed, executor, 1024, 2)) {
+            out.write(bytes, 0, length / 3);
+            if (length > 0) {
+                out.write(bytes[length / 3]);
+            }
+            out.flush();
+            out.write(bytes, length / 3 + Math.min(1, length), length - length / 3 - Math.min(1, length));
+        }
+
+        assertThat(gunzip(compressed.toByteArray())).isEqualTo(bytes);
+    }
+
+    @Test
+    void cannotWriteAfterClose() throws IOException {
+        final var out = new ParallelGzipOutputStream(new ByteArrayOutputStream(), executor, 1024, 2);
+        out.close();
+        out.close();
+
+        assertThatThrownBy(() -> out.write(1)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @SuppressWarnings("resource")
+    void rejectsInvalidSizes() {
+        final var out = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> new ParallelGzipOutputStream(out, executor, 0, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ParallelGzipOutputStream(out, executor, 1024, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -40,6 +40,7 @@ import com.hedera.node.app.throttle.CongestionMetrics;
 import com.hedera.node.app.throttle.ThrottleServiceManager;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.handle.cache.CacheWarmer;
+import com.hedera.node.app.workflows.handle.metric.RoundConflictAnalyzer;
 import com.hedera.node.app.workflows.handle.record.SystemTransactions;
 import com.hedera.node.app.workflows.handle.steps.HollowAccountCompletions;
 import com.hedera.node.app.workflows.handle.steps.ParentTxnFactory;
@@ -109,6 +110,9 @@ class HandleWorkflowTest {
     @Mock
     private CacheWarmer cacheWarmer;
 
+    @Mock
+    private RoundConflictAnalyzer roundConflictAnalyzer;
+
     @Mock
     private ScheduleService scheduleService;
 
@@ -475,6 +479,7 @@ class HandleWorkflowTest {
                 () -> PlatformStatus.ACTIVE,
                 blockHashSigner,
                 null,
-                nodeRewardManager);
+                nodeRewardManager,
+                roundConflictAnalyzer);
     }
 }
@@ -1,15 +1,51 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.workflows.handle.cache;
 
+import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.spi.workflows.WarmupContext;
+import com.hedera.node.app.utils.TestUtils;
 import com.hedera.node.app.workflows.TransactionChecker;
+import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
+import com.hedera.node.app.workflows.prehandle.PreHandleResult;
 import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.VersionedConfiguration;
+import com.hedera.node.config.data.CacheConfig;
 import com.hedera.node.config.data.HederaConfig;
+import com.hedera.node.config.data.StatsConfig;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.state.State;
+import com.swirlds.state.spi.ReadableKVState;
+import com.swirlds.state.spi.ReadableStates;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.hiero.consensus.model.hashgraph.Round;
+import org.hiero.consensus.model.transaction.ConsensusTransaction;
+import org.hiero.consensus.model.transaction.TransactionWrapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +54,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class CacheWarmerTest {
+    private static final AccountID PAYER_A = AccountID.newBuilder().accountNum(1001).build();
+    private static final AccountID PAYER_B = AccountID.newBuilder().accountNum(1002).build();
+    private static final AccountID PAYER_C = AccountID.newBuilder().accountNum(1003).build();
+
+    private final Metrics metrics = TestUtils.metrics();
+
+    private final List<Runnable> tasks = new ArrayList<>();
 
     @Mock
     TransactionChecker checker;
@@ -34,14 +77,182 @@ class CacheWarmerTest {
     @Mock
     HederaConfig hederaConfig;
 
+    @Mock
+    CacheConfig cacheConfig;
+
+    @Mock
+    StatsConfig statsConfig;
+
+    @Mock(strictness = LENIENT)
+    State state;
+
+    @Mock(strictness = LENIENT)
+    ReadableStates readableStates;
+
+    @Mock
+    ReadableKVState<AccountID, Account> accounts;
+
+    @Mock
+    Round round;
+
     @Test
     @DisplayName("Instantiation test")
     void testInstantiation() {
         when(configProvider.getConfiguration()).thenReturn(versionedConfiguration);
         when(versionedConfiguration.getConfigData(HederaConfig.class)).thenReturn(hederaConfig);
+        when(versionedConfiguration.getConfigData(CacheConfig.class)).thenReturn(cacheConfig);
+        when(versionedConfiguration.getConfigData(StatsConfig.class)).thenReturn(statsConfig);
 
-        final var cacheWarmer =
-                new CacheWarmer(checker, dispatcher, Runnable::run, SemanticVersion.DEFAULT, configProvider);
+        final var cacheWarmer = new CacheWarmer(
+                checker, dispatcher, Runnable::run, SemanticVersion.DEFAULT, configProvider, TestUtils.metrics());
         assertThat(cacheWarmer).isInstanceOf(CacheWarmer.class);
     }
+
+    @Test
+    @DisplayName("Each payer is warmed once per round, and every transaction is warmed")
+    void warmsEachPayerOncePerRound() {
+        final var transactions = transactionsPaidBy(PAYER_A, PAYER_B, PAYER_A, PAYER_C, PAYER_B);
+        final var cacheWarmer = cacheWarmer(2, 2, Runnable::run);
+
+        cacheWarmer.warm(state, round);
+
+        verify(accounts).warm(PAYER_A);
+        verify(accounts).warm(PAYER_B);
+        verify(accounts).warm(PAYER_C);
+        verify(dispatcher, times(transactions.size())).dispatchWarmup(any());
+        transactions.forEach(cacheWarmer::recordHandled);
+        assertThat(counter("cacheWarmerWarmedInTime")).isEqualTo(transactions.size());
+        assertThat(counter("cacheWarmerNotWarmedInTime")).isZero();
+    }
+
+    @Test
+    @DisplayName("A key warmed by the handlers of several transactions is only warmed once per round")
+    void warmsEachKeyOncePerRound() {
+        final var transactions = transactionsPaidBy(PAYER_A, PAYER_B, PAYER_A);
+        final var cacheWarmer = cacheWarmer(2, 2, Runnable::run);
+        doAnswer(invocation -> {
+                    final WarmupContext context = invocation.getArgument(0);
+                    context.createStore(ReadableAccountStore.class).warm(PAYER_C);
+                    return null;
+                })
+                .when(dispatcher)
+                .dispatchWarmup(any());
+
+        cacheWarmer.warm(state, round);
+
+        verify(dispatcher, times(transactions.size())).dispatchWarmup(any());
+        verify(accounts).warm(PAYER_A);
+        verify(accounts).warm(PAYER_B);
+        verify(accounts).warm(PAYER_C);
+    }
+
+    @Test
+    @DisplayName("A transaction whose warmup fails does not stop the warmup of the others")
+    void warmsTheOtherTransactionsWhenOneFails() {
+        final var transactions = transactionsPaidBy(PAYER_A, PAYER_B, PAYER_C, PAYER_A);
+        final var cacheWarmer = cacheWarmer(4, 1, Runnable::run);
+        doThrow(new IllegalStateException("broken handler"))
+                .doNothing()
+                .when(dispatcher)
+                .dispatchWarmup(any());
+
+        cacheWarmer.warm(state, round);
+
+        verify(dispatcher, times(transactions.size())).dispatchWarmup(any());
+        transactions.forEach(cacheWarmer::recordHandled);
+        assertThat(counter("cacheWarmerWarmedInTime")).isEqualTo(3);
+        assertThat(counter("cacheWarmerNotWarmedInTime")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Each batch is split over the warm threads, in handle order")
+    void splitsEachBatchOverTheWarmThreads() {
+        final var transactions = transactionsPaidBy(PAYER_A, PAYER_B, PAYER_C, PAYER_A, PAYER_B, PAYER_C);
+        final var cacheWarmer = cacheWarmer(4, 2, tasks::add);
+
+        cacheWarmer.warm(state, round);
+        assertThat(tasks).hasSize(1);
+        tasks.removeFirst().run();
+
+        // The batch of 4 and the batch of 2 are each split over 2 tasks
+        assertThat(tasks).hasSize(4);
+        // The first task warms the 1st and 3rd transactions of the first batch
+        tasks.removeFirst().run();
+        verify(accounts).warm(PAYER_A);
+        verify(accounts).warm(PAYER_C);
+        verify(dispatcher, times(2)).dispatchWarmup(any());
+        cacheWarmer.recordHandled(transactions.get(0));
+        cacheWarmer.recordHandled(transactions.get(1));
+        cacheWarmer.recordHandled(transactions.get(2));
+        assertThat(counter("cacheWarmerWarmedInTime")).isEqualTo(2);
+        assertThat(counter("cacheWarmerNotWarmedInTime")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Only transactions of the round being warmed are counted")
+    void countsOnlyTransactionsOfTheRoundBeingWarmed() {
+        final var previousRound = transactionsPaidBy(PAYER_A);
+        final var cacheWarmer = cacheWarmer(2, 2, tasks::add);
+        cacheWarmer.warm(state, round);
+        final var transactions = transactionsPaidBy(PAYER_A, PAYER_B);
+        cacheWarmer.warm(state, round);
+
+        // Before the warmup of the round is even planned, its transactions are counted against it
+        cacheWarmer.recordHandled(transactions.get(0));
+        while (!tasks.isEmpty()) {
+            tasks.removeFirst().run();
+        }
+        cacheWarmer.recordHandled(transactions.get(1));
+        // A transaction that is not part of the round being warmed is neither a hit nor a miss
+        cacheWarmer.recordHandled(previousRound.getFirst());
+
+        assertThat(counter("cacheWarmerWarmedInTime")).isEqualTo(1);
+        assertThat(counter("cacheWarmerNotWarmedInTime")).isEqualTo(1);
+    }
+
+    private CacheWarmer cacheWarmer(final int batchSize, final int threads, final Executor executor) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("cache.warmBatchSize", batchSize)
+                .withValue("cache.warmThreads", threads)
+                .getOrCreateConfig();
+        when(configProvider.getConfiguration()).thenReturn(new VersionedConfigImpl(config, 1));
+        when(state.getReadableStates(any())).thenReturn(readableStates);
+        when(readableStates.<AccountID, Account>get("ACCOUNTS")).thenReturn(accounts);
+        return new CacheWarmer(checker, dispatcher, executor, SemanticVersion.DEFAULT, configProvider, metrics);
+    }
+
+    /**
+     * Makes the round consist of transactions parsed in pre-handle, paid by the given payers in order.
+     */
+    private List<ConsensusTransaction> transactionsPaidBy(final AccountID... payers) {
+        final List<ConsensusTransaction> transactions = new ArrayList<>();
+        for (final var payer : payers) {
+            final var txBody = TransactionBody.newBuilder()
+                    .transactionID(TransactionID.newBuilder().accountID(payer))
+                    .build();
+            final var txInfo = new TransactionInfo(
+                    Transaction.DEFAULT,
+                    txBody,
+                    SignatureMap.DEFAULT,
+                    Bytes.EMPTY,
+                    HederaFunctionality.CRYPTO_TRANSFER,
+                    null);
+            final var transaction = new TransactionWrapper(Bytes.EMPTY);
+            transaction.setMetadata(new PreHandleResult(
+                    payer, null, PreHandleResult.Status.SO_FAR_SO_GOOD, OK, txInfo, null, null, null, null, null, 1));
+            transactions.add(transaction);
+        }
+        doAnswer(invocation -> {
+                    final Consumer<ConsensusTransaction> consumer = invocation.getArgument(0);
+                    transactions.forEach(consumer);
+                    return null;
+                })
+                .when(round)
+                .forEachTransaction(any());
+        return transactions;
+    }
+
+    private long counter(final String name) {
+        return (long) metrics.getMetric("app", name).get(VALUE);
+    }
 }
@@ -0,0 +1,146 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.metric;
+
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.app.workflows.handle.stack.SavepointStackImpl;
+import com.hedera.node.app.workflows.handle.stack.StateAccessRecorder;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.metrics.api.Metrics;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class RoundConflictAnalyzerTest {
+    private static final String SERVICE = "TokenService";
+    private static final String ACCOUNTS = "ACCOUNTS";
+    private static final String COUNTERS = "COUNTERS";
+
+    private final Metrics metrics = TestUtils.metrics();
+
+    private RoundConflictAnalyzer createSubject(final boolean enabled) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("consensus.handle.conflictAnalysisEnabled", enabled)
+                .getOrCreateConfig();
+        return new RoundConflictAnalyzer(metrics, () -> new VersionedConfigImpl(config, 1));
+    }
+
+    private static void handle(final RoundConflictAnalyzer subject, final Consumer<StateAccessRecorder> accesses) {
+        final var stack = mock(SavepointStackImpl.class);
+        final var captor = ArgumentCaptor.forClass(StateAccessRecorder.class);
+        subject.startTransaction(stack);
+        verify(stack).recordAccessesTo(captor.capture());
+        accesses.accept(captor.getValue());
+        subject.endTransaction(stack);
+        verify(stack).recordAccessesTo(null);
+    }
+
+    private static void transfer(final StateAccessRecorder recorder, final long from, final long to) {
+        recorder.recordRead(SERVICE, ACCOUNTS, from);
+        recorder.recordRead(SERVICE, ACCOUNTS, to);
+        recorder.recordWrite(SERVICE, ACCOUNTS, from);
+        recorder.recordWrite(SERVICE, ACCOUNTS, to);
+    }
+
+    private double conflictRate() {
+        return (double) metrics.getMetric("app", "handleConflictRate").get(VALUE);
+    }
+
+    private double parallelism() {
+        return (double) metrics.getMetric("app", "handleParallelism").get(VALUE);
+    }
+
+    @Test
+    void disjointTransactionsRunInOneWave() {
+        final var subject = createSubject(true);
+
+        subject.startRound();
+        handle(subject, recorder -> transfer(recorder, 1, 2));
+        handle(subject, recorder -> transfer(recorder, 3, 4));
+        handle(subject, recorder -> transfer(recorder, 5, 6));
+        subject.endRound(1);
+
+        assertThat(conflictRate()).isEqualTo(0.0);
+        assertThat(parallelism()).isEqualTo(3.0);
+    }
+
+    @Test
+    void readsOfEarlierWritesFormAChain() {
+        final var subject = createSubject(true);
+
+        subject.startRound();
+        handle(subject, recorder -> transfer(recorder, 1, 2));
+        handle(subject, recorder -> transfer(recorder, 2, 3));
+        handle(subject, recorder -> transfer(recorder, 3, 4));
+        handle(subject, recorder -> transfer(recorder, 5, 6));
+        subject.endRound(1);
+
+        assertThat(conflictRate()).isEqualTo(50.0);
+        assertThat(parallelism()).isCloseTo(4.0 / 3, offset(1e-9));
+    }
+
+    @Test
+    void blindWritesDoNotConflict() {
+        final var subject = createSubject(true);
+
+        subject.startRound();
+        handle(subject, recorder -> recorder.recordWrite(SERVICE, ACCOUNTS, 1L));
+        handle(subject, recorder -> recorder.recordWrite(SERVICE, ACCOUNTS, 1L));
+        subject.endRound(1);
+
+        assertThat(conflictRate()).isEqualTo(0.0);
+        assertThat(parallelism()).isEqualTo(2.0);
+    }
+
+    @Test
+    void wholeStateAccessesConflictWithKeyedAccesses() {
+        final var subject = createSubject(true);
+
+        subject.startRound();
+        handle(subject, recorder -> recorder.recordWrite(SERVICE, COUNTERS, null));
+        handle(subject, recorder -> recorder.recordRead(SERVICE, COUNTERS, 7L));
+        handle(subject, recorder -> recorder.recordWrite(SERVICE, ACCOUNTS, 1L));
+        handle(subject, recorder -> recorder.recordRead(SERVICE, ACCOUNTS, null));
+        subject.endRound(1);
+
+        assertThat(conflictRate()).isEqualTo(50.0);
+        assertThat(parallelism()).isEqualTo(2.0);
+    }
+
+    @Test
+    void writesOfEarlierRoundsDoNotConflict() {
+        final var subject = createSubject(true);
+        subject.startRound();
+        handle(subject, recorder -> transfer(recorder, 1, 2));
+        subject.endRound(1);
+
+        subject.startRound();
+        handle(subject, recorder -> transfer(recorder, 1, 2));
+        subject.endRound(2);
+
+        assertThat(conflictRate()).isEqualTo(0.0);
+        assertThat(parallelism()).isEqualTo(1.0);
+    }
+
+    @Test
+    void disabledAnalyzerDoesNothing() {
+        final var subject = createSubject(false);
+        final var stack = mock(SavepointStackImpl.class);
+
+        subject.startRound();
+        subject.startTransaction(stack);
+        subject.endTransaction(stack);
+        subject.endRound(1);
+
+        verifyNoInteractions(stack);
+        assertThat(metrics.getMetric("app", "handleConflictRate")).isNull();
+        assertThat(metrics.getMetric("app", "handleParallelism")).isNull();
+    }
+}
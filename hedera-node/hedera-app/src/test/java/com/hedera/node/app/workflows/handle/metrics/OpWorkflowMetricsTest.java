@@ -12,6 +12,7 @@ import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.metrics.api.Counter;
 import com.swirlds.metrics.api.Metrics;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,8 +43,8 @@ class OpWorkflowMetricsTest {
         // then
         // subtract 1 to exclude HederaFunctionality.NONE
         // multiply by 3 to account for max, avg, and throttle metrics which are created for each functionality
-        // add 1 to account for gasPerConsSec metric which is not functionality specific
-        final int transactionMetricsCount = ((HederaFunctionality.values().length - 1) * 3) + 1;
+        // add 2 to account for gasPerConsSec and opDuration metrics which are not functionality specific
+        final int transactionMetricsCount = ((HederaFunctionality.values().length - 1) * 3) + 2;
         assertThat(metrics.findMetricsByCategory("app")).hasSize(transactionMetricsCount);
     }
 
@@ -95,6 +96,8 @@ class OpWorkflowMetricsTest {
                 .isEqualTo(42);
         assertThat(metrics.getMetric("app", "cryptoCreateDurationAvg").get(VALUE))
                 .isEqualTo(42);
+        assertThat(((HistogramMetric) metrics.getMetric("app", "opDuration")).getSum())
+                .isEqualTo(42);
     }
 
     @Test
@@ -22,6 +22,7 @@ import com.hedera.node.app.spi.fixtures.util.LogCaptor;
 import com.hedera.node.app.state.SingleTransactionRecord;
 import com.hedera.node.config.data.BlockRecordStreamConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.FileSystem;
@@ -31,6 +32,9 @@ import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 import org.apache.logging.log4j.LogManager;
@@ -79,10 +83,14 @@ final class BlockRecordWriterV6Test extends AppTestBase {
     }
 
     void createApp() throws IOException {
+        createApp(null);
+    }
+
+    void createApp(@Nullable final Executor compressionExecutor) throws IOException {
         app = appBuilder.build();
         config = app.configProvider().getConfiguration().getConfigData(BlockRecordStreamConfig.class);
         hapiVersion = app.hapiVersion();
-        writer = new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem);
+        writer = new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem, compressionExecutor);
         final var ext = ".rcd.gz";
         final var recordDir =
                 fileSystem.getPath(config.logDir(), "record" + asAccountString(selfNodeInfo.accountId()) + "/");
@@ -304,7 +312,36 @@ final class BlockRecordWriterV6Test extends AppTestBase {
         @DisplayName("Write a list of record stream items including sidecars")
         void writingTest(final List<SingleTransactionRecord> singleTransactionRecords) throws Exception {
             createApp();
+            writeAndVerify(singleTransactionRecords);
+        }
+
+        @ParameterizedTest
+        @MethodSource("provideRecordStreamItems")
+        @DisplayName("Write a list of record stream items including sidecars, compressing on other threads")
+        void writingWithCompressionThreadsTest(final List<SingleTransactionRecord> singleTransactionRecords)
+                throws Exception {
+            appBuilder
+                    .withConfigValue("hedera.recordStream.compressionThreads", 2)
+                    .withConfigValue("hedera.recordStream.compressionBlockSizeKb", 16);
+            final var pool = Executors.newFixedThreadPool(2);
+            final var compressionTasks = new AtomicInteger();
+            try {
+                createApp(task -> {
+                    compressionTasks.incrementAndGet();
+                    pool.execute(task);
+                });
+                assertThat(config.compressionThreads()).isEqualTo(2);
+
+                // The file reads back with a GZIPInputStream, and its hash in the signature file is computed over the
+                // uncompressed bytes, the same as without compression threads
+                writeAndVerify(singleTransactionRecords);
+                assertThat(compressionTasks.get()).isPositive();
+            } finally {
+                pool.shutdownNow();
+            }
+        }
 
+        private void writeAndVerify(final List<SingleTransactionRecord> singleTransactionRecords) throws Exception {
             // For each of the transaction records in the block, convert them into serialized records, and then write
             // them using the writer.
             writer.init(hapiVersion, STARTING_RUNNING_HASH_OBJ, consensusTime, blockNumber);
@@ -21,6 +21,7 @@ import com.hedera.node.app.blocks.impl.KVStateChangeListener;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.record.StreamBuilder;
+import com.hedera.node.app.workflows.handle.stack.StateAccessRecorder.StateAccess;
 import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.data.BlockStreamConfig;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
@@ -140,6 +141,31 @@ class SavepointStackImplTest extends StateTestBase {
                 .hasMessage(RECURSIVE_SCHEDULING_LIMIT_REACHED.protoName());
     }
 
+    @Test
+    void recordsStateAccessesOfStackAndChildStacks() {
+        final var subject = SavepointStackImpl.newRootStack(
+                baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, StreamMode.BOTH);
+        final var recorder = new StateAccessRecorder();
+        subject.recordAccessesTo(recorder);
+
+        final var fruit = subject.getWritableStates(FOOD_SERVICE).<String, String>get(FRUIT_STATE_KEY);
+        fruit.get(A_KEY);
+        fruit.put(B_KEY, BANANA);
+        final var child = SavepointStackImpl.newChildStack(
+                subject, REVERSIBLE, SCHEDULED, NOOP_TRANSACTION_CUSTOMIZER, StreamMode.BOTH);
+        child.getWritableStates(FOOD_SERVICE).<String, String>get(FRUIT_STATE_KEY).remove(C_KEY);
+        subject.recordAccessesTo(null);
+        fruit.get(D_KEY);
+
+        assertThat(recorder.reads())
+                .contains(new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, A_KEY))
+                .doesNotContain(new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, D_KEY));
+        assertThat(recorder.writes())
+                .containsExactlyInAnyOrder(
+                        new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, B_KEY),
+                        new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, C_KEY));
+    }
+
     @Test
     void topLevelPermitsStakingRewards() {
         final var subject = SavepointStackImpl.newRootStack(
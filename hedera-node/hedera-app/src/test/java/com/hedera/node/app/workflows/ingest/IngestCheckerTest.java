@@ -59,6 +59,7 @@ import com.hedera.node.app.info.CurrentPlatformStatus;
 import com.hedera.node.app.signature.SignatureExpander;
 import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.signature.SignatureVerifier;
+import com.hedera.node.app.signature.VerifiedSignatureCache;
 import com.hedera.node.app.spi.authorization.Authorizer;
 import com.hedera.node.app.spi.fees.Fees;
 import com.hedera.node.app.spi.signatures.SignatureVerification;
@@ -117,6 +118,9 @@ class IngestCheckerTest extends AppTestBase {
     @Mock(strictness = LENIENT)
     private SignatureVerifier signatureVerifier;
 
+    @Mock
+    private VerifiedSignatureCache verifiedSignatureCache;
+
     @Mock(strictness = LENIENT)
     private SolvencyPreCheck solvencyPreCheck;
 
@@ -190,6 +194,7 @@ class IngestCheckerTest extends AppTestBase {
                 solvencyPreCheck,
                 signatureExpander,
                 signatureVerifier,
+                verifiedSignatureCache,
                 deduplicationCache,
                 dispatcher,
                 feeManager,
@@ -258,6 +263,7 @@ class IngestCheckerTest extends AppTestBase {
                 solvencyPreCheck,
                 signatureExpander,
                 signatureVerifier,
+                verifiedSignatureCache,
                 deduplicationCache,
                 dispatcher,
                 feeManager,
@@ -285,8 +291,8 @@ class IngestCheckerTest extends AppTestBase {
         final var verificationResult = mock(SignatureVerification.class);
         when(verificationResult.failed()).thenReturn(false);
         when(verificationResultFuture.get(anyLong(), any())).thenReturn(verificationResult);
-        when(signatureVerifier.verify(any(), any()))
-                .thenReturn(Map.of(ALICE.account().keyOrThrow(), verificationResultFuture));
+        final var results = Map.of(ALICE.account().keyOrThrow(), verificationResultFuture);
+        when(signatureVerifier.verify(any(), any())).thenReturn(results);
 
         // when
         final var actual = subject.runAllChecks(state, serializedTx, configuration);
@@ -294,6 +300,8 @@ class IngestCheckerTest extends AppTestBase {
         // then
         assertThat(actual).isEqualTo(expected);
         verify(opWorkflowMetrics, never()).incrementThrottled(any());
+        // the verified signatures are recorded, so pre-handle does not verify them again
+        verify(verifiedSignatureCache).recordVerified(eq(expected.signedBytes()), any(), eq(results));
     }
 
     @Nested
@@ -576,6 +584,7 @@ class IngestCheckerTest extends AppTestBase {
                     .isInstanceOf(PreCheckException.class)
                     .has(responseCode(INVALID_SIGNATURE));
             verify(opWorkflowMetrics, never()).incrementThrottled(any());
+            verify(verifiedSignatureCache, never()).recordVerified(any(), any(), any());
         }
 
         @Test
@@ -592,6 +601,7 @@ class IngestCheckerTest extends AppTestBase {
                     .isInstanceOf(PreCheckException.class)
                     .has(responseCode(INVALID_SIGNATURE));
             verify(opWorkflowMetrics, never()).incrementThrottled(any());
+            verify(verifiedSignatureCache, never()).recordVerified(any(), any(), any());
         }
 
         @Test
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
@@ -40,6 +41,7 @@ import com.hedera.node.app.signature.DefaultKeyVerifier;
 import com.hedera.node.app.signature.SignatureExpander;
 import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.signature.SignatureVerifier;
+import com.hedera.node.app.signature.VerifiedSignatureCache;
 import com.hedera.node.app.signature.impl.SignatureVerificationImpl;
 import com.hedera.node.app.spi.fixtures.Scenarios;
 import com.hedera.node.app.spi.workflows.PreCheckException;
@@ -54,6 +56,7 @@ import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.state.lifecycle.info.NetworkInfo;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -98,6 +101,10 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
     @Mock
     private SignatureVerifier signatureVerifier;
 
+    /** We use a mocked {@link VerifiedSignatureCache}, which never has verified signatures, unless a test says so. */
+    @Mock
+    private VerifiedSignatureCache verifiedSignatureCache;
+
     /** We use a mocked {@link SignatureExpander}, so it is easy to fake out expansion of signatures. */
     @Mock
     private SignatureExpander signatureExpander;
@@ -112,6 +119,10 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
     @Mock
     private DeduplicationCache deduplicationCache;
 
+    /** We use a mocked {@link NetworkInfo}, with {@code NODE_1} as this node, unless a test says otherwise. */
+    @Mock(strictness = Strictness.LENIENT)
+    private NetworkInfo networkInfo;
+
     /** We use a real functional store factory with our standard test data set. Needed by the workflow. */
     private ReadableStoreFactory storeFactory;
 
@@ -147,14 +158,17 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
 
         final var config = new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), DEFAULT_CONFIG_VERSION);
         when(configProvider.getConfiguration()).thenReturn(config);
+        when(networkInfo.selfNodeInfo()).thenReturn(NODE_1.asInfo());
 
         workflow = new PreHandleWorkflowImpl(
                 dispatcher,
                 transactionChecker,
                 signatureVerifier,
+                verifiedSignatureCache,
                 signatureExpander,
                 configProvider,
-                deduplicationCache);
+                deduplicationCache,
+                networkInfo);
     }
 
     /**
@@ -572,6 +586,63 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
         }
 
+        @Test
+        @DisplayName("Happy path with signatures this node already verified at ingest")
+        void happyPathWithSignaturesVerifiedAtIngest(@Mock SignatureVerificationFuture sigFuture) throws Exception {
+            // Given a transaction submitted to this node, whose payer signature was verified at ingest
+            final var payerAccount = ALICE.accountID();
+            final var payerKey = ALICE.keyInfo().publicKey();
+            final var txInfo = scenario().withPayer(payerAccount).txInfo();
+            final var txBytes = asByteArray(txInfo.transaction());
+            final Transaction platformTx = createAppPayloadWrapper(txBytes);
+            when(sigFuture.get(anyLong(), any())).thenReturn(new SignatureVerificationImpl(payerKey, null, true));
+            when(transactionChecker.parseAndCheck(any(Bytes.class), anyInt())).thenReturn(txInfo);
+            when(verifiedSignatureCache.takeVerified(any(), any())).thenAnswer(invocation -> {
+                invocation.<Set<?>>getArgument(1).clear();
+                return Map.of(payerKey, sigFuture);
+            });
+            when(signatureVerifier.verify(any(), argThat(Set::isEmpty))).thenReturn(Map.of());
+
+            // When we pre-handle the transaction
+            workflow.preHandle(storeFactory, NODE_1.asInfo(), Stream.of(platformTx), txns -> {});
+
+            // Then the transaction pre-handle succeeds with the result of the verification at ingest
+            final PreHandleResult result = platformTx.getMetadata();
+            assertThat(result.status()).isEqualTo(SO_FAR_SO_GOOD);
+            assertThat(result.responseCode()).isEqualTo(OK);
+            assertThat(result.verificationResults()).containsEntry(payerKey, sigFuture);
+            final var config = configProvider.getConfiguration().getConfigData(HederaConfig.class);
+            final AppKeyVerifier verifier = new DefaultKeyVerifier(1, config, result.verificationResults());
+            assertThat(verifier.verificationFor(payerKey).passed()).isTrue();
+            // And only the signatures that were not verified at ingest are verified again
+            verify(signatureVerifier).verify(any(), argThat(Set::isEmpty));
+        }
+
+        @Test
+        @DisplayName("Signatures of transactions submitted to other nodes are not looked up in the cache")
+        void transactionsOfOtherNodesDoNotUseVerifiedSignatureCache(@Mock SignatureVerificationFuture sigFuture)
+                throws Exception {
+            // Given a transaction in an event created by another node
+            when(networkInfo.selfNodeInfo()).thenReturn(NODE_2.asInfo());
+            final var payerAccount = ALICE.accountID();
+            final var payerKey = ALICE.keyInfo().publicKey();
+            final var txInfo = scenario().withPayer(payerAccount).txInfo();
+            final var txBytes = asByteArray(txInfo.transaction());
+            final Transaction platformTx = createAppPayloadWrapper(txBytes);
+            when(sigFuture.get(anyLong(), any())).thenReturn(new SignatureVerificationImpl(payerKey, null, true));
+            when(transactionChecker.parseAndCheck(any(Bytes.class), anyInt())).thenReturn(txInfo);
+            when(signatureVerifier.verify(any(), any())).thenReturn(Map.of(payerKey, sigFuture));
+
+            // When we pre-handle the transaction
+            workflow.preHandle(storeFactory, NODE_1.asInfo(), Stream.of(platformTx), txns -> {});
+
+            // Then all signatures are verified, and the cache neither counts a hit nor a miss
+            final PreHandleResult result = platformTx.getMetadata();
+            assertThat(result.status()).isEqualTo(SO_FAR_SO_GOOD);
+            assertThat(result.verificationResults()).containsEntry(payerKey, sigFuture);
+            verifyNoInteractions(verifiedSignatureCache);
+        }
+
         @Test
         @DisplayName(
                 "Happy path with Key-based signature verification and a result derived from different config version")
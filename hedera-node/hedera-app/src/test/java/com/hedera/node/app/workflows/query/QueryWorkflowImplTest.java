@@ -25,6 +25,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,6 +59,7 @@ import com.hedera.node.app.spi.workflows.InsufficientBalanceException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.QueryContext;
 import com.hedera.node.app.throttle.SynchronizedThrottleAccumulator;
+import com.hedera.node.app.utils.TestUtils;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.ingest.IngestChecker;
@@ -146,6 +148,7 @@ class QueryWorkflowImplTest extends AppTestBase {
 
     private QueryWorkflowImpl workflow;
     private SemanticVersion softwareVersionFactory = SemanticVersion.DEFAULT;
+    private QueryResponseCache queryResponseCache;
 
     @BeforeEach
     void setup(@Mock FeeCalculator feeCalculator) throws ParseException, PreCheckException {
@@ -166,6 +169,7 @@ class QueryWorkflowImplTest extends AppTestBase {
 
         configuration = new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), DEFAULT_CONFIG_VERSION);
         when(configProvider.getConfiguration()).thenReturn(configuration);
+        queryResponseCache = new QueryResponseCache(TestUtils.metrics(), configProvider);
 
         when(feeManager.createFeeCalculator(eq(FILE_GET_INFO), any(), any())).thenReturn(feeCalculator);
 
@@ -210,7 +214,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                 instantSource,
                 opWorkflowMetrics,
                 true,
-                softwareVersionFactory);
+                softwareVersionFactory,
+                queryResponseCache);
     }
 
     @SuppressWarnings("ConstantConditions")
@@ -232,7 +237,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -250,7 +256,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -268,7 +275,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -286,7 +294,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -304,7 +313,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -322,7 +332,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -340,7 +351,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -358,7 +370,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -376,7 +389,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -394,7 +408,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -412,7 +427,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -430,7 +446,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -448,7 +465,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         null,
                         opWorkflowMetrics,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -466,7 +484,27 @@ class QueryWorkflowImplTest extends AppTestBase {
                         instantSource,
                         null,
                         true,
-                        softwareVersionFactory))
+                        softwareVersionFactory,
+                        queryResponseCache))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new QueryWorkflowImpl(
+                        stateAccessor,
+                        submissionManager,
+                        queryChecker,
+                        ingestChecker,
+                        dispatcher,
+                        queryParser,
+                        configProvider,
+                        recordCache,
+                        authorizer,
+                        exchangeRateManager,
+                        feeManager,
+                        synchronizedThrottleAccumulator,
+                        instantSource,
+                        opWorkflowMetrics,
+                        true,
+                        softwareVersionFactory,
+                        null))
                 .isInstanceOf(NullPointerException.class);
         verify(opWorkflowMetrics, never()).incrementThrottled(any());
     }
@@ -504,7 +542,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                 instantSource,
                 opWorkflowMetrics,
                 shouldCharge,
-                softwareVersionFactory);
+                softwareVersionFactory,
+                queryResponseCache);
         final var responseBuffer = newEmptyBuffer();
         // when
         workflow.handleQuery(requestBuffer, responseBuffer);
@@ -519,6 +558,96 @@ class QueryWorkflowImplTest extends AppTestBase {
         verify(opWorkflowMetrics, never()).incrementThrottled(any());
     }
 
+    @Test
+    void freeQueryIsAnsweredFromCacheUntilStateChanges(@Mock final State nextState)
+            throws ParseException, PreCheckException {
+        // given
+        final var cachingConfig = new VersionedConfigImpl(
+                HederaTestConfigBuilder.create()
+                        .withValue("hedera.queryCache.maxSize", 100)
+                        .withValue("hedera.queryCache.functionalities", "FileGetInfo")
+                        .getOrCreateConfig(),
+                DEFAULT_CONFIG_VERSION);
+        workflow = new QueryWorkflowImpl(
+                stateAccessor,
+                submissionManager,
+                queryChecker,
+                ingestChecker,
+                dispatcher,
+                queryParser,
+                configProvider,
+                recordCache,
+                authorizer,
+                exchangeRateManager,
+                feeManager,
+                synchronizedThrottleAccumulator,
+                instantSource,
+                opWorkflowMetrics,
+                true,
+                softwareVersionFactory,
+                new QueryResponseCache(TestUtils.metrics(), () -> cachingConfig));
+
+        // when
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+        final var responseBuffer = newEmptyBuffer();
+        workflow.handleQuery(requestBuffer, responseBuffer);
+
+        // then
+        final var header = parseResponse(responseBuffer).fileGetInfoOrThrow().headerOrThrow();
+        assertThat(header.nodeTransactionPrecheckCode()).isEqualTo(OK);
+        verify(handler).validate(any());
+        verify(handler).findResponse(any(), any());
+        verify(synchronizedThrottleAccumulator, times(2)).shouldThrottle(eq(FILE_GET_INFO), any(), any(), any());
+
+        // and when the state changes
+        when(stateAccessor.apply(any())).thenReturn(new AutoCloseableWrapper<>(nextState, () -> {}));
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+
+        // then
+        verify(handler, times(2)).findResponse(any(), any());
+    }
+
+    @Test
+    void paidQueryIsNotCached() throws ParseException, PreCheckException {
+        // given
+        final var cachingConfig = new VersionedConfigImpl(
+                HederaTestConfigBuilder.create()
+                        .withValue("hedera.queryCache.maxSize", 100)
+                        .withValue("hedera.queryCache.functionalities", "FileGetInfo")
+                        .getOrCreateConfig(),
+                DEFAULT_CONFIG_VERSION);
+        final var cache = new QueryResponseCache(TestUtils.metrics(), () -> cachingConfig);
+        given(handler.requiresNodePayment(any())).willReturn(true);
+        given(handler.computeFees(any(QueryContext.class))).willReturn(new Fees(100L, 0L, 100L));
+        given(authorizer.isSuperUser(any())).willReturn(true);
+        workflow = new QueryWorkflowImpl(
+                stateAccessor,
+                submissionManager,
+                queryChecker,
+                ingestChecker,
+                dispatcher,
+                queryParser,
+                configProvider,
+                recordCache,
+                authorizer,
+                exchangeRateManager,
+                feeManager,
+                synchronizedThrottleAccumulator,
+                instantSource,
+                opWorkflowMetrics,
+                true,
+                softwareVersionFactory,
+                cache);
+
+        // when
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+
+        // then
+        verify(handler, times(2)).findResponse(any(), any());
+        assertThat(cache.get(state, requestBuffer)).isNull();
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void testSuccessIfPaymentRequired(boolean shouldCharge) throws ParseException {
@@ -539,7 +668,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                 instantSource,
                 opWorkflowMetrics,
                 shouldCharge,
-                softwareVersionFactory);
+                softwareVersionFactory,
+                queryResponseCache);
         given(handler.computeFees(any(QueryContext.class))).willReturn(new Fees(100L, 0L, 100L));
         given(handler.requiresNodePayment(any())).willReturn(true);
         when(handler.findResponse(any(), any()))
@@ -764,7 +894,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                 instantSource,
                 opWorkflowMetrics,
                 false,
-                softwareVersionFactory);
+                softwareVersionFactory,
+                queryResponseCache);
         when(synchronizedThrottleAccumulator.shouldThrottle(eq(HederaFunctionality.FILE_GET_INFO), any(), any(), any()))
                 .thenReturn(true);
         final var responseBuffer = newEmptyBuffer();
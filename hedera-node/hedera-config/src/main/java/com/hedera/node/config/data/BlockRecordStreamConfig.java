@@ -20,6 +20,9 @@ import com.swirlds.config.api.validation.annotation.Min;
  * @param signatureFileVersion the format version number for signature files
  * @param numOfBlockHashesInState the number of block hashes to keep in state for block history
  * @param streamFileProducer the type of stream file producer to use. Currently only "concurrent" is supported
+ * @param compressionThreads the number of threads compressing record and sidecar files as independent gzip members;
+ *                           0 compresses each file as a single gzip member on the writing thread
+ * @param compressionBlockSizeKb the number of uncompressed KB in each gzip member when compressionThreads is positive
  */
 @ConfigData("hedera.recordStream")
 public record BlockRecordStreamConfig(
@@ -31,4 +34,6 @@ public record BlockRecordStreamConfig(
         @ConfigProperty(defaultValue = "6") @Min(1) @NetworkProperty int recordFileVersion,
         @ConfigProperty(defaultValue = "6") @Min(1) @NetworkProperty int signatureFileVersion,
         @ConfigProperty(defaultValue = "256") @Min(1) @Max(4096) @NetworkProperty int numOfBlockHashesInState,
-        @ConfigProperty(defaultValue = "concurrent") @NetworkProperty String streamFileProducer) {}
+        @ConfigProperty(defaultValue = "concurrent") @NetworkProperty String streamFileProducer,
+        @ConfigProperty(defaultValue = "0") @Min(0) @NodeProperty int compressionThreads,
+        @ConfigProperty(defaultValue = "1024") @Min(16) @Max(65536) @NodeProperty int compressionBlockSizeKb) {}
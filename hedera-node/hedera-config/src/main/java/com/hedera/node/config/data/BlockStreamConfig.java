@@ -24,6 +24,16 @@ import java.time.Duration;
  * @param blockItemBatchSize the number of items to send in a batch to block nodes
  * @param grpcAddress the address of the gRPC server
  * @param grpcPort the port of the gRPC server
+ * @param bufferedBlocksInMemory the number of completed blocks not yet acknowledged by all block nodes to keep in
+ *                               memory; older ones are moved to the on-disk buffer. 0 keeps them all in memory
+ * @param bufferDir directory of the on-disk buffer of blocks not yet acknowledged by all block nodes
+ * @param maxBufferedBlocks the maximum number of blocks not yet acknowledged by all block nodes to keep, in memory and
+ *                          on disk; the oldest ones are dropped beyond that. 0 keeps them all
+ * @param compressionThreads the number of threads to compress block files on, each block file being written as
+ *                           independently compressed gzip members of {@code compressionChunkSizeKb}; 0 compresses
+ *                           block files on the writing thread
+ * @param compressionChunkSizeKb the size in KB of the uncompressed chunks compressed in parallel
+ * @param compressionLevel the deflate level of block files, from 1 (fastest) to 9 (smallest)
  */
 @ConfigData("blockStream")
 public record BlockStreamConfig(
@@ -38,7 +48,13 @@ public record BlockStreamConfig(
         @ConfigProperty(defaultValue = "2") @NetworkProperty long waitPeriodForActiveConnection,
         @ConfigProperty(defaultValue = "256") @NetworkProperty int blockItemBatchSize,
         @ConfigProperty(defaultValue = "localhost") String grpcAddress,
-        @ConfigProperty(defaultValue = "8080") @Min(0) @Max(65535) int grpcPort) {
+        @ConfigProperty(defaultValue = "8080") @Min(0) @Max(65535) int grpcPort,
+        @ConfigProperty(defaultValue = "32") @Min(0) @NodeProperty int bufferedBlocksInMemory,
+        @ConfigProperty(defaultValue = "/opt/hgcapp/blockStreams/buffer") @NodeProperty String bufferDir,
+        @ConfigProperty(defaultValue = "1800") @Min(0) @NodeProperty int maxBufferedBlocks,
+        @ConfigProperty(defaultValue = "0") @Min(0) @NodeProperty int compressionThreads,
+        @ConfigProperty(defaultValue = "1024") @Min(16) @Max(65536) @NodeProperty int compressionChunkSizeKb,
+        @ConfigProperty(defaultValue = "6") @Min(1) @Max(9) @NodeProperty int compressionLevel) {
 
     /**
      * Whether to stream to block nodes.
@@ -2,10 +2,17 @@
 package com.hedera.node.config.data;
 
 import com.hedera.node.config.NetworkProperty;
+import com.hedera.node.config.NodeProperty;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
 
 @ConfigData("cache")
 public record CacheConfig(
         @ConfigProperty(value = "records.ttl", defaultValue = "180") @NetworkProperty int recordsTtl,
-        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads) {}
+        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads,
+        @ConfigProperty(value = "verifiedSignatures.maxSize", defaultValue = "50000") @NodeProperty
+                int verifiedSignaturesMaxSize,
+        @ConfigProperty(value = "verifiedSignatures.ttlSecs", defaultValue = "30") @NodeProperty
+                int verifiedSignaturesTtlSecs,
+        @ConfigProperty(value = "warmBatchSize", defaultValue = "32") @Min(1) @NetworkProperty int warmBatchSize) {}
@@ -3,6 +3,7 @@ package com.hedera.node.config.data;
 
 import com.hedera.node.config.NetworkProperty;
 import com.hedera.node.config.NodeProperty;
+import com.hedera.node.config.types.HederaFunctionalitySet;
 import com.hedera.node.config.types.Profile;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
@@ -39,4 +40,8 @@ public record HederaConfig(
                 long workflowVerificationTimeoutMS,
         // FUTURE: Set<HederaFunctionality>.
         @ConfigProperty(value = "ingestThrottle.enabled", defaultValue = "true") @NetworkProperty
-                boolean ingestThrottleEnabled) {}
+                boolean ingestThrottleEnabled,
+        @ConfigProperty(value = "queryCache.maxSize", defaultValue = "0") @NodeProperty int queryCacheMaxSize,
+        @ConfigProperty(value = "queryCache.functionalities", defaultValue = "CryptoGetAccountBalance,TokenGetInfo")
+                @NodeProperty
+                HederaFunctionalitySet queryCacheFunctionalities) {}
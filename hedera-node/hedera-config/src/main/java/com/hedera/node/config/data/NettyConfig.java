@@ -19,6 +19,16 @@ import com.swirlds.config.api.ConfigProperty;
  * @param terminationTimeout The timeout, *in seconds*, to wait for the servers to terminate.
  * @param tlsCrtPath
  * @param tlsKeyPath
+ * @param executorTransactionThreads The maximum number of transactions handled at the same time off the Netty I/O
+ * threads. Defaults to 0, which handles each transaction on the I/O thread that received it.
+ * @param executorQueryThreads The maximum number of queries handled at the same time off the Netty I/O threads.
+ * Defaults to 0, which handles each query on the I/O thread that received it.
+ * @param executorMaxQueueDepth The maximum number of transactions, and separately of queries, waiting for one of
+ * their threads. Any call beyond that is rejected as busy right away. Defaults to 1000.
+ * @param executorUseVirtualThreads Whether to handle each call on its own virtual thread, limited to the configured
+ * number of calls at the same time, instead of on a pool of platform threads. Defaults to false.
+ * @param executorMaxConcurrentCallsPerMethod The maximum number of calls of any one gRPC method handled or waiting at
+ * the same time. Any call beyond that is rejected as busy right away. Defaults to 0, which means no limit.
  */
 @ConfigData("netty")
 public record NettyConfig(
@@ -37,7 +47,16 @@ public record NettyConfig(
         @ConfigProperty(defaultValue = "1000") @NodeProperty long startRetryIntervalMs,
         @ConfigProperty(defaultValue = "5") @NodeProperty long terminationTimeout,
         @ConfigProperty(value = "tlsCrt.path", defaultValue = "hedera.crt") @NodeProperty String tlsCrtPath,
-        @ConfigProperty(value = "tlsKey.path", defaultValue = "hedera.key") @NodeProperty String tlsKeyPath) {
+        @ConfigProperty(value = "tlsKey.path", defaultValue = "hedera.key") @NodeProperty String tlsKeyPath,
+        @ConfigProperty(value = "executor.transactionThreads", defaultValue = "0") @NodeProperty
+                int executorTransactionThreads,
+        @ConfigProperty(value = "executor.queryThreads", defaultValue = "0") @NodeProperty int executorQueryThreads,
+        @ConfigProperty(value = "executor.maxQueueDepth", defaultValue = "1000") @NodeProperty
+                int executorMaxQueueDepth,
+        @ConfigProperty(value = "executor.useVirtualThreads", defaultValue = "false") @NodeProperty
+                boolean executorUseVirtualThreads,
+        @ConfigProperty(value = "executor.maxConcurrentCallsPerMethod", defaultValue = "0") @NodeProperty
+                int executorMaxConcurrentCallsPerMethod) {
     public NettyConfig {
         if (startRetries < 0) {
             throw new IllegalArgumentException("startRetries must be non-negative.");
@@ -50,5 +69,17 @@ public record NettyConfig(
         if (terminationTimeout < 0) {
             throw new IllegalArgumentException("terminationTimeout must be non-negative");
         }
+
+        if (executorTransactionThreads < 0 || executorQueryThreads < 0) {
+            throw new IllegalArgumentException("executor threads must be non-negative");
+        }
+
+        if (executorMaxQueueDepth < 0) {
+            throw new IllegalArgumentException("executor.maxQueueDepth must be non-negative");
+        }
+
+        if (executorMaxConcurrentCallsPerMethod < 0) {
+            throw new IllegalArgumentException("executor.maxConcurrentCallsPerMethod must be non-negative");
+        }
     }
 }
@@ -22,6 +22,7 @@ import org.hiero.consensus.event.creator.impl.rules.EventCreationRule;
 import org.hiero.consensus.event.creator.impl.rules.MaximumRateRule;
 import org.hiero.consensus.event.creator.impl.rules.PlatformHealthRule;
 import org.hiero.consensus.event.creator.impl.rules.PlatformStatusRule;
+import org.hiero.consensus.event.creator.impl.rules.TransactionBatchRule;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 import org.hiero.consensus.model.status.PlatformStatus;
@@ -76,6 +77,9 @@ public class DefaultEventCreationManager implements EventCreationManager {
         rules.add(new MaximumRateRule(platformContext));
         rules.add(new PlatformStatusRule(this::getPlatformStatus, transactionPoolNexus));
         rules.add(new PlatformHealthRule(config.maximumPermissibleUnhealthyDuration(), this::getUnhealthyDuration));
+        if (config.reactiveCreationEnabled()) {
+            rules.add(new TransactionBatchRule(platformContext, transactionPoolNexus));
+        }
 
         this.eventCreationRules = AggregateEventCreationRules.of(rules);
 
@@ -113,6 +117,16 @@ public class DefaultEventCreationManager implements EventCreationManager {
 
         return newEvent;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable
+    public PlatformEvent maybeCreateEventReactively() {
+        return maybeCreateEvent();
+    }
+
     /**
      * {@inheritDoc}
      */
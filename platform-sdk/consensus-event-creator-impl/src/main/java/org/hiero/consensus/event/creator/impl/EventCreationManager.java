@@ -24,6 +24,17 @@ public interface EventCreationManager {
     @Nullable
     PlatformEvent maybeCreateEvent();
 
+    /**
+     * Attempt to create an event because transactions became available or because a new event that may serve as an
+     * other parent was received. Only triggered if reactive event creation is enabled, and subject to the same rules
+     * as {@link #maybeCreateEvent()}.
+     *
+     * @return the created event, or null if no event was created
+     */
+    @InputWireLabel("reactive trigger")
+    @Nullable
+    PlatformEvent maybeCreateEventReactively();
+
     /**
      * Register a new event from event intake.
      *
@@ -31,6 +31,11 @@ public enum EventCreationStatus {
      * work load.
      */
     OVERLOADED,
+    /**
+     * Events are not currently being created because the waiting transactions are held back to be batched with
+     * transactions that are expected to arrive soon.
+     */
+    BATCHING_TRANSACTIONS,
     /**
      * Event creation has not yet been started.
      */
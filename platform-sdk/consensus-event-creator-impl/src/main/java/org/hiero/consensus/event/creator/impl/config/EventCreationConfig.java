@@ -29,6 +29,16 @@ import java.time.Duration;
  *                                            not permit the creation of new self events.
  * @param maximumPermissibleUnhealthyDuration the maximum amount of time that the system can be unhealthy before event
  *                                            creation stops
+ * @param reactiveCreationEnabled             if true, event creation is also attempted as soon as transactions become
+ *                                            available or a new event from another node is received, instead of only
+ *                                            on the heartbeat. Partially filled events are held back until either
+ *                                            {@code reactiveMinimumBatchBytes} of transactions are waiting or the
+ *                                            oldest waiting transaction has waited {@code reactiveMaximumWait}.
+ * @param reactiveMinimumBatchBytes           when reactive creation is enabled, the number of bytes of waiting
+ *                                            transactions that permits creating an event right away
+ * @param reactiveMaximumWait                 when reactive creation is enabled, the maximum time a transaction is held
+ *                                            back to be batched with later transactions. Also the period of the event
+ *                                            creation heartbeat, if that is shorter than the creation attempt period.
  */
 @ConfigData("event.creation")
 public record EventCreationConfig(
@@ -37,4 +47,7 @@ public record EventCreationConfig(
         @ConfigProperty(defaultValue = "10") double antiSelfishnessFactor,
         @ConfigProperty(defaultValue = "10") int tipsetSnapshotHistorySize,
         @ConfigProperty(defaultValue = "1024") int eventIntakeThrottle,
-        @ConfigProperty(defaultValue = "1s") Duration maximumPermissibleUnhealthyDuration) {}
+        @ConfigProperty(defaultValue = "1s") Duration maximumPermissibleUnhealthyDuration,
+        @ConfigProperty(defaultValue = "false") boolean reactiveCreationEnabled,
+        @ConfigProperty(defaultValue = "16384") int reactiveMinimumBatchBytes,
+        @ConfigProperty(defaultValue = "5ms") Duration reactiveMaximumWait) {}
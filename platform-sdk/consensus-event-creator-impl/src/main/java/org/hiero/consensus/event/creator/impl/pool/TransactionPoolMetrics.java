@@ -5,9 +5,11 @@ import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
 
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -31,23 +33,35 @@ public class TransactionPoolMetrics {
                     "Cycled when a platform transaction is submitted (platform transactions are always accepted).");
     private final SpeedometerMetric submittedPlatformTransactions;
 
+    private static final HistogramMetric.Config WAIT_TIME_CONFIG = new HistogramMetric.Config(
+                    PLATFORM_CATEGORY, "transactionPoolWaitTime")
+            .withUnit("microseconds")
+            .withDescription("The time a non-priority transaction waits in the transaction pool before it is "
+                    + "put into an event, in microseconds.")
+            .withMaxValue(1L << 36);
+    private final HistogramMetric waitTime;
+
     /**
      * Create metrics for the transaction pool.
      *
      * @param platformContext                     the platform context
      * @param getBufferedTransactionCount         a supplier for the number of buffered transactions
      * @param getPriorityBufferedTransactionCount a supplier for the number of priority buffered transactions
+     * @param getBufferedTransactionBytes         a supplier for the number of bytes of non-priority buffered
+     *                                            transactions
      */
     public TransactionPoolMetrics(
             @NonNull final PlatformContext platformContext,
             @NonNull final Supplier<Integer> getBufferedTransactionCount,
-            @NonNull final Supplier<Integer> getPriorityBufferedTransactionCount) {
+            @NonNull final Supplier<Integer> getPriorityBufferedTransactionCount,
+            @NonNull final Supplier<Long> getBufferedTransactionBytes) {
 
         final Metrics metrics = platformContext.getMetrics();
 
         acceptedAppTransactions = metrics.getOrCreate(ACCEPTED_APP_TRANSACTIONS_CONFIG);
         rejectedAppTransactions = metrics.getOrCreate(REJECTED_APP_TRANSACTIONS_CONFIG);
         submittedPlatformTransactions = metrics.getOrCreate(SUBMITTED_PLATFORM_TRANSACTIONS_CONFIG);
+        waitTime = metrics.getOrCreate(WAIT_TIME_CONFIG);
 
         metrics.getOrCreate(new FunctionGauge.Config<>(
                         PLATFORM_CATEGORY, "bufferedTransactions", Integer.class, getBufferedTransactionCount)
@@ -60,6 +74,11 @@ public class TransactionPoolMetrics {
                         getPriorityBufferedTransactionCount)
                 .withDescription("The number of priority transactions waiting to be inserted into an event.")
                 .withUnit("count"));
+        metrics.getOrCreate(new FunctionGauge.Config<>(
+                        PLATFORM_CATEGORY, "bufferedTransactionBytes", Long.class, getBufferedTransactionBytes)
+                .withDescription("The number of bytes of non-priority transactions waiting to be inserted into an "
+                        + "event.")
+                .withUnit("bytes"));
     }
 
     /**
@@ -82,4 +101,13 @@ public class TransactionPoolMetrics {
     public void recordSubmittedPlatformTransaction() {
         submittedPlatformTransactions.cycle();
     }
+
+    /**
+     * Record the time a non-priority transaction waited in the pool before it was put into an event.
+     *
+     * @param nanos the wait time in nanoseconds
+     */
+    public void recordWaitTime(final long nanos) {
+        waitTime.update(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
 }
@@ -5,16 +5,21 @@ import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static org.hiero.base.CompareTo.isLessThan;
 
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.utility.throttle.RateLimitedLogger;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.consensus.config.TransactionConfig;
@@ -25,6 +30,11 @@ import org.hiero.consensus.model.status.PlatformStatus;
 /**
  * Store a list of transactions created by self, both system and non-system, for wrapping in the next event to be
  * created.
+ * <p>
+ * Transactions may be submitted by any number of threads concurrently without locking. Non-priority transactions are
+ * buffered in a bounded {@link TransactionRingBuffer}, priority transactions, which are rare, in a lock-free linked
+ * queue. {@link #getTransactions()} and {@link #clear()} are only called by the event creator and are synchronized
+ * with each other, but never with submitting threads.
  */
 public class TransactionPoolNexus implements TransactionSupplier {
 
@@ -32,20 +42,21 @@ public class TransactionPoolNexus implements TransactionSupplier {
     private final RateLimitedLogger illegalTransactionLogger;
 
     /**
-     * A list of transactions created by this node waiting to be put into a self-event.
+     * The transactions created by this node waiting to be put into a self-event.
      */
-    private final Queue<Bytes> bufferedTransactions = new LinkedList<>();
+    private final TransactionRingBuffer bufferedTransactions;
 
     /**
      * A list of high-priority transactions created by this node waiting to be put into a self-event. Transactions in
      * this queue are always inserted into an event before transactions waiting in {@link #bufferedTransactions}.
      */
-    private final Queue<Bytes> priorityBufferedTransactions = new LinkedList<>();
+    private final Queue<Bytes> priorityBufferedTransactions = new ConcurrentLinkedQueue<>();
 
     /**
-     * The number of buffered signature transactions waiting to be put into events.
+     * The number of buffered signature transactions waiting to be put into events. This is the size of
+     * {@link #priorityBufferedTransactions}, which does not track its size itself.
      */
-    private int bufferedSignatureTransactionCount = 0;
+    private final AtomicInteger bufferedSignatureTransactionCount = new AtomicInteger();
 
     /**
      * The maximum number of bytes of transactions that can be put in an event.
@@ -68,10 +79,20 @@ public class TransactionPoolNexus implements TransactionSupplier {
      */
     private final int maximumTransactionSize;
 
+    /**
+     * The source of time, used to measure how long transactions wait in the pool.
+     */
+    private final Time time;
+
+    /**
+     * Records the wait time of each transaction put into an event.
+     */
+    private final LongConsumer waitTimeRecorder;
+
     /**
      * The current status of the platform.
      */
-    private PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
+    private volatile PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
 
     /**
      * The maximum amount of time the platform may be in an unhealthy state before we start rejecting transactions.
@@ -81,7 +102,23 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * Whether the platform is currently in a healthy state.
      */
-    private boolean healthy = true;
+    private volatile boolean healthy = true;
+
+    /**
+     * The number of bytes of waiting transactions at which the transactions available listener is notified.
+     */
+    private final long minimumBatchBytes;
+
+    /**
+     * Notified when transactions become available for a new event, or null if nobody is interested.
+     */
+    private volatile Runnable transactionsAvailableListener;
+
+    /**
+     * Whether the transactions available listener was notified since transactions were last taken. Prevents notifying
+     * the listener for every submitted transaction.
+     */
+    private final AtomicBoolean transactionsAvailableSignalled = new AtomicBoolean();
 
     /**
      * Creates a new transaction pool for transactions waiting to be put in an event.
@@ -91,21 +128,40 @@ public class TransactionPoolNexus implements TransactionSupplier {
     public TransactionPoolNexus(@NonNull final PlatformContext platformContext) {
         Objects.requireNonNull(platformContext);
 
-        illegalTransactionLogger = new RateLimitedLogger(logger, platformContext.getTime(), Duration.ofMinutes(10));
+        time = platformContext.getTime();
+        illegalTransactionLogger = new RateLimitedLogger(logger, time, Duration.ofMinutes(10));
 
         final TransactionConfig transactionConfig =
                 platformContext.getConfiguration().getConfigData(TransactionConfig.class);
         maxTransactionBytesPerEvent = transactionConfig.maxTransactionBytesPerEvent();
         throttleTransactionQueueSize = transactionConfig.throttleTransactionQueueSize();
+        // the throttle is checked before a transaction is added, so the queue may hold one more transaction
+        bufferedTransactions = new TransactionRingBuffer(throttleTransactionQueueSize + 1);
 
         transactionPoolMetrics = new TransactionPoolMetrics(
-                platformContext, this::getBufferedTransactionCount, this::getPriorityBufferedTransactionCount);
+                platformContext,
+                this::getBufferedTransactionCount,
+                this::getPriorityBufferedTransactionCount,
+                bufferedTransactions::bufferedBytes);
+        waitTimeRecorder = transactionPoolMetrics::recordWaitTime;
 
         maximumTransactionSize = transactionConfig.transactionMaxBytes();
 
         final EventCreationConfig eventCreationConfig =
                 platformContext.getConfiguration().getConfigData(EventCreationConfig.class);
         maximumPermissibleUnhealthyDuration = eventCreationConfig.maximumPermissibleUnhealthyDuration();
+        minimumBatchBytes = eventCreationConfig.reactiveMinimumBatchBytes();
+    }
+
+    /**
+     * Set the listener that is notified when transactions become available for a new event, i.e. when a priority
+     * transaction is submitted or when the waiting transactions reach the minimum batch size configured for reactive
+     * event creation. The listener is called on the submitting thread and must not block.
+     *
+     * @param listener the listener, or null to remove the listener
+     */
+    public void setTransactionsAvailableListener(@Nullable final Runnable listener) {
+        this.transactionsAvailableListener = listener;
     }
 
     // FUTURE WORK: these checks should be unified with the checks performed when a system transaction is submitted.
@@ -119,7 +175,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      * @param appTransaction the transaction to submit
      * @return true if the transaction passed all validity checks and was accepted by the consumer
      */
-    public synchronized boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
+    public boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
         if (!healthy || platformStatus != PlatformStatus.ACTIVE) {
             return false;
         }
@@ -152,30 +208,38 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *                    functionalities.
      * @return true if successful
      */
-    public synchronized boolean submitTransaction(@NonNull final Bytes transaction, final boolean priority) {
+    public boolean submitTransaction(@NonNull final Bytes transaction, final boolean priority) {
         Objects.requireNonNull(transaction);
 
-        // Always submit system transactions. If it's not a system transaction, then only submit it if we
-        // don't violate queue size capacity restrictions.
-        if (!priority
-                && (bufferedTransactions.size() + priorityBufferedTransactions.size()) > throttleTransactionQueueSize) {
-            transactionPoolMetrics.recordRejectedAppTransaction();
-            return false;
-        }
-
+        // Always submit system transactions.
         if (priority) {
-            bufferedSignatureTransactionCount++;
+            priorityBufferedTransactions.add(transaction);
+            bufferedSignatureTransactionCount.incrementAndGet();
             transactionPoolMetrics.recordSubmittedPlatformTransaction();
-        } else {
-            transactionPoolMetrics.recordAcceptedAppTransaction();
+            final Runnable listener = transactionsAvailableListener;
+            if (listener != null) {
+                listener.run();
+            }
+            return true;
         }
 
-        if (priority) {
-            priorityBufferedTransactions.add(transaction);
-        } else {
-            bufferedTransactions.add(transaction);
+        // If it's not a system transaction, then only submit it if we don't violate queue size capacity restrictions.
+        // Concurrent submissions may pass the check together, the capacity of the buffer is the hard limit.
+        if (bufferedTransactions.size() + bufferedSignatureTransactionCount.get() > throttleTransactionQueueSize
+                || !bufferedTransactions.offer(transaction, time.nanoTime())) {
+            transactionPoolMetrics.recordRejectedAppTransaction();
+            return false;
         }
 
+        transactionPoolMetrics.recordAcceptedAppTransaction();
+
+        final Runnable listener = transactionsAvailableListener;
+        if (listener != null
+                && !transactionsAvailableSignalled.get()
+                && bufferedTransactions.bufferedBytes() >= minimumBatchBytes
+                && transactionsAvailableSignalled.compareAndSet(false, true)) {
+            listener.run();
+        }
         return true;
     }
 
@@ -184,7 +248,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @param platformStatus the new platform status
      */
-    public synchronized void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
+    public void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
         this.platformStatus = platformStatus;
     }
 
@@ -194,18 +258,19 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @param duration the amount of time that the system has been in an unhealthy state
      */
-    public synchronized void reportUnhealthyDuration(@NonNull final Duration duration) {
+    public void reportUnhealthyDuration(@NonNull final Duration duration) {
         healthy = isLessThan(duration, maximumPermissibleUnhealthyDuration);
     }
 
     /**
-     * Get the next transaction that should be inserted into an event, or null if there is no available transaction.
+     * Get the next priority transaction that should be inserted into an event, or null if there is no available
+     * priority transaction.
      *
      * @param currentEventSize the current size in bytes of the event being constructed
-     * @return the next transaction, or null if no transaction is available
+     * @return the next priority transaction, or null if no priority transaction is available
      */
     @Nullable
-    private Bytes getNextTransaction(final long currentEventSize) {
+    private Bytes getNextPriorityTransaction(final long currentEventSize) {
         final long maxSize = maxTransactionBytesPerEvent - currentEventSize;
 
         if (maxSize <= 0) {
@@ -213,45 +278,43 @@ public class TransactionPoolNexus implements TransactionSupplier {
             return null;
         }
 
-        if (!priorityBufferedTransactions.isEmpty()
-                && priorityBufferedTransactions.peek().length() <= maxSize) {
-            bufferedSignatureTransactionCount--;
+        final Bytes transaction = priorityBufferedTransactions.peek();
+        if (transaction != null && transaction.length() <= maxSize) {
+            bufferedSignatureTransactionCount.decrementAndGet();
             return priorityBufferedTransactions.poll();
         }
 
-        if (!bufferedTransactions.isEmpty() && bufferedTransactions.peek().length() <= maxSize) {
-            return bufferedTransactions.poll();
-        }
-
         return null;
     }
 
     /**
      * Removes as many transactions from the list waiting to be in an event that can fit (FIFO ordering), and returns
      * them as an array, along with a boolean indicating if the array of transactions returned contains a freeze state
-     * signature transaction.
+     * signature transaction. Priority transactions are taken first, then non-priority transactions, until the next
+     * transaction does not fit into {@code maxTransactionBytesPerEvent}.
      */
     @NonNull
     @Override
     public synchronized List<Bytes> getTransactions() {
+        transactionsAvailableSignalled.set(false);
+
         // Early return due to no transactions waiting
-        if (bufferedTransactions.isEmpty() && priorityBufferedTransactions.isEmpty()) {
+        if (bufferedTransactions.size() == 0 && bufferedSignatureTransactionCount.get() == 0) {
             return Collections.emptyList();
         }
 
-        final List<Bytes> selectedTrans = new LinkedList<>();
+        final List<Bytes> selectedTrans = new ArrayList<>();
         long currEventSize = 0;
 
-        while (true) {
-            final Bytes transaction = getNextTransaction(currEventSize);
-
-            if (transaction == null) {
-                // No transaction of suitable size is available
-                break;
-            }
+        Bytes priorityTransaction;
+        while ((priorityTransaction = getNextPriorityTransaction(currEventSize)) != null) {
+            currEventSize += priorityTransaction.length();
+            selectedTrans.add(priorityTransaction);
+        }
 
-            currEventSize += transaction.length();
-            selectedTrans.add(transaction);
+        if (currEventSize < maxTransactionBytesPerEvent) {
+            bufferedTransactions.drainTo(
+                    selectedTrans, maxTransactionBytesPerEvent - currEventSize, time.nanoTime(), waitTimeRecorder);
         }
 
         return selectedTrans;
@@ -262,8 +325,27 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return true if there are any buffered signature transactions
      */
-    public synchronized boolean hasBufferedSignatureTransactions() {
-        return bufferedSignatureTransactionCount > 0;
+    public boolean hasBufferedSignatureTransactions() {
+        return bufferedSignatureTransactionCount.get() > 0;
+    }
+
+    /**
+     * Get the number of bytes of non-priority transactions waiting to be put into events.
+     *
+     * @return the number of bytes
+     */
+    public long getBufferedTransactionBytes() {
+        return bufferedTransactions.bufferedBytes();
+    }
+
+    /**
+     * Get how long the oldest non-priority transaction has been waiting to be put into an event.
+     *
+     * @return the wait time in nanoseconds, or 0 if no transaction is waiting
+     */
+    public synchronized long getOldestTransactionWaitNanos() {
+        final long offerTime = bufferedTransactions.frontOfferTime();
+        return offerTime == Long.MAX_VALUE ? 0 : Math.max(time.nanoTime() - offerTime, 0);
     }
 
     /**
@@ -271,7 +353,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getBufferedTransactionCount() {
+    private int getBufferedTransactionCount() {
         return bufferedTransactions.size();
     }
 
@@ -280,8 +362,8 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getPriorityBufferedTransactionCount() {
-        return priorityBufferedTransactions.size();
+    private int getPriorityBufferedTransactionCount() {
+        return bufferedSignatureTransactionCount.get();
     }
 
     /**
@@ -289,7 +371,8 @@ public class TransactionPoolNexus implements TransactionSupplier {
      */
     synchronized void clear() {
         bufferedTransactions.clear();
-        priorityBufferedTransactions.clear();
-        bufferedSignatureTransactionCount = 0;
+        while (priorityBufferedTransactions.poll() != null) {
+            bufferedSignatureTransactionCount.decrementAndGet();
+        }
     }
 }
@@ -0,0 +1,176 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.consensus.event.creator.impl.pool;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * A bounded, lock-free, multi-producer single-consumer FIFO buffer of transactions.
+ * <p>
+ * Producers claim a slot by incrementing the producer index and then publish the transaction into the slot. The
+ * consumer takes transactions in index order and frees their slots. Offering a transaction does not allocate.
+ * <p>
+ * All methods documented as consumer methods must not be called concurrently with each other.
+ */
+final class TransactionRingBuffer {
+
+    private final int mask;
+    private final AtomicReferenceArray<Bytes> slots;
+
+    /**
+     * The time at which the transaction in each slot was offered. Written before the slot is published and read
+     * after the slot was found non-null, so the slot publication orders the access.
+     */
+    private final long[] offerTimes;
+
+    /**
+     * The index of the next slot to be claimed by a producer.
+     */
+    private final AtomicLong producerIndex = new AtomicLong();
+
+    /**
+     * The index of the next slot to be taken by the consumer.
+     */
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    /**
+     * The total number of bytes of all buffered transactions.
+     */
+    private final LongAdder bufferedBytes = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param minimumCapacity the minimum number of transactions the buffer can hold, rounded up to a power of two
+     */
+    TransactionRingBuffer(final int minimumCapacity) {
+        if (minimumCapacity < 1 || minimumCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30, was " + minimumCapacity);
+        }
+        final int capacity = minimumCapacity == 1 ? 1 : Integer.highestOneBit(minimumCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.offerTimes = new long[capacity];
+    }
+
+    /**
+     * Get the number of transactions the buffer can hold.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Add a transaction to the end of the buffer. May be called by any thread.
+     *
+     * @param transaction the transaction
+     * @param nowNanos    the current time in nanoseconds, used to measure how long the transaction waits
+     * @return true if the transaction was added, false if the buffer is full
+     */
+    boolean offer(@NonNull final Bytes transaction, final long nowNanos) {
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex.get() > mask) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+
+        final int offset = (int) index & mask;
+        offerTimes[offset] = nowNanos;
+        slots.setRelease(offset, transaction);
+        bufferedBytes.add(transaction.length());
+        return true;
+    }
+
+    /**
+     * Take transactions from the front of the buffer, in order, until the next transaction does not fit into the
+     * remaining byte budget. A slot that was claimed but not yet published stops the drain as well; its transaction
+     * is taken by a later drain. Consumer method.
+     *
+     * @param target        the list to add the transactions to
+     * @param maxBytes      the maximum total number of bytes of the transactions taken
+     * @param nowNanos      the current time in nanoseconds
+     * @param waitTimeNanos receives the time each taken transaction spent in the buffer
+     * @return the total number of bytes of the transactions taken
+     */
+    long drainTo(
+            @NonNull final List<Bytes> target,
+            final long maxBytes,
+            final long nowNanos,
+            @NonNull final LongConsumer waitTimeNanos) {
+        long index = consumerIndex.get();
+        long drainedBytes = 0;
+        while (true) {
+            final int offset = (int) index & mask;
+            final Bytes transaction = slots.getAcquire(offset);
+            if (transaction == null || drainedBytes + transaction.length() > maxBytes) {
+                break;
+            }
+            waitTimeNanos.accept(nowNanos - offerTimes[offset]);
+            slots.setPlain(offset, null);
+            drainedBytes += transaction.length();
+            target.add(transaction);
+            index++;
+            // publishing the new consumer index makes the slot available to producers again
+            consumerIndex.setRelease(index);
+        }
+        bufferedBytes.add(-drainedBytes);
+        return drainedBytes;
+    }
+
+    /**
+     * Get the time at which the transaction at the front of the buffer was offered. Consumer method.
+     *
+     * @return the offer time in nanoseconds, or {@link Long#MAX_VALUE} if no transaction is available
+     */
+    long frontOfferTime() {
+        final int offset = (int) consumerIndex.get() & mask;
+        return slots.getAcquire(offset) == null ? Long.MAX_VALUE : offerTimes[offset];
+    }
+
+    /**
+     * Discard all published transactions. Consumer method.
+     */
+    void clear() {
+        long index = consumerIndex.get();
+        long discardedBytes = 0;
+        Bytes transaction;
+        while ((transaction = slots.getAcquire((int) index & mask)) != null) {
+            slots.setPlain((int) index & mask, null);
+            discardedBytes += transaction.length();
+            index++;
+            consumerIndex.setRelease(index);
+        }
+        bufferedBytes.add(-discardedBytes);
+    }
+
+    /**
+     * Get the number of buffered transactions, including transactions that are still being published. The result is
+     * only an estimate while transactions are added or taken concurrently.
+     *
+     * @return the number of buffered transactions
+     */
+    int size() {
+        // read the consumer index first, so that the difference is never negative
+        final long consumed = consumerIndex.get();
+        return (int) Math.min(producerIndex.get() - consumed, mask + 1L);
+    }
+
+    /**
+     * Get the total number of bytes of all buffered transactions. The result is only an estimate while transactions
+     * are added or taken concurrently.
+     *
+     * @return the number of buffered bytes
+     */
+    long bufferedBytes() {
+        return Math.max(bufferedBytes.sum(), 0);
+    }
+}
@@ -0,0 +1,78 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.consensus.event.creator.impl.rules;
+
+import static org.hiero.consensus.event.creator.impl.EventCreationStatus.BATCHING_TRANSACTIONS;
+
+import com.swirlds.common.context.PlatformContext;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import org.hiero.consensus.event.creator.impl.EventCreationStatus;
+import org.hiero.consensus.event.creator.impl.config.EventCreationConfig;
+import org.hiero.consensus.event.creator.impl.pool.TransactionPoolNexus;
+
+/**
+ * Holds back the creation of an event that would only be partially filled with transactions, as long as more
+ * transactions can be expected to arrive soon. Event creation is permitted if
+ * <ul>
+ *     <li>no transaction is waiting, since waiting would not improve the next event,</li>
+ *     <li>a priority transaction is waiting,</li>
+ *     <li>the waiting transactions reach the minimum batch size, or</li>
+ *     <li>the oldest waiting transaction has waited for the maximum wait time.</li>
+ * </ul>
+ * Only used when reactive event creation is enabled.
+ */
+public class TransactionBatchRule implements EventCreationRule {
+
+    private final TransactionPoolNexus transactionPoolNexus;
+    private final long minimumBatchBytes;
+    private final long maximumWaitNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param platformContext      the platform context
+     * @param transactionPoolNexus provides transactions to be added to new events
+     */
+    public TransactionBatchRule(
+            @NonNull final PlatformContext platformContext, @NonNull final TransactionPoolNexus transactionPoolNexus) {
+        this.transactionPoolNexus = Objects.requireNonNull(transactionPoolNexus);
+
+        final EventCreationConfig config = platformContext.getConfiguration().getConfigData(EventCreationConfig.class);
+        minimumBatchBytes = config.reactiveMinimumBatchBytes();
+        maximumWaitNanos = config.reactiveMaximumWait().toNanos();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEventCreationPermitted() {
+        if (transactionPoolNexus.hasBufferedSignatureTransactions()) {
+            return true;
+        }
+
+        final long bufferedBytes = transactionPoolNexus.getBufferedTransactionBytes();
+        if (bufferedBytes == 0 || bufferedBytes >= minimumBatchBytes) {
+            return true;
+        }
+
+        return transactionPoolNexus.getOldestTransactionWaitNanos() >= maximumWaitNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void eventWasCreated() {
+        // no-op
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public EventCreationStatus getEventCreationStatus() {
+        return BATCHING_TRANSACTIONS;
+    }
+}
@@ -2,6 +2,7 @@
 package org.hiero.consensus.event.creator.impl.pool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -15,6 +16,7 @@ import com.swirlds.common.test.fixtures.Randotron;
 import com.swirlds.config.api.Configuration;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hiero.consensus.config.TransactionConfig;
 import org.hiero.consensus.event.creator.impl.config.EventCreationConfig;
 import org.hiero.consensus.model.status.PlatformStatus;
@@ -35,8 +37,8 @@ class TransactionPoolNexusTest {
     public void beforeEach() {
         final TransactionConfig txConfig =
                 new TransactionConfig(TX_MAX_BYTES, MAX_TX_BYTES_PER_EVENT, 245_760, 100_000);
-        final EventCreationConfig eventCreationConfig =
-                new EventCreationConfig(20, 100, 10, 10, 1024, Duration.ofSeconds(1));
+        final EventCreationConfig eventCreationConfig = new EventCreationConfig(
+                20, 100, 10, 10, 1024, Duration.ofSeconds(1), false, 16_384, Duration.ofMillis(5));
         final Configuration configuration = mock(Configuration.class);
         final PlatformContext platformContext = mock(PlatformContext.class);
         when(platformContext.getMetrics()).thenReturn(new NoOpMetrics());
@@ -110,4 +112,58 @@ class TransactionPoolNexusTest {
         assertNotNull(thirdBatch);
         assertTrue(thirdBatch.isEmpty());
     }
+
+    @Test
+    void testPriorityTransactionsComeFirst() {
+        final Bytes appTx = Bytes.wrap(new byte[] {1});
+        final Bytes priorityTx = Bytes.wrap(new byte[] {2});
+        assertTrue(nexus.submitApplicationTransaction(appTx));
+        assertTrue(nexus.submitTransaction(priorityTx, true));
+        assertTrue(nexus.hasBufferedSignatureTransactions());
+
+        assertEquals(List.of(priorityTx, appTx), nexus.getTransactions());
+        assertFalse(nexus.hasBufferedSignatureTransactions());
+    }
+
+    @Test
+    void testClear() {
+        assertTrue(nexus.submitApplicationTransaction(Bytes.wrap(new byte[] {1})));
+        assertTrue(nexus.submitTransaction(Bytes.wrap(new byte[] {2}), true));
+
+        nexus.clear();
+
+        assertFalse(nexus.hasBufferedSignatureTransactions());
+        assertTrue(nexus.getTransactions().isEmpty());
+    }
+
+    @Test
+    void testTransactionsAvailableListener() {
+        final AtomicInteger notifications = new AtomicInteger();
+        nexus.setTransactionsAvailableListener(notifications::incrementAndGet);
+
+        // below the minimum batch size
+        assertTrue(nexus.submitApplicationTransaction(Bytes.wrap(new byte[TX_MAX_BYTES])));
+        assertEquals(0, notifications.get());
+        assertTrue(nexus.getOldestTransactionWaitNanos() >= 0);
+
+        // reaching the minimum batch size notifies once
+        for (int i = 0; i < 3; i++) {
+            assertTrue(nexus.submitApplicationTransaction(Bytes.wrap(new byte[TX_MAX_BYTES])));
+        }
+        assertEquals(1, notifications.get());
+        assertEquals(4L * TX_MAX_BYTES, nexus.getBufferedTransactionBytes());
+
+        // priority transactions always notify
+        assertTrue(nexus.submitTransaction(Bytes.wrap(new byte[] {1}), true));
+        assertEquals(2, notifications.get());
+
+        // taking the transactions re-arms the notification
+        assertEquals(5, nexus.getTransactions().size());
+        assertEquals(0, nexus.getBufferedTransactionBytes());
+        assertEquals(0, nexus.getOldestTransactionWaitNanos());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(nexus.submitApplicationTransaction(Bytes.wrap(new byte[TX_MAX_BYTES])));
+        }
+        assertEquals(3, notifications.get());
+    }
 }
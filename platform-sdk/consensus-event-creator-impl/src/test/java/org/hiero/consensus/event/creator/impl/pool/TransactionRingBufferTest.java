@@ -0,0 +1,197 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.consensus.event.creator.impl.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TransactionRingBufferTest {
+
+    private static Bytes transaction(final int id, final int size) {
+        final byte[] bytes = new byte[Math.max(size, Integer.BYTES)];
+        bytes[0] = (byte) (id >>> 24);
+        bytes[1] = (byte) (id >>> 16);
+        bytes[2] = (byte) (id >>> 8);
+        bytes[3] = (byte) id;
+        return Bytes.wrap(bytes);
+    }
+
+    private static int id(final Bytes transaction) {
+        return transaction.getInt(0);
+    }
+
+    @Test
+    void testCapacityIsRoundedUp() {
+        assertEquals(1, new TransactionRingBuffer(1).capacity());
+        assertEquals(2, new TransactionRingBuffer(2).capacity());
+        assertEquals(8, new TransactionRingBuffer(5).capacity());
+        assertEquals(131_072, new TransactionRingBuffer(100_001).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new TransactionRingBuffer(0));
+    }
+
+    @Test
+    void testFifoOrderAndAccounting() {
+        // given
+        final TransactionRingBuffer buffer = new TransactionRingBuffer(8);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(buffer.offer(transaction(i, 10), 0));
+        }
+        assertEquals(5, buffer.size());
+        assertEquals(50, buffer.bufferedBytes());
+
+        // when
+        final List<Bytes> drained = new ArrayList<>();
+        final long drainedBytes = buffer.drainTo(drained, 1000, 0, nanos -> {});
+
+        // then
+        assertEquals(50, drainedBytes);
+        assertEquals(List.of(0, 1, 2, 3, 4), drained.stream().map(TransactionRingBufferTest::id).toList());
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.bufferedBytes());
+    }
+
+    @Test
+    void testDrainStopsAtByteBudget() {
+        // given
+        final TransactionRingBuffer buffer = new TransactionRingBuffer(8);
+        buffer.offer(transaction(0, 40), 0);
+        buffer.offer(transaction(1, 40), 0);
+        buffer.offer(transaction(2, 10), 0);
+
+        // when
+        final List<Bytes> first = new ArrayList<>();
+        buffer.drainTo(first, 70, 0, nanos -> {});
+
+        // then the small transaction behind the one that does not fit must wait, to keep the FIFO order
+        assertEquals(List.of(0), first.stream().map(TransactionRingBufferTest::id).toList());
+        assertEquals(2, buffer.size());
+        assertEquals(50, buffer.bufferedBytes());
+
+        // when
+        final List<Bytes> second = new ArrayList<>();
+        buffer.drainTo(second, 70, 0, nanos -> {});
+
+        // then
+        assertEquals(List.of(1, 2), second.stream().map(TransactionRingBufferTest::id).toList());
+    }
+
+    @Test
+    void testFullBufferRejectsAndWrapsAround() {
+        // given
+        final TransactionRingBuffer buffer = new TransactionRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(transaction(i, 4), 0));
+        }
+
+        // then
+        assertFalse(buffer.offer(transaction(4, 4), 0), "A full buffer must reject transactions");
+
+        // when
+        final List<Bytes> drained = new ArrayList<>();
+        buffer.drainTo(drained, 8, 0, nanos -> {});
+        assertTrue(buffer.offer(transaction(4, 4), 0));
+        assertTrue(buffer.offer(transaction(5, 4), 0));
+        buffer.drainTo(drained, Long.MAX_VALUE, 0, nanos -> {});
+
+        // then
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), drained.stream().map(TransactionRingBufferTest::id).toList());
+    }
+
+    @Test
+    void testWaitTimeIsReported() {
+        // given
+        final TransactionRingBuffer buffer = new TransactionRingBuffer(4);
+        buffer.offer(transaction(0, 4), 100);
+        buffer.offer(transaction(1, 4), 250);
+        final AtomicLong totalWait = new AtomicLong();
+
+        // when
+        buffer.drainTo(new ArrayList<>(), Long.MAX_VALUE, 1000, totalWait::addAndGet);
+
+        // then
+        assertEquals(900 + 750, totalWait.get());
+    }
+
+    @Test
+    void testClear() {
+        // given
+        final TransactionRingBuffer buffer = new TransactionRingBuffer(4);
+        buffer.offer(transaction(0, 4), 0);
+        buffer.offer(transaction(1, 4), 0);
+
+        // when
+        buffer.clear();
+
+        // then
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.bufferedBytes());
+        final List<Bytes> drained = new ArrayList<>();
+        buffer.drainTo(drained, Long.MAX_VALUE, 0, nanos -> {});
+        assertTrue(drained.isEmpty());
+    }
+
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        // given
+        final int producerCount = 8;
+        final int transactionsPerProducer = 20_000;
+        final TransactionRingBuffer buffer = new TransactionRingBuffer(1024);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            final int producer = p;
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < transactionsPerProducer; i++) {
+                    final Bytes transaction = transaction(producer * transactionsPerProducer + i, 8);
+                    while (!buffer.offer(transaction, 0)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+
+        // when
+        start.countDown();
+        final Set<Integer> received = new HashSet<>();
+        final int[] lastPerProducer = new int[producerCount];
+        Arrays.fill(lastPerProducer, -1);
+        final List<Bytes> drained = new ArrayList<>();
+        while (received.size() < producerCount * transactionsPerProducer) {
+            drained.clear();
+            buffer.drainTo(drained, 4096, 0, nanos -> {});
+            for (final Bytes transaction : drained) {
+                final int id = id(transaction);
+                assertTrue(received.add(id), "Transaction " + id + " was received twice");
+                final int producer = id / transactionsPerProducer;
+                assertTrue(id > lastPerProducer[producer], "Transactions of one producer must stay in order");
+                lastPerProducer[producer] = id;
+            }
+        }
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+
+        // then
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.bufferedBytes());
+    }
+}
@@ -248,4 +248,40 @@ class EventCreationRulesTests {
         unhealthyDuration.set(Duration.ofSeconds(5));
         assertTrue(rule.isEventCreationPermitted());
     }
+
+    @Test
+    void transactionBatchRuleTest() {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(EventCreationConfig_.REACTIVE_MINIMUM_BATCH_BYTES, 1000)
+                .withValue(EventCreationConfig_.REACTIVE_MAXIMUM_WAIT, "10ms")
+                .getOrCreateConfig();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(configuration)
+                .build();
+
+        final TransactionPoolNexus transactionPoolNexus = mock(TransactionPoolNexus.class);
+        final EventCreationRule rule = new TransactionBatchRule(platformContext, transactionPoolNexus);
+
+        // nothing to batch, so there is no reason to wait
+        assertTrue(rule.isEventCreationPermitted());
+
+        // a partial batch that has not waited long enough is held back
+        when(transactionPoolNexus.getBufferedTransactionBytes()).thenReturn(500L);
+        when(transactionPoolNexus.getOldestTransactionWaitNanos()).thenReturn(Duration.ofMillis(3).toNanos());
+        assertFalse(rule.isEventCreationPermitted());
+
+        // a partial batch that has waited long enough is released
+        when(transactionPoolNexus.getOldestTransactionWaitNanos()).thenReturn(Duration.ofMillis(10).toNanos());
+        assertTrue(rule.isEventCreationPermitted());
+
+        // a full batch is released right away
+        when(transactionPoolNexus.getBufferedTransactionBytes()).thenReturn(1000L);
+        when(transactionPoolNexus.getOldestTransactionWaitNanos()).thenReturn(0L);
+        assertTrue(rule.isEventCreationPermitted());
+
+        // priority transactions are never held back
+        when(transactionPoolNexus.getBufferedTransactionBytes()).thenReturn(1L);
+        when(transactionPoolNexus.hasBufferedSignatureTransactions()).thenReturn(true);
+        assertTrue(rule.isEventCreationPermitted());
+    }
 }
@@ -0,0 +1,82 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.benchmark;
+
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.metrics.platform.PlatformRunningAverageMetric;
+import com.swirlds.common.metrics.platform.PlatformSpeedometerMetric;
+import com.swirlds.common.metrics.platform.StripedRunningAverageMetric;
+import com.swirlds.common.metrics.platform.StripedSpeedometerMetric;
+import com.swirlds.metrics.api.LongAccumulator;
+import com.swirlds.metrics.impl.DefaultLongAccumulator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of recording into metrics that are shared by many threads, as they are on hot paths like event
+ * intake and transaction handling. Run with {@code -p striped=false,true} to compare the synchronized implementations
+ * with the striped ones. The striped metrics are never folded here, as in production, where folding is done by the
+ * metrics update service and not by recording threads.
+ */
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MetricsRecordingBench {
+
+    private static final String CATEGORY = "bench";
+
+    @Param({"false", "true"})
+    public boolean striped;
+
+    private SpeedometerMetric speedometer;
+    private RunningAverageMetric runningAverage;
+    private LongAccumulator maxAccumulator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final SpeedometerMetric.Config speedometerConfig = new SpeedometerMetric.Config(CATEGORY, "speedometer");
+        final RunningAverageMetric.Config averageConfig = new RunningAverageMetric.Config(CATEGORY, "average");
+        speedometer = striped
+                ? new StripedSpeedometerMetric(speedometerConfig)
+                : new PlatformSpeedometerMetric(speedometerConfig);
+        runningAverage = striped
+                ? new StripedRunningAverageMetric(averageConfig)
+                : new PlatformRunningAverageMetric(averageConfig);
+        maxAccumulator = new DefaultLongAccumulator(
+                new LongAccumulator.Config(CATEGORY, "max").withAccumulator(Math::max));
+    }
+
+    @Benchmark
+    public void speedometerCycle() {
+        speedometer.cycle();
+    }
+
+    @Benchmark
+    public void runningAverageUpdate() {
+        runningAverage.update(Thread.currentThread().threadId());
+    }
+
+    /**
+     * Records the same maximum over and over, which is the common case for accumulators tracking a maximum.
+     */
+    @Benchmark
+    public void longAccumulatorMax() {
+        maxAccumulator.update(Thread.currentThread().threadId());
+    }
+}
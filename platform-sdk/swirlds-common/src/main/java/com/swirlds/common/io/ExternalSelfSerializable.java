@@ -29,6 +29,20 @@ public interface ExternalSelfSerializable extends SerializableDet {
      */
     void serialize(SerializableDataOutputStream out, Path outputDirectory) throws IOException;
 
+    /**
+     * Do the expensive, self-contained part of {@link #serialize(SerializableDataOutputStream, Path)} ahead of time,
+     * for example writing files into the output directory. This method may be called concurrently for different
+     * objects that are serialized into the same directory, and is always followed by a call to
+     * {@link #serialize(SerializableDataOutputStream, Path)} with the same directory. The default implementation
+     * does nothing.
+     *
+     * @param outputDirectory
+     * 		the location on disk that will be passed to {@link #serialize(SerializableDataOutputStream, Path)}
+     * @throws IOException
+     * 		thrown in case of an IO exception
+     */
+    default void prepareSerialization(Path outputDirectory) throws IOException {}
+
     /**
      * Reconstruct this object using the data serialized by
      * {@link #serialize(SerializableDataOutputStream, Path)}.
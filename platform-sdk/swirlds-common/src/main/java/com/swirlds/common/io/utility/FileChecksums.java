@@ -0,0 +1,206 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.io.utility;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A process wide registry of CRC32C checksums computed while files were being written.
+ * <p>
+ * Writers that stream a file out compute its checksum on the fly and record it here, so that a later consumer (such
+ * as the saved state manifest) does not have to read the file back. Checksums are keyed by file identity (the file
+ * system key, size and last modified time), not by path, so a checksum recorded for a file remains valid for every
+ * hard link to that file. This matters for MerkleDB data files, which are immutable and hard linked into every
+ * snapshot: each one is checksummed once, when it is written, no matter how many snapshots it ends up in.
+ * <p>
+ * File systems that do not expose a file key are not supported, on those {@link #record(Path, long)} does nothing and
+ * {@link #lookup(Path)} always returns null.
+ */
+public final class FileChecksums {
+
+    /**
+     * The identity of a file, as returned by the file system.
+     */
+    private record FileIdentity(@NonNull Object fileKey, long size, long lastModifiedMillis) {}
+
+    /**
+     * A recorded checksum and the path of the file it was recorded for.
+     */
+    private record RecordedChecksum(@NonNull Path path, long checksum) {}
+
+    /**
+     * The reflected CRC32C (Castagnoli) polynomial.
+     */
+    private static final long CRC32C_POLYNOMIAL = 0x82F63B78L;
+
+    /**
+     * The minimum number of recorded checksums before {@link #record(Path, long)} prunes the registry.
+     */
+    private static final int MIN_PRUNE_THRESHOLD = 1024;
+
+    private static final Map<FileIdentity, RecordedChecksum> CHECKSUMS = new ConcurrentHashMap<>();
+
+    /**
+     * When the registry grows beyond this size, it is pruned. Doubling the threshold relative to the size left after
+     * pruning keeps the amortized cost of pruning constant per recorded file.
+     */
+    private static final AtomicInteger pruneThreshold = new AtomicInteger(MIN_PRUNE_THRESHOLD);
+
+    private FileChecksums() {}
+
+    /**
+     * Record the CRC32C checksum of a file that has been completely written. The file must not be modified afterwards
+     * without changing its size or last modified time, which holds for any file that is written once and then only
+     * read or hard linked.
+     *
+     * @param file     the file
+     * @param checksum the CRC32C checksum of the full contents of the file
+     * @throws IOException if the attributes of the file can not be read
+     */
+    public static void record(@NonNull final Path file, final long checksum) throws IOException {
+        Objects.requireNonNull(file);
+        final FileIdentity identity = identityOf(file);
+        if (identity != null) {
+            CHECKSUMS.put(identity, new RecordedChecksum(file, checksum));
+        }
+        final int threshold = pruneThreshold.get();
+        if (CHECKSUMS.size() > threshold && pruneThreshold.compareAndSet(threshold, Integer.MAX_VALUE)) {
+            prune();
+            pruneThreshold.set(Math.max(MIN_PRUNE_THRESHOLD, CHECKSUMS.size() * 2));
+        }
+    }
+
+    /**
+     * Get the recorded checksum of a file, if one was recorded for this file or for another hard link to it.
+     *
+     * @param file the file
+     * @return the checksum, or null if no checksum was recorded for this file
+     * @throws IOException if the attributes of the file can not be read
+     */
+    @Nullable
+    public static Long lookup(@NonNull final Path file) throws IOException {
+        Objects.requireNonNull(file);
+        final FileIdentity identity = identityOf(file);
+        if (identity == null) {
+            return null;
+        }
+        final RecordedChecksum recorded = CHECKSUMS.get(identity);
+        return recorded == null ? null : recorded.checksum();
+    }
+
+    /**
+     * Forget the checksums of files that were deleted or modified since their checksum was recorded. Deleting a file
+     * that still has other hard links does not invalidate its checksum, but it is forgotten anyway, at worst this
+     * causes the file to be read again by a later consumer. Pruning also happens automatically as checksums are
+     * recorded.
+     */
+    public static void prune() {
+        CHECKSUMS.entrySet().removeIf(entry -> {
+            try {
+                return !entry.getKey().equals(identityOf(entry.getValue().path()));
+            } catch (final IOException e) {
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Forget all recorded checksums.
+     */
+    public static void clear() {
+        CHECKSUMS.clear();
+        pruneThreshold.set(MIN_PRUNE_THRESHOLD);
+    }
+
+    /**
+     * Combine the CRC32C checksums of two consecutive blocks of data into the checksum of their concatenation, without
+     * access to the data itself. This lets a writer that does not produce a file front to back (for example because it
+     * rewrites a header once the body is complete) checksum the parts separately.
+     *
+     * @param crc1 the checksum of the first block
+     * @param crc2 the checksum of the second block
+     * @param len2 the length of the second block, in bytes
+     * @return the checksum of the first block followed by the second block
+     */
+    public static long combine(final long crc1, final long crc2, final long len2) {
+        if (len2 <= 0) {
+            return crc1;
+        }
+        // Same approach as zlib's crc32_combine(): apply len2 zero bytes to crc1 by repeated squaring of the
+        // operator that feeds a single zero bit through the (reflected) CRC32C register
+        final long[] even = new long[32];
+        final long[] odd = new long[32];
+        odd[0] = CRC32C_POLYNOMIAL;
+        long row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+        gf2MatrixSquare(even, odd); // two zero bits
+        gf2MatrixSquare(odd, even); // four zero bits
+
+        long crc = crc1;
+        long remaining = len2;
+        do {
+            gf2MatrixSquare(even, odd);
+            if ((remaining & 1) != 0) {
+                crc = gf2MatrixTimes(even, crc);
+            }
+            remaining >>= 1;
+            if (remaining == 0) {
+                break;
+            }
+            gf2MatrixSquare(odd, even);
+            if ((remaining & 1) != 0) {
+                crc = gf2MatrixTimes(odd, crc);
+            }
+            remaining >>= 1;
+        } while (remaining != 0);
+        return (crc ^ crc2) & 0xFFFFFFFFL;
+    }
+
+    private static long gf2MatrixTimes(final long[] matrix, final long vector) {
+        long sum = 0;
+        long v = vector;
+        for (int i = 0; v != 0; i++, v >>>= 1) {
+            if ((v & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(final long[] square, final long[] matrix) {
+        for (int n = 0; n < 32; n++) {
+            square[n] = gf2MatrixTimes(matrix, matrix[n]);
+        }
+    }
+
+    /**
+     * Get the identity of a file, or null if the file system does not provide a file key or the file does not exist.
+     */
+    @Nullable
+    private static FileIdentity identityOf(@NonNull final Path file) throws IOException {
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (final NoSuchFileException e) {
+            return null;
+        }
+        final Object fileKey = attributes.fileKey();
+        if (fileKey == null) {
+            return null;
+        }
+        return new FileIdentity(
+                fileKey, attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+}
@@ -23,6 +23,8 @@ import java.nio.file.StandardCopyOption;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -257,7 +259,8 @@ public final class FileUtils {
     }
 
     /**
-     * Write to a new file, and make sure it's flushed to disk before returning.
+     * Write to a new file, and make sure it's flushed to disk before returning. The checksum of the file is computed
+     * while it is written and recorded in {@link FileChecksums}.
      *
      * @param file        the file to be written to, should not exist prior to this method being called
      * @param writeMethod the method that writes
@@ -268,8 +271,9 @@ public final class FileUtils {
 
         throwIfFileExists(file);
 
+        final CRC32C checksum = new CRC32C();
         try (final FileOutputStream fileOut = new FileOutputStream(file.toFile());
-                final BufferedOutputStream bufOut = new BufferedOutputStream(fileOut);
+                final BufferedOutputStream bufOut = new BufferedOutputStream(new CheckedOutputStream(fileOut, checksum));
                 final MerkleDataOutputStream out = new MerkleDataOutputStream(bufOut)) {
 
             writeMethod.accept(out);
@@ -279,6 +283,7 @@ public final class FileUtils {
             // make sure the data is actually written to disk
             fileOut.getFD().sync();
         }
+        FileChecksums.record(file, checksum.getValue());
     }
 
     /**
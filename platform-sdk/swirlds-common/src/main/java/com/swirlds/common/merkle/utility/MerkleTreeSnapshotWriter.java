@@ -5,14 +5,24 @@ import static com.swirlds.common.io.utility.FileUtils.writeAndFlush;
 import static com.swirlds.common.merkle.utility.MerkleTreeSnapshotReader.SIGNED_STATE_FILE_NAME;
 import static com.swirlds.common.merkle.utility.MerkleTreeSnapshotReader.SIG_SET_SEPARATE_STATE_FILE_VERSION;
 import static com.swirlds.common.merkle.utility.MerkleTreeSnapshotReader.VERSIONED_FILE_BYTE;
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.logging.legacy.LogMarker.STATE_TO_DISK;
 
+import com.swirlds.common.io.ExternalSelfSerializable;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -54,10 +64,62 @@ public final class MerkleTreeSnapshotWriter {
 
     private static void writeMerkleRootToFile(@NonNull final Path directory, @NonNull final MerkleNode merkleRoot)
             throws IOException {
+        prepareExternalNodes(directory, merkleRoot);
         writeAndFlush(
                 directory.resolve(SIGNED_STATE_FILE_NAME), out -> writeMerkleRootToStream(out, directory, merkleRoot));
     }
 
+    /**
+     * Prepare the serialization of all externally serialized internal nodes of the tree (in practice, virtual maps)
+     * in parallel. Each of them snapshots its own data source into the directory, which is by far the most expensive
+     * part of writing a snapshot, and the tables are independent of each other. The tree itself is then written
+     * sequentially as before, with those nodes only writing their metadata.
+     */
+    private static void prepareExternalNodes(@NonNull final Path directory, @NonNull final MerkleNode merkleRoot)
+            throws IOException {
+        final List<ExternalSelfSerializable> externalNodes = new ArrayList<>();
+        merkleRoot
+                .treeIterator()
+                .setDescendantFilter(node -> !(node instanceof ExternalSelfSerializable))
+                .setFilter((final MerkleNode node) -> !node.isLeaf() && node instanceof ExternalSelfSerializable)
+                .forEachRemaining(node -> externalNodes.add((ExternalSelfSerializable) node));
+        if (externalNodes.isEmpty()) {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(externalNodes.size(), Runtime.getRuntime().availableProcessors()),
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent("state-snapshot")
+                        .setThreadName("prepare-external")
+                        .buildFactory());
+        try {
+            final List<Future<Void>> futures = new ArrayList<>(externalNodes.size());
+            for (final ExternalSelfSerializable node : externalNodes) {
+                futures.add(executor.submit(() -> {
+                    node.prepareSerialization(directory);
+                    return null;
+                }));
+            }
+            for (final Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while preparing external nodes for serialization", e);
+        } catch (final ExecutionException e) {
+            throw new IOException("Unable to prepare external nodes for serialization", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info(
+                STATE_TO_DISK.getMarker(),
+                "Prepared {} external nodes for serialization in {} ms",
+                externalNodes.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
     private static void writeMerkleRootToStream(
             @NonNull final MerkleDataOutputStream out,
             @NonNull final Path directory,
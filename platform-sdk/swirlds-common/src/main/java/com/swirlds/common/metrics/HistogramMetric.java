@@ -0,0 +1,289 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.MIN;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P90;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import com.swirlds.metrics.api.FloatFormats;
+import com.swirlds.metrics.api.Metric;
+import com.swirlds.metrics.api.MetricType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.EnumSet;
+
+/**
+ * A histogram records the distribution of non-negative {@code long} values, e.g. latencies in microseconds. Values
+ * are counted in log-linear buckets: every power of two is split into {@code 2^precisionBits} buckets of equal
+ * width, so the relative error of a reported percentile is at most {@code 2^-precisionBits}. Values larger than
+ * {@link Config#getMaxValue() maxValue} are counted in the highest bucket.
+ * <p>
+ * Recording a value is lock-free and does not allocate. The percentiles, the mean, the minimum and the maximum
+ * reported by {@link #get(ValueType)} and by snapshots cover the values recorded between the last two snapshots,
+ * while {@link #getBuckets()} reports the cumulative distribution since the last {@link #reset()}.
+ */
+public interface HistogramMetric extends Metric {
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default MetricType getMetricType() {
+        return MetricType.HISTOGRAM;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default DataType getDataType() {
+        return DataType.FLOAT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default EnumSet<ValueType> getValueTypes() {
+        return EnumSet.of(VALUE, MAX, MIN, P50, P90, P99);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * {@link ValueType#VALUE} is the mean of the values recorded during the last snapshot interval.
+     */
+    @NonNull
+    @Override
+    Double get(@NonNull final ValueType valueType);
+
+    /**
+     * Record a value. Negative values are recorded as {@code 0}.
+     *
+     * @param value the value to record
+     */
+    void update(final long value);
+
+    /**
+     * Returns the number of values recorded since the last {@link #reset()}.
+     *
+     * @return the number of recorded values
+     */
+    long getCount();
+
+    /**
+     * Returns the sum of all values recorded since the last {@link #reset()}.
+     *
+     * @return the sum of the recorded values
+     */
+    long getSum();
+
+    /**
+     * Returns the cumulative distribution of all values recorded since the last {@link #reset()}, with one bucket
+     * per power of two. This is the form expected by classic Prometheus histograms.
+     *
+     * @return the cumulative buckets
+     */
+    @NonNull
+    Buckets getBuckets();
+
+    /**
+     * A cumulative view of a histogram. {@code counts[i]} is the number of recorded values that are less than or
+     * equal to {@code upperBounds[i]}. The last upper bound is the largest value tracked by the histogram, and the
+     * last count includes values that exceeded it.
+     *
+     * @param upperBounds the inclusive upper bounds of the buckets, in ascending order
+     * @param counts      the cumulative counts for each upper bound
+     * @param count       the total number of recorded values
+     * @param sum         the sum of all recorded values
+     */
+    record Buckets(@NonNull long[] upperBounds, @NonNull long[] counts, long count, long sum) {}
+
+    /**
+     * Configuration of a {@link HistogramMetric}
+     */
+    final class Config extends PlatformMetricConfig<HistogramMetric, Config> {
+
+        /**
+         * The default largest value that is tracked precisely, roughly 18 minutes when recording nanoseconds.
+         */
+        public static final long DEFAULT_MAX_VALUE = 1L << 40;
+
+        /**
+         * The default number of precision bits, which results in a relative error of at most 12.5%.
+         */
+        public static final int DEFAULT_PRECISION_BITS = 3;
+
+        private final long maxValue;
+        private final int precisionBits;
+
+        /**
+         * Constructor of {@code HistogramMetric.Config}
+         *
+         * @param category
+         * 		the kind of metric (stats are grouped or filtered by this)
+         * @param name
+         * 		a short name for the statistic
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
+         */
+        public Config(@NonNull final String category, @NonNull final String name) {
+            super(category, name, FloatFormats.FORMAT_11_3);
+            this.maxValue = DEFAULT_MAX_VALUE;
+            this.precisionBits = DEFAULT_PRECISION_BITS;
+        }
+
+        /**
+         * Constructor of {@code HistogramMetric.Config}
+         *
+         * @param category
+         * 		the kind of metric (stats are grouped or filtered by this)
+         * @param name
+         * 		a short name for the statistic
+         * @param description metric description
+         * @param unit metric unit
+         * @param format metric format
+         * @param maxValue the largest value that is tracked precisely
+         * @param precisionBits the number of buckets per power of two, as a power of two
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces, or if
+         *                                  {@code maxValue} or {@code precisionBits} is out of range
+         */
+        private Config(
+                @NonNull final String category,
+                @NonNull final String name,
+                @NonNull final String description,
+                @NonNull final String unit,
+                @NonNull final String format,
+                final long maxValue,
+                final int precisionBits) {
+
+            super(category, name, description, unit, format);
+            if (precisionBits < 0 || precisionBits > 10) {
+                throw new IllegalArgumentException("precisionBits must be between 0 and 10: " + precisionBits);
+            }
+            if (maxValue < (1L << precisionBits)) {
+                throw new IllegalArgumentException("maxValue must be at least 2^precisionBits: " + maxValue);
+            }
+            this.maxValue = maxValue;
+            this.precisionBits = precisionBits;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public HistogramMetric.Config withDescription(@NonNull final String description) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), description, getUnit(), getFormat(), maxValue, precisionBits);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public HistogramMetric.Config withUnit(@NonNull final String unit) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), getDescription(), unit, getFormat(), maxValue, precisionBits);
+        }
+
+        /**
+         * Sets the {@link Metric#getFormat() Metric.format} in fluent style.
+         *
+         * @param format
+         * 		the format-string
+         * @return a new configuration-object with updated {@code format}
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
+         */
+        @NonNull
+        public HistogramMetric.Config withFormat(@NonNull final String format) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), format, maxValue, precisionBits);
+        }
+
+        /**
+         * Getter of the {@code maxValue}, the largest value that is tracked precisely.
+         *
+         * @return the {@code maxValue}
+         */
+        public long getMaxValue() {
+            return maxValue;
+        }
+
+        /**
+         * Fluent-style setter of the {@code maxValue}.
+         *
+         * @param maxValue
+         * 		the largest value that is tracked precisely
+         * @return a new configuration-object with updated {@code maxValue}
+         * @throws IllegalArgumentException if {@code maxValue} is smaller than {@code 2^precisionBits}
+         */
+        @NonNull
+        public HistogramMetric.Config withMaxValue(final long maxValue) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), getFormat(), maxValue, precisionBits);
+        }
+
+        /**
+         * Getter of the {@code precisionBits}. Every power of two is split into {@code 2^precisionBits} buckets.
+         *
+         * @return the {@code precisionBits}
+         */
+        public int getPrecisionBits() {
+            return precisionBits;
+        }
+
+        /**
+         * Fluent-style setter of the {@code precisionBits}.
+         *
+         * @param precisionBits
+         * 		the number of buckets per power of two, as a power of two
+         * @return a new configuration-object with updated {@code precisionBits}
+         * @throws IllegalArgumentException if {@code precisionBits} is not between 0 and 10
+         */
+        @NonNull
+        public HistogramMetric.Config withPrecisionBits(final int precisionBits) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), getFormat(), maxValue, precisionBits);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public Class<HistogramMetric> getResultClass() {
+            return HistogramMetric.class;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NonNull
+        public HistogramMetric create(@NonNull final PlatformMetricsFactory factory) {
+            return factory.createHistogramMetric(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .appendSuper(super.toString())
+                    .append("maxValue", maxValue)
+                    .append("precisionBits", precisionBits)
+                    .toString();
+        }
+    }
+}
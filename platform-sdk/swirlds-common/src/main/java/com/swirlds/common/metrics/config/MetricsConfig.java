@@ -29,6 +29,10 @@ import java.time.Duration;
  *         the file name to be used for Metrics document generation
  * @param halfLife
  * 		   half life of some of the various statistics (give half the weight to the last halfLife seconds)
+ * @param stripedRecordingEnabled
+ *         if {@code true}, running averages and speedometers created by the platform record values into lock-free
+ *         striped adders, instead of synchronizing on every update. The adders are merged whenever a metric is read,
+ *         and every {@code metricsUpdatePeriodMillis} by the metrics update service.
  */
 @ConfigData("metrics")
 public record MetricsConfig(
@@ -39,7 +43,8 @@ public record MetricsConfig(
         @ConfigProperty(defaultValue = "false") boolean csvAppend,
         @Min(0) @ConfigProperty(defaultValue = "3000") int csvWriteFrequency,
         @ConfigProperty(defaultValue = "metricsDoc.tsv") String metricsDocFileName,
-        @ConfigProperty(defaultValue = "10") double halfLife) {
+        @ConfigProperty(defaultValue = "10") double halfLife,
+        @ConfigProperty(defaultValue = "false") boolean stripedRecordingEnabled) {
 
     /**
      * Returns the metrics update interval time as a {@link Duration}.
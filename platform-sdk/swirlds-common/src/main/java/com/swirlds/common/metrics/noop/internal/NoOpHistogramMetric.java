@@ -0,0 +1,58 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.noop.internal;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.metrics.api.MetricConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A no-op implementation of a histogram metric.
+ */
+public class NoOpHistogramMetric extends AbstractNoOpMetric implements HistogramMetric {
+
+    private static final Buckets EMPTY = new Buckets(new long[0], new long[0], 0, 0);
+
+    public NoOpHistogramMetric(final @NonNull MetricConfig<?, ?> config) {
+        super(config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public Double get(@NonNull final ValueType valueType) {
+        return 0.0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long value) {}
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSum() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public Buckets getBuckets() {
+        return EMPTY;
+    }
+}
@@ -93,6 +93,21 @@ public class DefaultPlatformMetrics implements PlatformMetrics {
         this.updateService = metricsConfig.metricsUpdatePeriodMillis() <= 0
                 ? null
                 : new MetricsUpdateService(executor, metricsConfig.metricsUpdatePeriodMillis(), TimeUnit.MILLISECONDS);
+        if (updateService != null) {
+            // merge the values buffered by striped metrics here, so recording threads never have to
+            updateService.addUpdater(this::foldMetrics);
+        }
+    }
+
+    /**
+     * Merge the buffered values of all {@link FoldingMetric}s.
+     */
+    private void foldMetrics() {
+        for (final Metric metric : metricMap.values()) {
+            if (metric instanceof final FoldingMetric foldingMetric) {
+                foldingMetric.fold();
+            }
+        }
     }
 
     /**
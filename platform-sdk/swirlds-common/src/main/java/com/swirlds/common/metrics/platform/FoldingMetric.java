@@ -0,0 +1,14 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform;
+
+/**
+ * A metric that buffers recorded values and merges them into its state in {@link #fold()}. Metrics created by
+ * {@link DefaultPlatformMetrics} are folded periodically by its update service, so recording threads never have to.
+ */
+interface FoldingMetric {
+
+    /**
+     * Merge all buffered values into the state of the metric.
+     */
+    void fold();
+}
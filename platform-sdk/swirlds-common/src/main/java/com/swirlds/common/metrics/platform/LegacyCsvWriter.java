@@ -210,6 +210,9 @@ public class LegacyCsvWriter {
                 case MAX -> names.add(metric.getName() + "Max");
                 case MIN -> names.add(metric.getName() + "Min");
                 case STD_DEV -> names.add(metric.getName() + "Std");
+                case P50 -> names.add(metric.getName() + "P50");
+                case P90 -> names.add(metric.getName() + "P90");
+                case P99 -> names.add(metric.getName() + "P99");
                 default -> names.add(metric.getName());
             }
         }
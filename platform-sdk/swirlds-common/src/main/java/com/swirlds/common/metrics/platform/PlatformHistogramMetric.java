@@ -0,0 +1,356 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.MIN;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P90;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.PlatformMetric;
+import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
+import com.swirlds.metrics.impl.AbstractMetric;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Platform-implementation of {@link HistogramMetric}.
+ * <p>
+ * The counts are striped: every thread records into one of several copies of the bucket array, chosen by its thread
+ * ID, so that threads recording concurrently rarely contend on the same cache line. The stripes are only summed up
+ * when the histogram is read.
+ */
+public class PlatformHistogramMetric extends AbstractMetric implements HistogramMetric, PlatformMetric {
+
+    /**
+     * The maximum number of stripes, regardless of the number of available processors.
+     */
+    private static final int MAX_STRIPES = 16;
+
+    /**
+     * The distance between the sums of two stripes, so that each sum lives on its own cache line.
+     */
+    private static final int SUM_STRIDE = 8;
+
+    private final int precisionBits;
+    private final int subBucketCount;
+    private final long maxValue;
+    private final int bucketCount;
+    private final int stripeMask;
+
+    /**
+     * The counts of all stripes. The counts of stripe {@code s} are stored at {@code [s * bucketCount, (s + 1) *
+     * bucketCount)}.
+     */
+    private final AtomicLongArray counts;
+
+    /**
+     * The sums of all stripes. The sum of stripe {@code s} is stored at {@code s * SUM_STRIDE}.
+     */
+    private final AtomicLongArray sums;
+
+    /**
+     * The total counts at the time of the last snapshot, guarded by {@code this}.
+     */
+    private long[] previousCounts;
+
+    /**
+     * The total sum at the time of the last snapshot, guarded by {@code this}.
+     */
+    private long previousSum;
+
+    /**
+     * The statistics of the last completed snapshot interval.
+     */
+    private volatile IntervalStatistics lastInterval = IntervalStatistics.EMPTY;
+
+    /**
+     * Statistics of the values recorded during one snapshot interval.
+     */
+    private record IntervalStatistics(double mean, double min, double max, double p50, double p90, double p99) {
+        static final IntervalStatistics EMPTY = new IntervalStatistics(0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Constructs a new PlatformHistogramMetric with the given configuration.
+     *
+     * @param config the configuration for this histogram
+     */
+    public PlatformHistogramMetric(@NonNull final HistogramMetric.Config config) {
+        this(config, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * This constructor should only be used for testing.
+     *
+     * @param config      the configuration for this histogram
+     * @param parallelism the expected number of threads recording concurrently
+     */
+    PlatformHistogramMetric(@NonNull final HistogramMetric.Config config, final int parallelism) {
+        super(config);
+        this.precisionBits = config.getPrecisionBits();
+        this.subBucketCount = 1 << precisionBits;
+        this.maxValue = config.getMaxValue();
+        this.bucketCount = bucketIndex(maxValue) + 1;
+
+        final int stripes = Integer.highestOneBit(Math.clamp(parallelism, 1, MAX_STRIPES));
+        this.stripeMask = stripes - 1;
+        this.counts = new AtomicLongArray(stripes * bucketCount);
+        this.sums = new AtomicLongArray(stripes * SUM_STRIDE);
+        this.previousCounts = new long[bucketCount];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long value) {
+        final long positive = Math.max(value, 0);
+        final int stripe = (int) Thread.currentThread().threadId() & stripeMask;
+        counts.getAndIncrement(stripe * bucketCount + bucketIndex(Math.min(positive, maxValue)));
+        sums.getAndAdd(stripe * SUM_STRIDE, positive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return Arrays.stream(totalCounts()).sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSum() {
+        long sum = 0;
+        for (int i = 0; i < sums.length(); i += SUM_STRIDE) {
+            sum += sums.get(i);
+        }
+        return sum;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public Buckets getBuckets() {
+        final long[] totals = totalCounts();
+        final long sum = getSum();
+
+        // one bucket per power of two, plus the highest bucket
+        final long[] upperBounds = new long[Long.SIZE + 1];
+        final long[] cumulativeCounts = new long[Long.SIZE + 1];
+        int size = 0;
+        long cumulative = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            cumulative += totals[i];
+            final long upperBound = upperBound(i);
+            if (((upperBound + 1) & upperBound) == 0 || i == bucketCount - 1) {
+                upperBounds[size] = upperBound;
+                cumulativeCounts[size] = cumulative;
+                size++;
+            }
+        }
+        return new Buckets(
+                Arrays.copyOf(upperBounds, size), Arrays.copyOf(cumulativeCounts, size), cumulative, sum);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public Double get(@NonNull final ValueType valueType) {
+        Objects.requireNonNull(valueType, "valueType must not be null");
+        final IntervalStatistics statistics = lastInterval;
+        return switch (valueType) {
+            case VALUE -> statistics.mean();
+            case MAX -> statistics.max();
+            case MIN -> statistics.min();
+            case P50 -> statistics.p50();
+            case P90 -> statistics.p90();
+            case P99 -> statistics.p99();
+            default -> throw new IllegalArgumentException("Unsupported ValueType: " + valueType);
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The snapshot covers the values recorded since the previous snapshot. The stripes are not read atomically, so a
+     * value recorded while the snapshot is taken may be attributed to either interval.
+     */
+    @NonNull
+    @Override
+    public synchronized List<SnapshotEntry> takeSnapshot() {
+        final long[] totals = totalCounts();
+        final long sum = getSum();
+
+        final long[] intervalCounts = new long[bucketCount];
+        long intervalCount = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            intervalCounts[i] = Math.max(totals[i] - previousCounts[i], 0);
+            intervalCount += intervalCounts[i];
+        }
+        final long intervalSum = sum - previousSum;
+        previousCounts = totals;
+        previousSum = sum;
+
+        final IntervalStatistics statistics = computeStatistics(intervalCounts, intervalCount, intervalSum);
+        lastInterval = statistics;
+        return List.of(
+                new SnapshotEntry(VALUE, statistics.mean()),
+                new SnapshotEntry(MAX, statistics.max()),
+                new SnapshotEntry(MIN, statistics.min()),
+                new SnapshotEntry(P50, statistics.p50()),
+                new SnapshotEntry(P90, statistics.p90()),
+                new SnapshotEntry(P99, statistics.p99()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        for (int i = 0; i < sums.length(); i++) {
+            sums.set(i, 0);
+        }
+        previousCounts = new long[bucketCount];
+        previousSum = 0;
+        lastInterval = IntervalStatistics.EMPTY;
+    }
+
+    /**
+     * Sum up the counts of all stripes.
+     *
+     * @return the total count of each bucket
+     */
+    @NonNull
+    private long[] totalCounts() {
+        final long[] totals = new long[bucketCount];
+        for (int stripeStart = 0; stripeStart < counts.length(); stripeStart += bucketCount) {
+            for (int i = 0; i < bucketCount; i++) {
+                totals[i] += counts.get(stripeStart + i);
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Compute the statistics of one snapshot interval.
+     *
+     * @param bucketCounts the number of values recorded in each bucket during the interval
+     * @param count        the total number of values recorded during the interval
+     * @param sum          the sum of the values recorded during the interval
+     * @return the statistics
+     */
+    @NonNull
+    private IntervalStatistics computeStatistics(@NonNull final long[] bucketCounts, final long count, final long sum) {
+        if (count == 0) {
+            return IntervalStatistics.EMPTY;
+        }
+        int first = 0;
+        while (bucketCounts[first] == 0) {
+            first++;
+        }
+        int last = bucketCount - 1;
+        while (bucketCounts[last] == 0) {
+            last--;
+        }
+        return new IntervalStatistics(
+                (double) sum / count,
+                lowerBound(first),
+                upperBound(last),
+                valueAtPercentile(bucketCounts, count, 0.5),
+                valueAtPercentile(bucketCounts, count, 0.9),
+                valueAtPercentile(bucketCounts, count, 0.99));
+    }
+
+    /**
+     * Find the value at the given percentile. The result is the upper bound of the bucket that contains the value.
+     *
+     * @param bucketCounts the number of values in each bucket
+     * @param count        the total number of values, must be positive
+     * @param percentile   the percentile, between 0 and 1
+     * @return the value at the percentile
+     */
+    private double valueAtPercentile(@NonNull final long[] bucketCounts, final long count, final double percentile) {
+        final long rank = Math.max(1, (long) Math.ceil(percentile * count));
+        long cumulative = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            cumulative += bucketCounts[i];
+            if (cumulative >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(bucketCount - 1);
+    }
+
+    /**
+     * Get the index of the bucket a value is counted in. Values below {@code 2^precisionBits} have a bucket each.
+     * Above that, each power of two is split into {@code 2^precisionBits} buckets.
+     *
+     * @param value the value, must not be negative
+     * @return the index of the bucket
+     */
+    private int bucketIndex(final long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - precisionBits;
+        return (exponent + 1) * subBucketCount + (int) ((value >>> exponent) - subBucketCount);
+    }
+
+    /**
+     * Get the smallest value that is counted in a bucket.
+     *
+     * @param index the index of the bucket
+     * @return the inclusive lower bound of the bucket
+     */
+    private long lowerBound(final int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        final int exponent = (index >> precisionBits) - 1;
+        return ((long) subBucketCount + (index & (subBucketCount - 1))) << exponent;
+    }
+
+    /**
+     * Get the largest value that is counted in a bucket.
+     *
+     * @param index the index of the bucket
+     * @return the inclusive upper bound of the bucket
+     */
+    private long upperBound(final int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        final int exponent = (index >> precisionBits) - 1;
+        return lowerBound(index) + (1L << exponent) - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .appendSuper(super.toString())
+                .append("maxValue", maxValue)
+                .append("precisionBits", precisionBits)
+                .append("count", getCount())
+                .toString();
+    }
+}
@@ -3,6 +3,7 @@ package com.swirlds.common.metrics.platform;
 
 import com.swirlds.common.metrics.DurationGauge;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
 import com.swirlds.common.metrics.PlatformMetricsFactory;
 import com.swirlds.common.metrics.RunningAverageMetric;
@@ -71,6 +72,14 @@ public class PlatformMetricsFactoryImpl implements PlatformMetricsFactory {
         return new PlatformFunctionGauge<>(config);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramMetric createHistogramMetric(final HistogramMetric.Config config) {
+        return new PlatformHistogramMetric(config);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -116,10 +125,12 @@ public class PlatformMetricsFactoryImpl implements PlatformMetricsFactory {
      */
     @Override
     public RunningAverageMetric createRunningAverageMetric(final RunningAverageMetric.Config config) {
-        if (config.isUseDefaultHalfLife()) {
-            return new PlatformRunningAverageMetric(config.withHalfLife(metricsConfig.halfLife()));
+        final RunningAverageMetric.Config effectiveConfig =
+                config.isUseDefaultHalfLife() ? config.withHalfLife(metricsConfig.halfLife()) : config;
+        if (metricsConfig.stripedRecordingEnabled()) {
+            return new StripedRunningAverageMetric(effectiveConfig);
         }
-        return new PlatformRunningAverageMetric(config);
+        return new PlatformRunningAverageMetric(effectiveConfig);
     }
 
     /**
@@ -127,10 +138,12 @@ public class PlatformMetricsFactoryImpl implements PlatformMetricsFactory {
      */
     @Override
     public SpeedometerMetric createSpeedometerMetric(final SpeedometerMetric.Config config) {
-        if (config.isUseDefaultHalfLife()) {
-            return new PlatformSpeedometerMetric(config.withHalfLife(metricsConfig.halfLife()));
+        final SpeedometerMetric.Config effectiveConfig =
+                config.isUseDefaultHalfLife() ? config.withHalfLife(metricsConfig.halfLife()) : config;
+        if (metricsConfig.stripedRecordingEnabled()) {
+            return new StripedSpeedometerMetric(effectiveConfig);
         }
-        return new PlatformSpeedometerMetric(config);
+        return new PlatformSpeedometerMetric(effectiveConfig);
     }
 
     /**
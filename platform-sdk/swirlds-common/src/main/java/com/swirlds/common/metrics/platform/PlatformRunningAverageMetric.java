@@ -53,6 +53,18 @@ public class PlatformRunningAverageMetric extends AbstractDistributionMetric imp
         runningAverage.recordValue(value);
     }
 
+    /**
+     * Incorporate several values into the running average at once, as if {@link #update(double)} was called for each
+     * of them at the current time.
+     *
+     * @param sum   the sum of the values
+     * @param count the number of values
+     */
+    @SuppressWarnings("removal")
+    void updateAll(final double sum, final long count) {
+        runningAverage.recordValues(sum, count);
+    }
+
     /**
      * {@inheritDoc}
      */
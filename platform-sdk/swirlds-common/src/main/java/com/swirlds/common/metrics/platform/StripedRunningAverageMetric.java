@@ -0,0 +1,82 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.statistics.StatsBuffered;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A {@link RunningAverageMetric} for hot paths. {@link #update(double)} only adds the value to lock-free striped
+ * adders, without synchronizing with other recording threads. The adders are merged into the running average whenever
+ * the metric is read, and periodically by the metrics update service, never by recording threads. Values merged
+ * together are treated as if they were all recorded at the time of the merge.
+ */
+public class StripedRunningAverageMetric extends PlatformRunningAverageMetric implements FoldingMetric {
+
+    private final StripedSumAndCount pending;
+
+    /**
+     * Constructs a new StripedRunningAverageMetric with the given configuration.
+     *
+     * @param config the configuration for this running average
+     */
+    public StripedRunningAverageMetric(@NonNull final RunningAverageMetric.Config config) {
+        this(config, Time.getCurrent());
+    }
+
+    /**
+     * This constructor should only be used for testing.
+     */
+    public StripedRunningAverageMetric(@NonNull final RunningAverageMetric.Config config, @NonNull final Time time) {
+        super(config, time);
+        this.pending = new StripedSumAndCount(this::updateAll);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fold() {
+        pending.fold();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        pending.add(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double get() {
+        pending.fold();
+        return super.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @SuppressWarnings("removal")
+    @Override
+    public StatsBuffered getStatsBuffered() {
+        pending.fold();
+        return super.getStatsBuffered();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        pending.reset(super::reset);
+    }
+}
@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.metrics.statistics.StatsBuffered;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A {@link SpeedometerMetric} for hot paths. {@link #cycle()} and {@link #update(double)} only add to lock-free
+ * striped adders, without synchronizing with other recording threads. The adders are merged into the speedometer
+ * whenever the metric is read, and periodically by the metrics update service, never by recording threads. Cycles
+ * merged together are treated as if they all happened at the time of the merge.
+ */
+public class StripedSpeedometerMetric extends PlatformSpeedometerMetric implements FoldingMetric {
+
+    private final StripedSumAndCount pending;
+
+    /**
+     * Constructs a new StripedSpeedometerMetric with the given configuration.
+     *
+     * @param config the configuration for this speedometer
+     */
+    public StripedSpeedometerMetric(@NonNull final SpeedometerMetric.Config config) {
+        this(config, Time.getCurrent());
+    }
+
+    /**
+     * This constructor should only be used for testing.
+     */
+    public StripedSpeedometerMetric(@NonNull final SpeedometerMetric.Config config, @NonNull final Time time) {
+        super(config, time);
+        this.pending = new StripedSumAndCount((cycles, count) -> super.update(cycles));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fold() {
+        pending.fold();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double value) {
+        pending.add(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double get() {
+        pending.fold();
+        return super.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @SuppressWarnings("removal")
+    @Override
+    public StatsBuffered getStatsBuffered() {
+        pending.fold();
+        return super.getStatsBuffered();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        pending.reset(super::reset);
+    }
+}
@@ -0,0 +1,102 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Accumulates a sum and a count of values in a {@link DoubleAdder} and a {@link LongAdder}. Recording a value is
+ * lock-free and contended updates are spread over striped cells, so threads recording concurrently rarely touch the
+ * same cache line. Recording threads never merge the cells, that is done by {@link #fold()}, which is called by
+ * readers and periodically by the metrics update service.
+ * <p>
+ * The sum and the count are separate adders, so a value recorded while a fold is in progress may have its sum merged
+ * by that fold and its count by the next one. The error this causes in an average is bounded by a single value and
+ * disappears with the next fold.
+ */
+final class StripedSumAndCount {
+
+    /**
+     * Receives the merged values of all cells.
+     */
+    @FunctionalInterface
+    interface SumAndCountConsumer {
+        /**
+         * Accept the merged values.
+         *
+         * @param sum   the sum of all values recorded since the last fold
+         * @param count the number of values recorded since the last fold, always positive
+         */
+        void accept(double sum, long count);
+    }
+
+    private final DoubleAdder sum = new DoubleAdder();
+    private final LongAdder count = new LongAdder();
+    private final SumAndCountConsumer consumer;
+    private final ReentrantLock foldLock = new ReentrantLock();
+
+    /**
+     * Constructor
+     *
+     * @param consumer receives the merged values, always called while holding the fold lock
+     */
+    StripedSumAndCount(@NonNull final SumAndCountConsumer consumer) {
+        this.consumer = Objects.requireNonNull(consumer, "consumer must not be null");
+    }
+
+    /**
+     * Record a value. This never blocks and never merges the cells.
+     *
+     * @param value the value to record
+     */
+    void add(final double value) {
+        sum.add(value);
+        count.increment();
+    }
+
+    /**
+     * Merge all cells and pass the result to the consumer. Blocks if another thread is folding.
+     */
+    void fold() {
+        foldLock.lock();
+        try {
+            drain(consumer);
+        } finally {
+            foldLock.unlock();
+        }
+    }
+
+    /**
+     * Discard all recorded values, then run an action while holding the fold lock.
+     *
+     * @param action the action to run, e.g. resetting the state the consumer writes to
+     */
+    void reset(@NonNull final Runnable action) {
+        foldLock.lock();
+        try {
+            drain((s, c) -> {});
+            action.run();
+        } finally {
+            foldLock.unlock();
+        }
+    }
+
+    /**
+     * Merge and clear all cells. Must be called while holding the fold lock.
+     *
+     * @param target receives the merged values, not called if no value was recorded since the last drain
+     */
+    private void drain(@NonNull final SumAndCountConsumer target) {
+        final long drainedCount = count.sumThenReset();
+        final double drainedSum = sum.sumThenReset();
+        if (drainedCount > 0) {
+            target.accept(drainedSum, drainedCount);
+        } else if (drainedSum != 0) {
+            // the count of a concurrently recorded value has not been added yet, keep its sum for the next fold
+            sum.add(drainedSum);
+        }
+    }
+}
@@ -54,6 +54,26 @@ public abstract class AbstractMetricAdapter implements MetricAdapter {
         return values.assignTo(collectorBuilder);
     }
 
+    /**
+     * Returns the name of the Prometheus metric, including the subsystem and the unit, as it would be assigned to a
+     * collector built with {@link #assignCommonValues(SimpleCollector.Builder)}. Used by adapters that implement
+     * their own {@link io.prometheus.client.Collector}.
+     *
+     * @return the full name of the Prometheus metric
+     */
+    protected final @NonNull String getFullName() {
+        return values.fullName();
+    }
+
+    /**
+     * Returns the help text of the Prometheus metric.
+     *
+     * @return the help text
+     */
+    protected final @NonNull String getHelp() {
+        return values.help;
+    }
+
     @Override
     public int incAndGetReferenceCount() {
         return referenceCount.incrementAndGet();
@@ -108,6 +128,15 @@ public abstract class AbstractMetricAdapter implements MetricAdapter {
             return supportsUnit ? builder.unit(unit) : builder;
         }
 
+        @NonNull
+        String fullName() {
+            final String fullName = subSystem.isEmpty() ? name : subSystem + "_" + name;
+            if (supportsUnit && !unit.isEmpty() && !fullName.endsWith(unit)) {
+                return fullName + "_" + unit;
+            }
+            return fullName;
+        }
+
         /**
          * Identifies changes in the metrics name components (category, name, and unit). If a change is detected, error
          * log statements with the purpose of failing JRS are generated to inform developers that adjustments to the
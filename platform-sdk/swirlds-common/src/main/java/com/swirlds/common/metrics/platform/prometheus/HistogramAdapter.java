@@ -0,0 +1,137 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform.prometheus;
+
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.GLOBAL;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.PLATFORM;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.NODE_LABEL;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.HistogramMetric.Buckets;
+import com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType;
+import com.swirlds.metrics.api.Metric;
+import com.swirlds.metrics.api.snapshot.Snapshot;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hiero.consensus.model.node.NodeId;
+
+/**
+ * Adapter that synchronizes a {@link HistogramMetric} with a classic Prometheus histogram. The bucket boundaries are
+ * the powers of two covered by the histogram, reported as cumulative {@code _bucket} samples together with
+ * {@code _count} and {@code _sum}.
+ */
+public class HistogramAdapter extends AbstractMetricAdapter {
+
+    private static final String LE_LABEL = "le";
+
+    private final List<String> labelNames;
+    private final List<String> bucketLabelNames;
+    private final Collector collector;
+
+    /**
+     * The latest buckets of each node, keyed by the node label. Global histograms use an empty key.
+     */
+    private final Map<String, Buckets> latestBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor of {@code HistogramAdapter}.
+     *
+     * @param registry
+     * 		The {@link CollectorRegistry} with which the Prometheus {@link Collector} should be registered
+     * @param metric
+     * 		The {@link Metric} which value should be reported to Prometheus
+     * @param adapterType
+     * 		Scope of the {@link Metric}, either {@link AdapterType#GLOBAL} or {@link AdapterType#PLATFORM}
+     * @throws NullPointerException if any of the following parameters are {@code null}.
+     *     <ul>
+     *       <li>{@code registry}</li>
+     *       <li>{@code metric}</li>
+     *     </ul>
+     */
+    public HistogramAdapter(final CollectorRegistry registry, final Metric metric, final AdapterType adapterType) {
+        super(adapterType, metric);
+        Objects.requireNonNull(registry, "registry must not be null");
+        Objects.requireNonNull(metric, "metric must not be null");
+        this.labelNames = adapterType == PLATFORM ? List.of(NODE_LABEL) : List.of();
+        this.bucketLabelNames = adapterType == PLATFORM ? List.of(NODE_LABEL, LE_LABEL) : List.of(LE_LABEL);
+        this.collector = new BucketCollector().register(registry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final Snapshot snapshot, final NodeId nodeId) {
+        Objects.requireNonNull(snapshot, "snapshot must not be null");
+        if (adapterType != GLOBAL) {
+            Objects.requireNonNull(nodeId, "nodeId must not be null");
+        }
+        final HistogramMetric histogram = (HistogramMetric) snapshot.metric();
+        latestBuckets.put(adapterType == GLOBAL ? "" : nodeId.toString(), histogram.getBuckets());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unregister(final CollectorRegistry registry) {
+        registry.unregister(collector);
+    }
+
+    /**
+     * A {@link Collector} that reports the latest buckets of all nodes.
+     */
+    private class BucketCollector extends Collector {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<MetricFamilySamples> collect() {
+            final String name = getFullName();
+            final List<MetricFamilySamples.Sample> samples = new ArrayList<>();
+            for (final Map.Entry<String, Buckets> entry : latestBuckets.entrySet()) {
+                addSamples(samples, name, entry.getKey(), entry.getValue());
+            }
+            return List.of(new MetricFamilySamples(name, Type.HISTOGRAM, getHelp(), samples));
+        }
+
+        private void addSamples(
+                @NonNull final List<MetricFamilySamples.Sample> samples,
+                @NonNull final String name,
+                @NonNull final String node,
+                @NonNull final Buckets buckets) {
+            final List<String> labelValues = adapterType == PLATFORM ? List.of(node) : List.of();
+
+            final long[] upperBounds = buckets.upperBounds();
+            final long[] counts = buckets.counts();
+            for (int i = 0; i < upperBounds.length; i++) {
+                samples.add(new MetricFamilySamples.Sample(
+                        name + "_bucket",
+                        bucketLabelNames,
+                        bucketLabelValues(labelValues, doubleToGoString(upperBounds[i])),
+                        counts[i]));
+            }
+            samples.add(new MetricFamilySamples.Sample(
+                    name + "_bucket",
+                    bucketLabelNames,
+                    bucketLabelValues(labelValues, "+Inf"),
+                    buckets.count()));
+            samples.add(new MetricFamilySamples.Sample(name + "_count", labelNames, labelValues, buckets.count()));
+            samples.add(new MetricFamilySamples.Sample(name + "_sum", labelNames, labelValues, buckets.sum()));
+        }
+
+        @NonNull
+        private static List<String> bucketLabelValues(
+                @NonNull final List<String> labelValues, @NonNull final String le) {
+            final List<String> result = new ArrayList<>(labelValues);
+            result.add(le);
+            return result;
+        }
+    }
+}
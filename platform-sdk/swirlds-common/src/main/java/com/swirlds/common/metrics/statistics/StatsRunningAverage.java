@@ -166,6 +166,37 @@ public class StatsRunningAverage implements StatsBuffered {
         }
     }
 
+    /**
+     * Incorporate several values into the running average at once. This is equivalent to calling
+     * {@link #recordValue(double)} {@code count} times at the current time, with values that add up to {@code sum}.
+     *
+     * @param sum
+     * 		the sum of the values to incorporate into the running average
+     * @param count
+     * 		the number of values, must be positive
+     */
+    public void recordValues(final double sum, final long count) {
+        if (Double.isNaN(sum) || count <= 0) {
+            return;
+        }
+        try {
+            final double batchMean = sum / count;
+            if (firstRecord || batchMean == mean) {
+                // if the same value is always given since the beginning, then avoid roundoff errors
+                firstRecord = false;
+                values.update(sum);
+                times.update(count);
+                mean = batchMean;
+            } else {
+                mean = values.update(sum) / times.update(count);
+            }
+            allHistory.recordValue(mean);
+            recentHistory.recordValue(mean);
+        } catch (Exception e) {
+            logger.error(LogMarker.EXCEPTION.getMarker(), "Exception while updating statistics!", e);
+        }
+    }
+
     /**
      * Get the average of recent calls to recordValue(). This is an exponentially-weighted average of recent
      * calls, with the weighting by time, not by number of calls to recordValue().
@@ -0,0 +1,90 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.io.utility;
+
+import static com.swirlds.common.io.utility.FileUtils.writeAndFlush;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.CRC32C;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("FileChecksums Tests")
+class FileChecksumsTests {
+
+    @TempDir
+    Path testDirectory;
+
+    @AfterEach
+    void tearDown() {
+        FileChecksums.clear();
+    }
+
+    private static long crc(final byte[] bytes, final int offset, final int length) {
+        final CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return crc.getValue();
+    }
+
+    @Test
+    @DisplayName("Combined checksums match the checksum of the concatenation")
+    void combineTest() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            final byte[] bytes = new byte[random.nextInt(10_000)];
+            random.nextBytes(bytes);
+            final int split = bytes.length == 0 ? 0 : random.nextInt(bytes.length);
+            assertEquals(
+                    crc(bytes, 0, bytes.length),
+                    FileChecksums.combine(
+                            crc(bytes, 0, split), crc(bytes, split, bytes.length - split), bytes.length - split),
+                    "combined checksum should match, length " + bytes.length + " split " + split);
+        }
+    }
+
+    @Test
+    @DisplayName("Checksums apply to hard links until the file is deleted")
+    void hardLinkTest() throws IOException {
+        final Path file = testDirectory.resolve("file");
+        final Path link = testDirectory.resolve("link");
+        Files.write(file, new byte[] {1, 2, 3});
+        FileChecksums.record(file, 1234);
+        Files.createLink(link, file);
+
+        assertEquals(1234, FileChecksums.lookup(file), "checksum should be recorded");
+        assertEquals(1234, FileChecksums.lookup(link), "checksum should apply to hard links");
+        assertNull(FileChecksums.lookup(testDirectory.resolve("missing")), "missing file has no checksum");
+
+        Files.delete(file);
+        FileChecksums.prune();
+        assertNull(FileChecksums.lookup(link), "checksum of a deleted file should be pruned");
+    }
+
+    @Test
+    @DisplayName("Modified files have no checksum")
+    void modifiedFileTest() throws IOException {
+        final Path file = testDirectory.resolve("file");
+        Files.write(file, new byte[] {1, 2, 3});
+        FileChecksums.record(file, 1234);
+
+        Files.write(file, new byte[] {1, 2, 3, 4});
+        assertNull(FileChecksums.lookup(file), "a resized file should not match its recorded checksum");
+    }
+
+    @Test
+    @DisplayName("Files written with writeAndFlush have their checksum recorded")
+    void writeAndFlushTest() throws IOException {
+        final Path file = testDirectory.resolve("file");
+        final byte[] bytes = new byte[100_000];
+        new Random(42).nextBytes(bytes);
+        writeAndFlush(file, out -> out.write(bytes));
+
+        assertEquals(crc(bytes, 0, bytes.length), FileChecksums.lookup(file), "checksum should be recorded");
+    }
+}
@@ -0,0 +1,242 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.MIN;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P90;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.STD_DEV;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.HistogramMetric.Buckets;
+import com.swirlds.metrics.api.MetricType;
+import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PlatformHistogramMetricTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+    private static final String FORMAT = "FoRmAt";
+
+    private static final double EPSILON = 1e-6;
+
+    @Test
+    @DisplayName("Constructor should store values")
+    void testConstructor() {
+        // when
+        final HistogramMetric.Config config = new HistogramMetric.Config(CATEGORY, NAME)
+                .withDescription(DESCRIPTION)
+                .withUnit(UNIT)
+                .withFormat(FORMAT)
+                .withMaxValue(1000)
+                .withPrecisionBits(2);
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(config);
+
+        // then
+        assertEquals(CATEGORY, metric.getCategory(), "The category was not set correctly");
+        assertEquals(NAME, metric.getName(), "The name was not set correctly");
+        assertEquals(DESCRIPTION, metric.getDescription(), "The description was not set correctly");
+        assertEquals(UNIT, metric.getUnit(), "The unit was not set correctly");
+        assertEquals(FORMAT, metric.getFormat(), "The format was not set correctly");
+        assertEquals(MetricType.HISTOGRAM, metric.getMetricType(), "The metric type is wrong");
+        assertEquals(0, metric.getCount(), "The count was not initialized correctly");
+        assertEquals(0, metric.getSum(), "The sum was not initialized correctly");
+        assertEquals(0.0, metric.get(VALUE), EPSILON, "The mean was not initialized correctly");
+        assertEquals(0.0, metric.get(P99), EPSILON, "The percentile was not initialized correctly");
+        assertThat(metric.getValueTypes()).containsExactly(VALUE, MAX, MIN, P50, P90, P99);
+    }
+
+    @Test
+    void testIllegalConfig() {
+        final HistogramMetric.Config config = new HistogramMetric.Config(CATEGORY, NAME);
+        assertThrows(IllegalArgumentException.class, () -> config.withPrecisionBits(-1));
+        assertThrows(IllegalArgumentException.class, () -> config.withPrecisionBits(11));
+        assertThrows(IllegalArgumentException.class, () -> config.withMaxValue(7));
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        // given
+        final PlatformHistogramMetric metric =
+                new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME).withPrecisionBits(3));
+
+        // when
+        for (int i = 1; i <= 7; i++) {
+            metric.update(i);
+        }
+        metric.takeSnapshot();
+
+        // then
+        assertEquals(7, metric.getCount(), "Count should be 7");
+        assertEquals(28, metric.getSum(), "Sum should be 28");
+        assertEquals(4.0, metric.get(VALUE), EPSILON, "Mean should be 4");
+        assertEquals(1.0, metric.get(MIN), EPSILON, "Min should be 1");
+        assertEquals(7.0, metric.get(MAX), EPSILON, "Max should be 7");
+        assertEquals(4.0, metric.get(P50), EPSILON, "Median should be 4");
+        assertEquals(7.0, metric.get(P99), EPSILON, "P99 should be 7");
+        assertThrows(IllegalArgumentException.class, () -> metric.get(STD_DEV));
+    }
+
+    @Test
+    void testPercentilesAreWithinPrecision() {
+        // given
+        final int precisionBits = 4;
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(
+                new HistogramMetric.Config(CATEGORY, NAME).withPrecisionBits(precisionBits));
+
+        // when
+        for (int i = 1; i <= 100_000; i++) {
+            metric.update(i * 1000L);
+        }
+        metric.takeSnapshot();
+
+        // then
+        final double maxError = 1.0 / (1 << precisionBits);
+        assertRelativelyClose(50_000_000.0, metric.get(P50), maxError, "P50");
+        assertRelativelyClose(90_000_000.0, metric.get(P90), maxError, "P90");
+        assertRelativelyClose(99_000_000.0, metric.get(P99), maxError, "P99");
+        assertRelativelyClose(100_000_000.0, metric.get(MAX), maxError, "Max");
+        assertRelativelyClose(1000.0, metric.get(MIN), maxError, "Min");
+        assertEquals(50_000_500.0, metric.get(VALUE), EPSILON, "The mean should be exact");
+    }
+
+    @Test
+    void testSnapshotCoversInterval() {
+        // given
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        metric.update(1);
+        metric.takeSnapshot();
+
+        // when
+        metric.update(5);
+        metric.update(5);
+        final List<SnapshotEntry> snapshot = metric.takeSnapshot();
+
+        // then
+        assertThat(snapshot)
+                .containsExactly(
+                        new SnapshotEntry(VALUE, 5.0),
+                        new SnapshotEntry(MAX, 5.0),
+                        new SnapshotEntry(MIN, 5.0),
+                        new SnapshotEntry(P50, 5.0),
+                        new SnapshotEntry(P90, 5.0),
+                        new SnapshotEntry(P99, 5.0));
+        assertEquals(3, metric.getCount(), "The cumulative count should not be affected by snapshots");
+
+        // when
+        final List<SnapshotEntry> emptySnapshot = metric.takeSnapshot();
+
+        // then
+        assertThat(emptySnapshot).allMatch(entry -> (Double) entry.value() == 0.0);
+    }
+
+    @Test
+    void testBucketsAreCumulative() {
+        // given
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(
+                new HistogramMetric.Config(CATEGORY, NAME).withMaxValue(1000).withPrecisionBits(2));
+
+        // when
+        metric.update(0);
+        metric.update(3);
+        metric.update(100);
+        metric.update(1_000_000);
+        metric.update(-5);
+        final Buckets buckets = metric.getBuckets();
+
+        // then
+        assertEquals(5, buckets.count(), "Count should include clamped values");
+        assertEquals(1_000_103, buckets.sum(), "Sum should contain the unclamped values");
+        long previousBound = -1;
+        long previousCount = 0;
+        for (int i = 0; i < buckets.upperBounds().length; i++) {
+            final long bound = buckets.upperBounds()[i];
+            final long count = buckets.counts()[i];
+            assertTrue(bound > previousBound, "Upper bounds must be ascending");
+            assertTrue(count >= previousCount, "Counts must be cumulative");
+            if (bound >= 3) {
+                assertTrue(count >= 3, "0, 3 and -5 are at most " + bound);
+            }
+            if (bound >= 127) {
+                assertTrue(count >= 4, "100 is at most " + bound);
+            }
+            previousBound = bound;
+            previousCount = count;
+        }
+        assertTrue(previousBound >= 1000, "The highest bucket must cover the maximum value");
+        assertEquals(5, previousCount, "The highest bucket must contain the value exceeding the maximum");
+    }
+
+    @Test
+    void testReset() {
+        // given
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        metric.update(42);
+        metric.takeSnapshot();
+
+        // when
+        metric.reset();
+
+        // then
+        assertEquals(0, metric.getCount(), "Count should be reset");
+        assertEquals(0, metric.getSum(), "Sum should be reset");
+        assertEquals(0.0, metric.get(VALUE), EPSILON, "Mean should be reset");
+    }
+
+    @Test
+    void testConcurrentUpdates() throws InterruptedException {
+        // given
+        final PlatformHistogramMetric metric =
+                new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME), 4);
+        final int threadCount = 8;
+        final int updatesPerThread = 10_000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < updatesPerThread; i++) {
+                    metric.update(i);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // when
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        final long expectedSum = (long) threadCount * updatesPerThread * (updatesPerThread - 1) / 2;
+        assertEquals((long) threadCount * updatesPerThread, metric.getCount(), "No update must be lost");
+        assertEquals(expectedSum, metric.getSum(), "No update must be lost");
+    }
+
+    private static void assertRelativelyClose(
+            final double expected, final double actual, final double maxError, final String name) {
+        assertTrue(
+                Math.abs(actual - expected) <= expected * maxError,
+                name + " should be close to " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,150 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.MIN;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class StripedRunningAverageMetricTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+
+    private static final double EPSILON = 1e-6;
+
+    @Test
+    void testReadFoldsPendingValues() {
+        // given
+        final FakeTime time = new FakeTime();
+        final RunningAverageMetric metric =
+                new StripedRunningAverageMetric(new RunningAverageMetric.Config(CATEGORY, NAME), time);
+
+        // when
+        time.set(Duration.ofMillis(500));
+        metric.update(Math.PI);
+        metric.update(Double.NaN);
+        time.set(Duration.ofSeconds(1));
+
+        // then
+        assertEquals(Math.PI, metric.get(), EPSILON, "A read should see the pending value");
+    }
+
+    @Test
+    void testRegularUpdates() {
+        // given
+        final FakeTime time = new FakeTime();
+        final StripedRunningAverageMetric metric =
+                new StripedRunningAverageMetric(new RunningAverageMetric.Config(CATEGORY, NAME), time);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            for (int j = 1; j <= 100; j++) {
+                time.set(Duration.ofSeconds(i).plus(Duration.ofSeconds(j).dividedBy(101)));
+                metric.update(Math.E);
+            }
+            // done by the metrics update service in production
+            metric.fold();
+        }
+        time.set(Duration.ofSeconds(1000));
+
+        // then
+        assertEquals(Math.E, metric.get(), EPSILON, "Mean should be " + Math.E);
+        assertEquals(Math.E, metric.get(VALUE), EPSILON, "Mean value should be " + Math.E);
+        assertEquals(Math.E, metric.get(MIN), EPSILON, "Min. should be " + Math.E);
+        assertEquals(Math.E, metric.get(MAX), EPSILON, "Max. should be " + Math.E);
+    }
+
+    @Test
+    void testResetDiscardsPendingValues() {
+        // given
+        final FakeTime time = new FakeTime();
+        final RunningAverageMetric metric =
+                new StripedRunningAverageMetric(new RunningAverageMetric.Config(CATEGORY, NAME), time);
+        time.set(Duration.ofSeconds(1));
+        metric.update(Math.E);
+
+        // when
+        metric.reset();
+        time.set(Duration.ofSeconds(2));
+
+        // then
+        assertEquals(0.0, metric.get(), EPSILON, "Mean should be reset to 0.0");
+
+        // when
+        metric.update(Math.PI);
+        time.set(Duration.ofSeconds(3));
+
+        // then
+        assertEquals(Math.PI, metric.get(), EPSILON, "Mean should now be " + Math.PI);
+    }
+
+    @Test
+    void testConcurrentUpdates() throws InterruptedException {
+        // given
+        final StripedRunningAverageMetric metric =
+                new StripedRunningAverageMetric(new RunningAverageMetric.Config(CATEGORY, NAME));
+        final int threadCount = 8;
+        final int updatesPerThread = 10_000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < updatesPerThread; i++) {
+                    metric.update(Math.PI);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // when
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertEquals(Math.PI, metric.get(), EPSILON, "Concurrent updates must not be torn apart");
+    }
+
+    @Test
+    void testConcurrentFolds() throws InterruptedException {
+        // given
+        final FakeTime time = new FakeTime();
+        final StripedRunningAverageMetric metric =
+                new StripedRunningAverageMetric(new RunningAverageMetric.Config(CATEGORY, NAME), time);
+        final AtomicBoolean done = new AtomicBoolean();
+        final Thread folder = new Thread(() -> {
+            while (!done.get()) {
+                metric.fold();
+            }
+        });
+        folder.start();
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            metric.update(Math.PI);
+        }
+        done.set(true);
+        folder.join();
+
+        // then
+        assertEquals(Math.PI, metric.get(), EPSILON, "Folding while recording must not lose or skew values");
+    }
+}
@@ -0,0 +1,135 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform.prometheus;
+
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.GLOBAL;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.PLATFORM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.platform.PlatformHistogramMetric;
+import com.swirlds.metrics.api.Metric;
+import com.swirlds.metrics.api.snapshot.Snapshot;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import org.hiero.consensus.model.node.NodeId;
+import org.junit.jupiter.api.Test;
+
+class HistogramAdapterTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String MAPPING_NAME = "CaTeGoRy_NaMe_UnIt";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+
+    private static final String[] GLOBAL_BUCKET_LABEL = new String[] {"le"};
+    private static final String[] NODE_LABEL = new String[] {"node"};
+    private static final String[] NODE_BUCKET_LABEL = new String[] {"node", "le"};
+
+    private static PlatformHistogramMetric createMetric() {
+        return new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME)
+                .withDescription(DESCRIPTION)
+                .withUnit(UNIT)
+                .withMaxValue(1000));
+    }
+
+    @Test
+    void testCreateMetric() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final Metric metric = createMetric();
+
+        // when
+        new HistogramAdapter(registry, metric, GLOBAL);
+
+        // then
+        final Collector.MetricFamilySamples mapping =
+                registry.metricFamilySamples().nextElement();
+        assertThat(mapping.type).isEqualTo(Collector.Type.HISTOGRAM);
+        assertThat(mapping.name).isEqualTo(MAPPING_NAME);
+        assertThat(mapping.help).isEqualTo(DESCRIPTION);
+    }
+
+    @Test
+    void testConstructorWithNullParameters() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final Metric metric = createMetric();
+
+        // then
+        assertThatThrownBy(() -> new HistogramAdapter(null, metric, GLOBAL)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new HistogramAdapter(registry, null, GLOBAL))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new HistogramAdapter(registry, metric, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testUpdateGlobalMetric() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final PlatformHistogramMetric metric = createMetric();
+        metric.update(1);
+        metric.update(3);
+        metric.update(100);
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, GLOBAL);
+
+        // when
+        adapter.update(Snapshot.of(metric), null);
+
+        // then
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", GLOBAL_BUCKET_LABEL, new String[] {"1.0"}))
+                .isEqualTo(1.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", GLOBAL_BUCKET_LABEL, new String[] {"3.0"}))
+                .isEqualTo(2.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", GLOBAL_BUCKET_LABEL, new String[] {"127.0"}))
+                .isEqualTo(3.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", GLOBAL_BUCKET_LABEL, new String[] {"+Inf"}))
+                .isEqualTo(3.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_count")).isEqualTo(3.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_sum")).isEqualTo(104.0);
+    }
+
+    @Test
+    void testUpdatePlatformMetric() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final PlatformHistogramMetric metric1 = createMetric();
+        final PlatformHistogramMetric metric2 = createMetric();
+        metric1.update(2);
+        metric2.update(200);
+        metric2.update(300);
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric1, PLATFORM);
+
+        // when
+        adapter.update(Snapshot.of(metric1), NodeId.of(1L));
+        adapter.update(Snapshot.of(metric2), NodeId.of(2L));
+
+        // then
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", NODE_BUCKET_LABEL, new String[] {"1", "3.0"}))
+                .isEqualTo(1.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", NODE_BUCKET_LABEL, new String[] {"2", "3.0"}))
+                .isEqualTo(0.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_count", NODE_LABEL, new String[] {"1"}))
+                .isEqualTo(1.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_count", NODE_LABEL, new String[] {"2"}))
+                .isEqualTo(2.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_sum", NODE_LABEL, new String[] {"2"}))
+                .isEqualTo(500.0);
+    }
+
+    @Test
+    void testUnregister() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final PlatformHistogramMetric metric = createMetric();
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, GLOBAL);
+
+        // when
+        adapter.unregister(registry);
+
+        // then
+        assertThat(registry.metricFamilySamples().hasMoreElements()).isFalse();
+    }
+}
@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.metrics.platform;
+
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.metrics.config.MetricsConfig;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class StripedSpeedometerMetricTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final double EPSILON = 1e-6;
+    private static final MetricsConfig metricsConfig =
+            new TestConfigBuilder().getOrCreateConfig().getConfigData(MetricsConfig.class);
+
+    @Test
+    void testRegularRate() {
+        // given
+        final FakeTime time = new FakeTime();
+        final StripedSpeedometerMetric metric = createMetric(time);
+
+        // when
+        sendCycles(metric, time, 0, 1000, 1000);
+        time.set(Duration.ofSeconds(1000));
+
+        // then
+        assertEquals(1000.0, metric.get(), 1.0, "Rate should be about 1000.0");
+        assertEquals(1000.0, metric.get(VALUE), 1.0, "Mean rate should be about 1000.0");
+    }
+
+    @Test
+    void testReadFoldsPendingCycles() {
+        // given
+        final FakeTime time = new FakeTime();
+        final StripedSpeedometerMetric metric = createMetric(time);
+        sendCycles(metric, time, 0, 1000, 10);
+        time.set(Duration.ofSeconds(1000));
+        final double before = metric.get();
+
+        // when
+        time.set(Duration.ofSeconds(1000).plusMillis(1));
+        metric.update(1_000);
+
+        // then
+        final double expected = before + 1_000 * Math.log(2) / metricsConfig.halfLife();
+        assertEquals(10.0, before, 0.1, "Rate should be about 10.0");
+        assertEquals(expected, metric.get(), 0.1, "The read should see the pending cycles");
+    }
+
+    @Test
+    void testReset() {
+        // given
+        final FakeTime time = new FakeTime();
+        final StripedSpeedometerMetric metric = createMetric(time);
+        sendCycles(metric, time, 0, 1000, 1000);
+        time.set(Duration.ofSeconds(1000));
+
+        // when
+        metric.cycle();
+        metric.reset();
+        time.set(Duration.ofSeconds(1000, 1));
+
+        // then
+        assertEquals(0.0, metric.get(), EPSILON, "Rate should be reset to 0.0");
+
+        // when
+        sendCycles(metric, time, 1000, 2000, 2000);
+        time.set(Duration.ofSeconds(2000));
+
+        // then
+        assertEquals(2000.0, metric.get(), 2.0, "Rate should be about 2000.0");
+    }
+
+    private static StripedSpeedometerMetric createMetric(final FakeTime time) {
+        final SpeedometerMetric.Config config =
+                new SpeedometerMetric.Config(CATEGORY, NAME).withHalfLife(metricsConfig.halfLife());
+        return new StripedSpeedometerMetric(config, time);
+    }
+
+    private static void sendCycles(
+            final StripedSpeedometerMetric metric,
+            final FakeTime time,
+            final int start,
+            final int stop,
+            final int rate) {
+        for (int i = start; i < stop; i++) {
+            for (int j = 1; j <= rate; j++) {
+                time.set(Duration.ofSeconds(i).plus(Duration.ofSeconds(j).dividedBy(rate + 1)));
+                metric.cycle();
+            }
+            // done by the metrics update service in production
+            metric.fold();
+        }
+    }
+}
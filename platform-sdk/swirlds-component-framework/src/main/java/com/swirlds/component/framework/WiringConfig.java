@@ -24,7 +24,10 @@ import java.time.Duration;
  * @param healthLogPeriod                the minimum amount of time that must pass between health log messages for the
  *                                       same scheduler
  * @param healthyReportThreshold         indicates how long between two consecutive reports when the system is healthy.
- *
+ * @param tracingEnabled                 whether to record the queue wait and handling time of every item as
+ *                                       per-scheduler metrics and JFR events
+ * @param tracingSampleRate              when tracing is enabled, one in this many items is followed across schedulers
+ *                                       as an end-to-end trace, or none if 0
  */
 @ConfigData("platform.wiring")
 public record WiringConfig(
@@ -36,4 +39,6 @@ public record WiringConfig(
         @ConfigProperty(defaultValue = "1ms") Duration healthMonitorHeartbeatPeriod,
         @ConfigProperty(defaultValue = "1s") Duration healthLogThreshold,
         @ConfigProperty(defaultValue = "10m") Duration healthLogPeriod,
-        @ConfigProperty(defaultValue = "1s") Duration healthyReportThreshold) {}
+        @ConfigProperty(defaultValue = "1s") Duration healthyReportThreshold,
+        @ConfigProperty(defaultValue = "false") boolean tracingEnabled,
+        @ConfigProperty(defaultValue = "1000") int tracingSampleRate) {}
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.component.framework.model;
 
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.BATCHING;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.NO_OP;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_THREAD;
@@ -10,9 +11,11 @@ import com.swirlds.component.framework.model.diagram.HyperlinkBuilder;
 import com.swirlds.component.framework.model.internal.monitor.HealthMonitor;
 import com.swirlds.component.framework.model.internal.standard.HeartbeatScheduler;
 import com.swirlds.component.framework.model.internal.standard.JvmAnchor;
+import com.swirlds.component.framework.model.internal.tracing.WireTracer;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder;
 import com.swirlds.component.framework.schedulers.builders.internal.StandardTaskSchedulerBuilder;
+import com.swirlds.component.framework.schedulers.internal.ConcurrentTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler;
 import com.swirlds.component.framework.wires.input.BindableInputWire;
 import com.swirlds.component.framework.wires.output.OutputWire;
@@ -59,6 +62,11 @@ public class StandardWiringModel extends TraceableWiringModel {
      */
     private final List<SequentialThreadTaskScheduler<?>> threadSchedulers = new ArrayList<>();
 
+    /**
+     * Concurrent schedulers may own an executor that needs to be shut down when the model is stopped.
+     */
+    private final List<ConcurrentTaskScheduler<?>> concurrentSchedulers = new ArrayList<>();
+
     /**
      * The default fork join pool, schedulers not explicitly assigned a pool will use this one.
      */
@@ -84,6 +92,11 @@ public class StandardWiringModel extends TraceableWiringModel {
      */
     private final Duration healthyReportThreshold;
 
+    /**
+     * Records latency for data passed through input wires, or null if tracing is disabled.
+     */
+    private final WireTracer wireTracer;
+
     /**
      * Constructor.
      *
@@ -95,6 +108,8 @@ public class StandardWiringModel extends TraceableWiringModel {
         this.metrics = Objects.requireNonNull(builder.getMetrics());
         this.time = Objects.requireNonNull(builder.getTime());
         this.defaultPool = Objects.requireNonNull(builder.getDefaultPool());
+        this.wireTracer =
+                builder.isTracingEnabled() ? new WireTracer(metrics, time, builder.getTracingSampleRate()) : null;
 
         final TaskSchedulerBuilder<Duration> healthMonitorSchedulerBuilder = this.schedulerBuilder("HealthMonitor");
         healthMonitorSchedulerBuilder.withHyperlink(HyperlinkBuilder.platformCoreHyperlink(HealthMonitor.class));
@@ -170,14 +185,25 @@ public class StandardWiringModel extends TraceableWiringModel {
         return getHeartbeatScheduler().buildHeartbeatWire(frequency);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public WireTracer getWireTracer() {
+        return wireTracer;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void registerScheduler(@NonNull final TaskScheduler<?> scheduler, @Nullable final String hyperlink) {
         super.registerScheduler(scheduler, hyperlink);
-        if (scheduler.getType() == SEQUENTIAL_THREAD) {
+        if (scheduler.getType() == SEQUENTIAL_THREAD || scheduler.getType() == BATCHING) {
             threadSchedulers.add((SequentialThreadTaskScheduler<?>) scheduler);
+        } else if (scheduler instanceof final ConcurrentTaskScheduler<?> concurrentScheduler) {
+            concurrentSchedulers.add(concurrentScheduler);
         }
     }
 
@@ -228,6 +254,10 @@ public class StandardWiringModel extends TraceableWiringModel {
             threadScheduler.stop();
         }
 
+        for (final ConcurrentTaskScheduler<?> concurrentScheduler : concurrentSchedulers) {
+            concurrentScheduler.stop();
+        }
+
         if (anchor != null) {
             anchor.stop();
         }
@@ -16,6 +16,7 @@ import com.swirlds.component.framework.model.internal.analysis.ModelEdge;
 import com.swirlds.component.framework.model.internal.analysis.ModelVertex;
 import com.swirlds.component.framework.model.internal.analysis.StandardVertex;
 import com.swirlds.component.framework.model.internal.analysis.WiringFlowchart;
+import com.swirlds.component.framework.model.internal.tracing.WireTracer;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import com.swirlds.component.framework.wires.SolderType;
@@ -94,6 +95,16 @@ public abstract class TraceableWiringModel implements WiringModel {
         return backpressureEnabled;
     }
 
+    /**
+     * Get the tracer that records latency for data passed through input wires in this model.
+     *
+     * @return the tracer, or null if tracing is disabled
+     */
+    @Nullable
+    public WireTracer getWireTracer() {
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      */
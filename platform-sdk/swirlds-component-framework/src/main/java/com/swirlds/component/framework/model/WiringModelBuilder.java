@@ -25,6 +25,8 @@ public class WiringModelBuilder {
     private final Metrics metrics;
     private final Time time;
     private Duration healthyReportThreshold = Duration.ofSeconds(1);
+    private boolean tracingEnabled = false;
+    private int tracingSampleRate = 1000;
 
     /**
      * Create a new builder.
@@ -174,6 +176,36 @@ public class WiringModelBuilder {
         return this;
     }
 
+    /**
+     * Set if latency tracing should be enabled. If enabled, the time each item spends queued and being handled is
+     * recorded per scheduler as metrics and JFR events, at the cost of some overhead for every item. Ignored in
+     * deterministic mode. Default false.
+     *
+     * @param tracingEnabled whether to enable latency tracing
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withTracingEnabled(final boolean tracingEnabled) {
+        this.tracingEnabled = tracingEnabled;
+        return this;
+    }
+
+    /**
+     * Set how often an item starts an end-to-end trace when latency tracing is enabled. One in this many items is
+     * followed across schedulers, or none if 0. Default is 1000.
+     *
+     * @param tracingSampleRate one in this many items starts an end-to-end trace
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withTracingSampleRate(final int tracingSampleRate) {
+        if (tracingSampleRate < 0) {
+            throw new IllegalArgumentException("Tracing sample rate must not be negative");
+        }
+        this.tracingSampleRate = tracingSampleRate;
+        return this;
+    }
+
     /**
      * Build the wiring model.
      *
@@ -296,4 +328,22 @@ public class WiringModelBuilder {
     Duration getHealthyReportThreshold() {
         return healthyReportThreshold;
     }
+
+    /**
+     * Check if latency tracing is enabled.
+     *
+     * @return true if latency tracing is enabled
+     */
+    boolean isTracingEnabled() {
+        return tracingEnabled;
+    }
+
+    /**
+     * Get how often an item starts an end-to-end trace.
+     *
+     * @return one in this many items starts an end-to-end trace
+     */
+    int getTracingSampleRate() {
+        return tracingSampleRate;
+    }
 }
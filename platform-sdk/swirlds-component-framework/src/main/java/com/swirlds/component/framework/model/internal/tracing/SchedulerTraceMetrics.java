@@ -0,0 +1,56 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model.internal.tracing;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Latency metrics for a single traced task scheduler. Latencies are recorded in histograms, so that the tail latency
+ * of a scheduler is visible and not hidden by an average.
+ */
+final class SchedulerTraceMetrics {
+
+    /**
+     * The largest latency in microseconds that is tracked precisely, roughly 19 hours.
+     */
+    private static final long MAX_LATENCY_US = 1L << 36;
+
+    private final HistogramMetric queueWait;
+    private final HistogramMetric serviceTime;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics       the metrics system
+     * @param schedulerName the name of the task scheduler
+     */
+    SchedulerTraceMetrics(@NonNull final Metrics metrics, @NonNull final String schedulerName) {
+        final HistogramMetric.Config queueWaitConfig = new HistogramMetric.Config(
+                        "platform", schedulerName + "_queue_wait_us")
+                .withDescription("Time in microseconds a task waits in the queue of the task scheduler "
+                        + schedulerName)
+                .withUnit("us")
+                .withMaxValue(MAX_LATENCY_US);
+        queueWait = metrics.getOrCreate(queueWaitConfig);
+
+        final HistogramMetric.Config serviceTimeConfig = new HistogramMetric.Config(
+                        "platform", schedulerName + "_service_time_us")
+                .withDescription("Time in microseconds spent handling a task in the task scheduler "
+                        + schedulerName)
+                .withUnit("us")
+                .withMaxValue(MAX_LATENCY_US);
+        serviceTime = metrics.getOrCreate(serviceTimeConfig);
+    }
+
+    /**
+     * Record the latency of a single task.
+     *
+     * @param queueWaitNanos   the time the task spent waiting in the queue
+     * @param serviceTimeNanos the time spent in the handler
+     */
+    void record(final long queueWaitNanos, final long serviceTimeNanos) {
+        queueWait.update(queueWaitNanos / 1_000);
+        serviceTime.update(serviceTimeNanos / 1_000);
+    }
+}
@@ -0,0 +1,21 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model.internal.tracing;
+
+/**
+ * Identifies a sampled end-to-end trace as it travels from scheduler to scheduler.
+ *
+ * @param traceId     the unique ID of the trace
+ * @param originNanos the time when the trace was started
+ * @param hop         the number of schedulers the trace passed through before reaching the current one
+ */
+record TraceContext(long traceId, long originNanos, int hop) {
+
+    /**
+     * Get the context for the next scheduler the trace reaches.
+     *
+     * @return the context for the next hop
+     */
+    TraceContext nextHop() {
+        return new TraceContext(traceId, originNanos, hop + 1);
+    }
+}
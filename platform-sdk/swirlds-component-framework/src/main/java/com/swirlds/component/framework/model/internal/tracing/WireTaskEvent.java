@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model.internal.tracing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JFR event recorded each time a traced task is handled by a task scheduler. The duration of the event is the time
+ * spent in the handler.
+ */
+@Name("com.swirlds.wiring.Task")
+@Label("Wiring Task")
+@Category({"Swirlds", "Wiring"})
+@Description("A task handled by a wiring framework task scheduler")
+@StackTrace(false)
+final class WireTaskEvent extends Event {
+
+    @Label("Scheduler")
+    String scheduler;
+
+    @Label("Input Wire")
+    String wire;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueWait;
+
+    @Label("Trace ID")
+    @Description("The ID of the end-to-end trace this task belongs to, or 0 if the task is not sampled")
+    long traceId;
+
+    @Label("Hop")
+    @Description("The number of schedulers the traced item passed through before this one")
+    int hop;
+
+    @Label("Since Trace Start")
+    @Timespan(Timespan.NANOSECONDS)
+    long sinceTraceStart;
+}
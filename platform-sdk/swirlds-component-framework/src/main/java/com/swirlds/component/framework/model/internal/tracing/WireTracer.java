@@ -0,0 +1,167 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model.internal.tracing;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.component.framework.schedulers.internal.BatchConsumer;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Measures how long items wait in task scheduler queues and how long handlers take to run, and follows a sample of items
+ * from scheduler to scheduler.
+ * <p>
+ * Each item inserted into an input wire is stamped with the time of insertion. When the item is handled, the time it
+ * spent queued and the time spent in the handler are recorded as per-scheduler metrics and as a
+ * {@link WireTaskEvent JFR event}. One in every {@code sampleRate} items that do not already belong to a trace starts a
+ * new end-to-end trace. While a traced item is being handled, every item its handler sends to another input wire,
+ * directly or via output wires and transformers, joins the same trace. This makes it possible to reconstruct the path
+ * of an item through the pipeline, and the latency of each hop, from a JFR recording.
+ * <p>
+ * Handlers that accept batches are not traced, since wrapping items would prevent them from being batched.
+ */
+public final class WireTracer {
+
+    private final Metrics metrics;
+    private final Time time;
+    private final int sampleRate;
+
+    /**
+     * Metrics for each scheduler, created the first time a task for that scheduler is handled.
+     */
+    private final Map<String, SchedulerTraceMetrics> schedulerMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Counts untraced items, used to decide when to start a new trace.
+     */
+    private final AtomicLong untracedCount = new AtomicLong();
+
+    /**
+     * The source of trace IDs.
+     */
+    private final AtomicLong nextTraceId = new AtomicLong(1);
+
+    /**
+     * The trace of the item currently being handled on this thread, if any.
+     */
+    private final ThreadLocal<TraceContext> currentTrace = new ThreadLocal<>();
+
+    /**
+     * Constructor.
+     *
+     * @param metrics    the metrics system
+     * @param time       provides wall clock time
+     * @param sampleRate one in this many items starts an end-to-end trace, or 0 to disable end-to-end traces
+     */
+    public WireTracer(@NonNull final Metrics metrics, @NonNull final Time time, final int sampleRate) {
+        this.metrics = Objects.requireNonNull(metrics);
+        this.time = Objects.requireNonNull(time);
+        if (sampleRate < 0) {
+            throw new IllegalArgumentException("Sample rate must not be negative");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Wrap the handler for a single item that is about to be inserted into a task scheduler.
+     *
+     * @param schedulerName the name of the task scheduler
+     * @param wireName      the name of the input wire
+     * @param handler       the handler bound to the input wire
+     * @return a handler that records latency before and after calling the original handler
+     */
+    @NonNull
+    public Consumer<Object> wrap(
+            @NonNull final String schedulerName,
+            @NonNull final String wireName,
+            @NonNull final Consumer<Object> handler) {
+        if (handler instanceof BatchConsumer) {
+            return handler;
+        }
+        return new TracedTask(schedulerName, wireName, handler, time.nanoTime(), nextTrace());
+    }
+
+    /**
+     * Decide which trace, if any, a newly inserted item belongs to.
+     *
+     * @return the trace, or null if the item is not traced
+     */
+    @Nullable
+    private TraceContext nextTrace() {
+        final TraceContext parent = currentTrace.get();
+        if (parent != null) {
+            return parent.nextHop();
+        }
+        if (sampleRate > 0 && untracedCount.incrementAndGet() % sampleRate == 0) {
+            return new TraceContext(nextTraceId.getAndIncrement(), time.nanoTime(), 0);
+        }
+        return null;
+    }
+
+    /**
+     * A handler for a single item, stamped with the time it was inserted.
+     */
+    private final class TracedTask implements Consumer<Object> {
+
+        private final String schedulerName;
+        private final String wireName;
+        private final Consumer<Object> handler;
+        private final long insertionNanos;
+        private final TraceContext trace;
+
+        TracedTask(
+                @NonNull final String schedulerName,
+                @NonNull final String wireName,
+                @NonNull final Consumer<Object> handler,
+                final long insertionNanos,
+                @Nullable final TraceContext trace) {
+            this.schedulerName = schedulerName;
+            this.wireName = wireName;
+            this.handler = handler;
+            this.insertionNanos = insertionNanos;
+            this.trace = trace;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void accept(@NonNull final Object data) {
+            final WireTaskEvent event = new WireTaskEvent();
+            event.begin();
+            final long startNanos = time.nanoTime();
+
+            final TraceContext previousTrace = currentTrace.get();
+            currentTrace.set(trace);
+            try {
+                handler.accept(data);
+            } finally {
+                currentTrace.set(previousTrace);
+
+                final long endNanos = time.nanoTime();
+                final long queueWaitNanos = startNanos - insertionNanos;
+                schedulerMetrics
+                        .computeIfAbsent(schedulerName, name -> new SchedulerTraceMetrics(metrics, name))
+                        .record(queueWaitNanos, endNanos - startNanos);
+
+                event.end();
+                if (event.shouldCommit()) {
+                    event.scheduler = schedulerName;
+                    event.wire = wireName;
+                    event.queueWait = queueWaitNanos;
+                    if (trace != null) {
+                        event.traceId = trace.traceId();
+                        event.hop = trace.hop();
+                        event.sinceTraceStart = endNanos - trace.originNanos();
+                    }
+                    event.commit();
+                }
+            }
+        }
+    }
+}
@@ -48,6 +48,27 @@ public interface TaskSchedulerBuilder<OUT> {
     @NonNull
     TaskSchedulerBuilder<OUT> withUnhandledTaskCapacity(long unhandledTaskCapacity);
 
+    /**
+     * Set the maximum number of tasks a {@link TaskSchedulerType#BATCHING} scheduler hands to a batch handler in a
+     * single call. Ignored by other scheduler types. Default 64.
+     *
+     * @param maxBatchSize the maximum batch size, must be at least 1
+     * @return this
+     */
+    @NonNull
+    TaskSchedulerBuilder<OUT> withMaxBatchSize(int maxBatchSize);
+
+    /**
+     * Set the maximum time a {@link TaskSchedulerType#BATCHING} scheduler waits for more tasks once the first task of a
+     * batch is available. A zero delay means that only tasks that are already queued are batched. Ignored by other
+     * scheduler types. Default zero.
+     *
+     * @param maxBatchDelay the maximum batch delay
+     * @return this
+     */
+    @NonNull
+    TaskSchedulerBuilder<OUT> withMaxBatchDelay(@NonNull Duration maxBatchDelay);
+
     /**
      * Set whether the task scheduler should enable flushing. Default false. Flushing a scheduler with this disabled
      * will cause the scheduler to throw an exception. Enabling flushing may add overhead.
@@ -71,6 +92,26 @@ public interface TaskSchedulerBuilder<OUT> {
     @NonNull
     TaskSchedulerBuilder<OUT> withSquelchingEnabled(boolean squelchingEnabled);
 
+    /**
+     * Set whether the task scheduler should run handlers on virtual threads. Default false. Useful for components
+     * whose handlers block on I/O, since a blocked virtual thread does not hold on to a platform thread.
+     * <ul>
+     * <li>{@link TaskSchedulerType#SEQUENTIAL_THREAD} and {@link TaskSchedulerType#BATCHING} schedulers use a
+     * virtual thread as their dedicated thread.</li>
+     * <li>{@link TaskSchedulerType#SEQUENTIAL} schedulers are built as {@link TaskSchedulerType#SEQUENTIAL_THREAD}
+     * schedulers backed by a virtual thread, which provides the same ordering guarantees.</li>
+     * <li>{@link TaskSchedulerType#CONCURRENT} schedulers execute each task on a new virtual thread instead of on the
+     * fork join pool.</li>
+     * <li>Other scheduler types ignore this setting.</li>
+     * </ul>
+     * Backpressure, flushing and squelching behave the same way regardless of this setting.
+     *
+     * @param virtualThreadsEnabled true if handlers should run on virtual threads, false otherwise
+     * @return this
+     */
+    @NonNull
+    TaskSchedulerBuilder<OUT> withVirtualThreadsEnabled(boolean virtualThreadsEnabled);
+
     /**
      * Specify an object counter that should be notified when data is added to the task scheduler. This is useful for
      * implementing backpressure that spans multiple schedulers.
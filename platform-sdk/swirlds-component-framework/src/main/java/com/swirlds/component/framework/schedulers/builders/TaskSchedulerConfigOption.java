@@ -21,11 +21,28 @@ public enum TaskSchedulerConfigOption {
     /**
      * If present, the scheduler will be capable of squelching.
      */
-    SQUELCHABLE;
+    SQUELCHABLE,
+    /**
+     * If present, the scheduler will run handlers on virtual threads.
+     */
+    VIRTUAL_THREADS;
 
     /**
      * This is not defined as an enum constant because it is used in a special way. To specify the capacity,
      * use a string in the form "CAPACITY(1234)" where 1234 is the desired capacity.
      */
     public static final String CAPACITY = "CAPACITY";
+
+    /**
+     * This is not defined as an enum constant because it is used in a special way. To specify the maximum batch size
+     * of a {@link TaskSchedulerType#BATCHING} scheduler, use a string in the form "BATCH_SIZE(64)".
+     */
+    public static final String BATCH_SIZE = "BATCH_SIZE";
+
+    /**
+     * This is not defined as an enum constant because it is used in a special way. To specify the maximum batch delay
+     * of a {@link TaskSchedulerType#BATCHING} scheduler, use a string in the form "BATCH_DELAY(250us)". Supported units
+     * are "ns", "us", "ms" and "s".
+     */
+    public static final String BATCH_DELAY = "BATCH_DELAY";
 }
@@ -5,9 +5,11 @@ import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerC
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfigOption.FLUSHABLE;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfigOption.SQUELCHABLE;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfigOption.UNHANDLED_TASK_METRIC;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfigOption.VIRTUAL_THREADS;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
 
 /**
  * Configures a task scheduler.
@@ -20,6 +22,12 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  * @param busyFractionMetricEnabled  whether the busy fraction metric should be enabled, if null then false is used
  * @param flushingEnabled            whether flushing is enabled, if null then false is used
  * @param squelchingEnabled          whether squelching is enabled, if null then false is used
+ * @param maxBatchSize               the maximum number of tasks handled in a single batch by a
+ *                                   {@link TaskSchedulerType#BATCHING} scheduler, if null then the builder default is
+ *                                   used
+ * @param maxBatchDelay              the maximum time a {@link TaskSchedulerType#BATCHING} scheduler waits for a
+ *                                   batch to fill, if null then the builder default is used
+ * @param virtualThreadsEnabled      whether handlers run on virtual threads, if null then false is used
  */
 public record TaskSchedulerConfiguration(
         @Nullable TaskSchedulerType type,
@@ -27,28 +35,32 @@ public record TaskSchedulerConfiguration(
         @Nullable Boolean unhandledTaskMetricEnabled,
         @Nullable Boolean busyFractionMetricEnabled,
         @Nullable Boolean flushingEnabled,
-        @Nullable Boolean squelchingEnabled) {
+        @Nullable Boolean squelchingEnabled,
+        @Nullable Integer maxBatchSize,
+        @Nullable Duration maxBatchDelay,
+        @Nullable Boolean virtualThreadsEnabled) {
 
     /**
      * This configuration is for a no-op task scheduler. It is not necessary to use this constant for a no-op task
      * scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration NO_OP_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.NO_OP, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.NO_OP, 0L, false, false, false, false, null, null, false);
 
     /**
      * This configuration is for a simple direct task scheduler. It is not necessary to use this constant for a direct
      * task scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration DIRECT_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT, 0L, false, false, false, false, null, null, false);
 
     /**
      * This configuration is for a thread-safe direct task scheduler. It is not necessary to use this constant for a
      * thread-safe direct task scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration DIRECT_THREADSAFE_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT_THREADSAFE, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(
+                    TaskSchedulerType.DIRECT_THREADSAFE, 0L, false, false, false, false, null, null, false);
 
     /**
      * Parse a string representation of a task scheduler configuration.
@@ -63,6 +75,14 @@ public record TaskSchedulerConfiguration(
      *         Zero or one string of the form "CAPACITY(1234)", specifies the maximum number of unhandled tasks.
      *     </li>
      *     <li>
+     *         Zero or one string of the form "BATCH_SIZE(64)", specifies the maximum batch size of a batching
+     *         scheduler.
+     *     </li>
+     *     <li>
+     *         Zero or one string of the form "BATCH_DELAY(250us)", specifies the maximum batch delay of a batching
+     *         scheduler. Supported units are "ns", "us", "ms" and "s".
+     *     </li>
+     *     <li>
      *         Zero or more values from the {@link TaskSchedulerConfigOption} enum, specifies the configuration options.
      *         Sets a boolean configuration option to true if the value is present, and false if the value is prefixed
      *         with a "!". If not present then the default is used.
@@ -84,6 +104,9 @@ public record TaskSchedulerConfiguration(
         Boolean busyFractionMetricEnabled = null;
         Boolean flushingEnabled = null;
         Boolean squelchingEnabled = null;
+        Integer maxBatchSize = null;
+        Duration maxBatchDelay = null;
+        Boolean virtualThreadsEnabled = null;
 
         final String[] parts = string.split(" ");
         for (final String part : parts) {
@@ -110,6 +133,28 @@ public record TaskSchedulerConfiguration(
                 continue;
             }
 
+            final String batchSizeString = tryToParseParameter(TaskSchedulerConfigOption.BATCH_SIZE, strippedPart);
+            if (batchSizeString != null) {
+                if (maxBatchSize != null) {
+                    throw new IllegalArgumentException("Multiple batch sizes specified: " + string);
+                }
+                try {
+                    maxBatchSize = Integer.parseInt(batchSizeString);
+                } catch (final NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid batch size \"" + strippedPart + "\"", e);
+                }
+                continue;
+            }
+
+            final String batchDelayString = tryToParseParameter(TaskSchedulerConfigOption.BATCH_DELAY, strippedPart);
+            if (batchDelayString != null) {
+                if (maxBatchDelay != null) {
+                    throw new IllegalArgumentException("Multiple batch delays specified: " + string);
+                }
+                maxBatchDelay = parseDuration(batchDelayString, strippedPart);
+                continue;
+            }
+
             final Boolean parsedUnhandledTaskMetric = tryToParseOption(UNHANDLED_TASK_METRIC, strippedPart);
             if (parsedUnhandledTaskMetric != null) {
                 if (unhandledTaskMetricEnabled != null) {
@@ -148,6 +193,15 @@ public record TaskSchedulerConfiguration(
                 continue;
             }
 
+            final Boolean parsedVirtualThreads = tryToParseOption(VIRTUAL_THREADS, strippedPart);
+            if (parsedVirtualThreads != null) {
+                if (virtualThreadsEnabled != null) {
+                    throw new IllegalArgumentException("Multiple virtual thread configurations specified: " + string);
+                }
+                virtualThreadsEnabled = parsedVirtualThreads;
+                continue;
+            }
+
             throw new IllegalArgumentException("Invalid task scheduler configuration: " + part);
         }
 
@@ -157,7 +211,10 @@ public record TaskSchedulerConfiguration(
                 unhandledTaskMetricEnabled,
                 busyFractionMetricEnabled,
                 flushingEnabled,
-                squelchingEnabled);
+                squelchingEnabled,
+                maxBatchSize,
+                maxBatchDelay,
+                virtualThreadsEnabled);
     }
 
     /**
@@ -201,6 +258,49 @@ public record TaskSchedulerConfiguration(
         return null;
     }
 
+    /**
+     * Try to parse a string of the form "NAME(value)".
+     *
+     * @param name   the name of the parameter
+     * @param string the string to parse
+     * @return the value between the parentheses, or null if the string is not for the given parameter
+     */
+    @Nullable
+    private static String tryToParseParameter(@NonNull final String name, @NonNull final String string) {
+        if (!string.startsWith(name + "(")) {
+            return null;
+        }
+        if (!string.endsWith(")")) {
+            throw new IllegalArgumentException("Invalid " + name + " \"" + string + "\"");
+        }
+        return string.substring(name.length() + 1, string.length() - 1);
+    }
+
+    /**
+     * Parse a duration of the form "250us".
+     *
+     * @param value  the value to parse
+     * @param string the full string, used for error messages
+     * @return the parsed duration
+     */
+    @NonNull
+    private static Duration parseDuration(@NonNull final String value, @NonNull final String string) {
+        try {
+            if (value.endsWith("ns")) {
+                return Duration.ofNanos(Long.parseLong(value.substring(0, value.length() - 2)));
+            } else if (value.endsWith("us")) {
+                return Duration.ofNanos(Long.parseLong(value.substring(0, value.length() - 2)) * 1_000);
+            } else if (value.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+            } else if (value.endsWith("s")) {
+                return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+            }
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid duration \"" + string + "\"", e);
+        }
+        throw new IllegalArgumentException("Invalid duration \"" + string + "\", expected a unit of ns, us, ms or s");
+    }
+
     /**
      * Try to parse a string as a configuration option that is represented by an enum string and an optional "!".
      *
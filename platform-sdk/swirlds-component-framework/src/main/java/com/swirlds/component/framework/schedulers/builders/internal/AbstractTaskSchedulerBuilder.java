@@ -44,6 +44,7 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
     protected long unhandledTaskCapacity = 1;
     protected boolean flushingEnabled = false;
     protected boolean squelchingEnabled = false;
+    protected boolean virtualThreadsEnabled = false;
     protected boolean externalBackPressure = false;
     protected ObjectCounter onRamp;
     protected ObjectCounter offRamp;
@@ -57,6 +58,9 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
 
     protected Duration sleepDuration = Duration.ofNanos(100);
 
+    protected int maxBatchSize = 64;
+    protected Duration maxBatchDelay = Duration.ZERO;
+
     protected final Metrics metrics;
     /**
      * Constructor.
@@ -113,6 +117,15 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         if (configuration.squelchingEnabled() != null) {
             withSquelchingEnabled(configuration.squelchingEnabled());
         }
+        if (configuration.maxBatchSize() != null) {
+            withMaxBatchSize(configuration.maxBatchSize());
+        }
+        if (configuration.maxBatchDelay() != null) {
+            withMaxBatchDelay(configuration.maxBatchDelay());
+        }
+        if (configuration.virtualThreadsEnabled() != null) {
+            withVirtualThreadsEnabled(configuration.virtualThreadsEnabled());
+        }
         return this;
     }
 
@@ -136,6 +149,32 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public AbstractTaskSchedulerBuilder<OUT> withMaxBatchSize(final int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be at least 1");
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public AbstractTaskSchedulerBuilder<OUT> withMaxBatchDelay(@NonNull final Duration maxBatchDelay) {
+        if (maxBatchDelay.isNegative()) {
+            throw new IllegalArgumentException("Max batch delay must not be negative");
+        }
+        this.maxBatchDelay = maxBatchDelay;
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -156,6 +195,16 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public AbstractTaskSchedulerBuilder<OUT> withVirtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
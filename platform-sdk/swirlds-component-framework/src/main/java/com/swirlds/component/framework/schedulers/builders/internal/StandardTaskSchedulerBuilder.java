@@ -12,6 +12,7 @@ import com.swirlds.common.metrics.extensions.StandardFractionalTimer;
 import com.swirlds.component.framework.model.StandardWiringModel;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.schedulers.internal.BatchingTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.ConcurrentTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.DirectTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.NoOpTaskScheduler;
@@ -115,8 +116,13 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
         final boolean insertionIsBlocking =
                 ((unhandledTaskCapacity != UNLIMITED_CAPACITY) || externalBackPressure) && (type != NO_OP);
 
+        // A sequential scheduler is pinned to the fork join pool, so with virtual threads it is built as a sequential
+        // thread scheduler, which provides the same ordering guarantees.
+        final TaskSchedulerType effectiveType =
+                virtualThreadsEnabled && type == TaskSchedulerType.SEQUENTIAL ? TaskSchedulerType.SEQUENTIAL_THREAD : type;
+
         final TaskScheduler<OUT> scheduler =
-                switch (type) {
+                switch (effectiveType) {
                     case CONCURRENT -> new ConcurrentTaskScheduler<>(
                             model,
                             name,
@@ -127,7 +133,8 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
                             unhandledTaskCapacity,
                             flushingEnabled,
                             squelchingEnabled,
-                            insertionIsBlocking);
+                            insertionIsBlocking,
+                            virtualThreadsEnabled);
                     case SEQUENTIAL -> new SequentialTaskScheduler<>(
                             model,
                             name,
@@ -151,7 +158,23 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
                             unhandledTaskCapacity,
                             flushingEnabled,
                             squelchingEnabled,
-                            insertionIsBlocking);
+                            insertionIsBlocking,
+                            virtualThreadsEnabled);
+                    case BATCHING -> new BatchingTaskScheduler<>(
+                            model,
+                            name,
+                            buildUncaughtExceptionHandler(),
+                            counters.onRamp(),
+                            counters.offRamp(),
+                            dataCounter,
+                            busyFractionTimer,
+                            unhandledTaskCapacity,
+                            maxBatchSize,
+                            maxBatchDelay,
+                            flushingEnabled,
+                            squelchingEnabled,
+                            insertionIsBlocking,
+                            virtualThreadsEnabled);
                     case DIRECT, DIRECT_THREADSAFE -> new DirectTaskScheduler<>(
                             model,
                             name,
@@ -0,0 +1,31 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.internal;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A task handler that can also handle several items in a single call. A {@link BatchingTaskScheduler} passes runs of
+ * consecutive items that share the same batch consumer to {@link #acceptBatch(List)}. Other schedulers call
+ * {@link #accept(Object)} once per item.
+ */
+public interface BatchConsumer extends Consumer<Object> {
+
+    /**
+     * Handle several items, in order.
+     *
+     * @param batch the items to handle, never empty
+     */
+    void acceptBatch(@NonNull List<Object> batch);
+
+    /**
+     * Handle a single item as a batch of one.
+     *
+     * @param item the item to handle
+     */
+    @Override
+    default void accept(@NonNull final Object item) {
+        acceptBatch(List.of(item));
+    }
+}
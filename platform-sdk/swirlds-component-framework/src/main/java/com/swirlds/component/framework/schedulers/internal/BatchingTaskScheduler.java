@@ -0,0 +1,164 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.internal;
+
+import com.swirlds.common.metrics.extensions.FractionalTimer;
+import com.swirlds.component.framework.counters.ObjectCounter;
+import com.swirlds.component.framework.model.TraceableWiringModel;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * A scheduler that performs work sequentially on a dedicated thread, like {@link SequentialThreadTaskScheduler}, but
+ * hands runs of queued items to handlers bound as a {@link BatchConsumer} in a single call. Fixed per-call costs of
+ * such handlers are paid once per batch rather than once per item.
+ * <p>
+ * Once the first task is available, this scheduler waits up to the maximum batch delay for more tasks to arrive, or
+ * until the maximum batch size is reached. Consecutive tasks for the same batch handler are then passed to it
+ * together. Tasks for other handlers are handled one at a time, and ordering between all tasks is preserved.
+ * Backpressure is still accounted per item, each item is removed from the off ramp once its batch has been handled.
+ *
+ * @param <OUT> the type of the primary output wire
+ */
+public class BatchingTaskScheduler<OUT> extends SequentialThreadTaskScheduler<OUT> {
+
+    private final int maxBatchSize;
+    private final long maxBatchDelayNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param model                    the wiring model containing this task scheduler
+     * @param name                     the name of the task scheduler
+     * @param uncaughtExceptionHandler the handler to call when an exception is thrown by a task. If a batch handler
+     *                                 throws, the handler is called once for the whole batch.
+     * @param onRamp                   the counter to increment when a task is added to the queue
+     * @param offRamp                  the counter to decrement when a task is removed from the queue
+     * @param dataCounter              the function to weight input data objects for health monitoring
+     * @param busyTimer                the timer to activate when a task is being handled
+     * @param capacity                 the maximum desired capacity for this task scheduler
+     * @param maxBatchSize             the maximum number of items handled in a single batch
+     * @param maxBatchDelay            the maximum time to wait for more items once the first item is available
+     * @param flushEnabled             if true, then {@link #flush()} will be enabled, otherwise it will throw.
+     * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
+     * @param insertionIsBlocking      when data is inserted into this task scheduler, will it block until capacity is
+     *                                 available?
+     * @param virtualThread            if true, then work is done on a virtual thread instead of a platform thread
+     */
+    public BatchingTaskScheduler(
+            @NonNull final TraceableWiringModel model,
+            @NonNull final String name,
+            @NonNull final UncaughtExceptionHandler uncaughtExceptionHandler,
+            @NonNull final ObjectCounter onRamp,
+            @NonNull final ObjectCounter offRamp,
+            @NonNull final ToLongFunction<Object> dataCounter,
+            @NonNull final FractionalTimer busyTimer,
+            final long capacity,
+            final int maxBatchSize,
+            @NonNull final Duration maxBatchDelay,
+            final boolean flushEnabled,
+            final boolean squelchingEnabled,
+            final boolean insertionIsBlocking,
+            final boolean virtualThread) {
+        super(
+                model,
+                name,
+                TaskSchedulerType.BATCHING,
+                uncaughtExceptionHandler,
+                onRamp,
+                offRamp,
+                dataCounter,
+                busyTimer,
+                capacity,
+                flushEnabled,
+                squelchingEnabled,
+                insertionIsBlocking,
+                virtualThread);
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be at least 1, is " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelayNanos = maxBatchDelay.toNanos();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void fillBuffer(
+            @NonNull final BlockingQueue<SequentialThreadTask> tasks, @NonNull final List<SequentialThreadTask> buffer)
+            throws InterruptedException {
+        if (tasks.drainTo(buffer, maxBatchSize) == 0) {
+            buffer.add(tasks.take());
+        }
+        if (maxBatchDelayNanos <= 0) {
+            return;
+        }
+
+        final long deadline = System.nanoTime() + maxBatchDelayNanos;
+        while (buffer.size() < maxBatchSize) {
+            if (tasks.drainTo(buffer, maxBatchSize - buffer.size()) > 0) {
+                continue;
+            }
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            final SequentialThreadTask task = tasks.poll(remaining, TimeUnit.NANOSECONDS);
+            if (task == null) {
+                return;
+            }
+            buffer.add(task);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void handleTasks(@NonNull final List<SequentialThreadTask> buffer) {
+        int index = 0;
+        while (index < buffer.size() && isAlive()) {
+            final SequentialThreadTask first = buffer.get(index);
+            if (!(first.handler() instanceof final BatchConsumer batchConsumer)) {
+                try {
+                    first.handle();
+                } catch (final Throwable t) {
+                    reportException(t);
+                } finally {
+                    offRampTask(first);
+                }
+                index++;
+                continue;
+            }
+
+            // find the run of consecutive tasks for this handler
+            int end = index + 1;
+            while (end < buffer.size() && buffer.get(end).handler() == batchConsumer) {
+                end++;
+            }
+            final List<SequentialThreadTask> run = buffer.subList(index, end);
+            final List<Object> batch = new ArrayList<>(run.size());
+            for (final SequentialThreadTask task : run) {
+                batch.add(task.data());
+            }
+
+            try {
+                batchConsumer.acceptBatch(batch);
+            } catch (final Throwable t) {
+                reportException(t);
+            } finally {
+                for (final SequentialThreadTask task : run) {
+                    offRampTask(task);
+                }
+            }
+            index = end;
+        }
+    }
+}
@@ -1,14 +1,19 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.component.framework.schedulers.internal;
 
+import com.swirlds.base.state.Stoppable;
 import com.swirlds.component.framework.counters.ObjectCounter;
 import com.swirlds.component.framework.model.TraceableWiringModel;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 
 /**
@@ -16,7 +21,7 @@ import java.util.function.Consumer;
  *
  * @param <OUT> the output type of the scheduler (use {@link Void} for a task scheduler with no output type)
  */
-public class ConcurrentTaskScheduler<OUT> extends TaskScheduler<OUT> {
+public class ConcurrentTaskScheduler<OUT> extends TaskScheduler<OUT> implements Stoppable {
 
     private final ObjectCounter onRamp;
     private final ObjectCounter offRamp;
@@ -24,6 +29,11 @@ public class ConcurrentTaskScheduler<OUT> extends TaskScheduler<OUT> {
     private final ForkJoinPool pool;
     private final long capacity;
 
+    /**
+     * Starts a new virtual thread for each task, or null if tasks are executed on the fork join pool.
+     */
+    private final ExecutorService virtualThreadExecutor;
+
     /**
      * Constructor.
      *
@@ -38,6 +48,8 @@ public class ConcurrentTaskScheduler<OUT> extends TaskScheduler<OUT> {
      * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
      * @param insertionIsBlocking      when data is inserted into this scheduler, will it block until capacity is
      *                                 available?
+     * @param virtualThreads           if true, then each task is executed on a new virtual thread instead of on the
+     *                                 fork join pool
      */
     public ConcurrentTaskScheduler(
             @NonNull final TraceableWiringModel model,
@@ -49,7 +61,8 @@ public class ConcurrentTaskScheduler<OUT> extends TaskScheduler<OUT> {
             final long capacity,
             final boolean flushEnabled,
             final boolean squelchingEnabled,
-            final boolean insertionIsBlocking) {
+            final boolean insertionIsBlocking,
+            final boolean virtualThreads) {
 
         super(model, name, TaskSchedulerType.CONCURRENT, flushEnabled, squelchingEnabled, insertionIsBlocking);
 
@@ -58,6 +71,18 @@ public class ConcurrentTaskScheduler<OUT> extends TaskScheduler<OUT> {
         this.onRamp = Objects.requireNonNull(onRamp);
         this.offRamp = Objects.requireNonNull(offRamp);
         this.capacity = capacity;
+
+        if (virtualThreads) {
+            virtualThreadExecutor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual()
+                            .name(
+                                    SequentialThreadTaskScheduler.THREAD_NAME_PREFIX + name
+                                            + SequentialThreadTaskScheduler.THREAD_NAME_SUFFIX + "-",
+                                    0)
+                            .factory());
+        } else {
+            virtualThreadExecutor = null;
+        }
     }
 
     /**
@@ -66,7 +91,7 @@ public class ConcurrentTaskScheduler<OUT> extends TaskScheduler<OUT> {
     @Override
     protected void put(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
         onRamp.onRamp();
-        new ConcurrentTask(pool, offRamp, uncaughtExceptionHandler, handler, data).send();
+        send(handler, data);
     }
 
     /**
@@ -76,7 +101,7 @@ public class ConcurrentTaskScheduler<OUT> extends TaskScheduler<OUT> {
     protected boolean offer(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
         final boolean accepted = onRamp.attemptOnRamp();
         if (accepted) {
-            new ConcurrentTask(pool, offRamp, uncaughtExceptionHandler, handler, data).send();
+            send(handler, data);
         }
         return accepted;
     }
@@ -87,7 +112,45 @@ public class ConcurrentTaskScheduler<OUT> extends TaskScheduler<OUT> {
     @Override
     protected void inject(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
         onRamp.forceOnRamp();
-        new ConcurrentTask(pool, offRamp, uncaughtExceptionHandler, handler, data).send();
+        send(handler, data);
+    }
+
+    /**
+     * Execute a task that has already been counted by the on ramp.
+     *
+     * @param handler handles the provided data
+     * @param data    the data to be processed
+     */
+    private void send(@NonNull final Consumer<Object> handler, @Nullable final Object data) {
+        if (virtualThreadExecutor == null) {
+            new ConcurrentTask(pool, offRamp, uncaughtExceptionHandler, handler, data).send();
+            return;
+        }
+        try {
+            virtualThreadExecutor.execute(() -> {
+                try {
+                    handler.accept(data);
+                } catch (final Throwable t) {
+                    uncaughtExceptionHandler.uncaughtException(Thread.currentThread(), t);
+                } finally {
+                    offRamp.offRamp();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            // the scheduler has been stopped, tasks sent after that are not handled
+            offRamp.offRamp();
+        }
+    }
+
+    /**
+     * Shuts down the executor that starts a virtual thread per task, if there is one. Tasks that are already running
+     * are allowed to finish, tasks sent after this method is called are not handled.
+     */
+    @Override
+    public void stop() {
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
     }
 
     /**
@@ -20,7 +20,8 @@ import java.util.function.ToLongFunction;
 
 /**
  * A scheduler that performs work sequentially on a dedicated thread. This class has very similar semantics to
- * {@link DirectTaskScheduler}, except that work is done on a thread instead of on a fork join pool.
+ * {@link DirectTaskScheduler}, except that work is done on a thread instead of on a fork join pool. The thread may be
+ * either a platform thread or a virtual thread.
  *
  * @param <OUT> the type of the primary output wire
  */
@@ -64,6 +65,7 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
      * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
      * @param insertionIsBlocking      when data is inserted into this task scheduler, will it block until capacity is
      *                                 available?
+     * @param virtualThread            if true, then work is done on a virtual thread instead of a platform thread
      */
     public SequentialThreadTaskScheduler(
             @NonNull final TraceableWiringModel model,
@@ -76,8 +78,57 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
             final long capacity,
             final boolean flushEnabled,
             final boolean squelchingEnabled,
-            final boolean insertionIsBlocking) {
-        super(model, name, TaskSchedulerType.SEQUENTIAL_THREAD, flushEnabled, squelchingEnabled, insertionIsBlocking);
+            final boolean insertionIsBlocking,
+            final boolean virtualThread) {
+        this(
+                model,
+                name,
+                TaskSchedulerType.SEQUENTIAL_THREAD,
+                uncaughtExceptionHandler,
+                onRamp,
+                offRamp,
+                dataCounter,
+                busyTimer,
+                capacity,
+                flushEnabled,
+                squelchingEnabled,
+                insertionIsBlocking,
+                virtualThread);
+    }
+
+    /**
+     * Constructor for subclasses that handle work on a dedicated thread in a different way.
+     *
+     * @param model                    the wiring model containing this task scheduler
+     * @param name                     the name of the task scheduler
+     * @param type                     the type of the task scheduler
+     * @param uncaughtExceptionHandler the handler to call when an exception is thrown by a task
+     * @param onRamp                   the counter to increment when a task is added to the queue
+     * @param offRamp                  the counter to decrement when a task is removed from the queue
+     * @param dataCounter              the function to weight input data objects for health monitoring
+     * @param busyTimer                the timer to activate when a task is being handled
+     * @param capacity                 the maximum desired capacity for this task scheduler
+     * @param flushEnabled             if true, then {@link #flush()} will be enabled, otherwise it will throw.
+     * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
+     * @param insertionIsBlocking      when data is inserted into this task scheduler, will it block until capacity is
+     *                                 available?
+     * @param virtualThread            if true, then work is done on a virtual thread instead of a platform thread
+     */
+    protected SequentialThreadTaskScheduler(
+            @NonNull final TraceableWiringModel model,
+            @NonNull final String name,
+            @NonNull final TaskSchedulerType type,
+            @NonNull final UncaughtExceptionHandler uncaughtExceptionHandler,
+            @NonNull final ObjectCounter onRamp,
+            @NonNull final ObjectCounter offRamp,
+            @NonNull final ToLongFunction<Object> dataCounter,
+            @NonNull final FractionalTimer busyTimer,
+            final long capacity,
+            final boolean flushEnabled,
+            final boolean squelchingEnabled,
+            final boolean insertionIsBlocking,
+            final boolean virtualThread) {
+        super(model, name, type, flushEnabled, squelchingEnabled, insertionIsBlocking);
 
         this.uncaughtExceptionHandler = Objects.requireNonNull(uncaughtExceptionHandler);
         this.onRamp = Objects.requireNonNull(onRamp);
@@ -86,7 +137,13 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
         this.busyTimer = Objects.requireNonNull(busyTimer);
         this.capacity = capacity;
 
-        thread = new Thread(this::run, THREAD_NAME_PREFIX + name + THREAD_NAME_SUFFIX);
+        final String threadName = THREAD_NAME_PREFIX + name + THREAD_NAME_SUFFIX;
+        if (virtualThread) {
+            // virtual threads unmount from their carrier while blocked, suitable for handlers that block on I/O
+            thread = Thread.ofVirtual().name(threadName).unstarted(this::run);
+        } else {
+            thread = new Thread(this::run, threadName);
+        }
     }
 
     /**
@@ -169,32 +226,78 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
         final List<SequentialThreadTask> buffer = new ArrayList<>(BUFFER_SIZE);
 
         while (alive) {
-            if (tasks.drainTo(buffer, BUFFER_SIZE) == 0) {
-                try {
-                    final SequentialThreadTask task = tasks.take();
-                    buffer.add(task);
-                } catch (final InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    return;
-                }
+            try {
+                fillBuffer(tasks, buffer);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
             }
 
             busyTimer.activate();
-            for (final SequentialThreadTask task : buffer) {
-                if (!alive) {
-                    break;
-                }
-                try {
-                    task.handle();
-                } catch (final Throwable t) {
-                    uncaughtExceptionHandler.uncaughtException(thread, t);
-                } finally {
-                    offRamp.offRamp(dataCounter.applyAsLong(task.data()));
-                }
-            }
+            handleTasks(buffer);
             busyTimer.deactivate();
 
             buffer.clear();
         }
     }
+
+    /**
+     * Move work from the queue into the buffer, blocking until at least one task is available.
+     *
+     * @param tasks  the queue of tasks waiting to be handled
+     * @param buffer the buffer to fill, empty when this method is called
+     * @throws InterruptedException if interrupted while waiting for work
+     */
+    protected void fillBuffer(
+            @NonNull final BlockingQueue<SequentialThreadTask> tasks, @NonNull final List<SequentialThreadTask> buffer)
+            throws InterruptedException {
+        if (tasks.drainTo(buffer, BUFFER_SIZE) == 0) {
+            buffer.add(tasks.take());
+        }
+    }
+
+    /**
+     * Handle each task in the buffer, in order.
+     *
+     * @param buffer the tasks to handle
+     */
+    protected void handleTasks(@NonNull final List<SequentialThreadTask> buffer) {
+        for (final SequentialThreadTask task : buffer) {
+            if (!alive) {
+                break;
+            }
+            try {
+                task.handle();
+            } catch (final Throwable t) {
+                uncaughtExceptionHandler.uncaughtException(thread, t);
+            } finally {
+                offRamp.offRamp(dataCounter.applyAsLong(task.data()));
+            }
+        }
+    }
+
+    /**
+     * @return true until this scheduler has been stopped
+     */
+    protected boolean isAlive() {
+        return alive;
+    }
+
+    /**
+     * Report an exception thrown by a task.
+     *
+     * @param t the exception
+     */
+    protected void reportException(@NonNull final Throwable t) {
+        uncaughtExceptionHandler.uncaughtException(thread, t);
+    }
+
+    /**
+     * Release the capacity used by a handled task.
+     *
+     * @param task the task that was handled
+     */
+    protected void offRampTask(@NonNull final SequentialThreadTask task) {
+        offRamp.offRamp(dataCounter.applyAsLong(task.data()));
+    }
 }
@@ -5,7 +5,10 @@ import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerT
 
 import com.swirlds.component.framework.model.TraceableWiringModel;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.schedulers.internal.BatchConsumer;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -57,6 +60,7 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
         if (noOp) {
             return;
         }
+        setTracer(model.getWireTracer());
         model.registerInputWireCreation(taskSchedulerName, name);
     }
 
@@ -100,4 +104,58 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
         });
         model.registerInputWireBinding(taskSchedulerName, getName());
     }
+
+    /**
+     * Bind this wire to a handler that accepts batches of data. For things that don't send data to the output wire.
+     * <p>
+     * If the scheduler is of type {@link TaskSchedulerType#BATCHING}, then runs of consecutive items sent to this wire
+     * are passed to the handler in a single call. Otherwise, the handler is called with one item at a time.
+     *
+     * @param handler the handler to bind to this input wire
+     * @throws IllegalStateException if a handler is already bound and this method is called a second time
+     */
+    @SuppressWarnings("unchecked")
+    public void bindBatchConsumer(@NonNull final Consumer<List<IN>> handler) {
+        Objects.requireNonNull(handler);
+        if (noOp) {
+            return;
+        }
+        setHandler((BatchConsumer) batch -> {
+            if (currentlySquelching.get()) {
+                return;
+            }
+
+            handler.accept((List<IN>) (List<?>) batch);
+        });
+        model.registerInputWireBinding(taskSchedulerName, getName());
+    }
+
+    /**
+     * Bind this wire to a handler that accepts batches of data.
+     * <p>
+     * If the scheduler is of type {@link TaskSchedulerType#BATCHING}, then runs of consecutive items sent to this wire
+     * are passed to the handler in a single call. Otherwise, the handler is called with one item at a time.
+     *
+     * @param handler the handler to bind to this input wire, a non-null value returned for a batch is passed to the
+     *                primary output wire of the associated scheduler
+     * @throws IllegalStateException if a handler is already bound and this method is called a second time
+     */
+    @SuppressWarnings("unchecked")
+    public void bindBatch(@NonNull final Function<List<IN>, OUT> handler) {
+        Objects.requireNonNull(handler);
+        if (noOp) {
+            return;
+        }
+        setHandler((BatchConsumer) batch -> {
+            if (currentlySquelching.get()) {
+                return;
+            }
+
+            final OUT output = handler.apply((List<IN>) (List<?>) batch);
+            if (output != null) {
+                taskSchedulerInput.forward(output);
+            }
+        });
+        model.registerInputWireBinding(taskSchedulerName, getName());
+    }
 }
@@ -1,9 +1,11 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.component.framework.wires.input;
 
+import com.swirlds.component.framework.model.internal.tracing.WireTracer;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -20,6 +22,11 @@ public abstract class InputWire<IN> {
     private final String taskSchedulerName;
     private final TaskSchedulerType taskSchedulerType;
 
+    /**
+     * Records latency for data passed through this wire, or null if tracing is disabled.
+     */
+    private WireTracer tracer;
+
     /**
      * Constructor.
      *
@@ -69,7 +76,7 @@ public abstract class InputWire<IN> {
      * @param data the data to be processed by the task scheduler
      */
     public void put(@NonNull final IN data) {
-        taskSchedulerInput.put(handler, data);
+        taskSchedulerInput.put(traced(handler), data);
     }
 
     /**
@@ -80,7 +87,7 @@ public abstract class InputWire<IN> {
      * @return true if the data was accepted, false otherwise
      */
     public boolean offer(@NonNull final IN data) {
-        return taskSchedulerInput.offer(handler, data);
+        return taskSchedulerInput.offer(traced(handler), data);
     }
 
     /**
@@ -91,7 +98,7 @@ public abstract class InputWire<IN> {
      * @param data the data to be processed by the task scheduler
      */
     public void inject(@NonNull final IN data) {
-        taskSchedulerInput.inject(handler, data);
+        taskSchedulerInput.inject(traced(handler), data);
     }
 
     /**
@@ -105,4 +112,27 @@ public abstract class InputWire<IN> {
         }
         this.handler = Objects.requireNonNull(handler);
     }
+
+    /**
+     * Enable latency tracing for this wire.
+     *
+     * @param tracer the tracer that records latency for data passed through this wire
+     */
+    protected void setTracer(@Nullable final WireTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * Get the handler to insert into the task scheduler along with a single piece of data.
+     *
+     * @param handler the handler bound to this wire
+     * @return the handler itself if tracing is disabled, otherwise a handler that records latency for this data
+     */
+    @NonNull
+    private Consumer<Object> traced(@NonNull final Consumer<Object> handler) {
+        if (tracer == null) {
+            return handler;
+        }
+        return tracer.wrap(taskSchedulerName, name, handler);
+    }
 }
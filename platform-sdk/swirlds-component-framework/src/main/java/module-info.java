@@ -20,6 +20,7 @@ module com.swirlds.component.framework {
     requires com.swirlds.logging;
     requires org.hiero.base.concurrent;
     requires org.hiero.base.utility;
+    requires jdk.jfr;
     requires org.apache.logging.log4j;
     requires static transitive com.github.spotbugs.annotations;
 }
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfiguration;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import java.time.Duration;
 import java.util.Random;
 import org.junit.jupiter.api.Test;
 
@@ -24,6 +25,9 @@ class TaskSchedulerConfigurationTests {
         assertNull(config.busyFractionMetricEnabled());
         assertNull(config.flushingEnabled());
         assertNull(config.squelchingEnabled());
+        assertNull(config.maxBatchSize());
+        assertNull(config.maxBatchDelay());
+        assertNull(config.virtualThreadsEnabled());
     }
 
     @Test
@@ -130,6 +134,41 @@ class TaskSchedulerConfigurationTests {
         assertThrows(
                 IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE !SQUELCHABLE"));
         assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE SQUELCHABLE"));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> TaskSchedulerConfiguration.parse("VIRTUAL_THREADS !VIRTUAL_THREADS"));
+    }
+
+    @Test
+    void virtualThreadsTest() {
+        assertEquals(
+                true,
+                TaskSchedulerConfiguration.parse("SEQUENTIAL_THREAD VIRTUAL_THREADS")
+                        .virtualThreadsEnabled());
+        assertEquals(
+                false,
+                TaskSchedulerConfiguration.parse("CONCURRENT !VIRTUAL_THREADS").virtualThreadsEnabled());
+    }
+
+    @Test
+    void batchParametersTest() {
+        final TaskSchedulerConfiguration config =
+                TaskSchedulerConfiguration.parse("BATCHING CAPACITY(500) BATCH_SIZE(32) BATCH_DELAY(250us)");
+        assertEquals(TaskSchedulerType.BATCHING, config.type());
+        assertEquals(500L, config.unhandledTaskCapacity());
+        assertEquals(32, config.maxBatchSize());
+        assertEquals(Duration.ofNanos(250_000), config.maxBatchDelay());
+
+        assertEquals(Duration.ofNanos(7), TaskSchedulerConfiguration.parse("BATCH_DELAY(7ns)").maxBatchDelay());
+        assertEquals(Duration.ofMillis(3), TaskSchedulerConfiguration.parse("BATCH_DELAY(3ms)").maxBatchDelay());
+        assertEquals(Duration.ofSeconds(2), TaskSchedulerConfiguration.parse("BATCH_DELAY(2s)").maxBatchDelay());
+
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("BATCH_SIZE(abc)"));
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("BATCH_DELAY(10)"));
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("BATCH_DELAY(xms)"));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> TaskSchedulerConfiguration.parse("BATCH_SIZE(1) BATCH_SIZE(2)"));
     }
 
     @Test
@@ -0,0 +1,152 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.model;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyEquals;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder.UNLIMITED_CAPACITY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.component.framework.schedulers.TaskScheduler;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.wires.input.BindableInputWire;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WireTracingTests {
+
+    private static final String EVENT_NAME = "com.swirlds.wiring.Task";
+
+    @TempDir
+    Path testDirectory;
+
+    /**
+     * A pipeline of three schedulers.
+     *
+     * @param input     the input wire of the first scheduler
+     * @param lastStage the last scheduler in the pipeline, flushable
+     */
+    private record Pipeline(BindableInputWire<Integer, Integer> input, TaskScheduler<Void> lastStage) {}
+
+    /**
+     * Build a pipeline of three schedulers: A (sequential thread) -> B (direct) -> C (sequential).
+     *
+     * @param model    the model to build the pipeline in
+     * @param received collects the values that reach the end of the pipeline
+     * @return the pipeline
+     */
+    private static Pipeline buildPipeline(
+            final WiringModel model, final List<Integer> received) {
+
+        final TaskScheduler<Integer> schedulerA = model.<Integer>schedulerBuilder("A")
+                .withType(TaskSchedulerType.SEQUENTIAL_THREAD)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .build();
+        final BindableInputWire<Integer, Integer> inputA = schedulerA.buildInputWire("inputA");
+        inputA.bind(x -> x + 1);
+
+        final TaskScheduler<Integer> schedulerB = model.<Integer>schedulerBuilder("B")
+                .withType(TaskSchedulerType.DIRECT)
+                .build();
+        final BindableInputWire<Integer, Integer> inputB = schedulerB.buildInputWire("inputB");
+        inputB.bind(x -> x * 2);
+
+        final TaskScheduler<Void> schedulerC = model.<Void>schedulerBuilder("C")
+                .withType(TaskSchedulerType.SEQUENTIAL)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withFlushingEnabled(true)
+                .build();
+        final BindableInputWire<Integer, Void> inputC = schedulerC.buildInputWire("inputC");
+        inputC.bindConsumer(received::add);
+
+        schedulerA.getOutputWire().solderTo(inputB);
+        schedulerB.getOutputWire().solderTo(inputC);
+
+        return new Pipeline(inputA, schedulerC);
+    }
+
+    @Test
+    void tracingDoesNotChangeResultsTest() {
+        final WiringModel model = WiringModelBuilder.create(new NoOpMetrics(), Time.getCurrent())
+                .withTracingEnabled(true)
+                .withTracingSampleRate(7)
+                .build();
+
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final Pipeline pipeline = buildPipeline(model, received);
+
+        model.start();
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            pipeline.input().put(i);
+            expected.add((i + 1) * 2);
+        }
+
+        assertEventuallyEquals(expected.size(), received::size, Duration.ofSeconds(10), "not all items arrived");
+        assertEquals(expected, received);
+        model.stop();
+    }
+
+    @Test
+    void tracesFollowItemsAcrossSchedulersTest() throws IOException {
+        final WiringModel model = WiringModelBuilder.create(new NoOpMetrics(), Time.getCurrent())
+                .withTracingEnabled(true)
+                .withTracingSampleRate(1)
+                .build();
+
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final Pipeline pipeline = buildPipeline(model, received);
+
+        final Path recordingFile = testDirectory.resolve("wiring.jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            model.start();
+            for (int i = 0; i < 100; i++) {
+                pipeline.input().put(i);
+            }
+            assertEventuallyEquals(100, received::size, Duration.ofSeconds(10), "not all items arrived");
+            // wait for the last handler to return, so that its event is committed
+            pipeline.lastStage().flush();
+            model.stop();
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // trace ID -> scheduler name for each hop
+        final Map<Long, Map<Integer, String>> traces = new HashMap<>();
+        for (final RecordedEvent event : RecordingFile.readAllEvents(recordingFile)) {
+            if (!event.getEventType().getName().equals(EVENT_NAME)) {
+                continue;
+            }
+            final long traceId = event.getLong("traceId");
+            if (traceId == 0) {
+                continue;
+            }
+            traces.computeIfAbsent(traceId, k -> new HashMap<>())
+                    .put(event.getInt("hop"), event.getString("scheduler"));
+        }
+
+        // other schedulers in the model, such as the health monitor, may start traces of their own
+        final List<Map<Integer, String>> pipelineTraces = traces.values().stream()
+                .filter(hops -> "A".equals(hops.get(0)))
+                .toList();
+        assertEquals(100, pipelineTraces.size(), "every item should have started a trace");
+        for (final Map<Integer, String> hops : pipelineTraces) {
+            assertEquals(Map.of(0, "A", 1, "B", 2, "C"), hops, "each trace should visit A, B and C in order");
+        }
+    }
+}
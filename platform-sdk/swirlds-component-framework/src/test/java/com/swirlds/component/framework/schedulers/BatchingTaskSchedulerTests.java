@@ -0,0 +1,185 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyEquals;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder.UNLIMITED_CAPACITY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.component.framework.TestWiringModelBuilder;
+import com.swirlds.component.framework.model.WiringModel;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.wires.input.BindableInputWire;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BatchingTaskSchedulerTests {
+
+    /**
+     * Items that are queued while the handler is busy should be handed to the handler in batches, in order, and no
+     * batch should exceed the maximum batch size.
+     */
+    @Test
+    void batchesAreBoundedAndOrderedTest() throws InterruptedException {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.BATCHING)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withMaxBatchSize(10)
+                .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+
+        final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        final List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        channel.bindBatchConsumer(batch -> {
+            firstBatchStarted.countDown();
+            try {
+                releaseFirstBatch.await();
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            batchSizes.add(batch.size());
+            handled.addAll(batch);
+        });
+
+        model.start();
+
+        // Block the handler so that the remaining items pile up in the queue
+        channel.put(0);
+        assertTrue(firstBatchStarted.await(10, TimeUnit.SECONDS));
+        final List<Integer> expected = new ArrayList<>();
+        expected.add(0);
+        for (int i = 1; i <= 100; i++) {
+            channel.put(i);
+            expected.add(i);
+        }
+        releaseFirstBatch.countDown();
+
+        assertEventuallyEquals(expected.size(), handled::size, Duration.ofSeconds(10), "not all items were handled");
+        assertEquals(expected, handled);
+        for (final int batchSize : batchSizes) {
+            assertTrue(batchSize <= 10, "batch size " + batchSize + " exceeds the maximum");
+        }
+        assertTrue(batchSizes.size() < expected.size(), "queued items should have been batched");
+
+        model.stop();
+    }
+
+    /**
+     * Batch handlers and single item handlers on the same scheduler should observe a single global order.
+     */
+    @Test
+    void mixedHandlersPreserveOrderTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.BATCHING)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withMaxBatchDelay(Duration.ofMillis(1))
+                .build();
+        final BindableInputWire<Integer, Void> batchChannel = taskScheduler.buildInputWire("batch");
+        final BindableInputWire<Integer, Void> singleChannel = taskScheduler.buildInputWire("single");
+
+        final List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+        batchChannel.bindBatchConsumer(handled::addAll);
+        singleChannel.bindConsumer(handled::add);
+
+        model.start();
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            if (i % 7 == 0) {
+                singleChannel.put(i);
+            } else {
+                batchChannel.put(i);
+            }
+            expected.add(i);
+        }
+
+        assertEventuallyEquals(expected.size(), handled::size, Duration.ofSeconds(10), "not all items were handled");
+        assertEquals(expected, handled);
+
+        model.stop();
+    }
+
+    /**
+     * A batch handler that returns a value forwards that value once per batch, and backpressure is released for every
+     * item in the batch.
+     */
+    @Test
+    void batchOutputAndBackpressureTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final TaskScheduler<Integer> taskScheduler = model.<Integer>schedulerBuilder("test")
+                .withType(TaskSchedulerType.BATCHING)
+                .withUnhandledTaskCapacity(5)
+                .withMaxBatchSize(3)
+                .withFlushingEnabled(true)
+                .build();
+        final BindableInputWire<Integer, Integer> channel = taskScheduler.buildInputWire("channel");
+        channel.bindBatch(batch -> batch.stream().mapToInt(Integer::intValue).sum());
+
+        final TaskScheduler<Void> sink = model.<Void>schedulerBuilder("sink")
+                .withType(TaskSchedulerType.DIRECT)
+                .build();
+        final BindableInputWire<Integer, Void> sinkInput = sink.buildInputWire("sums");
+        final AtomicInteger total = new AtomicInteger();
+        sinkInput.bindConsumer(total::addAndGet);
+        taskScheduler.getOutputWire().solderTo(sinkInput);
+
+        model.start();
+
+        int expectedTotal = 0;
+        for (int i = 0; i < 1000; i++) {
+            // would eventually block forever if capacity were not released for every item in a batch
+            channel.put(i);
+            expectedTotal += i;
+        }
+        taskScheduler.flush();
+
+        assertEquals(expectedTotal, total.get());
+        assertEquals(0, taskScheduler.getUnprocessedTaskCount());
+
+        model.stop();
+    }
+
+    /**
+     * A batch handler bound to a scheduler that does not batch is called with one item at a time.
+     */
+    @Test
+    void batchHandlerOnSequentialThreadSchedulerTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL_THREAD)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+
+        final AtomicInteger largestBatch = new AtomicInteger();
+        final AtomicInteger count = new AtomicInteger();
+        channel.bindBatchConsumer(batch -> {
+            largestBatch.accumulateAndGet(batch.size(), Math::max);
+            count.addAndGet(batch.size());
+        });
+
+        model.start();
+        for (int i = 0; i < 100; i++) {
+            channel.put(i);
+        }
+
+        assertEventuallyEquals(100, count::get, Duration.ofSeconds(10), "not all items were handled");
+        assertEquals(1, largestBatch.get());
+
+        model.stop();
+    }
+}
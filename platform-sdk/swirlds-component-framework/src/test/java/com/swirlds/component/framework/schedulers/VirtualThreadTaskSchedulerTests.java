@@ -0,0 +1,148 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyEquals;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder.UNLIMITED_CAPACITY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.component.framework.TestWiringModelBuilder;
+import com.swirlds.component.framework.model.WiringModel;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.wires.input.BindableInputWire;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class VirtualThreadTaskSchedulerTests {
+
+    /**
+     * Sequential schedulers backed by virtual threads must still handle data in order, on a virtual thread.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "BATCHING"})
+    void sequentialOrderTest(final String typeString) {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.valueOf(typeString))
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withVirtualThreadsEnabled(true)
+                .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+
+        final List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+        final AtomicBoolean allVirtual = new AtomicBoolean(true);
+        channel.bindConsumer(x -> {
+            if (!Thread.currentThread().isVirtual()) {
+                allVirtual.set(false);
+            }
+            handled.add(x);
+        });
+
+        model.start();
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            channel.put(i);
+            expected.add(i);
+        }
+
+        assertEventuallyEquals(expected.size(), handled::size, Duration.ofSeconds(10), "not all items were handled");
+        assertEquals(expected, handled);
+        assertTrue(allVirtual.get(), "handlers should run on virtual threads");
+        model.stop();
+    }
+
+    /**
+     * A concurrent scheduler backed by virtual threads must run tasks in parallel.
+     */
+    @Test
+    void concurrentTest() throws InterruptedException {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.CONCURRENT)
+                .withUnhandledTaskCapacity(10)
+                .withFlushingEnabled(true)
+                .withVirtualThreadsEnabled(true)
+                .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+
+        // every task blocks until all ten tasks have started, which requires them to run in parallel
+        final CountDownLatch allStarted = new CountDownLatch(10);
+        final AtomicInteger virtualCount = new AtomicInteger();
+        channel.bindConsumer(x -> {
+            if (Thread.currentThread().isVirtual()) {
+                virtualCount.incrementAndGet();
+            }
+            allStarted.countDown();
+            try {
+                allStarted.await();
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        model.start();
+        for (int i = 0; i < 10; i++) {
+            channel.put(i);
+        }
+        assertTrue(allStarted.await(10, TimeUnit.SECONDS), "tasks should run in parallel");
+
+        taskScheduler.flush();
+        assertEquals(10, virtualCount.get());
+        assertEquals(0, taskScheduler.getUnprocessedTaskCount());
+        model.stop();
+    }
+
+    /**
+     * Stopping the model shuts down the executor of a concurrent scheduler backed by virtual threads. A task that is
+     * already running is allowed to finish, and tasks sent after the model is stopped are not handled.
+     */
+    @Test
+    void concurrentStopTest() throws InterruptedException {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.CONCURRENT)
+                .withUnhandledTaskCapacity(10)
+                .withFlushingEnabled(true)
+                .withVirtualThreadsEnabled(true)
+                .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger handled = new AtomicInteger();
+        channel.bindConsumer(x -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            handled.incrementAndGet();
+        });
+
+        model.start();
+        channel.put(0);
+        assertTrue(started.await(10, TimeUnit.SECONDS), "task should have started");
+
+        model.stop();
+        release.countDown();
+        taskScheduler.flush();
+        assertEquals(1, handled.get(), "a running task should finish after the model is stopped");
+
+        channel.inject(1);
+        assertEquals(0, taskScheduler.getUnprocessedTaskCount(), "tasks sent after stop should not be pending");
+        assertEquals(1, handled.get(), "tasks sent after stop should not be handled");
+    }
+}
@@ -46,14 +46,19 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
@@ -150,7 +155,10 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     /** Thread pool storing key-to-path mappings */
     private final ExecutorService storeLeavesExecutor;
 
-    /** Thread pool creating snapshots, it is unbounded in threads, but we use at most 7 */
+    /**
+     * Thread pool creating snapshots, it is unbounded in threads, but we use at most 7. Also used to load indices
+     * in parallel when the data source is created.
+     */
     private final ExecutorService snapshotExecutor;
 
     /** Flag for if a snapshot is in progress */
@@ -242,111 +250,105 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         final long pathIndexCapacity = virtualSize * 2;
 
         final boolean forceIndexRebuilding = merkleDbConfig.indexRebuildingEnforced();
-        // Path to disk location index, hashes
-        final Path pathToHashLocationFile = dbPaths.pathToDiskLocationInternalNodesFile;
-        if (Files.exists(pathToHashLocationFile) && !forceIndexRebuilding) {
-            pathToDiskLocationInternalNodes = preferDiskBasedIndices
-                    ? new LongListDisk(pathToHashLocationFile, pathIndexCapacity, config)
-                    : new LongListOffHeap(pathToHashLocationFile, pathIndexCapacity, config);
-        } else {
-            pathToDiskLocationInternalNodes = preferDiskBasedIndices
-                    ? new LongListDisk(pathIndexCapacity, config)
-                    : new LongListOffHeap(pathIndexCapacity, config);
-        }
-        // Path to disk location index, leaf nodes
-        final Path pathToLeafLocationFile = dbPaths.pathToDiskLocationLeafNodesFile;
-        if (Files.exists(pathToLeafLocationFile) && !forceIndexRebuilding) {
-            pathToDiskLocationLeafNodes = preferDiskBasedIndices
-                    ? new LongListDisk(pathToLeafLocationFile, pathIndexCapacity, config)
-                    : new LongListOffHeap(pathToLeafLocationFile, pathIndexCapacity, config);
-        } else {
-            pathToDiskLocationLeafNodes = preferDiskBasedIndices
-                    ? new LongListDisk(pathIndexCapacity, config)
-                    : new LongListOffHeap(pathIndexCapacity, config);
-        }
-
-        // Hashes store, RAM
         final long hashesRamToDiskThreshold = tableConfig.getHashesRamToDiskThreshold();
-        if (hashesRamToDiskThreshold > 0) {
-            if (Files.exists(dbPaths.hashStoreRamFile)) {
-                hashStoreRam = new HashListByteBuffer(dbPaths.hashStoreRamFile, hashesRamToDiskThreshold, config);
+        // Indices loaded in the background. If loading fails, each of them must be awaited and closed, or their
+        // memory-mapped files and off-heap memory would never be released
+        final List<Future<?>> indexLoads = new ArrayList<>(4);
+        try {
+            final Future<HalfDiskHashMap> keyToPathFuture;
+            if (merkleDbConfig.parallelIndexLoading()) {
+                // Index files are independent of each other, so read them concurrently. Most of the time to
+                // load a large table from a snapshot is spent reading these files
+                final Future<LongList> internalNodesFuture = snapshotExecutor.submit(() -> loadPathIndex(
+                        dbPaths.pathToDiskLocationInternalNodesFile, pathIndexCapacity, forceIndexRebuilding, config));
+                final Future<LongList> leafNodesFuture = snapshotExecutor.submit(() -> loadPathIndex(
+                        dbPaths.pathToDiskLocationLeafNodesFile, pathIndexCapacity, forceIndexRebuilding, config));
+                final Future<HashListByteBuffer> hashStoreRamFuture =
+                        snapshotExecutor.submit(() -> loadHashStoreRam(hashesRamToDiskThreshold, config));
+                keyToPathFuture = snapshotExecutor.submit(() -> loadKeyToPath(config));
+                indexLoads.addAll(List.of(internalNodesFuture, leafNodesFuture, hashStoreRamFuture, keyToPathFuture));
+                pathToDiskLocationInternalNodes = awaitLoad(internalNodesFuture);
+                pathToDiskLocationLeafNodes = awaitLoad(leafNodesFuture);
+                hashStoreRam = awaitLoad(hashStoreRamFuture);
             } else {
-                hashStoreRam = new HashListByteBuffer(hashesRamToDiskThreshold, config);
+                keyToPathFuture = null;
+                // Path to disk location index, hashes
+                pathToDiskLocationInternalNodes = loadPathIndex(
+                        dbPaths.pathToDiskLocationInternalNodesFile, pathIndexCapacity, forceIndexRebuilding, config);
+                // Path to disk location index, leaf nodes
+                pathToDiskLocationLeafNodes = loadPathIndex(
+                        dbPaths.pathToDiskLocationLeafNodesFile, pathIndexCapacity, forceIndexRebuilding, config);
+                // Hashes store, RAM
+                hashStoreRam = loadHashStoreRam(hashesRamToDiskThreshold, config);
             }
-        } else {
-            hashStoreRam = null;
-        }
 
-        // Hashes store, on disk (paths to hashes)
-        final String hashStoreDiskStoreName = tableName + "_internalhashes";
-        hasDiskStoreForHashes = tableConfig.getHashesRamToDiskThreshold() < Long.MAX_VALUE;
-        if (hasDiskStoreForHashes) {
-            final boolean needRestorePathToDiskLocationInternalNodes = pathToDiskLocationInternalNodes.size() == 0;
-            final LoadedDataCallback hashRecordLoadedCallback;
-            if (needRestorePathToDiskLocationInternalNodes) {
+            // Hashes store, on disk (paths to hashes)
+            final String hashStoreDiskStoreName = tableName + "_internalhashes";
+            hasDiskStoreForHashes = tableConfig.getHashesRamToDiskThreshold() < Long.MAX_VALUE;
+            if (hasDiskStoreForHashes) {
+                final boolean needRestorePathToDiskLocationInternalNodes = pathToDiskLocationInternalNodes.size() == 0;
+                final LoadedDataCallback hashRecordLoadedCallback;
+                if (needRestorePathToDiskLocationInternalNodes) {
+                    if (validLeafPathRange.getMaxValidKey() >= 0) {
+                        pathToDiskLocationInternalNodes.updateValidRange(0, validLeafPathRange.getMaxValidKey());
+                    }
+                    hashRecordLoadedCallback = (dataLocation, hashData) -> {
+                        final VirtualHashRecord hashRecord = VirtualHashRecord.parseFrom(hashData);
+                        final long path = hashRecord.path();
+                        // Old data files may contain entries with paths outside the current virtual node range
+                        if (path <= validLeafPathRange.getMaxValidKey()) {
+                            pathToDiskLocationInternalNodes.put(path, dataLocation);
+                        }
+                    };
+                } else {
+                    hashRecordLoadedCallback = null;
+                }
+                hashStoreDisk = new MemoryIndexDiskKeyValueStore(
+                        merkleDbConfig,
+                        dbPaths.hashStoreDiskDirectory,
+                        hashStoreDiskStoreName,
+                        tableName + ":internalHashes",
+                        hashRecordLoadedCallback,
+                        pathToDiskLocationInternalNodes);
+            } else {
+                hashStoreDisk = null;
+            }
+
+            // Leaves store (path to KV)
+            final LoadedDataCallback leafRecordLoadedCallback;
+            final boolean needRestorePathToDiskLocationLeafNodes =
+                    (pathToDiskLocationLeafNodes.size() == 0) && (validLeafPathRange.getMinValidKey() > 0);
+            if (needRestorePathToDiskLocationLeafNodes) {
                 if (validLeafPathRange.getMaxValidKey() >= 0) {
-                    pathToDiskLocationInternalNodes.updateValidRange(0, validLeafPathRange.getMaxValidKey());
+                    pathToDiskLocationLeafNodes.updateValidRange(
+                            validLeafPathRange.getMinValidKey(), validLeafPathRange.getMaxValidKey());
                 }
-                hashRecordLoadedCallback = (dataLocation, hashData) -> {
-                    final VirtualHashRecord hashRecord = VirtualHashRecord.parseFrom(hashData);
-                    final long path = hashRecord.path();
-                    // Old data files may contain entries with paths outside the current virtual node range
-                    if (path <= validLeafPathRange.getMaxValidKey()) {
-                        pathToDiskLocationInternalNodes.put(path, dataLocation);
+                leafRecordLoadedCallback = (dataLocation, leafData) -> {
+                    final VirtualLeafBytes leafBytes = VirtualLeafBytes.parseFrom(leafData);
+                    final long path = leafBytes.path();
+                    // Old data files may contain entries with paths outside the current leaf range
+                    if (validLeafPathRange.withinRange(path)) {
+                        pathToDiskLocationLeafNodes.put(path, dataLocation);
                     }
                 };
             } else {
-                hashRecordLoadedCallback = null;
+                leafRecordLoadedCallback = null;
             }
-            hashStoreDisk = new MemoryIndexDiskKeyValueStore(
+            final String pathToKeyValueStoreName = tableName + "_pathtohashkeyvalue";
+            pathToKeyValue = new MemoryIndexDiskKeyValueStore(
                     merkleDbConfig,
-                    dbPaths.hashStoreDiskDirectory,
-                    hashStoreDiskStoreName,
-                    tableName + ":internalHashes",
-                    hashRecordLoadedCallback,
-                    pathToDiskLocationInternalNodes);
-        } else {
-            hashStoreDisk = null;
-        }
-
-        // Leaves store (path to KV)
-        final LoadedDataCallback leafRecordLoadedCallback;
-        final boolean needRestorePathToDiskLocationLeafNodes =
-                (pathToDiskLocationLeafNodes.size() == 0) && (validLeafPathRange.getMinValidKey() > 0);
-        if (needRestorePathToDiskLocationLeafNodes) {
-            if (validLeafPathRange.getMaxValidKey() >= 0) {
-                pathToDiskLocationLeafNodes.updateValidRange(
-                        validLeafPathRange.getMinValidKey(), validLeafPathRange.getMaxValidKey());
-            }
-            leafRecordLoadedCallback = (dataLocation, leafData) -> {
-                final VirtualLeafBytes leafBytes = VirtualLeafBytes.parseFrom(leafData);
-                final long path = leafBytes.path();
-                // Old data files may contain entries with paths outside the current leaf range
-                if (validLeafPathRange.withinRange(path)) {
-                    pathToDiskLocationLeafNodes.put(path, dataLocation);
-                }
-            };
-        } else {
-            leafRecordLoadedCallback = null;
+                    dbPaths.pathToKeyValueDirectory,
+                    pathToKeyValueStoreName,
+                    tableName + ":pathToHashKeyValue",
+                    leafRecordLoadedCallback,
+                    pathToDiskLocationLeafNodes);
+
+            // Keys (keys to paths)
+            keyToPath = (keyToPathFuture != null) ? awaitLoad(keyToPathFuture) : loadKeyToPath(config);
+        } catch (final IOException | RuntimeException e) {
+            abandonIndexLoads(e, indexLoads);
+            throw e;
         }
-        final String pathToKeyValueStoreName = tableName + "_pathtohashkeyvalue";
-        pathToKeyValue = new MemoryIndexDiskKeyValueStore(
-                merkleDbConfig,
-                dbPaths.pathToKeyValueDirectory,
-                pathToKeyValueStoreName,
-                tableName + ":pathToHashKeyValue",
-                leafRecordLoadedCallback,
-                pathToDiskLocationLeafNodes);
-
-        // Keys (keys to paths)
-        String keyToPathStoreName = tableName + "_objectkeytopath";
-        keyToPath = new HalfDiskHashMap(
-                config,
-                tableConfig.getMaxNumberOfKeys(),
-                dbPaths.keyToPathDirectory,
-                keyToPathStoreName,
-                tableName + ":objectKeyToPath",
-                preferDiskBasedIndices);
         keyToPath.printStats();
         // Repair keyToPath based on pathToKeyValue data, if requested and not offlineUse
         if (!offlineUse) {
@@ -416,6 +418,15 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         // Update count of open databases
         COUNT_OF_OPEN_DATABASES.increment();
 
+        // Lazily loaded indices read each chunk when it's first accessed, read the remaining chunks in the background
+        if (merkleDbConfig.lazyIndexLoading()) {
+            readPendingIndexChunks(pathToDiskLocationInternalNodes, "internal node locations");
+            readPendingIndexChunks(pathToDiskLocationLeafNodes, "leaf locations");
+            if (keyToPath.getBucketIndexToBucketLocation() instanceof LongList bucketIndex) {
+                readPendingIndexChunks(bucketIndex, "key to path buckets");
+            }
+        }
+
         logger.info(
                 MERKLE_DB.getMarker(),
                 "Created MerkleDB [{}] with store path '{}', maxNumKeys = {}, hash RAM/disk cutoff" + " = {}",
@@ -986,6 +997,144 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         return compactionCoordinator.isCompactionEnabled();
     }
 
+    /**
+     * Load a path to disk location index from the given file, or create an empty index if the file doesn't exist
+     * or index rebuilding is enforced.
+     */
+    private LongList loadPathIndex(
+            final Path indexFile,
+            final long capacity,
+            final boolean forceIndexRebuilding,
+            final Configuration config)
+            throws IOException {
+        if (Files.exists(indexFile) && !forceIndexRebuilding) {
+            return preferDiskBasedIndices
+                    ? new LongListDisk(indexFile, capacity, config)
+                    : new LongListOffHeap(indexFile, capacity, config);
+        } else {
+            return preferDiskBasedIndices
+                    ? new LongListDisk(capacity, config)
+                    : new LongListOffHeap(capacity, config);
+        }
+    }
+
+    /**
+     * Load the in-memory hash store from its file, or create an empty one if the file doesn't exist. Returns null if
+     * all hashes are stored on disk.
+     */
+    private HashListByteBuffer loadHashStoreRam(final long hashesRamToDiskThreshold, final Configuration config)
+            throws IOException {
+        if (hashesRamToDiskThreshold <= 0) {
+            return null;
+        }
+        return Files.exists(dbPaths.hashStoreRamFile)
+                ? new HashListByteBuffer(dbPaths.hashStoreRamFile, hashesRamToDiskThreshold, config)
+                : new HashListByteBuffer(hashesRamToDiskThreshold, config);
+    }
+
+    /**
+     * Load the key to path map from its directory, or create an empty one if the directory doesn't exist.
+     */
+    private HalfDiskHashMap loadKeyToPath(final Configuration config) throws IOException {
+        final String keyToPathStoreName = tableName + "_objectkeytopath";
+        return new HalfDiskHashMap(
+                config,
+                tableConfig.getMaxNumberOfKeys(),
+                dbPaths.keyToPathDirectory,
+                keyToPathStoreName,
+                tableName + ":objectKeyToPath",
+                preferDiskBasedIndices);
+    }
+
+    /**
+     * Read the chunks of an index that were not read when it was loaded, in the background, until all are read or
+     * this data source is closed. If a chunk can't be read, it's logged and the chunk is read again when accessed.
+     *
+     * @param index     the index
+     * @param indexName the name of the index, for logging
+     */
+    private void readPendingIndexChunks(final LongList index, final String indexName) {
+        snapshotExecutor.execute(() -> {
+            final long start = System.nanoTime();
+            try {
+                while (!closed.get() && index.loadNextPendingChunk()) {
+                    // keep reading
+                }
+                logger.info(
+                        MERKLE_DB.getMarker(),
+                        "[{}] Read the {} index in the background in {} ms",
+                        tableName,
+                        indexName,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } catch (final IOException | UncheckedIOException e) {
+                logger.error(
+                        EXCEPTION.getMarker(),
+                        "[{}] Failed to read the {} index in the background",
+                        tableName,
+                        indexName,
+                        e);
+            }
+        });
+    }
+
+    /**
+     * Wait for an index that is being loaded in the background.
+     */
+    private <T> T awaitLoad(final Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("[" + tableName + "] Interrupted while loading indices", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException("[" + tableName + "] Failed to load indices", e.getCause());
+        }
+    }
+
+    /**
+     * Clean up after this data source failed to load. Each index that is being loaded in the background is cancelled
+     * if it has not started yet, or else awaited, and closed if it loaded. Errors while closing are added to the
+     * original failure as suppressed exceptions.
+     *
+     * @param failure    the failure that stopped loading
+     * @param indexLoads the indices that are being loaded in the background
+     */
+    private void abandonIndexLoads(final Throwable failure, final List<Future<?>> indexLoads) {
+        boolean interrupted = false;
+        for (final Future<?> indexLoad : indexLoads) {
+            if (indexLoad.cancel(false)) {
+                continue;
+            }
+            Object loaded = null;
+            while (true) {
+                try {
+                    loaded = indexLoad.get();
+                    break;
+                } catch (final InterruptedException e) {
+                    // the index is still being read into memory, it must be closed once loaded
+                    interrupted = true;
+                } catch (final ExecutionException | CancellationException e) {
+                    break;
+                }
+            }
+            try {
+                if (loaded instanceof HashListByteBuffer hashList) {
+                    hashList.close();
+                } else if (loaded instanceof AutoCloseable closeable) {
+                    closeable.close();
+                }
+            } catch (final Exception e) {
+                failure.addSuppressed(e);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void saveMetadata(final MerkleDbPaths targetDir) throws IOException {
         final KeyRange leafRange = validLeafPathRange;
         final Path targetFile = targetDir.metadataFile;
@@ -2,6 +2,7 @@
 package com.swirlds.merkledb.collections;
 
 import static com.swirlds.base.units.UnitConstants.MEBIBYTES_TO_BYTES;
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.merkledb.utilities.MerkleDbFileUtils.readFromFileChannel;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
@@ -13,17 +14,21 @@ import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.merkledb.utilities.MerkleDbFileUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.LongStream;
 import java.util.stream.StreamSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * Common parent class for long list implementations. It takes care of loading a snapshot from disk,
@@ -33,6 +38,8 @@ import java.util.stream.StreamSupport;
  */
 public abstract class AbstractLongList<C> implements LongList {
 
+    private static final Logger logger = LogManager.getLogger(AbstractLongList.class);
+
     public static final String MAX_CHUNKS_EXCEEDED_MSG = "The maximum number of memory chunks should not exceed %s. "
             + "Either increase longsPerChunk or decrease capacity";
     public static final String CHUNK_SIZE_ZERO_OR_NEGATIVE_MSG = "Cannot store %d per chunk (min is 1)";
@@ -127,6 +134,12 @@ public abstract class AbstractLongList<C> implements LongList {
      */
     protected final long reservedBufferSize;
 
+    /**
+     * Reads chunks from the file this list was loaded from when they are first accessed. Only set if the list was
+     * loaded with {@link MerkleDbConfig#lazyIndexLoading()} and not all of its chunks have been read yet.
+     */
+    private volatile ChunkLoader chunkLoader;
+
     /**
      * Create a new long list with the specified capacity. Number of longs per chunk and
      * reserved buffer size are read from the provided configuration.
@@ -281,10 +294,28 @@ public abstract class AbstractLongList<C> implements LongList {
                         "Failed to read index from file, " + "size=" + size.get() + ", capacity=" + capacity);
             }
 
-            readBodyFromFileChannelOnInit(file.getFileName().toString(), fileChannel, configuration);
+            if (supportsLazyLoading()
+                    && configuration.getConfigData(MerkleDbConfig.class).lazyIndexLoading()
+                    && minValidIndex.get() >= 0) {
+                // The channel below is closed once the header is read, chunks are read through a channel of their own
+                chunkLoader = new ChunkLoader(FileChannel.open(file, StandardOpenOption.READ), currentFileHeaderSize);
+            } else {
+                readBodyFromFileChannelOnInit(file.getFileName().toString(), fileChannel, configuration);
+            }
         }
     }
 
+    /**
+     * Whether this list can read its chunks from the file it is loaded from when they are first accessed, rather
+     * than when the list is loaded. Lists that can must read a chunk in {@link #readChunkData} from the current
+     * position of the file channel.
+     *
+     * @return true if this list can load its chunks on demand
+     */
+    protected boolean supportsLazyLoading() {
+        return false;
+    }
+
     /**
      * Initializes the list from the given file channel. At the moment of the call all the class metadata
      * is already initialized from the file header.
@@ -395,7 +426,7 @@ public abstract class AbstractLongList<C> implements LongList {
         }
         final int chunkIndex = toIntExact(index / longsPerChunk);
         final long subIndex = index % longsPerChunk;
-        final C chunk = chunkList.get(chunkIndex);
+        final C chunk = getChunk(chunkIndex);
         if (chunk == null) {
             return defaultValue;
         }
@@ -461,7 +492,7 @@ public abstract class AbstractLongList<C> implements LongList {
         checkIndex(index);
         checkValue(newValue);
         final int chunkIndex = toIntExact(index / longsPerChunk);
-        final C chunk = chunkList.get(chunkIndex);
+        final C chunk = getChunk(chunkIndex);
         if (chunk == null) {
             // quick optimization: we can quit early without creating new memory blocks
             // unnecessarily
@@ -551,6 +582,10 @@ public abstract class AbstractLongList<C> implements LongList {
             // write header
             writeHeader(fc);
             if (size() > 0) {
+                // chunks that haven't been read from the file this list was loaded from must be written too
+                while (loadNextPendingChunk()) {
+                    // keep reading
+                }
                 // write data
                 writeLongsData(fc);
             }
@@ -633,7 +668,7 @@ public abstract class AbstractLongList<C> implements LongList {
     protected C createOrGetChunk(final long newIndex) {
         size.getAndUpdate(oldSize -> newIndex >= oldSize ? (newIndex + 1) : oldSize);
         final int chunkIndex = toIntExact(newIndex / longsPerChunk);
-        final C result = chunkList.get(chunkIndex);
+        final C result = getChunk(chunkIndex);
         if (result == null) {
             final C newChunk = createChunk();
             // set new chunk if it's not created yet, if it is - release the chunk immediately
@@ -659,6 +694,7 @@ public abstract class AbstractLongList<C> implements LongList {
                 toIntExact(max((newMinValidIndex - reservedBufferSize) / longsPerChunk, 0));
         final int firstChunkIndexToDelete = firstValidChunkWithBuffer - 1;
         for (int i = firstChunkIndexToDelete; i >= 0; i--) {
+            discardPendingChunk(i);
             final C chunk = chunkList.get(i);
             if (chunk != null && chunkList.compareAndSet(i, chunk, null)) {
                 closeChunk(chunk);
@@ -668,14 +704,14 @@ public abstract class AbstractLongList<C> implements LongList {
         // clean up a chunk with data
         final int firstChunkWithDataIndex = toIntExact((newMinValidIndex / longsPerChunk));
         final long numberOfElementsToCleanUp = (newMinValidIndex % longsPerChunk);
-        C chunk = chunkList.get(firstChunkWithDataIndex);
+        C chunk = getChunk(firstChunkWithDataIndex);
         if (chunk != null && numberOfElementsToCleanUp > 0) {
             partialChunkCleanup(chunk, true, numberOfElementsToCleanUp);
         }
 
         // clean up chunk(s) reserved for buffer
         for (int i = firstValidChunkWithBuffer; i < firstChunkWithDataIndex; i++) {
-            chunk = chunkList.get(i);
+            chunk = getChunk(i);
             if (chunk != null) {
                 partialChunkCleanup(chunk, true, longsPerChunk);
             }
@@ -696,6 +732,7 @@ public abstract class AbstractLongList<C> implements LongList {
         final int numberOfChunks = calculateNumberOfChunks(oldMaxValidIndex);
 
         for (int i = firstChunkIndexToDelete; i < numberOfChunks; i++) {
+            discardPendingChunk(i);
             final C chunk = chunkList.get(i);
             if (chunk != null && chunkList.compareAndSet(i, chunk, null)) {
                 closeChunk(chunk);
@@ -705,20 +742,63 @@ public abstract class AbstractLongList<C> implements LongList {
         // clean up a chunk with data
         final int firstChunkWithDataIndex = toIntExact(newMaxValidIndex / longsPerChunk);
         final long numberOfEntriesToCleanUp = longsPerChunk - (newMaxValidIndex % longsPerChunk) - 1;
-        C chunk = chunkList.get(firstChunkWithDataIndex);
+        C chunk = getChunk(firstChunkWithDataIndex);
         if (chunk != null && numberOfEntriesToCleanUp > 0) {
             partialChunkCleanup(chunk, false, numberOfEntriesToCleanUp);
         }
 
         // clean up chunk(s) reserved for buffer
         for (int i = firstChunkWithDataIndex + 1; i <= lastValidChunkWithBufferIndex; i++) {
-            chunk = chunkList.get(i);
+            chunk = getChunk(i);
             if (chunk != null) {
                 partialChunkCleanup(chunk, false, longsPerChunk);
             }
         }
     }
 
+    /**
+     * Get a chunk, reading it from the file this list was loaded from if it hasn't been read yet.
+     *
+     * @param chunkIndex the index of the chunk
+     * @return the chunk, or null if no chunk has been allocated at this index
+     * @throws UncheckedIOException if the chunk can not be read
+     */
+    protected final C getChunk(final int chunkIndex) {
+        final C chunk = chunkList.get(chunkIndex);
+        if (chunk != null) {
+            return chunk;
+        }
+        final ChunkLoader loader = chunkLoader;
+        if (loader == null) {
+            // The loader sets a chunk before it is done, so it's enough to check the chunk again if it's just done
+            return chunkList.get(chunkIndex);
+        }
+        try {
+            return loader.load(chunkIndex);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read chunk " + chunkIndex + " of a long list", e);
+        }
+    }
+
+    /**
+     * Make sure a chunk that is about to be released is never read from the file this list was loaded from.
+     *
+     * @param chunkIndex the index of the chunk
+     */
+    private void discardPendingChunk(final int chunkIndex) {
+        final ChunkLoader loader = chunkLoader;
+        if (loader != null) {
+            loader.discard(chunkIndex);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean loadNextPendingChunk() throws IOException {
+        final ChunkLoader loader = chunkLoader;
+        return (loader != null) && loader.loadNext();
+    }
+
     /**
      * Zeroes out a part of a chunk.
      * @param chunk index of the chunk to clean up
@@ -814,6 +894,10 @@ public abstract class AbstractLongList<C> implements LongList {
     /** {@inheritDoc} */
     @Override
     public void close() {
+        final ChunkLoader loader = chunkLoader;
+        if (loader != null) {
+            loader.close();
+        }
         size.set(0);
         for (int i = 0; i < chunkList.length(); i++) {
             final C chunk = chunkList.getAndSet(i, null);
@@ -823,6 +907,101 @@ public abstract class AbstractLongList<C> implements LongList {
         }
     }
 
+    /**
+     * Reads the chunks of a list from the file the list was loaded from, one chunk at a time. A chunk is set in
+     * {@link #chunkList} before it's no longer pending, and the loader is only removed once no chunks are pending,
+     * so a chunk that is missing from the chunk list while no loader is set has not been allocated.
+     */
+    private final class ChunkLoader {
+
+        /** The file to read chunks from, it's positioned before each read */
+        private final FileChannel fileChannel;
+        /** The offset of the first long in the file */
+        private final long bodyOffset;
+        /** The index of the first long in the file, the min valid index when the list was loaded */
+        private final long firstIndexInFile;
+        /** The index of the last long in the file, the max valid index when the list was loaded */
+        private final long lastIndexInFile;
+        /** Chunks that haven't been read yet */
+        private final BitSet pendingChunks = new BitSet();
+
+        ChunkLoader(@NonNull final FileChannel fileChannel, final long bodyOffset) {
+            this.fileChannel = fileChannel;
+            this.bodyOffset = bodyOffset;
+            firstIndexInFile = minValidIndex.get();
+            lastIndexInFile = maxValidIndex.get();
+            pendingChunks.set(
+                    toIntExact(firstIndexInFile / longsPerChunk), toIntExact(lastIndexInFile / longsPerChunk) + 1);
+        }
+
+        /**
+         * Read a chunk, unless it was read or discarded already.
+         *
+         * @return the chunk from the chunk list, if it wasn't pending
+         */
+        synchronized C load(final int chunkIndex) throws IOException {
+            if (!pendingChunks.get(chunkIndex)) {
+                return chunkList.get(chunkIndex);
+            }
+            final long firstIndexInChunk = (long) chunkIndex * longsPerChunk;
+            final long startIndex = max(firstIndexInFile, firstIndexInChunk);
+            final long endIndex = min(lastIndexInFile + 1, firstIndexInChunk + longsPerChunk);
+            fileChannel.position(bodyOffset + (startIndex - firstIndexInFile) * Long.BYTES);
+            final C chunk = readChunkData(
+                    fileChannel,
+                    chunkIndex,
+                    toIntExact(startIndex - firstIndexInChunk),
+                    toIntExact(endIndex - firstIndexInChunk));
+            setChunk(chunkIndex, chunk);
+            pendingChunks.clear(chunkIndex);
+            if (pendingChunks.isEmpty()) {
+                close();
+            }
+            return chunk;
+        }
+
+        /**
+         * Read the pending chunk with the lowest index.
+         *
+         * @return true if a chunk was read, false if no chunks are pending
+         */
+        synchronized boolean loadNext() throws IOException {
+            final int chunkIndex = pendingChunks.nextSetBit(0);
+            if (chunkIndex < 0) {
+                return false;
+            }
+            load(chunkIndex);
+            return true;
+        }
+
+        /**
+         * Never read a chunk, because it's about to be released.
+         */
+        synchronized void discard(final int chunkIndex) {
+            if (pendingChunks.get(chunkIndex)) {
+                pendingChunks.clear(chunkIndex);
+                if (pendingChunks.isEmpty()) {
+                    close();
+                }
+            }
+        }
+
+        /**
+         * Stop reading chunks and close the file.
+         */
+        synchronized void close() {
+            pendingChunks.clear();
+            if (chunkLoader == this) {
+                chunkLoader = null;
+            }
+            try {
+                fileChannel.close();
+            } catch (final IOException e) {
+                logger.warn(EXCEPTION.getMarker(), "Failed to close the file of a long list", e);
+            }
+        }
+    }
+
     private void checkCapacity(final long capacity) {
         if (capacity < 0) {
             throw new IllegalArgumentException("The maximum number of longs must be non-negative, not " + capacity);
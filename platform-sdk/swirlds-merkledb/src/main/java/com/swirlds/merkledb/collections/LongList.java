@@ -138,6 +138,18 @@ public interface LongList extends CASableLongIndex, Closeable {
      */
     long getMaxValidIndex();
 
+    /**
+     * Read a chunk of this list that is still to be read from the file the list was loaded from. Lists loaded with
+     * {@code merkleDb.lazyIndexLoading} enabled read each chunk when it is first accessed, this method reads chunks
+     * ahead of access. Lists that read all chunks when they are loaded have no pending chunks.
+     *
+     * @return true if a chunk was read, false if no chunks are pending
+     * @throws IOException if the chunk can not be read
+     */
+    default boolean loadNextPendingChunk() throws IOException {
+        return false;
+    }
+
     /** {@inheritDoc} */
     @Override
     <T extends Throwable> void forEach(LongAction<T> action) throws InterruptedException, T;
@@ -30,6 +30,10 @@ import org.apache.logging.log4j.Logger;
  * is a good chance that the indices in this range may be used (e.g. in case of mass deletion from
  * an instance of {@link com.swirlds.merkledb.files.MemoryIndexDiskKeyValueStore})
  *
+ * <p>If {@link com.swirlds.merkledb.config.MerkleDbConfig#lazyIndexLoading()} is enabled, a list loaded from a
+ * file only allocates and reads a chunk when it is first accessed, or when it is read ahead with
+ * {@link #loadNextPendingChunk()}.
+ *
  * <p>Per the {@link LongList} contract, this class is thread-safe for both concurrent reads and
  * writes.
  */
@@ -104,6 +108,12 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
         super(path, longsPerChunk, capacity, reservedBufferSize, configuration);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean supportsLazyLoading() {
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected ByteBuffer readChunkData(FileChannel fileChannel, int chunkIndex, int startIndex, int endIndex)
@@ -67,6 +67,13 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  *     Maximum number of file channels per file reader.
  * @param maxThreadsPerFileChannel
  *    Maximum number of threads per file channel.
+ * @param parallelIndexLoading
+ *      If true, the indices of a data source (path to disk location lists, in-memory hashes and the key to path
+ *      map) are loaded from a snapshot in parallel rather than one after another.
+ * @param lazyIndexLoading
+ *      If true, off-heap long list indices (path to disk location lists and key to path bucket indices) loaded from a
+ *      snapshot read each chunk from the snapshot file when it is first accessed, and data sources read the remaining
+ *      chunks in the background. A large state can then be used before all its indices are read.
  */
 @ConfigData("merkleDb")
 public record MerkleDbConfig(
@@ -90,7 +97,9 @@ public record MerkleDbConfig(
         @ConfigProperty(defaultValue = "-1") int numHalfDiskHashMapFlushThreads,
         @ConfigProperty(defaultValue = "1048576") int leafRecordCacheSize,
         @Min(1) @ConfigProperty(defaultValue = "8") int maxFileChannelsPerFileReader,
-        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel) {
+        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel,
+        @ConfigProperty(defaultValue = "true") boolean parallelIndexLoading,
+        @ConfigProperty(defaultValue = "false") boolean lazyIndexLoading) {
 
     static double UNIT_FRACTION_PERCENT = 100.0;
 
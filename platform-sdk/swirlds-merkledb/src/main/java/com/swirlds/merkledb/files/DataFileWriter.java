@@ -7,6 +7,7 @@ import static com.swirlds.merkledb.files.DataFileCommon.createDataFilePath;
 
 import com.hedera.pbj.runtime.ProtoWriterTools;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.swirlds.common.io.utility.FileChecksums;
 import com.swirlds.merkledb.utilities.MemoryUtils;
 import java.io.IOException;
 import java.nio.BufferOverflowException;
@@ -18,6 +19,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.function.Consumer;
+import java.util.zip.CRC32C;
 
 /**
  * Writer for creating a data file. A data file contains a number of data items. Each data item can
@@ -56,6 +58,14 @@ public final class DataFileWriter {
     private final Path path;
     /** File metadata */
     private final DataFileMetadata metadata;
+    /** Size of the header at the start of the file, in bytes. Data items are written right after it */
+    private long headerSize;
+    /**
+     * CRC32C checksum of the data items written so far. It is updated from the mapped buffers before they are
+     * released, so the file never has to be read back to be checksummed
+     */
+    private final CRC32C dataChecksum = new CRC32C();
+
     /**
      * Count of the number of data items we have written so far. Ready to be stored in footer
      * metadata
@@ -103,6 +113,7 @@ public final class DataFileWriter {
                 throw new IOException("Failed to map file channel to memory");
             }
             if (writingMmap != null) {
+                dataChecksum.update(writingMmap.slice(0, Math.toIntExact(newMmapPos - mmapPositionInFile)));
                 MemoryUtils.closeMmapBuffer(writingMmap);
             }
             mmapPositionInFile = newMmapPos;
@@ -117,6 +128,7 @@ public final class DataFileWriter {
             writingHeaderPbjData = BufferedData.wrap(writingHeaderMmap);
             metadata.writeTo(writingHeaderPbjData);
         }
+        headerSize = writingHeaderPbjData.position();
         // prepare to write data items
         moveWritingBuffer(writingHeaderPbjData.position());
     }
@@ -217,6 +229,10 @@ public final class DataFileWriter {
         // not that updateDataItemCount() messes up with writing buffer state (position), but
         // the buffer will be closed below anyway
         metadata.updateDataItemCount(writingHeaderPbjData, dataItemCount);
+        // checksum the final header and the last part of the data while they are still mapped
+        final CRC32C headerChecksum = new CRC32C();
+        headerChecksum.update(writingHeaderMmap.slice(0, Math.toIntExact(headerSize)));
+        dataChecksum.update(writingMmap.slice(0, Math.toIntExact(writingPbjData.position())));
         // release all the resources
         MemoryUtils.closeMmapBuffer(writingHeaderMmap);
         MemoryUtils.closeMmapBuffer(writingMmap);
@@ -226,5 +242,11 @@ public final class DataFileWriter {
             // after finishWriting(), mmapPositionInFile should be equal to the file size
             mmapPositionInFile = totalFileSize;
         }
+        // data files are immutable and hard linked into snapshots, record the checksum so snapshots never need to
+        // read them back
+        FileChecksums.record(
+                path,
+                FileChecksums.combine(
+                        headerChecksum.getValue(), dataChecksum.getValue(), totalFileSize - headerSize));
     }
 }
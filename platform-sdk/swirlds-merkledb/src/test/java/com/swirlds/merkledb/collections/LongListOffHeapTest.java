@@ -1,12 +1,22 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.merkledb.collections;
 
+import static com.swirlds.merkledb.collections.LongList.IMPERMISSIBLE_VALUE;
 import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.CONFIGURATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import com.swirlds.common.config.StateCommonConfig;
+import com.swirlds.common.io.config.TemporaryFileConfig;
 import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
+import com.swirlds.merkledb.config.MerkleDbConfig;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.provider.Arguments;
 
 class LongListOffHeapTest extends AbstractLongListTest<LongListOffHeap> {
@@ -29,6 +39,79 @@ class LongListOffHeapTest extends AbstractLongListTest<LongListOffHeap> {
         return new LongListOffHeap(file, longsPerChunk, capacity, reservedBufferLength, CONFIGURATION);
     }
 
+    private static final Configuration LAZY_LOADING_CONFIGURATION = ConfigurationBuilder.create()
+            .withConfigDataType(MerkleDbConfig.class)
+            .withConfigDataType(StateCommonConfig.class)
+            .withConfigDataType(TemporaryFileConfig.class)
+            .withSource(new SimpleConfigSource("merkleDb.lazyIndexLoading", true))
+            .build();
+
+    /**
+     * Write a list with values {@code index + 100} from index 10 to {@link #SAMPLE_SIZE} - 1 to a file.
+     */
+    private static Path writeSampleList(final Path directory) throws IOException {
+        final Path file = directory.resolve("sample.ll");
+        try (final LongListOffHeap list = new LongListOffHeap(NUM_LONGS_PER_CHUNK, MAX_LONGS, 0)) {
+            list.updateValidRange(10, SAMPLE_SIZE - 1);
+            for (int i = 10; i < SAMPLE_SIZE; i++) {
+                list.put(i, i + 100);
+            }
+            list.writeToFile(file);
+        }
+        return file;
+    }
+
+    @Test
+    void testLazyLoadingReadsChunksOnDemand(@TempDir final Path tempDir) throws IOException {
+        final Path file = writeSampleList(tempDir);
+        try (final LongListOffHeap list =
+                new LongListOffHeap(file, NUM_LONGS_PER_CHUNK, MAX_LONGS, 0, LAZY_LOADING_CONFIGURATION)) {
+            assertEquals(SAMPLE_SIZE, list.size(), "The size should be read with the header");
+            assertEquals(0, list.getOffHeapConsumption(), "No chunk should be read when the list is loaded");
+            assertEquals(5100, list.get(5000), "An accessed value should be read from the file");
+            assertEquals(
+                    (long) NUM_LONGS_PER_CHUNK * Long.BYTES,
+                    list.getOffHeapConsumption(),
+                    "Only the accessed chunk should be read");
+
+            while (list.loadNextPendingChunk()) {
+                // keep reading
+            }
+            assertFalse(list.loadNextPendingChunk(), "No chunks should be pending once all are read");
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                assertEquals(i < 10 ? IMPERMISSIBLE_VALUE : i + 100, list.get(i), "Unexpected value at index " + i);
+            }
+        }
+    }
+
+    @Test
+    void testLazyLoadedListCanBeUpdatedAndWritten(@TempDir final Path tempDir) throws IOException {
+        final Path file = writeSampleList(tempDir);
+        final Path copy = tempDir.resolve("copy.ll");
+        final int minValidIndex = 1000;
+        final int maxValidIndex = SAMPLE_SIZE - 1000;
+        try (final LongListOffHeap list =
+                new LongListOffHeap(file, NUM_LONGS_PER_CHUNK, MAX_LONGS, 0, LAZY_LOADING_CONFIGURATION)) {
+            // Chunks that are released or cleaned up by the update must not be read back from the file later
+            list.updateValidRange(minValidIndex, maxValidIndex);
+            list.put(2000, 1);
+            list.writeToFile(copy);
+        }
+        try (final LongListOffHeap list = new LongListOffHeap(copy, NUM_LONGS_PER_CHUNK, MAX_LONGS, 0, CONFIGURATION)) {
+            assertEquals(minValidIndex, list.getMinValidIndex(), "Unexpected min valid index");
+            assertEquals(maxValidIndex, list.getMaxValidIndex(), "Unexpected max valid index");
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                final long expected;
+                if (i < minValidIndex || i > maxValidIndex) {
+                    expected = IMPERMISSIBLE_VALUE;
+                } else {
+                    expected = (i == 2000) ? 1 : i + 100;
+                }
+                assertEquals(expected, list.get(i), "Unexpected value at index " + i);
+            }
+        }
+    }
+
     /**
      * Provides a stream of writer-reader pairs specifically for the {@link LongListOffHeap} implementation.
      * The writer is always {@link LongListOffHeap}, and it is paired with three reader implementations
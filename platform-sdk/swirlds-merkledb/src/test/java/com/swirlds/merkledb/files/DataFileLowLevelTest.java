@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.hedera.pbj.runtime.ProtoParserTools;
 import com.hedera.pbj.runtime.ProtoWriterTools;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.swirlds.common.io.utility.FileChecksums;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.merkledb.test.fixtures.files.FilesTestType;
 import java.io.IOException;
@@ -23,6 +24,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
 import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -342,4 +344,21 @@ class DataFileLowLevelTest {
             checkItem(testType, i, dataItem);
         }
     }
+
+    @Order(500)
+    @ParameterizedTest
+    @EnumSource(FilesTestType.class)
+    void checksumRecordedWhileWriting(FilesTestType testType) throws IOException {
+        // the checksum recorded by the writer must match the file contents, including the header that is rewritten
+        // when the file is finished
+        final Path dataFile = dataFileMap.get(testType);
+        final CRC32C expected = new CRC32C();
+        expected.update(Files.readAllBytes(dataFile));
+        assertEquals(expected.getValue(), FileChecksums.lookup(dataFile), "recorded checksum should match the file");
+
+        // and it must remain valid for hard links to the file, as created by snapshots
+        final Path link = tempFileDir.resolve("link_" + testType.name() + "." + FILE_EXTENSION);
+        Files.createLink(link, dataFile);
+        assertEquals(expected.getValue(), FileChecksums.lookup(link), "recorded checksum should apply to links");
+    }
 }
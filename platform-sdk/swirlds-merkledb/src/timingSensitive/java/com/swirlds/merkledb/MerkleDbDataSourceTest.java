@@ -37,8 +37,11 @@ import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import com.swirlds.virtualmap.serialize.KeySerializer;
 import com.swirlds.virtualmap.serialize.ValueSerializer;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -57,6 +60,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -786,6 +790,95 @@ class MerkleDbDataSourceTest {
         snapshotDataSource2.close();
     }
 
+    /**
+     * Create a data source with internal hashes in RAM and on disk, and snapshot it.
+     *
+     * @return the id of the table in the snapshot
+     */
+    private static int createSnapshot(final String label, final TestType testType, final Path snapshotDbPath)
+            throws IOException {
+        final KeySerializer keySerializer = testType.dataType().getKeySerializer();
+        final ValueSerializer valueSerializer = testType.dataType().getValueSerializer();
+        final int[] tableId = new int[1];
+        createAndApplyDataSource(testDirectory.resolve("merkledb-" + label), label, testType, 100, 8, dataSource -> {
+            tableId[0] = dataSource.getTableId();
+            dataSource.saveRecords(
+                    8,
+                    16,
+                    IntStream.range(0, 17).mapToObj(i -> createVirtualInternalRecord(i, i + 1)),
+                    IntStream.range(8, 17)
+                            .mapToObj(i -> testType.dataType().createVirtualLeafRecord(i))
+                            .map(r -> r.toBytes(keySerializer, valueSerializer)),
+                    Stream.empty());
+            dataSource.getDatabase().snapshot(snapshotDbPath, dataSource);
+        });
+        return tableId[0];
+    }
+
+    private static Configuration indexLoadingConfig(
+            final boolean parallelIndexLoading, final boolean lazyIndexLoading) {
+        return ConfigurationBuilder.create()
+                .withConfigDataType(MerkleDbConfig.class)
+                .withConfigDataType(VirtualMapConfig.class)
+                .withConfigDataType(TemporaryFileConfig.class)
+                .withConfigDataType(StateCommonConfig.class)
+                .withConfigDataType(FileSystemManagerConfig.class)
+                .withSource(new SimpleConfigSource("merkleDb.parallelIndexLoading", parallelIndexLoading))
+                .withSource(new SimpleConfigSource("merkleDb.lazyIndexLoading", lazyIndexLoading))
+                .build();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"true, false", "false, false", "true, true"})
+    void loadSnapshotIndices(final boolean parallelIndexLoading, final boolean lazyIndexLoading) throws Exception {
+        final String label = "loadSnapshotIndices" + parallelIndexLoading + lazyIndexLoading;
+        final TestType testType = TestType.variable_variable;
+        final KeySerializer keySerializer = testType.dataType().getKeySerializer();
+        final ValueSerializer valueSerializer = testType.dataType().getValueSerializer();
+        final Path snapshotDbPath = testDirectory.resolve("merkledb-" + label + "_SNAPSHOT");
+        createSnapshot(label, testType, snapshotDbPath);
+
+        final Configuration config = indexLoadingConfig(parallelIndexLoading, lazyIndexLoading);
+        final MerkleDb snapshotDb = MerkleDb.getInstance(snapshotDbPath, config);
+        final MerkleDbDataSource snapshotDataSource = snapshotDb.getDataSource(config, label, false);
+        IntStream.range(0, 17).forEach(i -> assertHash(snapshotDataSource, i, i + 1));
+        IntStream.range(8, 17)
+                .forEach(i -> assertLeaf(testType, keySerializer, valueSerializer, snapshotDataSource, i, i));
+        snapshotDataSource.close();
+        assertEventuallyEquals(
+                0L, MerkleDbDataSource::getCountOfOpenDatabases, Duration.ofSeconds(1), "Expected no open dbs");
+    }
+
+    @Test
+    void failedParallelIndexLoadReleasesLoadedIndices() throws Exception {
+        final String label = "failedParallelIndexLoad";
+        final TestType testType = TestType.variable_variable;
+        final KeySerializer keySerializer = testType.dataType().getKeySerializer();
+        final ValueSerializer valueSerializer = testType.dataType().getValueSerializer();
+        final Path snapshotDbPath = testDirectory.resolve("merkledb-" + label + "_SNAPSHOT");
+        final int tableId = createSnapshot(label, testType, snapshotDbPath);
+
+        final Configuration config = indexLoadingConfig(true, false);
+        final MerkleDb snapshotDb = MerkleDb.getInstance(snapshotDbPath, config);
+        final MerkleDbPaths snapshotPaths = new MerkleDbPaths(snapshotDb.getTableDir(label, tableId));
+        // Give the leaf index an unsupported format version, so it fails to load while the other indices load
+        try (final FileChannel channel =
+                FileChannel.open(snapshotPaths.pathToDiskLocationLeafNodesFile, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MAX_VALUE));
+        }
+
+        assertThrows(IOException.class, () -> snapshotDb.getDataSource(config, label, false));
+        assertEquals(0L, MerkleDbDataSource.getCountOfOpenDatabases(), "The failed data source must not stay open");
+
+        // The indices that did load were closed, so the table can be loaded again once the bad index is rebuilt
+        Files.delete(snapshotPaths.pathToDiskLocationLeafNodesFile);
+        final MerkleDbDataSource snapshotDataSource = snapshotDb.getDataSource(config, label, false);
+        IntStream.range(8, 17)
+                .forEach(i -> assertLeaf(testType, keySerializer, valueSerializer, snapshotDataSource, i, i));
+        snapshotDataSource.close();
+        // Off-heap memory of the indices closed after the failure is checked by checkDirectMemoryForLeaks()
+    }
+
     @Test
     void copyStatisticsTest() throws Exception {
         // This test simulates what happens on reconnect and makes sure that MerkleDb stats are reported
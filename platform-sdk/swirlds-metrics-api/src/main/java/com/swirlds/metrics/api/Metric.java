@@ -16,7 +16,10 @@ public interface Metric {
         VALUE,
         MAX,
         MIN,
-        STD_DEV
+        STD_DEV,
+        P50,
+        P90,
+        P99
     }
 
     enum DataType {
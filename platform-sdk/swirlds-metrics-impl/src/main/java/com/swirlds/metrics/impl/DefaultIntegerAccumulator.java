@@ -59,7 +59,16 @@ public class DefaultIntegerAccumulator extends AbstractMetric implements Integer
      */
     @Override
     public void update(final int other) {
-        container.accumulateAndGet(other, accumulator);
+        int current = container.get();
+        while (true) {
+            final int next = accumulator.applyAsInt(current, other);
+            // Skip the write if the value does not change, e.g. for a maximum that is not exceeded. This keeps the
+            // cache line shared between all updating threads instead of invalidating it on every update.
+            if (next == current || container.weakCompareAndSetVolatile(current, next)) {
+                return;
+            }
+            current = container.get();
+        }
     }
 
     /**
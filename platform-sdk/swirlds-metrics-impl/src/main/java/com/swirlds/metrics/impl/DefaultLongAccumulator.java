@@ -61,7 +61,16 @@ public class DefaultLongAccumulator extends AbstractMetric implements LongAccumu
      */
     @Override
     public void update(final long other) {
-        container.accumulateAndGet(other, accumulator);
+        long current = container.get();
+        while (true) {
+            final long next = accumulator.applyAsLong(current, other);
+            // Skip the write if the value does not change, e.g. for a maximum that is not exceeded. This keeps the
+            // cache line shared between all updating threads instead of invalidating it on every update.
+            if (next == current || container.weakCompareAndSetVolatile(current, next)) {
+                return;
+            }
+            current = container.get();
+        }
     }
 
     /**
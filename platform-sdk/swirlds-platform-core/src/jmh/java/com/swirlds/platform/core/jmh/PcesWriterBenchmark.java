@@ -38,9 +38,17 @@ public class PcesWriterBenchmark {
     @Param({"true", "false"})
     public boolean syncEveryEvent;
 
+    /**
+     * Explicitly sync the file once every this many events, simulating group commit with different batch sizes. 0
+     * means never sync explicitly.
+     */
+    @Param({"0", "1", "16", "256"})
+    public int eventsPerSync;
+
     private PlatformEvent event;
     private Path directory;
     private PcesMutableFile mutableFile;
+    private long eventsWritten;
 
     @Setup(Level.Iteration)
     public void setup() throws IOException {
@@ -56,6 +64,7 @@ public class PcesWriterBenchmark {
         final PcesFile file = PcesFile.of(AncientMode.GENERATION_THRESHOLD, r.nextInstant(), 1, 0, 100, 0, directory);
 
         mutableFile = file.getMutableFile(useFileChannelWriter, syncEveryEvent);
+        eventsWritten = 0;
     }
 
     @TearDown(Level.Iteration)
@@ -71,11 +80,19 @@ public class PcesWriterBenchmark {
     PcesWriterBenchmark.writeEvent              true                   false  thrpt    3   16244.412 ±  38461.148  ops/s
     PcesWriterBenchmark.writeEvent             false                    true  thrpt    3  411138.079 ± 110692.138  ops/s
     PcesWriterBenchmark.writeEvent             false                   false  thrpt    3  643582.781 ± 154393.415  ops/s
+
+    The results above predate the eventsPerSync parameter and correspond to eventsPerSync = 0. With
+    syncEveryEvent = false, increasing eventsPerSync shows the throughput gained by group commit, at the cost of
+    each event waiting for up to eventsPerSync - 1 later events before it is durable.
     */
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.SECONDS)
     public void writeEvent() throws IOException {
         mutableFile.writeEvent(event);
+        eventsWritten++;
+        if (eventsPerSync > 0 && eventsWritten % eventsPerSync == 0) {
+            mutableFile.sync();
+        }
     }
 }
@@ -18,6 +18,7 @@ import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.notification.NotificationEngine;
 import com.swirlds.common.stream.RunningEventHashOverride;
 import com.swirlds.common.utility.AutoCloseableWrapper;
+import com.swirlds.component.framework.wires.input.InputWire;
 import com.swirlds.platform.builder.PlatformBuildingBlocks;
 import com.swirlds.platform.builder.PlatformComponentBuilder;
 import com.swirlds.platform.components.AppNotifier;
@@ -57,6 +58,7 @@ import com.swirlds.platform.system.events.BirthRoundMigrationShim;
 import com.swirlds.platform.system.events.DefaultBirthRoundMigrationShim;
 import com.swirlds.platform.system.status.actions.DoneReplayingEventsAction;
 import com.swirlds.platform.system.status.actions.StartedReplayingEventsAction;
+import com.swirlds.platform.wiring.NoInput;
 import com.swirlds.platform.wiring.PlatformWiring;
 import com.swirlds.state.State;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -74,6 +76,7 @@ import org.hiero.base.crypto.Hash;
 import org.hiero.base.crypto.Signature;
 import org.hiero.consensus.config.EventConfig;
 import org.hiero.consensus.crypto.PlatformSigner;
+import org.hiero.consensus.event.creator.impl.config.EventCreationConfig;
 import org.hiero.consensus.event.creator.impl.pool.TransactionPoolNexus;
 import org.hiero.consensus.model.event.AncientMode;
 import org.hiero.consensus.model.event.PlatformEvent;
@@ -308,6 +311,13 @@ public class SwirldsPlatform implements Platform {
         }
 
         transactionPoolNexus = blocks.transactionPoolNexus();
+        if (platformContext
+                .getConfiguration()
+                .getConfigData(EventCreationConfig.class)
+                .reactiveCreationEnabled()) {
+            final InputWire<NoInput> reactiveTrigger = platformWiring.getEventCreationReactiveTriggerInput();
+            transactionPoolNexus.setTransactionsAvailableListener(() -> reactiveTrigger.offer(NoInput.getInstance()));
+        }
 
         final boolean startedFromGenesis = initialState.isGenesisState();
 
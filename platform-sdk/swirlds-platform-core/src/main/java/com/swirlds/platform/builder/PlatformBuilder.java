@@ -467,6 +467,8 @@ public final class PlatformBuilder {
                     .withHealthLogThreshold(wiringConfig.healthLogThreshold())
                     .withHealthLogPeriod(wiringConfig.healthLogPeriod())
                     .withHealthyReportThreshold(wiringConfig.healthyReportThreshold())
+                    .withTracingEnabled(wiringConfig.tracingEnabled())
+                    .withTracingSampleRate(wiringConfig.tracingSampleRate())
                     .build();
         }
 
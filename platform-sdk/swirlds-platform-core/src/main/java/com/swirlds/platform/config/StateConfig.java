@@ -67,6 +67,22 @@ import java.time.Duration;
  *                                      resubmitted. Age is measured by taking the round number of the most recent round
  *                                      to reach consensus and subtracting the round that the signature transaction
  *                                      signs.
+ * @param snapshotManifestEnabled       If true, then a manifest with the size and checksum of every file is written
+ *                                      into each saved state directory once all other files have been written.
+ * @param snapshotManifestThreads       The number of threads used to checksum files when writing or validating a
+ *                                      snapshot manifest.
+ * @param snapshotManifestMaxBytesPerSecond The maximum combined rate at which files are read when writing or
+ *                                      validating a snapshot manifest. If 0 then the rate is not limited.
+ * @param validateSnapshotManifest      If true, then at startup a saved state that has a manifest is validated against
+ *                                      it before it is loaded. A state that fails validation is treated the same way
+ *                                      as a state that can not be deserialized. Validation reads every file of the
+ *                                      state once more, which delays startup, so it is off by default.
+ * @param deferSnapshotManifestValidation If true, then the manifest validation enabled by
+ *                                      {@code validateSnapshotManifest} runs in the background once the state is
+ *                                      loaded, rather than before it is loaded. A state that fails validation halts
+ *                                      the node, since it is already in use and can't be replaced by an older state.
+ *                                      Validation must finish before the state directory is deleted, which happens
+ *                                      once {@code signedStateDisk} newer states have been written.
  */
 @ConfigData("state")
 public record StateConfig(
@@ -89,7 +105,12 @@ public record StateConfig(
         @ConfigProperty(defaultValue = "emergencyRecovery.yaml") String emergencyStateFileName,
         @ConfigProperty(defaultValue = "false") boolean deleteInvalidStateFiles,
         @ConfigProperty(defaultValue = "true") boolean validateInitialState,
-        @ConfigProperty(defaultValue = "500") long maxSignatureResubmitAge) {
+        @ConfigProperty(defaultValue = "500") long maxSignatureResubmitAge,
+        @ConfigProperty(defaultValue = "false") boolean snapshotManifestEnabled,
+        @ConfigProperty(defaultValue = "4") int snapshotManifestThreads,
+        @ConfigProperty(defaultValue = "0") long snapshotManifestMaxBytesPerSecond,
+        @ConfigProperty(defaultValue = "false") boolean validateSnapshotManifest,
+        @ConfigProperty(defaultValue = "false") boolean deferSnapshotManifestValidation) {
 
     /**
      * Get the main class name that should be used for signed states.
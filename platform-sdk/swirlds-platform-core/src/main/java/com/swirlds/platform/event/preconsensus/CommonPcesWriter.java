@@ -116,6 +116,11 @@ public class CommonPcesWriter {
 
     private final boolean syncEveryEvent;
 
+    /**
+     * If true, each file is synced before it is closed. Closing a file does not by itself make its contents durable.
+     */
+    private final boolean syncBeforeClose;
+
     /**
      * Constructor
      *
@@ -127,9 +132,26 @@ public class CommonPcesWriter {
             @NonNull final PlatformContext platformContext,
             @NonNull final PcesFileManager fileManager,
             final boolean syncEveryEvent) {
+        this(platformContext, fileManager, syncEveryEvent, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param platformContext the platform context
+     * @param fileManager     manages all PCES files currently on disk
+     * @param syncEveryEvent  whether to sync the file after every event
+     * @param syncBeforeClose whether to sync each file before it is closed
+     */
+    public CommonPcesWriter(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final PcesFileManager fileManager,
+            final boolean syncEveryEvent,
+            final boolean syncBeforeClose) {
         Objects.requireNonNull(platformContext, "platformContext is required");
         this.fileManager = Objects.requireNonNull(fileManager, "fileManager is required");
         this.syncEveryEvent = syncEveryEvent;
+        this.syncBeforeClose = syncBeforeClose;
 
         final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
         final EventConfig eventConfig = platformContext.getConfiguration().getConfigData(EventConfig.class);
@@ -217,6 +239,9 @@ public class CommonPcesWriter {
             if (!bootstrapMode) {
                 averageSpanUtilization.add(previousSpan);
             }
+            if (syncBeforeClose) {
+                currentMutableFile.sync();
+            }
             currentMutableFile.close();
 
             fileManager.finishedWritingFile(currentMutableFile);
@@ -1,19 +1,59 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.platform.event.preconsensus;
 
+import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.metrics.HistogramMetric;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 import org.hiero.consensus.model.node.NodeId;
 
 public class DefaultInlinePcesWriter implements InlinePcesWriter {
+
+    private static final HistogramMetric.Config SYNC_TIME_CONFIG = new HistogramMetric.Config(
+                    "platform", "preconsensusEventSyncTime")
+            .withUnit("microseconds")
+            .withDescription("The time it takes to sync a preconsensus event file to disk, in microseconds.")
+            .withMaxValue(1L << 30);
+
     private final CommonPcesWriter commonPcesWriter;
     private final NodeId selfId;
     private final FileSyncOption fileSyncOption;
+    private final Time time;
+    private final HistogramMetric syncTime;
+
+    /**
+     * When using {@link FileSyncOption#GROUP_COMMIT}, the maximum time in nanoseconds that an event may be held back.
+     */
+    private final long groupCommitMaxLatencyNanos;
+
+    /**
+     * When using {@link FileSyncOption#GROUP_COMMIT}, the number of bytes written after which a batch is synced.
+     */
+    private final long groupCommitMaxBytes;
+
+    /**
+     * Events that have been written but are not yet known to be durable, in the order they were written. Only used
+     * with {@link FileSyncOption#GROUP_COMMIT}.
+     */
+    private List<PlatformEvent> pendingEvents = new ArrayList<>();
+
+    /**
+     * The number of bytes written since the last sync. Only used with {@link FileSyncOption#GROUP_COMMIT}.
+     */
+    private long pendingBytes;
+
+    /**
+     * The time when the oldest pending event was written. Only meaningful if there are pending events.
+     */
+    private long oldestPendingNanos;
 
     /**
      * Constructor
@@ -27,12 +67,16 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
             @NonNull final NodeId selfId) {
         Objects.requireNonNull(platformContext, "platformContext is required");
         Objects.requireNonNull(fileManager, "fileManager is required");
-        commonPcesWriter = new CommonPcesWriter(platformContext, fileManager, false);
+        final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+        this.fileSyncOption = pcesConfig.inlinePcesSyncOption();
+        // closing a file does not sync it, and events in a closed file may still be pending
+        commonPcesWriter = new CommonPcesWriter(
+                platformContext, fileManager, false, fileSyncOption == FileSyncOption.GROUP_COMMIT);
         this.selfId = Objects.requireNonNull(selfId, "selfId is required");
-        this.fileSyncOption = platformContext
-                .getConfiguration()
-                .getConfigData(PcesConfig.class)
-                .inlinePcesSyncOption();
+        this.time = platformContext.getTime();
+        this.groupCommitMaxLatencyNanos = pcesConfig.groupCommitMaxLatency().toNanos();
+        this.groupCommitMaxBytes = pcesConfig.groupCommitMaxBytes();
+        this.syncTime = platformContext.getMetrics().getOrCreate(SYNC_TIME_CONFIG);
     }
 
     @Override
@@ -45,15 +89,19 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
      */
     @NonNull
     @Override
-    public PlatformEvent writeEvent(@NonNull PlatformEvent event) {
+    public List<PlatformEvent> writeEvent(@NonNull PlatformEvent event) {
+        if (fileSyncOption == FileSyncOption.GROUP_COMMIT) {
+            return writeEventGroupCommit(event);
+        }
+
         // if we aren't streaming new events yet, assume that the given event is already durable
         if (!commonPcesWriter.isStreamingNewEvents()) {
-            return event;
+            return List.of(event);
         }
 
         if (commonPcesWriter.getFileType().selectIndicator(event) < commonPcesWriter.getNonAncientBoundary()) {
             // don't do anything with ancient events
-            return event;
+            return List.of(event);
         }
 
         try {
@@ -63,21 +111,124 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
             if (fileSyncOption == FileSyncOption.EVERY_EVENT
                     || (fileSyncOption == FileSyncOption.EVERY_SELF_EVENT
                             && event.getCreatorId().equals(selfId))) {
-                commonPcesWriter.getCurrentMutableFile().sync();
+                sync(commonPcesWriter.getCurrentMutableFile());
             }
 
-            return event;
+            return List.of(event);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Write an event using {@link FileSyncOption#GROUP_COMMIT}. The event is held back until the batch it belongs to
+     * has been synced.
+     *
+     * @param event the event to write
+     * @return the events that are now durable
+     */
+    @NonNull
+    private List<PlatformEvent> writeEventGroupCommit(@NonNull final PlatformEvent event) {
+        final boolean needsWrite = commonPcesWriter.isStreamingNewEvents()
+                && commonPcesWriter.getFileType().selectIndicator(event) >= commonPcesWriter.getNonAncientBoundary();
+
+        if (!needsWrite && pendingEvents.isEmpty()) {
+            // nothing to wait for, and the event is either already durable or ancient
+            return List.of(event);
+        }
+
+        if (pendingEvents.isEmpty()) {
+            oldestPendingNanos = time.nanoTime();
+        }
+        // events that don't need to be written are still queued so that the output order matches the input order
+        pendingEvents.add(event);
+
+        if (needsWrite) {
+            try {
+                commonPcesWriter.prepareOutputStream(event);
+                final PcesMutableFile file = commonPcesWriter.getCurrentMutableFile();
+                final long sizeBefore = file.fileSize();
+                file.writeEvent(event);
+                pendingBytes += file.fileSize() - sizeBefore;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        if (pendingBytes >= groupCommitMaxBytes || time.nanoTime() - oldestPendingNanos >= groupCommitMaxLatencyNanos) {
+            return commitPendingEvents();
+        }
+        return List.of();
+    }
+
     /**
      * {@inheritDoc}
      */
+    @NonNull
     @Override
-    public void registerDiscontinuity(@NonNull Long newOriginRound) {
+    public List<PlatformEvent> checkPendingEvents(@NonNull final Instant now) {
+        if (pendingEvents.isEmpty() || time.nanoTime() - oldestPendingNanos < groupCommitMaxLatencyNanos) {
+            return List.of();
+        }
+        return commitPendingEvents();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public List<PlatformEvent> flushPendingEvents() {
+        if (pendingEvents.isEmpty()) {
+            return List.of();
+        }
+        return commitPendingEvents();
+    }
+
+    /**
+     * Sync the current file and release all pending events. Pending events written to files that have since been
+     * closed are already durable, since files are synced before being closed.
+     *
+     * @return the pending events, in the order they were written
+     */
+    @NonNull
+    private List<PlatformEvent> commitPendingEvents() {
+        try {
+            final PcesMutableFile file = commonPcesWriter.getCurrentMutableFile();
+            if (file != null && pendingBytes > 0) {
+                sync(file);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final List<PlatformEvent> committed = pendingEvents;
+        pendingEvents = new ArrayList<>();
+        pendingBytes = 0;
+        return committed;
+    }
+
+    /**
+     * Sync a file to disk and record how long it took.
+     *
+     * @param file the file to sync
+     * @throws IOException if the sync fails
+     */
+    private void sync(@NonNull final PcesMutableFile file) throws IOException {
+        final long start = time.nanoTime();
+        file.sync();
+        syncTime.update((time.nanoTime() - start) / 1_000);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public List<PlatformEvent> registerDiscontinuity(@NonNull Long newOriginRound) {
+        // events written before the discontinuity must not wait for a sync of the files written after it
+        final List<PlatformEvent> committed = flushPendingEvents();
         commonPcesWriter.registerDiscontinuity(newOriginRound);
+        return committed;
     }
 
     /**
@@ -92,4 +243,14 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
     public void setMinimumAncientIdentifierToStore(@NonNull final Long minimumAncientIdentifierToStore) {
         commonPcesWriter.setMinimumAncientIdentifierToStore(minimumAncientIdentifierToStore);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        pendingEvents = new ArrayList<>();
+        pendingBytes = 0;
+        oldestPendingNanos = 0;
+    }
 }
@@ -13,6 +13,12 @@ public enum FileSyncOption {
      * Sync the file after every self event.
      */
     EVERY_SELF_EVENT,
+    /**
+     * Sync the file once per batch of events. Events are held back until the batch containing them has been synced, so
+     * every event is durable before it is released, but many events share the cost of a single sync. A batch is synced
+     * once it is large enough or once its oldest event has waited long enough, see {@link PcesConfig}.
+     */
+    GROUP_COMMIT,
     /**
      * Never sync the file. The data will be guaranteed to be written to disk when the file is closed.
      */
@@ -3,6 +3,8 @@ package com.swirlds.platform.event.preconsensus;
 
 import com.swirlds.component.framework.component.InputWireLabel;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.List;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 
@@ -24,19 +26,44 @@ public interface InlinePcesWriter {
      * Write an event to the stream.
      *
      * @param event the event to be written
-     * @return the event written
+     * @return the events that are now durable, in the order they were written. Usually just the given event, but when
+     * syncs are batched this may be empty or may include events written earlier.
      */
     @InputWireLabel("events to write")
     @NonNull
-    PlatformEvent writeEvent(@NonNull PlatformEvent event);
+    List<PlatformEvent> writeEvent(@NonNull PlatformEvent event);
+
+    /**
+     * Called periodically so that events held back while waiting for a batched sync are not held longer than the
+     * configured maximum latency.
+     *
+     * @param now the current time
+     * @return the events that are now durable, in the order they were written
+     */
+    @InputWireLabel("heartbeat")
+    @NonNull
+    List<PlatformEvent> checkPendingEvents(@NonNull Instant now);
+
+    /**
+     * Release all events held back while waiting for a batched sync, regardless of how long they have been waiting.
+     * Called when the intake pipeline is flushed, so that no event is left behind in this writer.
+     *
+     * @return the events that are now durable, in the order they were written
+     */
+    @InputWireLabel("flush pending events")
+    @NonNull
+    List<PlatformEvent> flushPendingEvents();
 
     /**
      * Inform the preconsensus event writer that a discontinuity has occurred in the preconsensus event stream.
      *
      * @param newOriginRound the round of the state that the new stream will be starting from
+     * @return the events held back while waiting for a batched sync, which are made durable before the discontinuity
+     * is registered
      */
     @InputWireLabel("discontinuity")
-    void registerDiscontinuity(@NonNull Long newOriginRound);
+    @NonNull
+    List<PlatformEvent> registerDiscontinuity(@NonNull Long newOriginRound);
 
     /**
      * Let the event writer know the current non-ancient event boundary. Ancient events will be ignored if added to the
@@ -54,4 +81,11 @@ public interface InlinePcesWriter {
      */
     @InputWireLabel("minimum identifier to store")
     void setMinimumAncientIdentifierToStore(@NonNull Long minimumAncientIdentifierToStore);
+
+    /**
+     * Clear the internal state of this writer in preparation for a reconnect. Events held back while waiting for a
+     * batched sync are dropped.
+     */
+    @InputWireLabel("clear")
+    void clear();
 }
@@ -2,6 +2,8 @@
 package com.swirlds.platform.event.preconsensus;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.List;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 
@@ -14,16 +16,34 @@ public class NoOpInlinePcesWriter implements InlinePcesWriter {
 
     @NonNull
     @Override
-    public PlatformEvent writeEvent(@NonNull final PlatformEvent event) {
-        return event;
+    public List<PlatformEvent> writeEvent(@NonNull final PlatformEvent event) {
+        return List.of(event);
     }
 
+    @NonNull
+    @Override
+    public List<PlatformEvent> checkPendingEvents(@NonNull final Instant now) {
+        return List.of();
+    }
+
+    @NonNull
+    @Override
+    public List<PlatformEvent> flushPendingEvents() {
+        return List.of();
+    }
+
+    @NonNull
     @Override
-    public void registerDiscontinuity(@NonNull final Long newOriginRound) {}
+    public List<PlatformEvent> registerDiscontinuity(@NonNull final Long newOriginRound) {
+        return List.of();
+    }
 
     @Override
     public void updateNonAncientEventBoundary(@NonNull final EventWindow nonAncientBoundary) {}
 
     @Override
     public void setMinimumAncientIdentifierToStore(@NonNull final Long minimumAncientIdentifierToStore) {}
+
+    @Override
+    public void clear() {}
 }
@@ -74,6 +74,12 @@ import java.time.Duration;
  * @param maxEventReplayFrequency              the maximum number of events that can be replayed per second
  * @param inlinePcesSyncOption                 when to sync the preconsensus event file to disk (applies only to inline
  *                                             PCES)
+ * @param groupCommitMaxLatency                when {@link #inlinePcesSyncOption} is
+ *                                             {@link FileSyncOption#GROUP_COMMIT}, the maximum time an event may be
+ *                                             held back while waiting for its batch to be synced
+ * @param groupCommitMaxBytes                  when {@link #inlinePcesSyncOption} is
+ *                                             {@link FileSyncOption#GROUP_COMMIT}, a batch is synced as soon as this
+ *                                             many bytes have been written since the last sync
  */
 @ConfigData("event.preconsensus")
 public record PcesConfig(
@@ -97,4 +103,6 @@ public record PcesConfig(
         @ConfigProperty(defaultValue = "1ms") Duration replayHealthThreshold,
         @ConfigProperty(defaultValue = "true") boolean limitReplayFrequency,
         @ConfigProperty(defaultValue = "5000") int maxEventReplayFrequency,
-        @ConfigProperty(defaultValue = "EVERY_SELF_EVENT") FileSyncOption inlinePcesSyncOption) {}
+        @ConfigProperty(defaultValue = "EVERY_SELF_EVENT") FileSyncOption inlinePcesSyncOption,
+        @ConfigProperty(defaultValue = "5ms") Duration groupCommitMaxLatency,
+        @Min(1) @ConfigProperty(defaultValue = "1048576") int groupCommitMaxBytes) {}
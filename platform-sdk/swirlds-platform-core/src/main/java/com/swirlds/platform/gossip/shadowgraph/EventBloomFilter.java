@@ -0,0 +1,195 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.shadowgraph;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
+
+/**
+ * A compact, probabilistic summary of the event hashes known to a node. Used during a sync to tell the peer which of
+ * its non-ancient events we already have, so that it does not send them again.
+ * <p>
+ * A bloom filter never reports false negatives: if {@link #mightContain(Hash)} returns false, the event is definitely
+ * not known to the node that built the filter. It may report false positives, at a rate configured when the filter is
+ * built. Each filter is built with a random seed, so an event that is a false positive in one sync is very unlikely to
+ * be a false positive in the next one.
+ * <p>
+ * Event hashes are cryptographic digests, so the bits of the hash are used directly as the base hash values for the
+ * filter. The seed is mixed into those bits so that different filters select different bit positions.
+ */
+public final class EventBloomFilter {
+
+    /**
+     * The maximum number of hash functions a filter may use. Bounds the work a peer can force us to do per lookup.
+     */
+    static final int MAX_HASH_FUNCTIONS = 16;
+
+    /**
+     * The maximum number of longs in a filter received from a peer (8MB).
+     */
+    static final int MAX_FILTER_LONGS = 1024 * 1024;
+
+    /**
+     * The seed mixed into every lookup.
+     */
+    private final long seed;
+
+    /**
+     * The number of bit positions set for each element.
+     */
+    private final int hashFunctionCount;
+
+    /**
+     * The bits of the filter.
+     */
+    private final long[] bits;
+
+    /**
+     * The number of bits in the filter, always {@code bits.length * 64}.
+     */
+    private final long bitCount;
+
+    /**
+     * Constructor.
+     *
+     * @param seed              the seed mixed into every lookup
+     * @param hashFunctionCount the number of bit positions set for each element
+     * @param bits              the bits of the filter
+     */
+    private EventBloomFilter(final long seed, final int hashFunctionCount, @NonNull final long[] bits) {
+        if (hashFunctionCount < 1 || hashFunctionCount > MAX_HASH_FUNCTIONS) {
+            throw new IllegalArgumentException("invalid hash function count " + hashFunctionCount);
+        }
+        if (bits.length == 0 || bits.length > MAX_FILTER_LONGS) {
+            throw new IllegalArgumentException("invalid filter length " + bits.length);
+        }
+        this.seed = seed;
+        this.hashFunctionCount = hashFunctionCount;
+        this.bits = bits;
+        this.bitCount = (long) bits.length * Long.SIZE;
+    }
+
+    /**
+     * Build a filter that contains the given hashes.
+     *
+     * @param hashes                   the hashes to add to the filter
+     * @param falsePositiveProbability the desired probability of a false positive, must be in the range (0, 1)
+     * @param seed                     the seed for this filter, should be different for every sync
+     * @return a new filter
+     */
+    @NonNull
+    public static EventBloomFilter build(
+            @NonNull final Collection<Hash> hashes, final double falsePositiveProbability, final long seed) {
+        Objects.requireNonNull(hashes);
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException(
+                    "false positive probability must be in (0, 1), is " + falsePositiveProbability);
+        }
+
+        final int elementCount = Math.max(1, hashes.size());
+        final double ln2 = Math.log(2);
+        final double optimalBits = -elementCount * Math.log(falsePositiveProbability) / (ln2 * ln2);
+        final int longCount = (int) Math.min(MAX_FILTER_LONGS, Math.max(1, Math.ceil(optimalBits / Long.SIZE)));
+        final long bitCount = (long) longCount * Long.SIZE;
+        final int hashFunctionCount =
+                (int) Math.max(1, Math.min(MAX_HASH_FUNCTIONS, Math.round((double) bitCount / elementCount * ln2)));
+
+        final EventBloomFilter filter = new EventBloomFilter(seed, hashFunctionCount, new long[longCount]);
+        for (final Hash hash : hashes) {
+            filter.add(hash);
+        }
+        return filter;
+    }
+
+    /**
+     * Add a hash to this filter.
+     *
+     * @param hash the hash to add
+     */
+    private void add(@NonNull final Hash hash) {
+        final Bytes bytes = hash.getBytes();
+        final long h1 = mix(bytes.getLong(0) ^ seed);
+        final long h2 = mix(bytes.getLong(Long.BYTES) + seed) | 1;
+        for (int i = 0; i < hashFunctionCount; i++) {
+            final long bit = Math.floorMod(h1 + i * h2, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Check if this filter might contain the given hash.
+     *
+     * @param hash the hash to check
+     * @return false if the hash was definitely not added to this filter, true if it probably was
+     */
+    public boolean mightContain(@NonNull final Hash hash) {
+        final Bytes bytes = hash.getBytes();
+        final long h1 = mix(bytes.getLong(0) ^ seed);
+        final long h2 = mix(bytes.getLong(Long.BYTES) + seed) | 1;
+        for (int i = 0; i < hashFunctionCount; i++) {
+            final long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the size of the filter in bytes, when serialized
+     */
+    public int getSerializedSize() {
+        return Long.BYTES + Integer.BYTES + Integer.BYTES + bits.length * Long.BYTES;
+    }
+
+    /**
+     * Serialize this filter to the given stream.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the stream throws
+     */
+    public void serialize(@NonNull final SerializableDataOutputStream out) throws IOException {
+        out.writeLong(seed);
+        out.writeInt(hashFunctionCount);
+        out.writeLongArray(bits);
+    }
+
+    /**
+     * Deserialize a filter from the given stream.
+     *
+     * @param in the stream to read from
+     * @return the filter
+     * @throws IOException if the stream throws or the filter is malformed
+     */
+    @NonNull
+    public static EventBloomFilter deserialize(@NonNull final SerializableDataInputStream in) throws IOException {
+        final long seed = in.readLong();
+        final int hashFunctionCount = in.readInt();
+        if (hashFunctionCount < 1 || hashFunctionCount > MAX_HASH_FUNCTIONS) {
+            throw new IOException("invalid bloom filter hash function count " + hashFunctionCount);
+        }
+        final long[] bits = in.readLongArray(MAX_FILTER_LONGS);
+        if (bits == null || bits.length == 0) {
+            throw new IOException("bloom filter has no bits");
+        }
+        return new EventBloomFilter(seed, hashFunctionCount, bits);
+    }
+
+    /**
+     * A 64-bit finalizer (from SplitMix64) that spreads the seed across all bits of the base hash values.
+     *
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,238 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.shadowgraph;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.hiero.base.crypto.Hash;
+
+/**
+ * An open-addressing hash index from event hash to {@link ShadowEvent}, keyed by a primitive long taken from the event
+ * hash.
+ * <p>
+ * When the shadowgraph expires an event it {@link #remove(ShadowEvent) removes} it, which replaces the entry with a
+ * tombstone so that the expired event can be garbage collected while probe sequences through its slot stay intact.
+ * Tombstones are dropped whenever the table is rebuilt, which happens when the table is half full. In addition, every
+ * lookup and insert is given the oldest non-expired ancient indicator, and an entry with an ancient indicator below it
+ * is treated as absent, so an event is never found once it is expired even before it is removed.
+ * <p>
+ * This class supports a single writer and any number of concurrent readers. {@link #put}, {@link #remove} and
+ * {@link #clear()} must not be called concurrently with each other, while {@link #get} may be called at any time
+ * without locking.
+ */
+public final class ShadowEventIndex {
+
+    /**
+     * The smallest capacity of the table, must be a power of two.
+     */
+    private static final int MIN_CAPACITY = 1024;
+
+    /**
+     * The table is rebuilt when more than this fraction of slots are occupied.
+     */
+    private static final double MAX_LOAD_FACTOR = 0.5;
+
+    /**
+     * Marks the slot of a removed entry.
+     */
+    private static final Object TOMBSTONE = new Object();
+
+    /**
+     * The arrays of the table. A table is only ever replaced as a whole, so readers always see a consistent set of
+     * arrays.
+     *
+     * @param keys       the first 8 bytes of each entry's hash
+     * @param indicators the ancient indicator of each entry
+     * @param values     the shadow event of each entry, {@link #TOMBSTONE} if it was removed, or null if the slot is
+     *                   empty. An entry's key and indicator are written before its value is published, so a reader
+     *                   that sees the value also sees the key and indicator.
+     * @param mask       capacity minus one, used to map keys to slots
+     */
+    private record Table(
+            @NonNull long[] keys, @NonNull long[] indicators, @NonNull AtomicReferenceArray<Object> values, int mask) {
+
+        /**
+         * Create an empty table.
+         *
+         * @param capacity the capacity, must be a power of two
+         */
+        private Table(final int capacity) {
+            this(new long[capacity], new long[capacity], new AtomicReferenceArray<>(capacity), capacity - 1);
+        }
+
+        private int capacity() {
+            return mask + 1;
+        }
+    }
+
+    /**
+     * The current table.
+     */
+    private volatile Table table;
+
+    /**
+     * The number of occupied slots, including tombstones and expired entries. Only accessed by the writer.
+     */
+    private int occupied;
+
+    /**
+     * Constructor.
+     */
+    public ShadowEventIndex() {
+        table = new Table(MIN_CAPACITY);
+    }
+
+    /**
+     * Get the primitive key for a hash. Event hashes are cryptographic digests, so their leading bytes are already
+     * uniformly distributed and need no further mixing.
+     *
+     * @param hash the hash
+     * @return the key
+     */
+    private static long keyOf(@NonNull final Hash hash) {
+        return hash.getBytes().getLong(0);
+    }
+
+    /**
+     * Look up the shadow event with the given hash. Safe to call concurrently with the writer.
+     *
+     * @param hash             the hash of the event
+     * @param minimumIndicator entries with an ancient indicator less than this value are treated as absent
+     * @return the shadow event, or null if there is no live entry with the given hash
+     */
+    @Nullable
+    public ShadowEvent get(@NonNull final Hash hash, final long minimumIndicator) {
+        final Table t = table;
+        final long key = keyOf(hash);
+        int slot = (int) key & t.mask();
+        while (true) {
+            final Object value = t.values().getAcquire(slot);
+            if (value == null) {
+                return null;
+            }
+            if (value != TOMBSTONE && t.keys()[slot] == key) {
+                final ShadowEvent shadow = (ShadowEvent) value;
+                if (shadow.getEventBaseHash().equals(hash)) {
+                    return t.indicators()[slot] >= minimumIndicator ? shadow : null;
+                }
+            }
+            slot = (slot + 1) & t.mask();
+        }
+    }
+
+    /**
+     * Add a shadow event to the index. The caller is responsible for ensuring that no live entry with the same hash
+     * exists.
+     *
+     * @param shadow           the shadow event to add
+     * @param indicator        the ancient indicator of the shadow event
+     * @param minimumIndicator entries with an ancient indicator less than this value may be discarded
+     */
+    public void put(@NonNull final ShadowEvent shadow, final long indicator, final long minimumIndicator) {
+        Objects.requireNonNull(shadow);
+        if (occupied + 1 > table.capacity() * MAX_LOAD_FACTOR) {
+            rebuild(minimumIndicator);
+        }
+        insert(table, keyOf(shadow.getEventBaseHash()), indicator, shadow);
+        occupied++;
+    }
+
+    /**
+     * Remove a shadow event from the index, so that it is no longer referenced. Does nothing if the shadow event is
+     * not in the index.
+     *
+     * @param shadow the shadow event to remove
+     */
+    public void remove(@NonNull final ShadowEvent shadow) {
+        final Table t = table;
+        int slot = (int) keyOf(shadow.getEventBaseHash()) & t.mask();
+        while (true) {
+            final Object value = t.values().getPlain(slot);
+            if (value == null) {
+                return;
+            }
+            if (value == shadow) {
+                t.values().setRelease(slot, TOMBSTONE);
+                return;
+            }
+            slot = (slot + 1) & t.mask();
+        }
+    }
+
+    /**
+     * Insert an entry without checking the load factor.
+     *
+     * @param t         the table to insert into
+     * @param key       the primitive key of the entry
+     * @param indicator the ancient indicator of the entry
+     * @param shadow    the shadow event of the entry
+     */
+    private static void insert(
+            @NonNull final Table t, final long key, final long indicator, @NonNull final ShadowEvent shadow) {
+        int slot = (int) key & t.mask();
+        while (t.values().getPlain(slot) != null) {
+            slot = (slot + 1) & t.mask();
+        }
+        t.keys()[slot] = key;
+        t.indicators()[slot] = indicator;
+        t.values().setRelease(slot, shadow);
+    }
+
+    /**
+     * Rebuild the table, dropping tombstones and expired entries and resizing so that the live entries occupy at most
+     * a quarter of the new table. The new table is filled before it is published, so readers never see it partially
+     * built.
+     *
+     * @param minimumIndicator entries with an ancient indicator less than this value are dropped
+     */
+    private void rebuild(final long minimumIndicator) {
+        final Table old = table;
+        int live = 0;
+        for (int slot = 0; slot < old.capacity(); slot++) {
+            if (isLive(old, slot, minimumIndicator)) {
+                live++;
+            }
+        }
+
+        final int desiredCapacity = (int) Math.min(1 << 30, Math.max(MIN_CAPACITY, (long) live * 4));
+        final Table rebuilt = new Table(Integer.highestOneBit(desiredCapacity - 1) << 1);
+        for (int slot = 0; slot < old.capacity(); slot++) {
+            if (isLive(old, slot, minimumIndicator)) {
+                insert(rebuilt, old.keys()[slot], old.indicators()[slot], (ShadowEvent) old.values().getPlain(slot));
+            }
+        }
+        occupied = live;
+        table = rebuilt;
+    }
+
+    /**
+     * Check if a slot holds an entry that is neither removed nor expired.
+     */
+    private static boolean isLive(@NonNull final Table t, final int slot, final long minimumIndicator) {
+        final Object value = t.values().getPlain(slot);
+        return value != null && value != TOMBSTONE && t.indicators()[slot] >= minimumIndicator;
+    }
+
+    /**
+     * Remove all entries and shrink the table to its minimum capacity.
+     */
+    public void clear() {
+        occupied = 0;
+        table = new Table(MIN_CAPACITY);
+    }
+
+    /**
+     * @return the number of occupied slots, including tombstones and expired entries that have not yet been dropped
+     */
+    public int getOccupiedCount() {
+        return occupied;
+    }
+
+    /**
+     * @return the number of slots in the table
+     */
+    public int getCapacity() {
+        return table.capacity();
+    }
+}
@@ -6,22 +6,19 @@ import static com.swirlds.logging.legacy.LogMarker.STARTUP;
 import static com.swirlds.logging.legacy.LogMarker.SYNC_INFO;
 
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.utility.RandomAccessDeque;
 import com.swirlds.platform.gossip.IntakeEventCounter;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -37,6 +34,13 @@ import org.hiero.consensus.model.hashgraph.EventWindow;
 /**
  * The primary purpose of the shadowgraph is to unlink events when it is safe to do so. In order to decide when it is
  * safe to unlink an event, it allows for batches of events (by ancient indicator) to be reserved.
+ * <p>
+ * Events are stored in a ring of buckets, one per ancient indicator, starting at the oldest non-expired indicator.
+ * Expiring an ancient indicator drops its whole bucket. Events are looked up by hash through a {@link ShadowEventIndex},
+ * which treats entries below the oldest non-expired indicator as absent, so expiry does not need to touch the index.
+ * <p>
+ * Methods that only read the shadowgraph share a read lock, so that concurrent syncs do not serialize on each other.
+ * The tips are additionally published as an immutable snapshot, so reading them never waits for an insert.
  */
 public class Shadowgraph implements Clearable {
 
@@ -48,14 +52,20 @@ public class Shadowgraph implements Clearable {
     public static final int NO_RESERVATION = -1;
 
     /**
-     * The shadowgraph represented in a map from has to shadow event.
+     * The initial number of ancient indicator buckets, grows as needed.
      */
-    private final HashMap<Hash, ShadowEvent> hashToShadowEvent;
+    private static final int INITIAL_BUCKET_CAPACITY = 1024;
 
     /**
-     * Map from ancient indicator to all shadow events with that ancient indicator.
+     * Index from event hash to shadow event.
      */
-    private final Map<Long /* ancient indicator */, Set<ShadowEvent>> indicatorToShadowEvent;
+    private final ShadowEventIndex hashToShadowEvent;
+
+    /**
+     * All shadow events, bucketed by ancient indicator. The bucket at index {@code i} holds the events with ancient
+     * indicator {@code oldestUnexpiredIndicator + i}, or is null if there are no such events.
+     */
+    private final RandomAccessDeque<List<ShadowEvent>> indicatorBuckets;
 
     /**
      * The set of all tips for the shadowgraph. A tip is an event with no self child (could have other children)
@@ -63,14 +73,25 @@ public class Shadowgraph implements Clearable {
     private final HashSet<ShadowEvent> tips;
 
     /**
-     * The oldest ancient indicator that has not yet been expired
+     * An immutable copy of {@link #tips}, republished whenever the tips change.
+     */
+    private volatile List<ShadowEvent> tipsSnapshot = List.of();
+
+    /**
+     * The oldest ancient indicator that has not yet been expired. Volatile because it is read by
+     * {@link #findAncestors(Iterable, Predicate)} and by hash lookups without holding a lock.
      */
-    private long oldestUnexpiredIndicator;
+    private volatile long oldestUnexpiredIndicator;
 
     /**
-     * The list of all currently reserved indicators and their number of reservations.
+     * The list of all currently reserved indicators and their number of reservations, in ascending order.
      */
-    private final LinkedList<ShadowgraphReservation> reservationList;
+    private final Deque<ShadowgraphReservation> reservationList;
+
+    /**
+     * Guards all mutable state except {@link #tipsSnapshot}. Lookups in {@link #hashToShadowEvent} do not take it.
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 
     /**
      * Encapsulates metrics for the shadowgraph.
@@ -118,9 +139,9 @@ public class Shadowgraph implements Clearable {
         this.numberOfNodes = numberOfNodes;
         this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
         tips = new HashSet<>();
-        hashToShadowEvent = new HashMap<>();
-        indicatorToShadowEvent = new HashMap<>();
-        reservationList = new LinkedList<>();
+        hashToShadowEvent = new ShadowEventIndex();
+        indicatorBuckets = new RandomAccessDeque<>(INITIAL_BUCKET_CAPACITY);
+        reservationList = new ArrayDeque<>();
     }
 
     /**
@@ -140,22 +161,31 @@ public class Shadowgraph implements Clearable {
     /**
      * Reset the shadowgraph manager to its constructed state.
      */
-    public synchronized void clear() {
-        eventWindow = null;
-        oldestUnexpiredIndicator = ancientMode.getGenesisIndicator();
-        disconnectShadowEvents();
-        tips.clear();
-        hashToShadowEvent.clear();
-        indicatorToShadowEvent.clear();
-        reservationList.clear();
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            eventWindow = null;
+            // clear the index first, lookups do not take the lock
+            hashToShadowEvent.clear();
+            disconnectShadowEvents();
+            oldestUnexpiredIndicator = ancientMode.getGenesisIndicator();
+            tips.clear();
+            tipsSnapshot = List.of();
+            indicatorBuckets.clear();
+            reservationList.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
      * Disconnect all shadow events to help the garbage collector.
      */
     private void disconnectShadowEvents() {
-        for (final ShadowEvent shadow : hashToShadowEvent.values()) {
-            shadow.disconnect();
+        for (final List<ShadowEvent> bucket : indicatorBuckets) {
+            if (bucket != null) {
+                bucket.forEach(ShadowEvent::disconnect);
+            }
         }
     }
 
@@ -166,7 +196,22 @@ public class Shadowgraph implements Clearable {
      * @return the reservation instance, must be closed when the reservation is no longer needed
      */
     @NonNull
-    public synchronized ReservedEventWindow reserve() {
+    public ReservedEventWindow reserve() {
+        lock.writeLock().lock();
+        try {
+            return reserveInternal();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Implementation of {@link #reserve()}, must be called while holding the write lock.
+     *
+     * @return the reservation instance
+     */
+    @NonNull
+    private ReservedEventWindow reserveInternal() {
         if (reservationList.isEmpty()) {
             // If we are not currently holding any reservations, we need to create a new one.
             return new ReservedEventWindow(eventWindow, newReservation());
@@ -200,8 +245,13 @@ public class Shadowgraph implements Clearable {
      * Get the latest event window known to the shadowgraph.
      */
     @NonNull
-    public synchronized EventWindow getEventWindow() {
-        return eventWindow;
+    public EventWindow getEventWindow() {
+        lock.readLock().lock();
+        try {
+            return eventWindow;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
@@ -212,8 +262,8 @@ public class Shadowgraph implements Clearable {
      * @deprecated still used by tests, planned for removal. Do not add new uses.
      */
     @Deprecated(forRemoval = true)
-    public synchronized boolean isHashInGraph(final Hash hash) {
-        return hashToShadowEvent.containsKey(hash);
+    public boolean isHashInGraph(final Hash hash) {
+        return shadow(hash) != null;
     }
 
     /**
@@ -227,9 +277,9 @@ public class Shadowgraph implements Clearable {
      *     <li>adding events to the the graph does not affect ancestors</li>
      *     <li>checks for expired parent events are atomic</li>
      * </ol>
-     * <p>Note: This method is always accessed after a call to a synchronized {@link Shadowgraph} method, like
-     * {@link #getTips()}, which acts as a memory gate and causes the calling thread to read the latest values for all
-     * variables from memory, including {@link ShadowEvent} links.</p>
+     * <p>Note: This method is always accessed after a call to a {@link Shadowgraph} method that acquires the lock or
+     * reads the tips snapshot, like {@link #getTips()}, which acts as a memory gate and causes the calling thread to
+     * read the latest values for all variables from memory, including {@link ShadowEvent} links.</p>
      *
      * @param events    the event to find ancestors of
      * @param predicate determines whether or not to add the ancestor to the return list
@@ -310,21 +360,59 @@ public class Shadowgraph implements Clearable {
      */
     @Deprecated(forRemoval = true)
     @NonNull
-    public synchronized Collection<PlatformEvent> findByAncientIndicator(
+    public Collection<PlatformEvent> findByAncientIndicator(
             final long lowerBound, final long upperBound, @NonNull final Predicate<PlatformEvent> predicate) {
         final List<PlatformEvent> result = new ArrayList<>();
         if (lowerBound >= upperBound) {
             return result;
         }
-        for (long indicator = lowerBound; indicator < upperBound; indicator++) {
-            indicatorToShadowEvent.getOrDefault(indicator, Collections.emptySet()).stream()
-                    .map(ShadowEvent::getEvent)
-                    .filter(predicate)
-                    .forEach(result::add);
+        lock.readLock().lock();
+        try {
+            final long firstIndicator = Math.max(lowerBound, oldestUnexpiredIndicator);
+            final long lastIndicator = Math.min(upperBound, oldestUnexpiredIndicator + indicatorBuckets.size());
+            for (long indicator = firstIndicator; indicator < lastIndicator; indicator++) {
+                final List<ShadowEvent> bucket = indicatorBuckets.get((int) (indicator - oldestUnexpiredIndicator));
+                if (bucket != null) {
+                    for (final ShadowEvent shadow : bucket) {
+                        if (predicate.test(shadow.getEvent())) {
+                            result.add(shadow.getEvent());
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
         }
         return result;
     }
 
+    /**
+     * Get the hashes of all events in the shadowgraph with an ancient indicator greater than or equal to the given
+     * threshold.
+     *
+     * @param minimumIndicator the minimum ancient indicator (inclusive)
+     * @return the hashes of the matching events
+     */
+    @NonNull
+    public List<Hash> getHashesAtOrAbove(final long minimumIndicator) {
+        final List<Hash> hashes = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            final int firstBucket = (int) Math.max(0, minimumIndicator - oldestUnexpiredIndicator);
+            for (int index = firstBucket; index < indicatorBuckets.size(); index++) {
+                final List<ShadowEvent> bucket = indicatorBuckets.get(index);
+                if (bucket != null) {
+                    for (final ShadowEvent shadow : bucket) {
+                        hashes.add(shadow.getEventBaseHash());
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return hashes;
+    }
+
     /**
      * <p>Update the reservable ancient indicator and remove any events from the shadowgraph that can and should be
      * expired.</p>
@@ -338,7 +426,21 @@ public class Shadowgraph implements Clearable {
      *
      * @param eventWindow describes the current window of non-expired events
      */
-    public synchronized void updateEventWindow(@NonNull final EventWindow eventWindow) {
+    public void updateEventWindow(@NonNull final EventWindow eventWindow) {
+        lock.writeLock().lock();
+        try {
+            updateEventWindowInternal(eventWindow);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Implementation of {@link #updateEventWindow(EventWindow)}, must be called while holding the write lock.
+     *
+     * @param eventWindow describes the current window of non-expired events
+     */
+    private void updateEventWindowInternal(@NonNull final EventWindow eventWindow) {
         if (this.eventWindow == null) {
             startWithEventWindow(eventWindow);
             return;
@@ -374,13 +476,28 @@ public class Shadowgraph implements Clearable {
         // reservations, expiry should still function correctly.
 
         final long minimumIndicatorToKeep = Math.min(eventWindow.getExpiredThreshold(), oldestReservedIndicator);
+        if (oldestUnexpiredIndicator >= minimumIndicatorToKeep) {
+            return;
+        }
 
-        while (oldestUnexpiredIndicator < minimumIndicatorToKeep) {
-            final Set<ShadowEvent> shadowsToExpire = indicatorToShadowEvent.remove(oldestUnexpiredIndicator);
+        // Move the threshold first, so that lock-free lookups stop finding the expired events before they are
+        // disconnected. Then drop whole buckets, removing each event from the hash index so it can be collected.
+        long bucketIndicator = oldestUnexpiredIndicator;
+        oldestUnexpiredIndicator = minimumIndicatorToKeep;
+        while (bucketIndicator < minimumIndicatorToKeep && indicatorBuckets.size() > 0) {
+            final List<ShadowEvent> shadowsToExpire = indicatorBuckets.removeFirst();
             if (shadowsToExpire != null) {
-                shadowsToExpire.forEach(this::expire);
+                for (final ShadowEvent shadow : shadowsToExpire) {
+                    hashToShadowEvent.remove(shadow);
+                    // Remove references to parent shadows so these events get garbage collected
+                    shadow.disconnect();
+                }
             }
-            oldestUnexpiredIndicator++;
+            bucketIndicator++;
+        }
+
+        if (tips.removeIf(this::expired)) {
+            tipsSnapshot = List.copyOf(tips);
         }
     }
 
@@ -394,9 +511,8 @@ public class Shadowgraph implements Clearable {
 
         // Iterate through the reservation list in ascending ancient indicator order, removing reservations
         // for indicators that can and should be expired.
-        final Iterator<ShadowgraphReservation> iterator = reservationList.iterator();
-        while (iterator.hasNext()) {
-            final ShadowgraphReservation reservation = iterator.next();
+        while (!reservationList.isEmpty()) {
+            final ShadowgraphReservation reservation = reservationList.peekFirst();
             final long reservedIndicator = reservation.getReservedThreshold();
 
             if (reservation.getReservationCount() > 0) {
@@ -406,7 +522,7 @@ public class Shadowgraph implements Clearable {
             } else if (reservedIndicator < eventWindow.getExpiredThreshold()) {
                 // If the number of reservations is 0 and the
                 // indicator should be expired, remove the reservation
-                iterator.remove();
+                reservationList.removeFirst();
             } else {
                 // If the expireBelow indicator is reached, stop
                 // because no more indicators should be expired
@@ -416,19 +532,6 @@ public class Shadowgraph implements Clearable {
         return oldestReservedIndicator;
     }
 
-    /**
-     * Expires a single {@link ShadowEvent} from the shadowgraph.
-     *
-     * @param shadow the shadow event to expire
-     */
-    private void expire(final ShadowEvent shadow) {
-        // Remove the shadow from the shadowgraph
-        hashToShadowEvent.remove(shadow.getEventBaseHash());
-        // Remove references to parent shadows so this event gets garbage collected
-        shadow.disconnect();
-        tips.remove(shadow);
-    }
-
     /**
      * Get the shadow event that references a hashgraph otherParent instance.
      *
@@ -437,7 +540,7 @@ public class Shadowgraph implements Clearable {
      * @throws IllegalArgumentException if {@code otherParentsDescriptors} contains more than one event descriptor
      */
     @Nullable
-    private synchronized ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
+    private ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
         if (otherParentsDescriptors.isEmpty()) {
             return null;
         }
@@ -446,7 +549,7 @@ public class Shadowgraph implements Clearable {
             throw new IllegalArgumentException("Only one otherParent descriptor is supported");
         }
 
-        return hashToShadowEvent.get(otherParentsDescriptors.getFirst().hash());
+        return shadow(otherParentsDescriptors.getFirst().hash());
     }
 
     /**
@@ -456,12 +559,12 @@ public class Shadowgraph implements Clearable {
      * @return the shadow event that references an event, or null is {@code e} is null
      */
     @Nullable
-    public synchronized ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
+    public ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
         if (e == null) {
             return null;
         }
 
-        return hashToShadowEvent.get(e.hash());
+        return shadow(e.hash());
     }
 
     /**
@@ -470,11 +573,11 @@ public class Shadowgraph implements Clearable {
      * @param hashes The event hashes to get shadow events for
      * @return the shadow events that reference the events with the given hashes
      */
-    public synchronized List<ShadowEvent> shadows(final List<Hash> hashes) {
+    public List<ShadowEvent> shadows(final List<Hash> hashes) {
         Objects.requireNonNull(hashes);
         final List<ShadowEvent> shadows = new ArrayList<>(hashes.size());
         for (final Hash hash : hashes) {
-            shadows.add(shadow(hash));
+            shadows.add(hashToShadowEvent.get(hash, oldestUnexpiredIndicator));
         }
         return shadows;
     }
@@ -486,7 +589,7 @@ public class Shadowgraph implements Clearable {
      * @return the hashgraph event, if there is one in {@code this} shadowgraph, else `null`
      */
     @Nullable
-    public synchronized PlatformEvent hashgraphEvent(@Nullable final Hash h) {
+    public PlatformEvent hashgraphEvent(@Nullable final Hash h) {
         final ShadowEvent shadow = shadow(h);
         if (shadow == null) {
             return null;
@@ -497,13 +600,13 @@ public class Shadowgraph implements Clearable {
 
     /**
      * Returns a copy of the tips at the time of invocation. The returned list is not affected by changes made to the
-     * tip set.
+     * tip set. Does not acquire the lock.
      *
-     * @return an unmodifiable copy of the tips
+     * @return a copy of the tips
      */
     @NonNull
-    public synchronized List<ShadowEvent> getTips() {
-        return new ArrayList<>(tips);
+    public List<ShadowEvent> getTips() {
+        return new ArrayList<>(tipsSnapshot);
     }
 
     /**
@@ -513,11 +616,27 @@ public class Shadowgraph implements Clearable {
      * @return {@code true} if the event was added, {@code false} otherwise
      * @throws ShadowgraphInsertionException if the event was unable to be added to the shadowgraph
      */
-    public synchronized boolean addEvent(@NonNull final PlatformEvent event) throws ShadowgraphInsertionException {
+    public boolean addEvent(@NonNull final PlatformEvent event) throws ShadowgraphInsertionException {
+        Objects.requireNonNull(event);
+        lock.writeLock().lock();
+        try {
+            return addEventInternal(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Implementation of {@link #addEvent(PlatformEvent)}, must be called while holding the write lock.
+     *
+     * @param event The event reference to insert.
+     * @return {@code true} if the event was added, {@code false} otherwise
+     * @throws ShadowgraphInsertionException if the event was unable to be added to the shadowgraph
+     */
+    private boolean addEventInternal(@NonNull final PlatformEvent event) throws ShadowgraphInsertionException {
         if (eventWindow == null) {
             throw new IllegalStateException("Initial event window not set");
         }
-        Objects.requireNonNull(event);
         try {
             final InsertableStatus status = insertable(event);
 
@@ -526,6 +645,7 @@ public class Shadowgraph implements Clearable {
                 final ShadowEvent s = insert(event);
                 tips.add(s);
                 tips.remove(s.getSelfParent());
+                tipsSnapshot = List.copyOf(tips);
 
                 if (numberOfNodes > 0 && tips.size() > numberOfNodes && tips.size() > tipsBefore) {
                     // It is possible that we have more tips than nodes even if there is no fork.
@@ -578,8 +698,19 @@ public class Shadowgraph implements Clearable {
         return reservation;
     }
 
-    private ShadowEvent shadow(final Hash h) {
-        return hashToShadowEvent.get(h);
+    /**
+     * Get the non-expired shadow event with the given hash. Does not acquire the lock, the index supports lookups
+     * concurrent with the thread holding the write lock.
+     *
+     * @param h the hash
+     * @return the shadow event, or null if there is none
+     */
+    @Nullable
+    private ShadowEvent shadow(@Nullable final Hash h) {
+        if (h == null) {
+            return null;
+        }
+        return hashToShadowEvent.get(h, oldestUnexpiredIndicator);
     }
 
     /**
@@ -587,8 +718,8 @@ public class Shadowgraph implements Clearable {
      * @return the event that has the hash provided, or null if none exists
      */
     @Nullable
-    public synchronized PlatformEvent getEvent(@Nullable final Hash hash) {
-        final ShadowEvent shadowEvent = hashToShadowEvent.get(hash);
+    public PlatformEvent getEvent(@Nullable final Hash hash) {
+        final ShadowEvent shadowEvent = shadow(hash);
         return shadowEvent == null ? null : shadowEvent.getEvent();
     }
 
@@ -606,13 +737,20 @@ public class Shadowgraph implements Clearable {
 
         final ShadowEvent se = new ShadowEvent(event, sp, op);
 
-        hashToShadowEvent.put(se.getEventBaseHash(), se);
-
         final long ancientIndicator = ancientMode.selectIndicator(event);
-        if (!indicatorToShadowEvent.containsKey(ancientIndicator)) {
-            indicatorToShadowEvent.put(ancientIndicator, new HashSet<>());
+        hashToShadowEvent.put(se, ancientIndicator, oldestUnexpiredIndicator);
+
+        // insertable() guarantees that the event is not expired, so the offset is never negative
+        final int bucketIndex = (int) (ancientIndicator - oldestUnexpiredIndicator);
+        while (indicatorBuckets.size() <= bucketIndex) {
+            indicatorBuckets.addLast(null);
+        }
+        List<ShadowEvent> bucket = indicatorBuckets.get(bucketIndex);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            indicatorBuckets.set(bucketIndex, bucket);
         }
-        indicatorToShadowEvent.get(ancientIndicator).add(se);
+        bucket.add(se);
 
         return se;
     }
@@ -627,6 +765,16 @@ public class Shadowgraph implements Clearable {
         return event.getAncientIndicator(ancientMode) < oldestUnexpiredIndicator;
     }
 
+    /**
+     * Predicate to determine if a shadow event has expired.
+     *
+     * @param shadow The shadow event.
+     * @return true iff the given shadow event is expired
+     */
+    private boolean expired(final ShadowEvent shadow) {
+        return expired(shadow.getEvent().getDescriptor());
+    }
+
     /*
      * Given an Event, `e`, with parent p, where p may be either self-parent or other-parent, the
      * following test is applied to the parent p:
@@ -2,13 +2,16 @@
 package com.swirlds.platform.gossip.shadowgraph;
 
 import static com.swirlds.logging.legacy.LogMarker.SYNC_INFO;
+import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.filterKnownByBloomFilter;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.filterLikelyDuplicates;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.getMyTipsTheyKnow;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.getTheirTipsIHave;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readEventsINeed;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readMyTipsTheyHave;
+import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readTheirEventBloomFilter;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readTheirTipsAndEventWindow;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.sendEventsTheyNeed;
+import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.writeMyEventBloomFilter;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.writeMyTipsAndEventWindow;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.writeTheirTipsIHave;
 
@@ -34,12 +37,14 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hiero.base.crypto.Hash;
 import org.hiero.consensus.config.EventConfig;
 import org.hiero.consensus.gossip.FallenBehindManager;
 import org.hiero.consensus.model.event.AncientMode;
@@ -110,6 +115,17 @@ public class ShadowgraphSynchronizer {
      */
     private final Duration nonAncestorFilterThreshold;
 
+    /**
+     * If true then the peers exchange bloom filters of their non-ancient events after exchanging tips, and events the
+     * peer probably already has are not sent.
+     */
+    private final boolean bloomFilterEnabled;
+
+    /**
+     * The target false positive rate of the bloom filters we build. Ignored if {@link #bloomFilterEnabled} is false.
+     */
+    private final double bloomFilterFalsePositiveRate;
+
     /**
      * The maximum number of events to send in a single sync, or 0 if there is no limit.
      */
@@ -158,6 +174,8 @@ public class ShadowgraphSynchronizer {
 
         this.filterLikelyDuplicates = syncConfig.filterLikelyDuplicates();
         this.maximumEventsPerSync = syncConfig.maxSyncEventCount();
+        this.bloomFilterEnabled = syncConfig.bloomFilterEnabled();
+        this.bloomFilterFalsePositiveRate = syncConfig.bloomFilterFalsePositiveRate();
 
         this.ancientMode = platformContext
                 .getConfiguration()
@@ -247,9 +265,24 @@ public class ShadowgraphSynchronizer {
             final List<ShadowEvent> knownTips = getMyTipsTheyKnow(connection, myTips, theirBooleans);
             eventsTheyHave.addAll(knownTips);
 
+            // Optional step: each peer tells the other about all of its non-ancient events, in compact form.
+            final EventBloomFilter theirFilter;
+            if (bloomFilterEnabled) {
+                theirFilter = readWriteParallel(
+                        readTheirEventBloomFilter(connection),
+                        writeMyEventBloomFilter(connection, buildBloomFilter(myWindow)),
+                        connection);
+            } else {
+                theirFilter = null;
+            }
+
             // create a send list based on the known set
             sendList = createSendList(
-                    connection.getSelfId(), eventsTheyHave, myWindow, theirTipsAndEventWindow.eventWindow());
+                    connection.getSelfId(),
+                    eventsTheyHave,
+                    myWindow,
+                    theirTipsAndEventWindow.eventWindow(),
+                    theirFilter);
         }
 
         final SyncConfig syncConfig = platformContext.getConfiguration().getConfigData(SyncConfig.class);
@@ -266,6 +299,21 @@ public class ShadowgraphSynchronizer {
         return myTips;
     }
 
+    /**
+     * Build a bloom filter containing the hashes of all of our events that the peer may consider sending us, i.e. all
+     * events that are not ancient to us.
+     *
+     * @param myWindow our event window
+     * @return the bloom filter
+     */
+    @NonNull
+    private EventBloomFilter buildBloomFilter(@NonNull final EventWindow myWindow) {
+        final List<Hash> hashes = shadowGraph.getHashesAtOrAbove(myWindow.getAncientThreshold());
+        // A fresh seed for every sync, so that false positives do not repeat from one sync to the next
+        return EventBloomFilter.build(
+                hashes, bloomFilterFalsePositiveRate, ThreadLocalRandom.current().nextLong());
+    }
+
     /**
      * Decide if we have fallen behind with respect to this peer.
      *
@@ -300,6 +348,7 @@ public class ShadowgraphSynchronizer {
      *                         added to during this method)
      * @param myEventWindow    the event window of this node
      * @param theirEventWindow the event window of the peer
+     * @param theirFilter      the bloom filter of events the peer has, or null if bloom filters are not in use
      * @return a list of events to send to the peer
      */
     @NonNull
@@ -307,7 +356,8 @@ public class ShadowgraphSynchronizer {
             @NonNull final NodeId selfId,
             @NonNull final Set<ShadowEvent> knownSet,
             @NonNull final EventWindow myEventWindow,
-            @NonNull final EventWindow theirEventWindow) {
+            @NonNull final EventWindow theirEventWindow,
+            @Nullable final EventBloomFilter theirFilter) {
 
         Objects.requireNonNull(selfId);
         Objects.requireNonNull(knownSet);
@@ -338,11 +388,20 @@ public class ShadowgraphSynchronizer {
         // add the tips themselves
         sendSet.addAll(unknownTips);
 
-        final List<PlatformEvent> eventsTheyMayNeed =
+        List<PlatformEvent> eventsTheyMayNeed =
                 sendSet.stream().map(ShadowEvent::getEvent).collect(Collectors.toCollection(ArrayList::new));
 
         SyncUtils.sort(eventsTheyMayNeed);
 
+        if (theirFilter != null) {
+            final int sizeBeforeFilter = eventsTheyMayNeed.size();
+            // The peer told us it lacks the unknown tips, so they are sent even if the filter reports them
+            final Set<Hash> theyLack =
+                    unknownTips.stream().map(ShadowEvent::getEventBaseHash).collect(Collectors.toSet());
+            eventsTheyMayNeed = filterKnownByBloomFilter(theirFilter, eventsTheyMayNeed, theyLack);
+            syncMetrics.bloomFilterExcludedEvents(sizeBeforeFilter - eventsTheyMayNeed.size());
+        }
+
         List<PlatformEvent> sendList;
         if (filterLikelyDuplicates) {
             final long startFilterTime = time.nanoTime();
@@ -174,6 +174,51 @@ public final class SyncUtils {
         };
     }
 
+    /**
+     * Send the peer a bloom filter of the events we have. The complementary function to
+     * {@link #readTheirEventBloomFilter(Connection)}.
+     *
+     * @param connection the connection to write to
+     * @param filter     the filter to write
+     * @return a {@link Callable} that writes the filter
+     */
+    public static Callable<Void> writeMyEventBloomFilter(
+            @NonNull final Connection connection, @NonNull final EventBloomFilter filter) {
+        return () -> {
+            filter.serialize(connection.getDos());
+            connection.getDos().flush();
+            if (logger.isDebugEnabled(SYNC_INFO.getMarker())) {
+                logger.debug(
+                        SYNC_INFO.getMarker(),
+                        "{} sent bloom filter of {} bytes",
+                        connection::getDescription,
+                        filter::getSerializedSize);
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Read the peer's bloom filter of the events it has. The complementary function to
+     * {@link #writeMyEventBloomFilter(Connection, EventBloomFilter)}.
+     *
+     * @param connection the connection to read from
+     * @return a {@link Callable} that reads the filter
+     */
+    public static Callable<EventBloomFilter> readTheirEventBloomFilter(@NonNull final Connection connection) {
+        return () -> {
+            final EventBloomFilter filter = EventBloomFilter.deserialize(connection.getDis());
+            if (logger.isDebugEnabled(SYNC_INFO.getMarker())) {
+                logger.debug(
+                        SYNC_INFO.getMarker(),
+                        "{} received bloom filter of {} bytes",
+                        connection::getDescription,
+                        filter::getSerializedSize);
+            }
+            return filter;
+        };
+    }
+
     /**
      * Send the events the peer needs. The complementary function to
      * {@link #readEventsINeed(Connection, Consumer, int, SyncMetrics, CountDownLatch, IntakeEventCounter, Duration)}.
@@ -420,6 +465,56 @@ public final class SyncUtils {
         return filteredList;
     }
 
+    /**
+     * Given a list of events we think the other node may not have, remove the events that the peer's bloom filter says
+     * it probably has. The bloom filter never reports false negatives, but it does report false positives, so an event
+     * is kept even if it is in the filter when we know for certain that the peer lacks it:
+     * <ul>
+     * <li>the event is one of our tips that the peer told us it does not have, or</li>
+     * <li>one of the event's parents is kept, since a peer never has an event without having its parents.</li>
+     * </ul>
+     * An event the peer needs is therefore only removed if it is a false positive of the filter and all of its parents
+     * that we would send are false positives as well. Such an event is sent in a later sync, which uses a new filter.
+     *
+     * @param theirFilter    the bloom filter received from the peer
+     * @param eventsTheyNeed the list of events we think they need, expected to be in topological order
+     * @param theyLack       hashes of events the peer has told us it does not have
+     * @return the events that are not in the peer's filter, in the same order as in {@code eventsTheyNeed}
+     */
+    @NonNull
+    public static List<PlatformEvent> filterKnownByBloomFilter(
+            @NonNull final EventBloomFilter theirFilter,
+            @NonNull final List<PlatformEvent> eventsTheyNeed,
+            @NonNull final Set<Hash> theyLack) {
+        final List<PlatformEvent> filteredList = new ArrayList<>(eventsTheyNeed.size());
+        final Set<Hash> keptHashes = new HashSet<>();
+        for (final PlatformEvent event : eventsTheyNeed) {
+            if (theyLack.contains(event.getHash())
+                    || hasKeptParent(event, keptHashes)
+                    || !theirFilter.mightContain(event.getHash())) {
+                filteredList.add(event);
+                keptHashes.add(event.getHash());
+            }
+        }
+        return filteredList;
+    }
+
+    /**
+     * Check if any parent of an event is in a set of hashes.
+     *
+     * @param event      the event
+     * @param keptHashes the hashes of the events kept so far
+     * @return true if at least one parent of the event is in the set
+     */
+    private static boolean hasKeptParent(@NonNull final PlatformEvent event, @NonNull final Set<Hash> keptHashes) {
+        for (final EventDescriptorWrapper parent : event.getAllParents()) {
+            if (keptHashes.contains(parent.hash())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Decide if we've known about an event for long enough to make it eligible to be sent.
      *
@@ -35,6 +35,14 @@ import java.time.Duration;
  * @param minimumHealthyUnrevokedPermitCount the minimum number of permits that must be unrevoked when the system is in
  *                                           a healthy state. If non-zero, this means that this number of permits is
  *                                           immediately returned as soon as the system becomes healthy.
+ * @param bloomFilterEnabled                 if true then, after exchanging tips, each peer sends the other a bloom
+ *                                           filter of the hashes of its non-ancient events, and events the peer
+ *                                           probably already has are not sent. Changes the sync wire protocol, so it
+ *                                           must be enabled on all nodes of the network or none of them.
+ * @param bloomFilterFalsePositiveRate       ignored if {@link #bloomFilterEnabled} is false. The target false positive
+ *                                           rate of the bloom filter. A false positive is still sent if it is a tip
+ *                                           the peer said it lacks or a child of an event being sent; otherwise it is
+ *                                           not sent in that sync, and will be sent in a later one.
  */
 @ConfigData("sync")
 public record SyncConfig(
@@ -51,4 +59,6 @@ public record SyncConfig(
         @ConfigProperty(defaultValue = "1s") Duration unhealthyGracePeriod,
         @ConfigProperty(defaultValue = "5") double permitsRevokedPerSecond,
         @ConfigProperty(defaultValue = "0.1") double permitsReturnedPerSecond,
-        @ConfigProperty(defaultValue = "1") int minimumHealthyUnrevokedPermitCount) {}
+        @ConfigProperty(defaultValue = "1") int minimumHealthyUnrevokedPermitCount,
+        @ConfigProperty(defaultValue = "false") boolean bloomFilterEnabled,
+        @ConfigProperty(defaultValue = "0.001") double bloomFilterFalsePositiveRate) {}
@@ -127,6 +127,7 @@ public class SyncMetrics {
     private final AverageTimeStat avgSyncDuration5;
     private final AverageAndMaxTimeStat avgSyncDuration;
     private final AverageStat knownSetSize;
+    private final AverageStat bloomFilterExcludedEvents;
     private final AverageAndMax avgEventsPerSyncSent;
     private final AverageAndMax avgEventsPerSyncRec;
     private final MaxStat multiTipsPerSync;
@@ -228,6 +229,14 @@ public class SyncMetrics {
                 FORMAT_10_3,
                 AverageStat.WEIGHT_VOLATILE);
 
+        bloomFilterExcludedEvents = new AverageStat(
+                metrics,
+                PLATFORM_CATEGORY,
+                "bloomFilterExcludedEvents",
+                "the average number of events per sync not sent because the peer's bloom filter says it has them",
+                FORMAT_10_3,
+                AverageStat.WEIGHT_VOLATILE);
+
         multiTipsPerSync = new MaxStat(
                 metrics,
                 PLATFORM_CATEGORY,
@@ -295,6 +304,16 @@ public class SyncMetrics {
         this.knownSetSize.update(knownSetSize);
     }
 
+    /**
+     * Records the number of events that were not sent during a sync because the peer's bloom filter indicated that the
+     * peer already has them.
+     *
+     * @param excludedEvents the number of events excluded
+     */
+    public void bloomFilterExcludedEvents(final int excludedEvents) {
+        bloomFilterExcludedEvents.update(excludedEvents);
+    }
+
     /**
      * Notifies the stats that a sync is done
      *
@@ -2,16 +2,19 @@
 package com.swirlds.platform.state.signed;
 
 import static com.swirlds.common.merkle.utility.MerkleUtils.rehashTree;
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.logging.legacy.LogMarker.STARTUP;
 import static com.swirlds.platform.state.signed.ReservedSignedState.createNullReservation;
 import static com.swirlds.platform.state.snapshot.SignedStateFileReader.readStateFile;
+import static com.swirlds.platform.system.SystemExitUtils.exitSystem;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.SemanticVersion;
 import com.swirlds.common.config.StateCommonConfig;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.utility.RecycleBin;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.logging.legacy.payload.SavedStateLoadedPayload;
 import com.swirlds.platform.config.BasicConfig;
@@ -23,14 +26,18 @@ import com.swirlds.platform.state.service.PlatformStateFacade;
 import com.swirlds.platform.state.snapshot.DeserializedSignedState;
 import com.swirlds.platform.state.snapshot.SavedStateInfo;
 import com.swirlds.platform.state.snapshot.SignedStateFilePath;
+import com.swirlds.platform.state.snapshot.StateSnapshotManifest;
+import com.swirlds.platform.system.SystemExitCode;
 import com.swirlds.state.State;
 import com.swirlds.state.lifecycle.HapiUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -248,12 +255,26 @@ public final class StartupStateUtils {
 
         final DeserializedSignedState deserializedSignedState;
         final Configuration configuration = platformContext.getConfiguration();
+        final StateConfig stateConfig = configuration.getConfigData(StateConfig.class);
+        // Virtual maps are self hashing and are not rehashed below, so the manifest is the only
+        // check that their data files on disk are intact
+        final Path stateDirectory = savedStateFile.getDirectory();
+        final boolean validateManifest =
+                stateConfig.validateSnapshotManifest() && StateSnapshotManifest.exists(stateDirectory);
+        final boolean deferManifestValidation = validateManifest && stateConfig.deferSnapshotManifestValidation();
         try {
+            if (validateManifest
+                    && !deferManifestValidation
+                    && !StateSnapshotManifest.validate(
+                            stateDirectory,
+                            stateConfig.snapshotManifestThreads(),
+                            stateConfig.snapshotManifestMaxBytesPerSecond())) {
+                throw new IOException("state directory " + stateDirectory + " does not match its manifest");
+            }
             deserializedSignedState = readStateFile(savedStateFile.stateFile(), platformStateFacade, platformContext);
         } catch (final IOException e) {
             logger.error(EXCEPTION.getMarker(), "unable to load state file {}", savedStateFile.stateFile(), e);
 
-            final StateConfig stateConfig = configuration.getConfigData(StateConfig.class);
             if (stateConfig.deleteInvalidStateFiles()) {
                 recycleState(recycleBin, savedStateFile);
                 return null;
@@ -291,9 +312,50 @@ public final class StartupStateUtils {
                     currentSoftwareVersion);
         }
 
+        if (deferManifestValidation) {
+            validateManifestInBackground(
+                    stateDirectory, stateConfig, message -> exitSystem(SystemExitCode.SAVED_STATE_NOT_LOADED, message));
+        }
+
         return deserializedSignedState.reservedSignedState();
     }
 
+    /**
+     * Validate a saved state directory against its manifest on a background thread, while the loaded state is used.
+     * Once the state is in use it can no longer be replaced by an older state, so a mismatch halts the node instead.
+     *
+     * @param stateDirectory the saved state directory
+     * @param stateConfig    the state configuration
+     * @param halt           called with the reason if the directory does not match its manifest
+     * @return the thread that validates the directory, already started
+     */
+    @NonNull
+    static Thread validateManifestInBackground(
+            @NonNull final Path stateDirectory,
+            @NonNull final StateConfig stateConfig,
+            @NonNull final Consumer<String> halt) {
+        return new ThreadConfiguration(getStaticThreadManager())
+                .setComponent("state")
+                .setThreadName("validate-snapshot-manifest")
+                .setRunnable(() -> {
+                    boolean valid;
+                    try {
+                        valid = StateSnapshotManifest.validate(
+                                stateDirectory,
+                                stateConfig.snapshotManifestThreads(),
+                                stateConfig.snapshotManifestMaxBytesPerSecond());
+                    } catch (final IOException e) {
+                        logger.error(
+                                EXCEPTION.getMarker(), "unable to validate {} against its manifest", stateDirectory, e);
+                        valid = false;
+                    }
+                    if (!valid) {
+                        halt.accept("state directory " + stateDirectory + " does not match its manifest");
+                    }
+                })
+                .build(true);
+    }
+
     /**
      * Recycle a state.
      *
@@ -169,7 +169,7 @@ public class DefaultStateSnapshotManager implements StateSnapshotManager {
     private boolean saveStateTask(@NonNull final SignedState state, @NonNull final Path directory) {
         try {
             SignedStateFileWriter.writeSignedStateToDisk(
-                    platformContext, selfId, directory, state, getReason(state), platformStateFacade);
+                    platformContext, selfId, directory, state, getReason(state), platformStateFacade, metrics);
             return true;
         } catch (final Throwable e) {
             logger.error(
@@ -17,6 +17,11 @@ public final class SignedStateFileUtils {
      */
     public static final String CURRENT_ROSTER_FILE_NAME = "currentRoster.json";
 
+    /**
+     * The name of the file that lists the size and checksum of every other file in the saved state
+     */
+    public static final String SNAPSHOT_MANIFEST_FILE_NAME = "manifest.txt";
+
     /**
      * The initial version of the signature set file
      */
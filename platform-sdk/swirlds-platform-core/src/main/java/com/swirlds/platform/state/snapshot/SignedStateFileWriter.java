@@ -3,6 +3,7 @@ package com.swirlds.platform.state.snapshot;
 
 import static com.swirlds.common.io.utility.FileUtils.executeAndRename;
 import static com.swirlds.common.io.utility.FileUtils.writeAndFlush;
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.logging.legacy.LogMarker.STATE_TO_DISK;
 import static com.swirlds.platform.config.internal.PlatformConfigUtils.writeSettingsUsed;
@@ -16,6 +17,7 @@ import com.hedera.hapi.node.state.roster.Roster;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import com.swirlds.common.merkle.utility.MerkleTreeVisualizer;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.logging.legacy.payload.StateSavedToDiskPayload;
 import com.swirlds.platform.config.StateConfig;
 import com.swirlds.platform.recovery.emergencyfile.EmergencyRecoveryFile;
@@ -32,6 +34,10 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.consensus.model.node.NodeId;
@@ -140,30 +146,98 @@ public final class SignedStateFileWriter {
             @NonNull final SignedState signedState,
             @NonNull final PlatformStateFacade platformStateFacade)
             throws IOException {
+        writeSignedStateFilesToDirectory(platformContext, selfId, directory, signedState, platformStateFacade, null);
+    }
+
+    /**
+     * Write all files that belong in the signed state directory into a directory.
+     *
+     * @param platformContext the platform context
+     * @param selfId          the id of the platform
+     * @param directory       the directory where all files should be placed
+     * @param signedState     the signed state being written to disk
+     * @param metrics         metrics to update while writing the snapshot manifest, or null if none should be updated
+     */
+    public static void writeSignedStateFilesToDirectory(
+            @Nullable final PlatformContext platformContext,
+            @Nullable final NodeId selfId,
+            @NonNull final Path directory,
+            @NonNull final SignedState signedState,
+            @NonNull final PlatformStateFacade platformStateFacade,
+            @Nullable final StateSnapshotManagerMetrics metrics)
+            throws IOException {
         Objects.requireNonNull(platformContext);
         Objects.requireNonNull(directory);
         Objects.requireNonNull(signedState);
 
         final State state = signedState.getState();
 
-        state.createSnapshot(directory);
-        writeSignatureSetFile(directory, signedState);
-        writeHashInfoFile(platformContext, directory, signedState.getState(), platformStateFacade);
-        writeMetadataFile(selfId, directory, signedState, platformStateFacade);
-        writeEmergencyRecoveryFile(directory, signedState);
-        final Roster currentRoster = signedState.getRoster();
-        if (currentRoster != null) {
-            writeRosterFile(directory, currentRoster);
+        // The PCES copy only touches its own subdirectory, so it can run while the state itself is being written
+        final Future<?> pcesCopy;
+        if (selfId != null) {
+            final long ancientThreshold = platformStateFacade.ancientThresholdOf(state);
+            final ExecutorService pcesCopyExecutor = Executors.newSingleThreadExecutor(
+                    new ThreadConfiguration(getStaticThreadManager())
+                            .setComponent("state-snapshot")
+                            .setThreadName("pces-copy")
+                            .buildFactory());
+            pcesCopy = pcesCopyExecutor.submit(() -> copyPcesFilesRetryOnFailure(
+                    platformContext, selfId, directory, ancientThreshold, signedState.getRound()));
+            pcesCopyExecutor.shutdown();
+        } else {
+            pcesCopy = null;
         }
-        writeSettingsUsed(directory, platformContext.getConfiguration());
 
-        if (selfId != null) {
-            copyPcesFilesRetryOnFailure(
-                    platformContext,
-                    selfId,
+        try {
+            state.createSnapshot(directory);
+            writeSignatureSetFile(directory, signedState);
+            writeHashInfoFile(platformContext, directory, signedState.getState(), platformStateFacade);
+            writeMetadataFile(selfId, directory, signedState, platformStateFacade);
+            writeEmergencyRecoveryFile(directory, signedState);
+            final Roster currentRoster = signedState.getRoster();
+            if (currentRoster != null) {
+                writeRosterFile(directory, currentRoster);
+            }
+            writeSettingsUsed(directory, platformContext.getConfiguration());
+        } catch (final Throwable t) {
+            // Never leave the copy running, the directory may be deleted or renamed once this method returns
+            if (pcesCopy != null) {
+                try {
+                    awaitPcesCopy(pcesCopy);
+                } catch (final IOException e) {
+                    t.addSuppressed(e);
+                }
+            }
+            throw t;
+        }
+        if (pcesCopy != null) {
+            awaitPcesCopy(pcesCopy);
+        }
+
+        final StateConfig stateConfig = platformContext.getConfiguration().getConfigData(StateConfig.class);
+        if (stateConfig.snapshotManifestEnabled()) {
+            StateSnapshotManifest.write(
                     directory,
-                    platformStateFacade.ancientThresholdOf(signedState.getState()),
-                    signedState.getRound());
+                    stateConfig.snapshotManifestThreads(),
+                    stateConfig.snapshotManifestMaxBytesPerSecond(),
+                    metrics);
+        }
+    }
+
+    /**
+     * Wait for the copy of PCES files into a saved state directory to finish.
+     *
+     * @param pcesCopy the future of the copy
+     * @throws IOException if the copy failed, or if interrupted while waiting
+     */
+    private static void awaitPcesCopy(@NonNull final Future<?> pcesCopy) throws IOException {
+        try {
+            pcesCopy.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for PCES files to be copied", e);
+        } catch (final ExecutionException e) {
+            throw new IOException("Unable to copy PCES files", e.getCause());
         }
     }
 
@@ -200,6 +274,37 @@ public final class SignedStateFileWriter {
             @Nullable final StateToDiskReason stateToDiskReason,
             @NonNull final PlatformStateFacade platformStateFacade)
             throws IOException {
+        writeSignedStateToDisk(
+                platformContext,
+                selfId,
+                savedStateDirectory,
+                signedState,
+                stateToDiskReason,
+                platformStateFacade,
+                null);
+    }
+
+    /**
+     * Writes a SignedState to a file. Also writes auxiliary files such as "settingsUsed.txt". This is the top level
+     * method called by the platform when it is ready to write a state.
+     *
+     * @param platformContext     the platform context
+     * @param selfId              the id of the platform
+     * @param savedStateDirectory the directory where the state will be stored
+     * @param signedState         the object to be written
+     * @param stateToDiskReason   the reason the state is being written to disk
+     * @param metrics             metrics to update while writing the snapshot manifest, or null if none should be
+     *                            updated
+     */
+    public static void writeSignedStateToDisk(
+            @NonNull final PlatformContext platformContext,
+            @Nullable final NodeId selfId,
+            @NonNull final Path savedStateDirectory,
+            @NonNull final SignedState signedState,
+            @Nullable final StateToDiskReason stateToDiskReason,
+            @NonNull final PlatformStateFacade platformStateFacade,
+            @Nullable final StateSnapshotManagerMetrics metrics)
+            throws IOException {
 
         Objects.requireNonNull(platformContext);
         Objects.requireNonNull(savedStateDirectory);
@@ -216,7 +321,7 @@ public final class SignedStateFileWriter {
             executeAndRename(
                     savedStateDirectory,
                     directory -> writeSignedStateFilesToDirectory(
-                            platformContext, selfId, directory, signedState, platformStateFacade),
+                            platformContext, selfId, directory, signedState, platformStateFacade, metrics),
                     platformContext.getConfiguration());
 
             logger.info(STATE_TO_DISK.getMarker(), () -> new StateSavedToDiskPayload(
@@ -33,6 +33,25 @@ public class StateSnapshotManagerMetrics {
             .withUnit("count");
     private final Counter totalNeverSignedDiskStates;
 
+    private static final Counter.Config MANIFEST_BYTES_CONFIG = new Counter.Config(
+                    "platform", "snapshotManifestBytes")
+            .withDescription("total number of bytes read back to checksum files while writing snapshot manifests")
+            .withUnit("bytes");
+    private final Counter manifestBytes;
+
+    private static final Counter.Config MANIFEST_REUSED_FILES_CONFIG = new Counter.Config(
+                    "platform", "snapshotManifestReusedFiles")
+            .withDescription("total number of files whose checksum was computed while they were written, and did not "
+                    + "have to be read back while writing snapshot manifests")
+            .withUnit("count");
+    private final Counter manifestReusedFiles;
+
+    private static final RunningAverageMetric.Config MANIFEST_TIME_CONFIG = new RunningAverageMetric.Config(
+                    "platform", "snapshotManifestTime")
+            .withDescription("average time it takes to write a snapshot manifest (in milliseconds)")
+            .withUnit("ms");
+    private final RunningAverageMetric manifestTime;
+
     /**
      * Constructor.
      *
@@ -44,6 +63,9 @@ public class StateSnapshotManagerMetrics {
         stateToDiskTime = metrics.getOrCreate(STATE_TO_DISK_TIME_CONFIG);
         writeStateToDiskTime = metrics.getOrCreate(WRITE_STATE_TO_DISK_TIME_CONFIG);
         totalNeverSignedDiskStates = metrics.getOrCreate(TOTAL_NEVER_SIGNED_DISK_STATES_CONFIG);
+        manifestBytes = metrics.getOrCreate(MANIFEST_BYTES_CONFIG);
+        manifestTime = metrics.getOrCreate(MANIFEST_TIME_CONFIG);
+        manifestReusedFiles = metrics.getOrCreate(MANIFEST_REUSED_FILES_CONFIG);
     }
 
     /**
@@ -76,4 +98,34 @@ public class StateSnapshotManagerMetrics {
     public Counter getTotalUnsignedDiskStatesMetric() {
         return totalNeverSignedDiskStates;
     }
+
+    /**
+     * Get a metric tracking the total number of bytes read back to checksum files while writing snapshot manifests.
+     *
+     * @return the metric tracking the total number of bytes read back
+     */
+    @NonNull
+    public Counter getManifestBytesMetric() {
+        return manifestBytes;
+    }
+
+    /**
+     * Get a metric tracking the total number of files whose checksum was reused while writing snapshot manifests.
+     *
+     * @return the metric tracking the total number of files whose checksum was reused
+     */
+    @NonNull
+    public Counter getManifestReusedFilesMetric() {
+        return manifestReusedFiles;
+    }
+
+    /**
+     * Get a metric tracking the average time required to write a snapshot manifest.
+     *
+     * @return the metric tracking the average time required to write a snapshot manifest
+     */
+    @NonNull
+    public RunningAverageMetric getManifestTimeMetric() {
+        return manifestTime;
+    }
 }
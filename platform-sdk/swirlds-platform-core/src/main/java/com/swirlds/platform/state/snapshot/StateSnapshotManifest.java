@@ -0,0 +1,349 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.state.snapshot;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+import static com.swirlds.logging.legacy.LogMarker.STARTUP;
+import static com.swirlds.logging.legacy.LogMarker.STATE_TO_DISK;
+import static com.swirlds.platform.state.snapshot.SignedStateFileUtils.SNAPSHOT_MANIFEST_FILE_NAME;
+
+import com.swirlds.common.io.utility.FileChecksums;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A manifest of every file in a saved state directory, with the size and CRC32C checksum of each file.
+ * <p>
+ * Virtual parts of the state are self hashing, so rehashing a state at startup does not read the MerkleDB data and
+ * index files, and corruption of those files goes unnoticed until the corrupted data is read. Validating the manifest
+ * at startup detects such corruption by reading each file once, which is much cheaper than recomputing the hashes of
+ * all the leaves.
+ * <p>
+ * Writing a manifest does not read back files whose checksum was computed while they were written and recorded in
+ * {@link FileChecksums}. That covers the bulk of a state: the signed state file, the virtual map files and the MerkleDB
+ * data files, which are immutable and hard linked into every snapshot, so their checksums are computed once when they
+ * are first written. Remaining files (mostly MerkleDB index files) are checksummed in parallel by a bounded number of
+ * threads. An optional I/O budget limits the combined read rate of those threads, so that
+ * writing or validating a manifest does not starve the rest of the node of disk bandwidth.
+ */
+public final class StateSnapshotManifest {
+
+    private static final Logger logger = LogManager.getLogger(StateSnapshotManifest.class);
+
+    /**
+     * The first line of every manifest file.
+     */
+    private static final String HEADER = "# state snapshot manifest v1";
+
+    /**
+     * The size of the buffer each thread uses to read files.
+     */
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * A single manifest entry.
+     *
+     * @param relativePath the path of the file relative to the state directory, using '/' as the separator
+     * @param size         the size of the file in bytes
+     * @param checksum     the CRC32C checksum of the file
+     */
+    public record Entry(@NonNull String relativePath, long size, long checksum) {}
+
+    private StateSnapshotManifest() {}
+
+    /**
+     * Checksum every file in a directory and write the manifest into that directory.
+     *
+     * @param directory          the saved state directory
+     * @param threadCount        the number of threads used to read files
+     * @param maxBytesPerSecond  the maximum combined read rate of all threads, or 0 for no limit
+     * @param metrics            metrics to update with progress, or null if metrics should not be updated
+     * @throws IOException if a file can not be read or the manifest can not be written
+     */
+    public static void write(
+            @NonNull final Path directory,
+            final int threadCount,
+            final long maxBytesPerSecond,
+            @Nullable final StateSnapshotManagerMetrics metrics)
+            throws IOException {
+        Objects.requireNonNull(directory);
+        final long start = System.nanoTime();
+
+        final List<Entry> entries = computeEntries(directory, threadCount, maxBytesPerSecond, metrics);
+
+        final Path manifestFile = directory.resolve(SNAPSHOT_MANIFEST_FILE_NAME);
+        try (final BufferedWriter writer = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (final Entry entry : entries) {
+                writer.write(String.format("%08x %d %s", entry.checksum(), entry.size(), entry.relativePath()));
+                writer.newLine();
+            }
+        }
+
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (metrics != null) {
+            metrics.getManifestTimeMetric().update(elapsedMillis);
+        }
+        logger.info(
+                STATE_TO_DISK.getMarker(),
+                "Wrote snapshot manifest with {} files to {} in {} ms",
+                entries.size(),
+                manifestFile,
+                elapsedMillis);
+    }
+
+    /**
+     * Validate the files in a saved state directory against its manifest.
+     *
+     * @param directory         the saved state directory
+     * @param threadCount       the number of threads used to read files
+     * @param maxBytesPerSecond the maximum combined read rate of all threads, or 0 for no limit
+     * @return true if every file in the manifest exists and has the recorded size and checksum, false otherwise
+     * @throws IOException if the manifest can not be read or is malformed
+     */
+    public static boolean validate(@NonNull final Path directory, final int threadCount, final long maxBytesPerSecond)
+            throws IOException {
+        Objects.requireNonNull(directory);
+        final long start = System.nanoTime();
+
+        final List<Entry> expected = readManifest(directory.resolve(SNAPSHOT_MANIFEST_FILE_NAME));
+
+        for (final Entry entry : expected) {
+            final Path file = directory.resolve(entry.relativePath());
+            if (!Files.isRegularFile(file) || Files.size(file) != entry.size()) {
+                logger.error(
+                        EXCEPTION.getMarker(),
+                        "Snapshot manifest validation failed, {} is missing or has the wrong size",
+                        file);
+                return false;
+            }
+        }
+
+        final List<Path> files =
+                expected.stream().map(e -> directory.resolve(e.relativePath())).toList();
+        final List<Long> checksums = checksumFiles(files, threadCount, maxBytesPerSecond, null);
+        for (int i = 0; i < expected.size(); i++) {
+            if (checksums.get(i) != expected.get(i).checksum()) {
+                logger.error(
+                        EXCEPTION.getMarker(),
+                        "Snapshot manifest validation failed, {} has the wrong checksum",
+                        files.get(i));
+                return false;
+            }
+        }
+
+        logger.info(
+                STARTUP.getMarker(),
+                "Validated {} files against the snapshot manifest in {} ms",
+                expected.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return true;
+    }
+
+    /**
+     * Check if a saved state directory has a manifest.
+     *
+     * @param directory the saved state directory
+     * @return true if the directory has a manifest
+     */
+    public static boolean exists(@NonNull final Path directory) {
+        return Files.isRegularFile(directory.resolve(SNAPSHOT_MANIFEST_FILE_NAME));
+    }
+
+    /**
+     * Read the entries of a manifest file.
+     *
+     * @param manifestFile the manifest file
+     * @return the entries, in the order they appear in the file
+     * @throws IOException if the file can not be read or is malformed
+     */
+    @NonNull
+    public static List<Entry> readManifest(@NonNull final Path manifestFile) throws IOException {
+        final List<Entry> entries = new ArrayList<>();
+        try (final BufferedReader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+            final String header = reader.readLine();
+            if (!HEADER.equals(header)) {
+                throw new IOException("Unsupported snapshot manifest header: " + header);
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String[] parts = line.split(" ", 3);
+                if (parts.length != 3) {
+                    throw new IOException("Malformed snapshot manifest line: " + line);
+                }
+                try {
+                    entries.add(new Entry(parts[2], Long.parseLong(parts[1]), Long.parseLong(parts[0], 16)));
+                } catch (final NumberFormatException e) {
+                    throw new IOException("Malformed snapshot manifest line: " + line, e);
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Compute the manifest entries for all regular files in a directory, excluding the manifest itself.
+     */
+    @NonNull
+    private static List<Entry> computeEntries(
+            @NonNull final Path directory,
+            final int threadCount,
+            final long maxBytesPerSecond,
+            @Nullable final StateSnapshotManagerMetrics metrics)
+            throws IOException {
+
+        final List<Path> files;
+        try (final Stream<Path> stream = Files.walk(directory)) {
+            files = stream.filter(Files::isRegularFile)
+                    .filter(p -> !p.equals(directory.resolve(SNAPSHOT_MANIFEST_FILE_NAME)))
+                    .sorted()
+                    .toList();
+        }
+
+        // Only read files whose checksum was not recorded when they were written
+        FileChecksums.prune();
+        final Long[] checksums = new Long[files.size()];
+        final List<Path> unknownFiles = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            checksums[i] = FileChecksums.lookup(files.get(i));
+            if (checksums[i] == null) {
+                unknownFiles.add(files.get(i));
+            }
+        }
+        final List<Long> computed = checksumFiles(unknownFiles, threadCount, maxBytesPerSecond, metrics);
+        for (int i = 0, next = 0; i < files.size(); i++) {
+            if (checksums[i] == null) {
+                checksums[i] = computed.get(next++);
+                // PCES files are hard linked into later snapshots, so this saves reading them again
+                FileChecksums.record(files.get(i), checksums[i]);
+            }
+        }
+        if (metrics != null) {
+            metrics.getManifestReusedFilesMetric().add(files.size() - unknownFiles.size());
+        }
+
+        final List<Entry> entries = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            final Path file = files.get(i);
+            final String relativePath =
+                    directory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+            entries.add(new Entry(relativePath, Files.size(file), checksums[i]));
+        }
+        return entries;
+    }
+
+    /**
+     * Compute the checksums of a list of files in parallel.
+     *
+     * @return the checksums, in the same order as the files
+     */
+    @NonNull
+    private static List<Long> checksumFiles(
+            @NonNull final List<Path> files,
+            final int threadCount,
+            final long maxBytesPerSecond,
+            @Nullable final StateSnapshotManagerMetrics metrics)
+            throws IOException {
+
+        final IoBudget budget = new IoBudget(maxBytesPerSecond);
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, threadCount),
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent("state-snapshot")
+                        .setThreadName("manifest")
+                        .buildFactory());
+        try {
+            final List<Future<Long>> futures = new ArrayList<>(files.size());
+            for (final Path file : files) {
+                futures.add(executor.submit(() -> checksumFile(file, budget, metrics)));
+            }
+            final List<Long> checksums = new ArrayList<>(files.size());
+            for (final Future<Long> future : futures) {
+                checksums.add(future.get());
+            }
+            return checksums;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while computing snapshot checksums", e);
+        } catch (final ExecutionException e) {
+            throw new IOException("Unable to compute snapshot checksums", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Compute the CRC32C checksum of a single file.
+     */
+    private static long checksumFile(
+            @NonNull final Path file,
+            @NonNull final IoBudget budget,
+            @Nullable final StateSnapshotManagerMetrics metrics)
+            throws IOException, InterruptedException {
+        final CRC32C crc = new CRC32C();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int read;
+            while ((read = channel.read(buffer)) != -1) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+                budget.consume(read);
+                if (metrics != null) {
+                    metrics.getManifestBytesMetric().add(read);
+                }
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Limits the combined read rate of all threads checksumming files. Threads that get ahead of the budget sleep until
+     * the budget catches up.
+     */
+    private static final class IoBudget {
+        private final long maxBytesPerSecond;
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong bytesConsumed = new AtomicLong();
+
+        IoBudget(final long maxBytesPerSecond) {
+            this.maxBytesPerSecond = maxBytesPerSecond;
+        }
+
+        void consume(final long bytes) throws InterruptedException {
+            if (maxBytesPerSecond <= 0) {
+                return;
+            }
+            final long totalBytes = bytesConsumed.addAndGet(bytes);
+            final long earliestNanos = startNanos + (long) ((double) totalBytes / maxBytesPerSecond * 1_000_000_000L);
+            final long sleepNanos = earliestNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            }
+        }
+    }
+}
@@ -63,7 +63,7 @@ public class PlatformCoordinator {
     private final ComponentWiring<StatusStateMachine, PlatformStatus> statusStateMachineWiring;
     private final ComponentWiring<BranchDetector, PlatformEvent> branchDetectorWiring;
     private final ComponentWiring<BranchReporter, Void> branchReporterWiring;
-    private final ComponentWiring<InlinePcesWriter, PlatformEvent> pcesInlineWriterWiring;
+    private final ComponentWiring<InlinePcesWriter, List<PlatformEvent>> pcesInlineWriterWiring;
     private final ComponentWiring<FutureEventBuffer, List<PlatformEvent>> futureEventBufferWiring;
 
     /**
@@ -114,7 +114,7 @@ public class PlatformCoordinator {
             @NonNull final ComponentWiring<StatusStateMachine, PlatformStatus> statusStateMachineWiring,
             @NonNull final ComponentWiring<BranchDetector, PlatformEvent> branchDetectorWiring,
             @NonNull final ComponentWiring<BranchReporter, Void> branchReporterWiring,
-            @Nullable final ComponentWiring<InlinePcesWriter, PlatformEvent> pcesInlineWriterWiring,
+            @Nullable final ComponentWiring<InlinePcesWriter, List<PlatformEvent>> pcesInlineWriterWiring,
             @NonNull final ComponentWiring<FutureEventBuffer, List<PlatformEvent>> futureEventBufferWiring) {
 
         this.flushTheEventHasher = Objects.requireNonNull(flushTheEventHasher);
@@ -155,6 +155,10 @@ public class PlatformCoordinator {
         eventSignatureValidatorWiring.flush();
         orphanBufferWiring.flush();
         if (pcesInlineWriterWiring != null) {
+            // release events held back for a batched sync, they are flushed out of the components below
+            pcesInlineWriterWiring
+                    .getInputWire(InlinePcesWriter::flushPendingEvents)
+                    .inject(NoInput.getInstance());
             pcesInlineWriterWiring.flush();
         }
         futureEventBufferWiring.flush();
@@ -214,6 +218,9 @@ public class PlatformCoordinator {
         // Data is no longer moving through the system. Clear all the internal data structures in the wiring objects.
         eventDeduplicatorWiring.getInputWire(EventDeduplicator::clear).inject(NoInput.getInstance());
         orphanBufferWiring.getInputWire(OrphanBuffer::clear).inject(NoInput.getInstance());
+        if (pcesInlineWriterWiring != null) {
+            pcesInlineWriterWiring.getInputWire(InlinePcesWriter::clear).inject(NoInput.getInstance());
+        }
         gossipWiring.getClearInput().inject(NoInput.getInstance());
         stateSignatureCollectorWiring
                 .getInputWire(StateSignatureCollector::clear)
@@ -5,6 +5,7 @@ import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerC
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfiguration.NO_OP_CONFIGURATION;
 import static com.swirlds.component.framework.wires.SolderType.INJECT;
 import static com.swirlds.component.framework.wires.SolderType.OFFER;
+import static org.hiero.base.CompareTo.min;
 import static org.hiero.consensus.model.event.StaleEventDetectorOutput.SELF_EVENT;
 import static org.hiero.consensus.model.event.StaleEventDetectorOutput.STALE_SELF_EVENT;
 
@@ -36,7 +37,9 @@ import com.swirlds.platform.event.branching.BranchReporter;
 import com.swirlds.platform.event.deduplication.EventDeduplicator;
 import com.swirlds.platform.event.hashing.EventHasher;
 import com.swirlds.platform.event.orphan.OrphanBuffer;
+import com.swirlds.platform.event.preconsensus.FileSyncOption;
 import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
+import com.swirlds.platform.event.preconsensus.PcesConfig;
 import com.swirlds.platform.event.preconsensus.PcesReplayer;
 import com.swirlds.platform.event.resubmitter.TransactionResubmitter;
 import com.swirlds.platform.event.stream.ConsensusEventStream;
@@ -72,6 +75,7 @@ import com.swirlds.platform.wiring.components.PcesReplayerWiring;
 import com.swirlds.platform.wiring.components.RunningEventHashOverrideWiring;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
@@ -112,7 +116,7 @@ public class PlatformWiring {
     private final ComponentWiring<StateSnapshotManager, StateSavingResult> stateSnapshotManagerWiring;
     private final ComponentWiring<StateSigner, StateSignatureTransaction> stateSignerWiring;
     private final PcesReplayerWiring pcesReplayerWiring;
-    private final ComponentWiring<InlinePcesWriter, PlatformEvent> pcesInlineWriterWiring;
+    private final ComponentWiring<InlinePcesWriter, List<PlatformEvent>> pcesInlineWriterWiring;
     private final ComponentWiring<FutureEventBuffer, List<PlatformEvent>> futureEventBufferWiring;
     private final ComponentWiring<TransactionPrehandler, Queue<ScopedSystemTransaction<StateSignatureTransaction>>>
             applicationTransactionPrehandlerWiring;
@@ -384,12 +388,18 @@ public class PlatformWiring {
         final OutputWire<PlatformEvent> splitOrphanBufferOutput = orphanBufferWiring.getSplitOutput();
 
         splitOrphanBufferOutput.solderTo(pcesInlineWriterWiring.getInputWire(InlinePcesWriter::writeEvent));
+        final OutputWire<PlatformEvent> splitPcesWriterOutput = pcesInlineWriterWiring.getSplitOutput();
+
+        final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+        if (pcesConfig.inlinePcesSyncOption() == FileSyncOption.GROUP_COMMIT) {
+            // release events held back for a batched sync even if no new events arrive
+            model.buildHeartbeatWire(pcesConfig.groupCommitMaxLatency())
+                    .solderTo(pcesInlineWriterWiring.getInputWire(InlinePcesWriter::checkPendingEvents), OFFER);
+        }
 
         // make sure that an event is persisted before being sent to consensus, this avoids the situation where we
         // reach consensus with events that might be lost due to a crash
-        pcesInlineWriterWiring
-                .getOutputWire()
-                .solderTo(futureEventBufferWiring.getInputWire(FutureEventBuffer::addEvent));
+        splitPcesWriterOutput.solderTo(futureEventBufferWiring.getInputWire(FutureEventBuffer::addEvent));
 
         final OutputWire<PlatformEvent> futureEventBufferSplitter =
                 futureEventBufferWiring.getOutputWire().buildSplitter("futureEventSplitter", "events");
@@ -409,7 +419,7 @@ public class PlatformWiring {
         // make sure events are persisted before being gossipped, this prevents accidental branching in the case
         // where an event is created, gossipped, and then the node crashes before the event is persisted.
         // after restart, a node will not be aware of this event, so it can create a branch
-        pcesInlineWriterWiring.getOutputWire().solderTo(gossipWiring.getEventInput(), INJECT);
+        splitPcesWriterOutput.solderTo(gossipWiring.getEventInput(), INJECT);
 
         model.getHealthMonitorWire()
                 .solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::reportUnhealthyDuration));
@@ -422,12 +432,21 @@ public class PlatformWiring {
         splitOrphanBufferOutput.solderTo(branchDetectorWiring.getInputWire(BranchDetector::checkForBranches));
         branchDetectorWiring.getOutputWire().solderTo(branchReporterWiring.getInputWire(BranchReporter::reportBranch));
 
-        final double eventCreationHeartbeatFrequency = platformContext
-                .getConfiguration()
-                .getConfigData(EventCreationConfig.class)
-                .creationAttemptRate();
-        model.buildHeartbeatWire(eventCreationHeartbeatFrequency)
-                .solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::maybeCreateEvent), OFFER);
+        final EventCreationConfig eventCreationConfig =
+                platformContext.getConfiguration().getConfigData(EventCreationConfig.class);
+        if (eventCreationConfig.reactiveCreationEnabled()) {
+            // The heartbeat releases batches that have waited for the maximum wait time, every other attempt is
+            // triggered by the arrival of transactions or of events that may serve as other parents.
+            final Duration attemptPeriod = Duration.ofNanos((long) (1e9 / eventCreationConfig.creationAttemptRate()));
+            model.buildHeartbeatWire(min(attemptPeriod, eventCreationConfig.reactiveMaximumWait()))
+                    .solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::maybeCreateEvent), OFFER);
+            futureEventBufferSplitter
+                    .buildTransformer("eventToCreationTrigger", "events", event -> NoInput.getInstance())
+                    .solderTo(getEventCreationReactiveTriggerInput(), OFFER);
+        } else {
+            model.buildHeartbeatWire(eventCreationConfig.creationAttemptRate())
+                    .solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::maybeCreateEvent), OFFER);
+        }
         model.buildHeartbeatWire(platformContext
                         .getConfiguration()
                         .getConfigData(PlatformStatusConfig.class)
@@ -661,6 +680,8 @@ public class PlatformWiring {
         eventWindowManagerWiring.getInputWire(EventWindowManager::updateEventWindow);
         orphanBufferWiring.getInputWire(OrphanBuffer::clear);
         pcesInlineWriterWiring.getInputWire(InlinePcesWriter::registerDiscontinuity);
+        pcesInlineWriterWiring.getInputWire(InlinePcesWriter::flushPendingEvents);
+        pcesInlineWriterWiring.getInputWire(InlinePcesWriter::clear);
         stateSignatureCollectorWiring.getInputWire(StateSignatureCollector::clear);
         issDetectorWiring.getInputWire(IssDetector::overridingState);
         issDetectorWiring.getInputWire(IssDetector::signalEndOfPreconsensusReplay);
@@ -759,6 +780,17 @@ public class PlatformWiring {
         return eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::updateRosters);
     }
 
+    /**
+     * Get the input wire that triggers an event creation attempt when reactive event creation is enabled, e.g. because
+     * transactions became available.
+     *
+     * @return the input wire that triggers an event creation attempt
+     */
+    @NonNull
+    public InputWire<NoInput> getEventCreationReactiveTriggerInput() {
+        return eventCreationManagerWiring.getInputWire(EventCreationManager::maybeCreateEventReactively);
+    }
+
     /**
      * Get the input wire for dumping a state to disk
      * <p>
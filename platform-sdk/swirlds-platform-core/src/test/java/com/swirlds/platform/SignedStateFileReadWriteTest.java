@@ -17,23 +17,34 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.node.base.SemanticVersion;
 import com.swirlds.common.config.StateCommonConfig_;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
 import com.swirlds.common.merkle.utility.MerkleTreeVisualizer;
+import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.test.fixtures.merkle.TestMerkleCryptoFactory;
 import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.merkledb.MerkleDb;
+import com.swirlds.metrics.api.Counter;
 import com.swirlds.platform.config.StateConfig;
+import com.swirlds.platform.config.StateConfig_;
 import com.swirlds.platform.state.MerkleNodeState;
 import com.swirlds.platform.state.service.PlatformStateFacade;
 import com.swirlds.platform.state.signed.SignedState;
 import com.swirlds.platform.state.snapshot.DeserializedSignedState;
 import com.swirlds.platform.state.snapshot.SignedStateFileUtils;
+import com.swirlds.platform.state.snapshot.StateSnapshotManagerMetrics;
+import com.swirlds.platform.state.snapshot.StateSnapshotManifest;
 import com.swirlds.platform.state.snapshot.StateToDiskReason;
 import com.swirlds.platform.test.fixtures.state.FakeConsensusStateEventHandler;
 import com.swirlds.platform.test.fixtures.state.RandomSignedStateGenerator;
@@ -193,6 +204,47 @@ class SignedStateFileReadWriteTest {
         assertTrue(exists(addressBookFile), "address book file should exist");
     }
 
+    @Test
+    @DisplayName("writeSavedStateToDisk() writes a manifest with the given metrics")
+    void writeSavedStateToDiskWithManifestTest() throws IOException {
+        final SignedState signedState = new RandomSignedStateGenerator()
+                .setSoftwareVersion(platformVersion)
+                .build();
+        final Path directory = testDirectory.resolve("state");
+
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(StateCommonConfig_.SAVED_STATE_DIRECTORY, testDirectory.resolve("data/saved").toString())
+                .withValue(StateConfig_.SNAPSHOT_MANIFEST_ENABLED, true)
+                .getOrCreateConfig();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(configuration)
+                .build();
+
+        final StateSnapshotManagerMetrics metrics = mock(StateSnapshotManagerMetrics.class);
+        final Counter manifestBytes = mock(Counter.class);
+        final RunningAverageMetric manifestTime = mock(RunningAverageMetric.class);
+        when(metrics.getManifestBytesMetric()).thenReturn(manifestBytes);
+        when(metrics.getManifestTimeMetric()).thenReturn(manifestTime);
+
+        // make immutable
+        signedState.getState().copy();
+
+        writeSignedStateToDisk(
+                platformContext,
+                NodeId.of(0),
+                directory,
+                signedState,
+                StateToDiskReason.PERIODIC_SNAPSHOT,
+                stateFacade,
+                metrics);
+
+        assertTrue(StateSnapshotManifest.exists(directory), "manifest should exist");
+        assertTrue(StateSnapshotManifest.validate(directory, 1, 0), "manifest should match the written files");
+        // the metrics owned by the caller are updated, rather than a new instance created per write
+        verify(manifestBytes, atLeastOnce()).add(anyLong());
+        verify(manifestTime).update(anyDouble());
+    }
+
     private Configuration changeConfigAndConfigHolder(String directory) {
         return new TestConfigBuilder()
                 .withValue(StateCommonConfig_.SAVED_STATE_DIRECTORY, directory)
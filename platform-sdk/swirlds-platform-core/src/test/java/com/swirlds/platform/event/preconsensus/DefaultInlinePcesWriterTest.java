@@ -2,6 +2,8 @@
 package com.swirlds.platform.event.preconsensus;
 
 import static org.hiero.consensus.model.event.AncientMode.GENERATION_THRESHOLD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.swirlds.base.test.fixtures.time.FakeTime;
 import com.swirlds.common.context.PlatformContext;
@@ -13,6 +15,7 @@ import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -138,4 +141,198 @@ class DefaultInlinePcesWriterTest {
 
         PcesWriterTestUtils.verifyStream(selfId, events, platformContext, 0, ancientMode);
     }
+
+    @Test
+    void groupCommitHoldsEventsUntilLatencyExpiresTest() throws Exception {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(PcesConfig_.DATABASE_DIRECTORY, tempDir.toString())
+                .withValue(PcesConfig_.INLINE_PCES_SYNC_OPTION, FileSyncOption.GROUP_COMMIT.toString())
+                .withValue(PcesConfig_.GROUP_COMMIT_MAX_LATENCY, "10ms")
+                .withValue(PcesConfig_.GROUP_COMMIT_MAX_BYTES, Integer.toString(Integer.MAX_VALUE))
+                .getOrCreateConfig();
+        final FakeTime time = new FakeTime();
+        final PlatformContext groupCommitContext = TestPlatformContextBuilder.create()
+                .withConfiguration(configuration)
+                .withTime(time)
+                .build();
+
+        final StandardGraphGenerator generator = PcesWriterTestUtils.buildGraphGenerator(groupCommitContext, random);
+        final List<PlatformEvent> events = new LinkedList<>();
+        for (int i = 0; i < numEvents; i++) {
+            events.add(generator.generateEventWithoutIndex().getBaseEvent());
+        }
+
+        final PcesFileTracker pcesFiles = new PcesFileTracker(ancientMode);
+        final PcesFileManager fileManager = new PcesFileManager(groupCommitContext, pcesFiles, selfId, 0);
+        final DefaultInlinePcesWriter writer = new DefaultInlinePcesWriter(groupCommitContext, fileManager, selfId);
+
+        writer.beginStreamingNewEvents();
+        for (final PlatformEvent event : events) {
+            assertTrue(writer.writeEvent(event).isEmpty(), "events should be held until the batch is synced");
+        }
+        assertTrue(writer.checkPendingEvents(time.now()).isEmpty(), "latency bound has not been reached");
+
+        time.tick(Duration.ofMillis(10));
+        assertEquals(events, writer.checkPendingEvents(time.now()), "all events should be released in order");
+        assertTrue(writer.checkPendingEvents(time.now()).isEmpty(), "events should only be released once");
+
+        writer.registerDiscontinuity(1L);
+        PcesWriterTestUtils.verifyStream(selfId, events, groupCommitContext, 0, ancientMode);
+    }
+
+    @Test
+    void groupCommitReleasesEventsWhenBatchIsFullTest() throws Exception {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(PcesConfig_.DATABASE_DIRECTORY, tempDir.toString())
+                .withValue(PcesConfig_.INLINE_PCES_SYNC_OPTION, FileSyncOption.GROUP_COMMIT.toString())
+                .withValue(PcesConfig_.GROUP_COMMIT_MAX_LATENCY, "1h")
+                .withValue(PcesConfig_.GROUP_COMMIT_MAX_BYTES, "10000")
+                .getOrCreateConfig();
+        final FakeTime time = new FakeTime();
+        final PlatformContext groupCommitContext = TestPlatformContextBuilder.create()
+                .withConfiguration(configuration)
+                .withTime(time)
+                .build();
+
+        final StandardGraphGenerator generator = PcesWriterTestUtils.buildGraphGenerator(groupCommitContext, random);
+        final List<PlatformEvent> events = new LinkedList<>();
+        for (int i = 0; i < numEvents; i++) {
+            events.add(generator.generateEventWithoutIndex().getBaseEvent());
+        }
+
+        final PcesFileTracker pcesFiles = new PcesFileTracker(ancientMode);
+        final PcesFileManager fileManager = new PcesFileManager(groupCommitContext, pcesFiles, selfId, 0);
+        final DefaultInlinePcesWriter writer = new DefaultInlinePcesWriter(groupCommitContext, fileManager, selfId);
+
+        writer.beginStreamingNewEvents();
+        final List<PlatformEvent> released = new ArrayList<>();
+        int batches = 0;
+        for (final PlatformEvent event : events) {
+            final List<PlatformEvent> batch = writer.writeEvent(event);
+            if (!batch.isEmpty()) {
+                batches++;
+                released.addAll(batch);
+            }
+        }
+        assertTrue(batches > 1, "batches should be committed once they are full");
+        assertTrue(batches < numEvents, "events should be batched");
+
+        // the latency bound is never reached in this test, release the tail by advancing time
+        time.tick(Duration.ofHours(1));
+        released.addAll(writer.checkPendingEvents(time.now()));
+        assertEquals(events, released, "all events should be released in order");
+    }
+
+    /**
+     * Build a context that holds events back for a batched sync until the maximum latency is reached.
+     */
+    @NonNull
+    private PlatformContext buildGroupCommitContext(@NonNull final FakeTime time) {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(PcesConfig_.DATABASE_DIRECTORY, tempDir.toString())
+                .withValue(PcesConfig_.INLINE_PCES_SYNC_OPTION, FileSyncOption.GROUP_COMMIT.toString())
+                .withValue(PcesConfig_.GROUP_COMMIT_MAX_LATENCY, "10ms")
+                .withValue(PcesConfig_.GROUP_COMMIT_MAX_BYTES, Integer.toString(Integer.MAX_VALUE))
+                .getOrCreateConfig();
+        return TestPlatformContextBuilder.create()
+                .withConfiguration(configuration)
+                .withTime(time)
+                .build();
+    }
+
+    @NonNull
+    private List<PlatformEvent> generateEvents(@NonNull final PlatformContext context, @NonNull final Random random) {
+        final StandardGraphGenerator generator = PcesWriterTestUtils.buildGraphGenerator(context, random);
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            events.add(generator.generateEventWithoutIndex().getBaseEvent());
+        }
+        return events;
+    }
+
+    @Test
+    void groupCommitFlushReleasesPendingEventsTest() throws Exception {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final FakeTime time = new FakeTime();
+        final PlatformContext groupCommitContext = buildGroupCommitContext(time);
+        final List<PlatformEvent> events = generateEvents(groupCommitContext, random);
+
+        final PcesFileTracker pcesFiles = new PcesFileTracker(ancientMode);
+        final PcesFileManager fileManager = new PcesFileManager(groupCommitContext, pcesFiles, selfId, 0);
+        final DefaultInlinePcesWriter writer = new DefaultInlinePcesWriter(groupCommitContext, fileManager, selfId);
+
+        writer.beginStreamingNewEvents();
+        for (final PlatformEvent event : events) {
+            assertTrue(writer.writeEvent(event).isEmpty(), "events should be held until the batch is synced");
+        }
+
+        // flushing must not wait for the latency bound
+        assertEquals(events, writer.flushPendingEvents(), "all events should be released in order");
+        assertTrue(writer.flushPendingEvents().isEmpty(), "events should only be released once");
+        time.tick(Duration.ofMillis(10));
+        assertTrue(writer.checkPendingEvents(time.now()).isEmpty(), "events should only be released once");
+
+        writer.registerDiscontinuity(1L);
+        PcesWriterTestUtils.verifyStream(selfId, events, groupCommitContext, 0, ancientMode);
+    }
+
+    @Test
+    void groupCommitDiscontinuityReleasesPendingEventsTest() throws Exception {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final FakeTime time = new FakeTime();
+        final PlatformContext groupCommitContext = buildGroupCommitContext(time);
+        final List<PlatformEvent> events = generateEvents(groupCommitContext, random);
+
+        final PcesFileTracker pcesFiles = new PcesFileTracker(ancientMode);
+        final PcesFileManager fileManager = new PcesFileManager(groupCommitContext, pcesFiles, selfId, 0);
+        final DefaultInlinePcesWriter writer = new DefaultInlinePcesWriter(groupCommitContext, fileManager, selfId);
+
+        writer.beginStreamingNewEvents();
+        for (final PlatformEvent event : events) {
+            assertTrue(writer.writeEvent(event).isEmpty(), "events should be held until the batch is synced");
+        }
+
+        // events written before the discontinuity are released when it is registered
+        assertEquals(events, writer.registerDiscontinuity(1L), "all events should be released in order");
+        time.tick(Duration.ofMillis(10));
+        assertTrue(writer.checkPendingEvents(time.now()).isEmpty(), "events should only be released once");
+
+        PcesWriterTestUtils.verifyStream(selfId, events, groupCommitContext, 0, ancientMode);
+    }
+
+    @Test
+    void groupCommitClearDropsPendingEventsTest() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final FakeTime time = new FakeTime();
+        final PlatformContext groupCommitContext = buildGroupCommitContext(time);
+        final List<PlatformEvent> events = generateEvents(groupCommitContext, random);
+        final List<PlatformEvent> beforeClear = events.subList(0, numEvents / 2);
+        final List<PlatformEvent> afterClear = events.subList(numEvents / 2, numEvents);
+
+        final PcesFileTracker pcesFiles = new PcesFileTracker(ancientMode);
+        final PcesFileManager fileManager = new PcesFileManager(groupCommitContext, pcesFiles, selfId, 0);
+        final DefaultInlinePcesWriter writer = new DefaultInlinePcesWriter(groupCommitContext, fileManager, selfId);
+
+        writer.beginStreamingNewEvents();
+        for (final PlatformEvent event : beforeClear) {
+            assertTrue(writer.writeEvent(event).isEmpty(), "events should be held until the batch is synced");
+        }
+        time.tick(Duration.ofMillis(5));
+
+        writer.clear();
+        assertTrue(writer.flushPendingEvents().isEmpty(), "pending events should be dropped by a clear");
+
+        // the latency of the events written after the clear is measured from when they were written
+        for (final PlatformEvent event : afterClear) {
+            assertTrue(writer.writeEvent(event).isEmpty(), "events should be held until the batch is synced");
+        }
+        time.tick(Duration.ofMillis(5));
+        assertTrue(writer.checkPendingEvents(time.now()).isEmpty(), "latency bound has not been reached");
+        time.tick(Duration.ofMillis(5));
+        assertEquals(afterClear, writer.checkPendingEvents(time.now()), "only events written after the clear");
+    }
 }
@@ -2,6 +2,7 @@
 package com.swirlds.platform.state.signed;
 
 import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static com.swirlds.platform.state.snapshot.SignedStateFileUtils.HASH_INFO_FILE_NAME;
 import static com.swirlds.platform.state.snapshot.SignedStateFileWriter.writeSignedStateToDisk;
 import static org.hiero.base.utility.test.fixtures.RandomUtils.getRandomPrintSeed;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -25,6 +26,7 @@ import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.merkledb.MerkleDb;
+import com.swirlds.platform.config.StateConfig;
 import com.swirlds.platform.config.StateConfig_;
 import com.swirlds.platform.internal.SignedStateLoadingException;
 import com.swirlds.platform.state.service.PlatformStateFacade;
@@ -38,7 +40,10 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.hiero.base.constructable.ClassConstructorPair;
@@ -99,9 +104,19 @@ public class StartupStateUtilsTests {
 
     @NonNull
     private PlatformContext buildContext(final boolean deleteInvalidStateFiles, @NonNull final RecycleBin recycleBin) {
+        return buildContext(deleteInvalidStateFiles, recycleBin, false);
+    }
+
+    @NonNull
+    private PlatformContext buildContext(
+            final boolean deleteInvalidStateFiles,
+            @NonNull final RecycleBin recycleBin,
+            final boolean validateSnapshotManifest) {
         final Configuration configuration = new TestConfigBuilder()
                 .withValue(StateCommonConfig_.SAVED_STATE_DIRECTORY, testDirectory.toString())
                 .withValue(StateConfig_.DELETE_INVALID_STATE_FILES, deleteInvalidStateFiles)
+                .withValue(StateConfig_.SNAPSHOT_MANIFEST_ENABLED, true)
+                .withValue(StateConfig_.VALIDATE_SNAPSHOT_MANIFEST, validateSnapshotManifest)
                 .getOrCreateConfig();
 
         return TestPlatformContextBuilder.create()
@@ -309,6 +324,91 @@ public class StartupStateUtilsTests {
         assertEquals(invalidStateCount, recycleCount.get());
     }
 
+    /**
+     * Change a file of a saved state without making the state unreadable, so that only the manifest can detect it.
+     */
+    private void tamperWithHashInfo(final long round) throws IOException {
+        final Path hashInfo = signedStateFilePath
+                .getSignedStateDirectory(mainClassName, selfId, swirldName, round)
+                .resolve(HASH_INFO_FILE_NAME);
+        Files.writeString(hashInfo, "tampered\n", StandardOpenOption.APPEND);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    @DisplayName("Manifest Mismatch Test")
+    void manifestMismatchTest(final boolean validateSnapshotManifest) throws IOException, SignedStateLoadingException {
+        final Random random = getRandomPrintSeed();
+
+        final AtomicInteger recycleCount = new AtomicInteger(0);
+        final RecycleBin recycleBin = spy(TestRecycleBin.getInstance());
+        doAnswer(invocation -> {
+                    invocation.callRealMethod();
+                    recycleCount.incrementAndGet();
+                    return null;
+                })
+                .when(recycleBin)
+                .recycle(any());
+
+        final PlatformContext platformContext = buildContext(true, recycleBin, validateSnapshotManifest);
+
+        final long olderRound = random.nextInt(1_000, 10_000);
+        final SignedState olderState = writeState(random, platformContext, olderRound, null, false);
+        final long latestRound = olderRound + random.nextInt(100, 200);
+        final SignedState latestState = writeState(random, platformContext, latestRound, null, false);
+        tamperWithHashInfo(latestRound);
+        RandomSignedStateGenerator.releaseAllBuiltSignedStates();
+
+        MerkleDb.resetDefaultInstancePath();
+        final SignedState loadedState = StartupStateUtils.loadStateFile(
+                        recycleBin,
+                        selfId,
+                        mainClassName,
+                        swirldName,
+                        currentSoftwareVersion,
+                        platformStateFacade,
+                        platformContext)
+                .get();
+
+        if (validateSnapshotManifest) {
+            // the tampered state does not match its manifest, so it is recycled and the older one is loaded
+            assertEquals(olderState.getRound(), loadedState.getRound());
+            assertEquals(olderState.getState().getHash(), loadedState.getState().getHash());
+            assertEquals(1, recycleCount.get());
+        } else {
+            // without validation the change goes unnoticed, since the state itself is still readable
+            assertEquals(latestState.getRound(), loadedState.getRound());
+            assertEquals(latestState.getState().getHash(), loadedState.getState().getHash());
+            assertEquals(0, recycleCount.get());
+        }
+        RandomSignedStateGenerator.releaseReservable(loadedState.getState().getRoot());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    @DisplayName("Deferred Manifest Validation Test")
+    void deferredManifestValidationTest(final boolean tampered) throws IOException, InterruptedException {
+        final Random random = getRandomPrintSeed();
+        final PlatformContext platformContext = buildContext(false, TestRecycleBin.getInstance(), true);
+
+        final long round = random.nextInt(1_000, 10_000);
+        writeState(random, platformContext, round, null, false);
+        if (tampered) {
+            tamperWithHashInfo(round);
+        }
+        RandomSignedStateGenerator.releaseAllBuiltSignedStates();
+
+        final List<String> haltReasons = new CopyOnWriteArrayList<>();
+        StartupStateUtils.validateManifestInBackground(
+                        signedStateFilePath.getSignedStateDirectory(mainClassName, selfId, swirldName, round),
+                        platformContext.getConfiguration().getConfigData(StateConfig.class),
+                        haltReasons::add)
+                .join();
+
+        // a state that is already in use can't be recycled, so a mismatch must halt the node
+        assertEquals(tampered ? 1 : 0, haltReasons.size());
+    }
+
     private RecycleBin initializeRecycleBin(PlatformContext platformContext, NodeId selfId) {
         final var metrics = new NoOpMetrics();
         final var configuration = platformContext.getConfiguration();
@@ -0,0 +1,124 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.state.snapshot;
+
+import static com.swirlds.platform.state.snapshot.SignedStateFileUtils.SNAPSHOT_MANIFEST_FILE_NAME;
+import static org.hiero.base.utility.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.io.utility.FileChecksums;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("StateSnapshotManifest Tests")
+class StateSnapshotManifestTests {
+
+    @TempDir
+    Path testDirectory;
+
+    private void writeRandomFiles(final Random random) throws IOException {
+        Files.createDirectories(testDirectory.resolve("data/table"));
+        Files.write(testDirectory.resolve("SignedState.swh"), randomBytes(random, 10_000));
+        Files.write(testDirectory.resolve("hashInfo.txt"), randomBytes(random, 100));
+        Files.write(testDirectory.resolve("data/table/objectKeyToPath.ll"), randomBytes(random, 3_000_000));
+        Files.write(testDirectory.resolve("data/table/empty.dat"), new byte[0]);
+    }
+
+    private static byte[] randomBytes(final Random random, final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("Manifest lists every file and validates")
+    void writeAndValidateTest() throws IOException {
+        final Random random = getRandomPrintSeed();
+        writeRandomFiles(random);
+
+        StateSnapshotManifest.write(testDirectory, 2, 0, null);
+
+        assertTrue(StateSnapshotManifest.exists(testDirectory), "manifest should have been written");
+        final List<StateSnapshotManifest.Entry> entries =
+                StateSnapshotManifest.readManifest(testDirectory.resolve(SNAPSHOT_MANIFEST_FILE_NAME));
+        assertEquals(
+                List.of("SignedState.swh", "data/table/empty.dat", "data/table/objectKeyToPath.ll", "hashInfo.txt"),
+                entries.stream().map(StateSnapshotManifest.Entry::relativePath).toList(),
+                "manifest should list every file except itself, sorted by path");
+        assertEquals(3_000_000, entries.get(2).size(), "size should be recorded");
+
+        assertTrue(StateSnapshotManifest.validate(testDirectory, 2, 0), "unmodified directory should validate");
+    }
+
+    @Test
+    @DisplayName("Corrupted file fails validation")
+    void corruptedFileTest() throws IOException {
+        final Random random = getRandomPrintSeed();
+        writeRandomFiles(random);
+        StateSnapshotManifest.write(testDirectory, 2, 0, null);
+
+        final Path file = testDirectory.resolve("data/table/objectKeyToPath.ll");
+        final byte[] bytes = Files.readAllBytes(file);
+        bytes[random.nextInt(bytes.length)] ^= 1;
+        Files.write(file, bytes);
+
+        assertFalse(StateSnapshotManifest.validate(testDirectory, 2, 0), "corrupted file should fail validation");
+    }
+
+    @Test
+    @DisplayName("Missing file fails validation")
+    void missingFileTest() throws IOException {
+        final Random random = getRandomPrintSeed();
+        writeRandomFiles(random);
+        StateSnapshotManifest.write(testDirectory, 2, 0, null);
+
+        Files.delete(testDirectory.resolve("hashInfo.txt"));
+
+        assertFalse(StateSnapshotManifest.validate(testDirectory, 2, 0), "missing file should fail validation");
+    }
+
+    @Test
+    @DisplayName("Checksums recorded while writing are used, but never trusted by validation")
+    void recordedChecksumTest() throws IOException {
+        final Random random = getRandomPrintSeed();
+        writeRandomFiles(random);
+
+        // a data file hard linked from outside the directory, with a checksum recorded when it was written
+        final Path dataFile = testDirectory.resolveSibling(testDirectory.getFileName() + "-data.pbj");
+        Files.write(dataFile, randomBytes(random, 1_000));
+        FileChecksums.record(dataFile, 0x1234L);
+        Files.createLink(testDirectory.resolve("data/table/data.pbj"), dataFile);
+        try {
+            StateSnapshotManifest.write(testDirectory, 2, 0, null);
+
+            final List<StateSnapshotManifest.Entry> entries =
+                    StateSnapshotManifest.readManifest(testDirectory.resolve(SNAPSHOT_MANIFEST_FILE_NAME));
+            final StateSnapshotManifest.Entry entry = entries.stream()
+                    .filter(e -> e.relativePath().equals("data/table/data.pbj"))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(0x1234L, entry.checksum(), "recorded checksum should be used without reading the file");
+
+            // the recorded checksum is wrong, and validation must notice because it always reads the files
+            assertFalse(StateSnapshotManifest.validate(testDirectory, 2, 0), "validation should read files");
+        } finally {
+            FileChecksums.clear();
+            Files.delete(dataFile);
+        }
+    }
+
+    @Test
+    @DisplayName("Malformed manifest is rejected")
+    void malformedManifestTest() throws IOException {
+        Files.writeString(testDirectory.resolve(SNAPSHOT_MANIFEST_FILE_NAME), "not a manifest\n");
+        assertThrows(IOException.class, () -> StateSnapshotManifest.validate(testDirectory, 1, 0));
+    }
+}
@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.sync;
+
+import static org.hiero.base.crypto.test.fixtures.CryptoRandomUtils.randomHash;
+import static org.hiero.base.utility.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.platform.gossip.shadowgraph.EventBloomFilter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventBloomFilterTests {
+
+    private static List<Hash> randomHashes(final Random random, final int count) {
+        final List<Hash> hashes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            hashes.add(randomHash(random));
+        }
+        return hashes;
+    }
+
+    @Test
+    @DisplayName("No false negatives")
+    void noFalseNegativesTest() {
+        final Random random = getRandomPrintSeed();
+        final List<Hash> hashes = randomHashes(random, 10_000);
+
+        final EventBloomFilter filter = EventBloomFilter.build(hashes, 0.001, random.nextLong());
+
+        for (final Hash hash : hashes) {
+            assertTrue(filter.mightContain(hash), "all added hashes must be reported as present");
+        }
+    }
+
+    @Test
+    @DisplayName("False positive rate is close to target")
+    void falsePositiveRateTest() {
+        final Random random = getRandomPrintSeed();
+        final double targetRate = 0.01;
+        final EventBloomFilter filter = EventBloomFilter.build(randomHashes(random, 10_000), targetRate, 0);
+
+        final int sampleCount = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            if (filter.mightContain(randomHash(random))) {
+                falsePositives++;
+            }
+        }
+
+        final double rate = (double) falsePositives / sampleCount;
+        assertTrue(rate < targetRate * 2, "false positive rate " + rate + " is too high");
+    }
+
+    @Test
+    @DisplayName("Empty filter")
+    void emptyFilterTest() {
+        final Random random = getRandomPrintSeed();
+        final EventBloomFilter filter = EventBloomFilter.build(List.of(), 0.001, random.nextLong());
+
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (filter.mightContain(randomHash(random))) {
+                falsePositives++;
+            }
+        }
+        assertEquals(0, falsePositives, "an empty filter should not contain anything");
+    }
+
+    @Test
+    @DisplayName("Serialization round trip")
+    void serializationTest() throws IOException {
+        final Random random = getRandomPrintSeed();
+        final List<Hash> hashes = randomHashes(random, 1000);
+        final EventBloomFilter filter = EventBloomFilter.build(hashes, 0.001, random.nextLong());
+
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        final SerializableDataOutputStream out = new SerializableDataOutputStream(byteOut);
+        filter.serialize(out);
+        out.flush();
+
+        assertEquals(filter.getSerializedSize(), byteOut.size(), "serialized size should be reported accurately");
+
+        final EventBloomFilter deserialized = EventBloomFilter.deserialize(
+                new SerializableDataInputStream(new ByteArrayInputStream(byteOut.toByteArray())));
+
+        for (final Hash hash : hashes) {
+            assertTrue(deserialized.mightContain(hash), "deserialized filter must contain all added hashes");
+        }
+        for (int i = 0; i < 1000; i++) {
+            final Hash hash = randomHash(random);
+            assertEquals(filter.mightContain(hash), deserialized.mightContain(hash), "filters should be identical");
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid false positive rate")
+    void invalidFalsePositiveRateTest() {
+        assertThrows(IllegalArgumentException.class, () -> EventBloomFilter.build(List.of(), 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> EventBloomFilter.build(List.of(), 1, 0));
+    }
+}
@@ -0,0 +1,219 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.sync;
+
+import static org.hiero.base.crypto.test.fixtures.CryptoRandomUtils.randomHash;
+import static org.hiero.base.utility.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.platform.gossip.shadowgraph.ShadowEvent;
+import com.swirlds.platform.gossip.shadowgraph.ShadowEventIndex;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ShadowEventIndex Tests")
+class ShadowEventIndexTests {
+
+    private static ShadowEvent randomShadow(final Random random) {
+        final PlatformEvent event = new TestingEventBuilder(random).build();
+        return new ShadowEvent(event);
+    }
+
+    @Test
+    @DisplayName("Lookups find inserted events")
+    void basicLookupTest() {
+        final Random random = getRandomPrintSeed();
+        final ShadowEventIndex index = new ShadowEventIndex();
+
+        final List<ShadowEvent> shadows = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            final ShadowEvent shadow = randomShadow(random);
+            shadows.add(shadow);
+            index.put(shadow, i / 100, 0);
+        }
+
+        for (final ShadowEvent shadow : shadows) {
+            assertSame(shadow, index.get(shadow.getEventBaseHash(), 0), "inserted event should be found");
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertNull(index.get(randomHash(random), 0), "unknown hash should not be found");
+        }
+    }
+
+    @Test
+    @DisplayName("Expired entries are treated as absent")
+    void expiredEntriesTest() {
+        final Random random = getRandomPrintSeed();
+        final ShadowEventIndex index = new ShadowEventIndex();
+
+        final List<ShadowEvent> shadows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final ShadowEvent shadow = randomShadow(random);
+            shadows.add(shadow);
+            index.put(shadow, i, 0);
+        }
+
+        final long minimumIndicator = 50;
+        for (int i = 0; i < shadows.size(); i++) {
+            final ShadowEvent found = index.get(shadows.get(i).getEventBaseHash(), minimumIndicator);
+            if (i < minimumIndicator) {
+                assertNull(found, "expired event should not be found");
+            } else {
+                assertSame(shadows.get(i), found, "live event should be found");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Stale entries are dropped when the index is rebuilt")
+    void staleEntriesAreBoundedTest() {
+        final Random random = getRandomPrintSeed();
+        final ShadowEventIndex index = new ShadowEventIndex();
+
+        // Simulate a sliding window of 10 indicators, with 100 events per indicator
+        final int eventsPerIndicator = 100;
+        final int windowSize = 10;
+        final List<ShadowEvent> liveShadows = new ArrayList<>();
+        for (int indicator = 0; indicator < 1000; indicator++) {
+            final long minimumIndicator = Math.max(0, indicator - windowSize + 1);
+            for (int i = 0; i < eventsPerIndicator; i++) {
+                final ShadowEvent shadow = randomShadow(random);
+                index.put(shadow, indicator, minimumIndicator);
+                if (indicator >= 1000 - windowSize) {
+                    liveShadows.add(shadow);
+                }
+            }
+            assertTrue(
+                    index.getOccupiedCount() <= index.getCapacity() / 2,
+                    "the index should never be more than half full");
+            assertTrue(
+                    index.getCapacity() <= 8 * eventsPerIndicator * windowSize,
+                    "the index should not grow with the number of expired events");
+        }
+
+        for (final ShadowEvent shadow : liveShadows) {
+            assertSame(shadow, index.get(shadow.getEventBaseHash(), 1000 - windowSize), "live event should be found");
+        }
+    }
+
+    @Test
+    @DisplayName("Removed entries are not found and do not break probe sequences")
+    void removeTest() {
+        final Random random = getRandomPrintSeed();
+        final ShadowEventIndex index = new ShadowEventIndex();
+
+        final List<ShadowEvent> shadows = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            final ShadowEvent shadow = randomShadow(random);
+            shadows.add(shadow);
+            index.put(shadow, 0, 0);
+        }
+        for (int i = 0; i < shadows.size(); i += 2) {
+            index.remove(shadows.get(i));
+        }
+        // removing an absent event does nothing
+        index.remove(randomShadow(random));
+
+        for (int i = 0; i < shadows.size(); i++) {
+            final ShadowEvent found = index.get(shadows.get(i).getEventBaseHash(), 0);
+            if (i % 2 == 0) {
+                assertNull(found, "removed event should not be found");
+            } else {
+                assertSame(shadows.get(i), found, "remaining event should be found");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Removed entries are dropped when the index is rebuilt")
+    void removedEntriesAreDroppedTest() {
+        final Random random = getRandomPrintSeed();
+        final ShadowEventIndex index = new ShadowEventIndex();
+
+        // Keep at most 100 events in the index at a time, all with the same indicator, removing the oldest
+        final Deque<ShadowEvent> liveShadows = new ArrayDeque<>();
+        for (int i = 0; i < 10_000; i++) {
+            final ShadowEvent shadow = randomShadow(random);
+            index.put(shadow, 0, 0);
+            liveShadows.addLast(shadow);
+            if (liveShadows.size() > 100) {
+                index.remove(liveShadows.removeFirst());
+            }
+            assertTrue(
+                    index.getOccupiedCount() <= index.getCapacity() / 2,
+                    "the index should never be more than half full");
+        }
+        assertEquals(1024, index.getCapacity(), "the index should not grow with the number of removed events");
+        for (final ShadowEvent shadow : liveShadows) {
+            assertSame(shadow, index.get(shadow.getEventBaseHash(), 0), "live event should be found");
+        }
+    }
+
+    @Test
+    @DisplayName("Lookups are consistent while the index is modified on another thread")
+    void concurrentLookupTest() throws InterruptedException {
+        final Random random = getRandomPrintSeed();
+        final ShadowEventIndex index = new ShadowEventIndex();
+
+        // These are never removed, so a reader must always find them, even while the table is being rebuilt
+        final List<ShadowEvent> permanent = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final ShadowEvent shadow = randomShadow(random);
+            permanent.add(shadow);
+            index.put(shadow, 0, 0);
+        }
+        final List<ShadowEvent> transientShadows = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            transientShadows.add(randomShadow(random));
+        }
+
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final AtomicReference<String> failure = new AtomicReference<>();
+        final Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                for (final ShadowEvent shadow : permanent) {
+                    if (index.get(shadow.getEventBaseHash(), 0) != shadow) {
+                        failure.set("permanent event was not found");
+                        return;
+                    }
+                }
+            }
+        });
+        reader.start();
+
+        for (int i = 0; i < transientShadows.size(); i++) {
+            index.put(transientShadows.get(i), 0, 0);
+            if (i >= 500) {
+                index.remove(transientShadows.get(i - 500));
+            }
+        }
+        done.set(true);
+        reader.join();
+
+        assertNull(failure.get(), failure.get());
+    }
+
+    @Test
+    @DisplayName("Clear removes all entries")
+    void clearTest() {
+        final Random random = getRandomPrintSeed();
+        final ShadowEventIndex index = new ShadowEventIndex();
+
+        final ShadowEvent shadow = randomShadow(random);
+        index.put(shadow, 0, 0);
+        index.clear();
+
+        assertNull(index.get(shadow.getEventBaseHash(), 0), "cleared index should be empty");
+    }
+}
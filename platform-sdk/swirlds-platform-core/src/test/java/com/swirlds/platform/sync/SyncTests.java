@@ -35,7 +35,9 @@ import com.swirlds.platform.test.fixtures.sync.SyncTestUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.FileNotFoundException;
 import java.net.SocketException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -43,8 +45,10 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.hiero.base.constructable.ConstructableRegistry;
 import org.hiero.base.constructable.ConstructableRegistryException;
+import org.hiero.base.crypto.Hash;
 import org.hiero.consensus.model.event.AncientMode;
 import org.hiero.consensus.model.event.EventConstants;
+import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.ConsensusConstants;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 import org.hiero.consensus.model.node.NodeId;
@@ -365,6 +369,101 @@ public class SyncTests {
     @ParameterizedTest
     @MethodSource({"splitForkParams", "splitForkParamsBreakingSeed"})
     void splitForkGraph(final SyncTestParams params) throws Exception {
+        final SyncTestExecutor executor = createSplitForkExecutor(params);
+
+        executor.execute();
+
+        // In split fork graphs, some extra events will be sent because each node has a different tip for the same
+        // creator, causing each to think the other does not have any ancestors of that creator's event when they in
+        // fact do.
+        SyncValidator.assertRequiredEventsTransferred(
+                executor.getCaller(), executor.getListener(), params.getAncientMode());
+        SyncValidator.assertStreamsEmpty(executor.getCaller(), executor.getListener());
+    }
+
+    /**
+     * Tests that the extra events sent in split fork graphs are not sent when the nodes exchange bloom filters, since
+     * each node reports the events it has in its filter.
+     */
+    @ParameterizedTest
+    @MethodSource({"splitForkParams", "splitForkParamsBreakingSeed"})
+    void splitForkGraphWithBloomFilter(final SyncTestParams params) throws Exception {
+        final SyncTestExecutor executor = createSplitForkExecutor(params);
+        executor.setCustomPreSyncConfiguration((caller, listener) -> {
+            // low enough that a false positive practically never happens in these graphs
+            caller.enableBloomFilter(1e-12);
+            listener.enableBloomFilter(1e-12);
+        });
+
+        executor.execute();
+
+        SyncValidator.assertOnlyRequiredEventsTransferred(
+                executor.getCaller(), executor.getListener(), params.getAncientMode());
+        SyncValidator.assertStreamsEmpty(executor.getCaller(), executor.getListener());
+    }
+
+    /**
+     * Tests that false positives of the bloom filter do not stop the peer from receiving the tips it told us it does
+     * not have, nor the events that descend from events it does not have. The listener builds a filter that reports
+     * almost every hash as present.
+     */
+    @ParameterizedTest
+    @MethodSource({"fourNodeGraphParams", "tenNodeGraphParams"})
+    void bloomFilterFalsePositivesDoNotDropRequiredEvents(final SyncTestParams params) throws Exception {
+        final SyncTestExecutor executor = new SyncTestExecutor(params);
+
+        final Set<Hash> listenerEventsBeforeSync = new HashSet<>();
+        executor.setGraphCustomization((caller, listener) -> {
+            caller.setSaveGeneratedEvents(true);
+            listener.setSaveGeneratedEvents(true);
+        });
+        executor.setCustomPreSyncConfiguration((caller, listener) -> {
+            caller.enableBloomFilter(0.99);
+            listener.enableBloomFilter(0.99);
+            for (final ShadowEvent event : listener.getShadowGraph().findAncestors(
+                    listener.getShadowGraph().getTips(), e -> true)) {
+                listenerEventsBeforeSync.add(event.getEventBaseHash());
+            }
+        });
+
+        executor.execute();
+
+        final SyncNode caller = executor.getCaller();
+        final SyncNode listener = executor.getListener();
+        final Set<Hash> received = listener.getReceivedEvents().stream()
+                .map(PlatformEvent::getHash)
+                .collect(Collectors.toSet());
+
+        // the listener told the caller it lacks these tips, so they must be sent regardless of the filter
+        for (final ShadowEvent tip : caller.getShadowGraph().getTips()) {
+            if (!listenerEventsBeforeSync.contains(tip.getEventBaseHash())
+                    && params.getAncientMode().selectIndicator(tip.getEvent())
+                            >= listener.getCurrentAncientThreshold()) {
+                assertTrue(received.contains(tip.getEventBaseHash()), "a tip the listener lacks was not sent");
+            }
+        }
+        for (final PlatformEvent event : listener.getReceivedEvents()) {
+            assertFalse(listenerEventsBeforeSync.contains(event.getHash()), "an event the listener had was sent");
+        }
+        // a peer never has an event without its parents, so children of sent events must be sent as well
+        for (final ShadowEvent event : caller.getShadowGraph().findAncestors(
+                caller.getShadowGraph().getTips(), e -> true)) {
+            final boolean parentSent = event.getEvent().getAllParents().stream()
+                    .anyMatch(parent -> received.contains(parent.hash()));
+            if (parentSent) {
+                assertTrue(
+                        received.contains(event.getEventBaseHash()),
+                        "an event with a parent the listener lacks was not sent");
+            }
+        }
+        SyncValidator.assertStreamsEmpty(caller, listener);
+    }
+
+    /**
+     * Create an executor for a sync where each node has one branch of a fork.
+     */
+    @NonNull
+    private static SyncTestExecutor createSplitForkExecutor(@NonNull final SyncTestParams params) {
         final SyncTestExecutor executor = new SyncTestExecutor(params);
 
         final int creatorToFork = 0;
@@ -402,14 +501,7 @@ public class SyncTests {
                     params.getNumNetworkNodes());
         });
 
-        executor.execute();
-
-        // In split fork graphs, some extra events will be sent because each node has a different tip for the same
-        // creator, causing each to think the other does not have any ancestors of that creator's event when they in
-        // fact do.
-        SyncValidator.assertRequiredEventsTransferred(
-                executor.getCaller(), executor.getListener(), params.getAncientMode());
-        SyncValidator.assertStreamsEmpty(executor.getCaller(), executor.getListener());
+        return executor;
     }
 
     /**
@@ -75,6 +75,12 @@ public class SyncNode {
      */
     private final AtomicReference<Boolean> synchronizerReturn = new AtomicReference<>(null);
 
+    /**
+     * the false positive rate of the bloom filters exchanged in the sync, or null if bloom filters are not exchanged.
+     * Both nodes of a sync must agree on whether bloom filters are exchanged.
+     */
+    private Double bloomFilterFalsePositiveRate;
+
     private final PlatformContext platformContext;
 
     public SyncNode(
@@ -231,6 +237,10 @@ public class SyncNode {
         final Configuration configuration = new TestConfigBuilder()
                 .withValue(SyncConfig_.FILTER_LIKELY_DUPLICATES, false)
                 .withValue(SyncConfig_.MAX_SYNC_EVENT_COUNT, 0)
+                .withValue(SyncConfig_.BLOOM_FILTER_ENABLED, bloomFilterFalsePositiveRate != null)
+                .withValue(
+                        SyncConfig_.BLOOM_FILTER_FALSE_POSITIVE_RATE,
+                        bloomFilterFalsePositiveRate != null ? bloomFilterFalsePositiveRate : 0.001)
                 .withValue(
                         EventConfig_.USE_BIRTH_ROUND_ANCIENT_THRESHOLD,
                         ancientMode == AncientMode.BIRTH_ROUND_THRESHOLD)
@@ -364,4 +374,13 @@ public class SyncNode {
     public Boolean getSynchronizerReturn() {
         return synchronizerReturn.get();
     }
+
+    /**
+     * Make the synchronizers created by {@link #getSynchronizer()} exchange bloom filters of their events.
+     *
+     * @param falsePositiveRate the false positive rate of the bloom filter this node builds
+     */
+    public void enableBloomFilter(final double falsePositiveRate) {
+        this.bloomFilterFalsePositiveRate = falsePositiveRate;
+    }
 }
@@ -8,6 +8,7 @@ import static org.hiero.base.utility.CommonUtils.getNormalisedStringBytes;
 
 import com.swirlds.common.io.ExternalSelfSerializable;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.utility.FileChecksums;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.impl.PartialBinaryMerkleInternal;
@@ -34,6 +35,8 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
 import org.hiero.base.ValueReference;
 import org.hiero.base.constructable.ConstructableClass;
 import org.hiero.base.constructable.RuntimeConstructable;
@@ -316,6 +319,14 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
         super.setChild(index, child);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void prepareSerialization(@NonNull final Path outputDirectory) throws IOException {
+        root.prepareSerialization(outputDirectory);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -328,14 +339,16 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
         out.writeInt(outputFileNameBytes.length);
         out.writeNormalisedString(outputFileName);
 
-        // Write the virtual map and sub nodes
+        // Write the virtual map and sub nodes, checksumming the file as it is written
         final Path outputFile = outputDirectory.resolve(outputFileName);
-        try (SerializableDataOutputStream serout =
-                new SerializableDataOutputStream(new BufferedOutputStream(new FileOutputStream(outputFile.toFile())))) {
+        final CRC32C checksum = new CRC32C();
+        try (SerializableDataOutputStream serout = new SerializableDataOutputStream(new BufferedOutputStream(
+                new CheckedOutputStream(new FileOutputStream(outputFile.toFile()), checksum)))) {
             serout.writeSerializable(state, true);
             serout.writeInt(root.getVersion());
             root.serialize(serout, outputDirectory);
         }
+        FileChecksums.record(outputFile, checksum.getValue());
     }
 
     /**
@@ -291,6 +291,13 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
 
     private final AtomicBoolean detached = new AtomicBoolean(false);
 
+    /**
+     * The directory the data source of this copy was snapshotted to by {@link #prepareSerialization(Path)}, or null
+     * if serialization has not been prepared. {@link #serialize(SerializableDataOutputStream, Path)} skips the
+     * snapshot when it is asked to serialize into this directory.
+     */
+    private volatile Path preparedDirectory = null;
+
     /**
      * Created at the beginning of reconnect as a <strong>learner</strong>, this iterator allows
      * for other threads to feed its leaf records to be used during hashing.
@@ -1204,11 +1211,27 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
      * {@inheritDoc}
      */
     @Override
-    public void serialize(final SerializableDataOutputStream out, final Path outputDirectory) throws IOException {
+    public void prepareSerialization(final Path outputDirectory) throws IOException {
         pipeline.pausePipelineAndRun("detach", () -> {
             snapshot(outputDirectory);
             return null;
         });
+        preparedDirectory = outputDirectory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serialize(final SerializableDataOutputStream out, final Path outputDirectory) throws IOException {
+        if (outputDirectory.equals(preparedDirectory)) {
+            preparedDirectory = null;
+        } else {
+            pipeline.pausePipelineAndRun("detach", () -> {
+                snapshot(outputDirectory);
+                return null;
+            });
+        }
         out.writeNormalisedString(state.getLabel());
         out.writeSerializable(dataSourceBuilder, true);
         out.writeSerializable(keySerializer, true);